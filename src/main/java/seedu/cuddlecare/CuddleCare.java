@@ -1,10 +1,13 @@
 package seedu.cuddlecare;
 
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.command.LazyCommandMap;
 import seedu.cuddlecare.command.impl.AddPetCommand;
+import seedu.cuddlecare.command.impl.AddScheduleCommand;
 import seedu.cuddlecare.command.impl.AddTreatmentCommand;
 import seedu.cuddlecare.command.impl.ByeCommand;
 import seedu.cuddlecare.command.impl.DeletePetCommand;
+import seedu.cuddlecare.command.impl.DeleteScheduleCommand;
 import seedu.cuddlecare.command.impl.DeleteTreatmentCommand;
 import seedu.cuddlecare.command.impl.EditPetCommand;
 import seedu.cuddlecare.command.impl.FindTreatmentCommand;
@@ -13,18 +16,42 @@ import seedu.cuddlecare.command.impl.GroupTreatmentsByTypeCommand;
 import seedu.cuddlecare.command.impl.ListAllTreatmentsCommand;
 import seedu.cuddlecare.command.impl.ListPetTreatmentsCommand;
 import seedu.cuddlecare.command.impl.ListPetsCommand;
+import seedu.cuddlecare.command.impl.ListSchedulesCommand;
 import seedu.cuddlecare.command.impl.MarkTreatmentCommand;
 import seedu.cuddlecare.command.impl.OverdueTreatmentsCommand;
+import seedu.cuddlecare.command.impl.RedoCommand;
+import seedu.cuddlecare.command.impl.ReportCommand;
+import seedu.cuddlecare.command.impl.StatsCommand;
 import seedu.cuddlecare.command.impl.SummaryCommand;
+import seedu.cuddlecare.command.impl.UndoCommand;
 import seedu.cuddlecare.command.impl.UnmarkTreatmentCommand;
+import seedu.cuddlecare.command.impl.UpcomingTreatmentsCommand;
 import seedu.cuddlecare.command.impl.HelpCommand;
+import seedu.cuddlecare.config.LaunchOptions;
 import seedu.cuddlecare.config.LoggingConfigurator;
+import seedu.cuddlecare.history.History;
+import seedu.cuddlecare.lifecycle.LifecycleManager;
+import seedu.cuddlecare.parser.ParsedInput;
 import seedu.cuddlecare.parser.Parser;
+import seedu.cuddlecare.server.CuddleCareClient;
+import seedu.cuddlecare.server.CuddleCareServer;
+import seedu.cuddlecare.storage.Journal;
+import seedu.cuddlecare.storage.ShardedStorage;
 import seedu.cuddlecare.storage.Storage;
+import seedu.cuddlecare.storage.TreatmentArchive;
+import seedu.cuddlecare.time.ClockService;
 import seedu.cuddlecare.ui.Ui;
+import seedu.cuddlecare.ui.input.ChunkedLineReader;
+import seedu.cuddlecare.ui.input.InputCompleter;
+import seedu.cuddlecare.ui.input.LineEditor;
+import seedu.cuddlecare.ui.input.LineInput;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,47 +69,218 @@ public class CuddleCare {
      */
     private static final Logger LOGGER = Logger.getLogger(CuddleCare.class.getName());
 
+    /**
+     * Directory that all data files are kept in.
+     */
+    private static final Path DATA_DIRECTORY = Paths.get("data");
+
+    /**
+     * Name of the save file.
+     */
+    private static final String SAVE_FILE_NAME = "cuddlecare_save.txt";
+
+    /**
+     * Name of the archive of old completed treatments.
+     */
+    private static final String ARCHIVE_NAME = "archive";
+
+    /**
+     * Name of the journal of changes made since the last full save.
+     */
+    private static final String JOURNAL_NAME = "cuddlecare_journal.txt";
+
+    /**
+     * Name of the directory that reports are written into.
+     */
+    private static final String REPORT_DIRECTORY_NAME = "reports";
+
     /**
      * Parser used to convert user input into commands.
      */
     private final Parser parser;
 
+    /**
+     * Directory that the save file, journal, archive and reports are kept in.
+     */
+    private final Path dataDirectory;
+
     /**
      * Map of available commands keyed by their string representation.
      */
     private Map<String, Command> commands;
 
+    /**
+     * Parse result reused for every line of input.
+     */
+    private final ParsedInput parsed = new ParsedInput();
+
     /**
      * List of all pets.
      */
-    private final PetList pets = new PetList();
+    private final PetList pets;
 
     /**
      * Save file for pet and treatment information.
      */
-    private final Storage storage = new Storage("data/cuddlecare_save.txt", pets);
+    private final Storage storage;
 
     /**
-     * Constructs a new CuddleCare application.
-     * Initializes the parser.
+     * Changes made by commands, kept so that they can be undone.
+     */
+    private final History history;
+
+    /**
+     * Decides when the save file is written and how the application shuts down.
+     */
+    private final LifecycleManager lifecycle;
+
+    /**
+     * Completes once the save file has been loaded.
+     */
+    private CompletableFuture<Void> dataLoaded = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructs a new CuddleCare application with the default options.
      */
     CuddleCare() {
+        this(new LaunchOptions());
+    }
+
+    /**
+     * Constructs a new CuddleCare application that keeps its data in the {@code data} directory.
+     *
+     * @param options the options the application was launched with
+     */
+    CuddleCare(LaunchOptions options) {
+        this(options, DATA_DIRECTORY);
+    }
+
+    /**
+     * Constructs a new CuddleCare application.
+     * Initializes the parser and the pet list chosen by the options.
+     *
+     * @param options the options the application was launched with
+     * @param dataDirectory the directory to keep the save file, journal, archive and reports in
+     */
+    CuddleCare(LaunchOptions options, Path dataDirectory) {
         parser = new Parser();
         assert parser != null : "Parser cannot be null";
+        this.dataDirectory = dataDirectory;
+        String saveFilePath = dataDirectory.resolve(SAVE_FILE_NAME).toString();
+        pets = options.isColumnar() ? PetList.withColumnarStore() : new PetList();
+        storage = options.isSharded()
+                ? new ShardedStorage(saveFilePath, pets)
+                : new Storage(saveFilePath, pets);
+        storage.setLazyLoading(options.isLazyLoading());
+        storage.setCompressed(options.isCompressed());
+        if (options.getArchiveHorizonDays() >= 0) {
+            pets.setArchive(new TreatmentArchive(dataDirectory.resolve(ARCHIVE_NAME).toString(),
+                    options.getArchiveHorizonDays()));
+        }
+        history = new History(pets);
+        lifecycle = new LifecycleManager(storage, new Journal(dataDirectory.resolve(JOURNAL_NAME).toString()),
+                history, LifecycleManager.DEFAULT_IDLE_MILLIS);
     }
 
     /**
      * Starts the application by configuring the root logger,
      * initializing commands, greeting the user,
      * and entering the main loop.
+     * <p>
+     * The log file and save file are opened on a background thread, so the
+     * first prompt appears straight away. Commands that need the pets wait
+     * for the load to finish.
+     * <p>
+     * Changes are journaled as they are made, and the save file is written when
+     * the application is idle and when it shuts down.
      */
     void run() {
-        LoggingConfigurator.setup();
+        LoggingConfigurator.setupDeferred();
         LOGGER.log(Level.INFO, "CuddleCare application started");
         initialiseCommands();
+        ClockService.getShared().start();
         greet();
-        storage.load();
+        loadDataInBackground();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "cuddlecare-shutdown"));
         startApplicationLoop();
+        shutdown();
+    }
+
+    /**
+     * Saves outstanding changes and releases files before the application exits.
+     * Only the first call has an effect.
+     */
+    void shutdown() {
+        awaitData();
+        lifecycle.shutdown();
+    }
+
+    /**
+     * Opens the log file and loads the data on a background thread, which
+     * {@link #awaitData()} waits for.
+     */
+    void loadDataInBackground() {
+        dataLoaded = CompletableFuture.runAsync(() -> {
+            LoggingConfigurator.openDeferredLogFile();
+            loadData();
+        }, CuddleCare::startLoaderThread);
+    }
+
+    private static void startLoaderThread(Runnable task) {
+        Thread loader = new Thread(task, "cuddlecare-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Waits until the save file has been loaded in the background.
+     */
+    void awaitData() {
+        try {
+            dataLoaded.join();
+        } catch (CompletionException e) {
+            LOGGER.log(Level.SEVERE, "Loading data failed", e.getCause());
+        }
+    }
+
+    /**
+     * Starts the application in server mode, letting several
+     * {@link CuddleCareClient} terminals share this instance's pet list.
+     * <p>
+     * Commands are journaled and saved as in {@link #run()}, and the data is saved when
+     * the server stops, including when the process is terminated.
+     *
+     * @param port the loopback port to listen on
+     */
+    void runServer(int port) {
+        LoggingConfigurator.setup();
+        LOGGER.log(Level.INFO, "CuddleCare server starting");
+        initialiseCommands();
+        ClockService.getShared().start();
+        loadData();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "cuddlecare-shutdown"));
+
+        CuddleCareServer server = new CuddleCareServer(port, parser, lifecycle);
+        try {
+            server.bind();
+            Ui.println("CuddleCare server listening on port " + server.getPort());
+            server.serve();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Could not start server on port " + port, e);
+            Ui.println("Could not start the CuddleCare server on port " + port + ".");
+        } finally {
+            server.stop();
+            shutdown();
+        }
+    }
+
+    /**
+     * Loads the save file and archive, replays changes journaled by a session that did not
+     * shut down cleanly and archives old completed treatments, through {@link LifecycleManager#start}.
+     */
+    void loadData() {
+        lifecycle.start(ClockService.getShared().today());
     }
 
     /**
@@ -97,66 +295,107 @@ public class CuddleCare {
      * Starts the main application loop.
      * Continuously reads user input, parses it into commands,
      * and executes them until the application is terminated.
+     * <p>
+     * Input typed at a terminal is read through a {@link LineEditor}, with history
+     * and completion; piped input is read in large chunks.
      */
     void startApplicationLoop() {
-        Scanner sc = new Scanner(System.in);
-        Ui.printInputPrompt();
-        while (sc.hasNextLine()) {
-            String input = sc.nextLine();
-            assert input != null : "Input cannot be null";
-            Command command = parser.parse(input);
-            if (command == null) {
-                LOGGER.log(Level.WARNING, "Received invalid or empty input");
+        try (LineInput in = openInput()) {
+            Ui.printInputPrompt();
+            String input;
+            while ((input = in.readLine()) != null) {
+                if (!parser.parse(input, parsed)) {
+                    LOGGER.log(Level.WARNING, "Received invalid or empty input");
+                    Ui.printInputPrompt();
+                    continue;
+                }
+                Command command = parsed.getCommand();
+                if (LOGGER.isLoggable(Level.INFO)) {
+                    LOGGER.log(Level.INFO, "Executing command: " + command.getClass().getSimpleName());
+                }
+                execute(command, parsed.toString());
                 Ui.printInputPrompt();
-                continue;
             }
-            LOGGER.log(Level.INFO, "Executing command: " + command.getClass().getSimpleName());
-            command.exec("");
-            storage.save();
-            Ui.printInputPrompt();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Could not read input", e);
         }
 
-        sc.close();
-        LOGGER.log(Level.INFO, "Scanner closed, application loop ended");
+        LOGGER.log(Level.INFO, "Input closed, application loop ended");
+    }
+
+    /**
+     * Executes one command through the {@link LifecycleManager}, first waiting for the data
+     * if the command needs it.
+     * <p>
+     * {@code bye} is run directly instead, since its shutdown waits for the data and for the
+     * background save, which both need the lock the manager holds while a command runs.
+     *
+     * @param command the command to execute
+     * @param args the arguments of the command
+     */
+    void execute(Command command, String args) {
+        if (command instanceof ByeCommand) {
+            command.exec(args);
+            return;
+        }
+        if (command.requiresData()) {
+            awaitData();
+        }
+        lifecycle.execute(command, args);
+    }
+
+    /**
+     * Opens a line editor if input is typed at a terminal, or a chunked reader otherwise.
+     * Pet names are only completed once the save file has been loaded.
+     */
+    private LineInput openInput() {
+        InputCompleter completer = new InputCompleter(parser, () -> dataLoaded.isDone() ? pets : null);
+        LineEditor editor = LineEditor.openTerminal(completer, Ui.getPromptSymbol());
+        return editor != null ? editor : new ChunkedLineReader(System.in);
     }
 
     /**
      * Initializes the available commands and registers them with the parser.
+     * Each command is only created the first time it is used.
      */
     void initialiseCommands() {
 
-        commands = Map.ofEntries(
-                Map.entry("bye", new ByeCommand()),
-                Map.entry("add-pet", new AddPetCommand(pets)),
-                Map.entry("add-treatment", new AddTreatmentCommand(pets)),
-                Map.entry("list-pets", new ListPetsCommand(pets)),
-                Map.entry("mark", new MarkTreatmentCommand(pets)),
-                Map.entry("unmark", new UnmarkTreatmentCommand(pets)),
-                Map.entry("list-all-treatments", new ListAllTreatmentsCommand(pets)),
-                Map.entry("list-treatments", new ListPetTreatmentsCommand(pets)),
-                Map.entry("delete-pet", new DeletePetCommand(pets)),
-                Map.entry("delete-treatment", new DeleteTreatmentCommand(pets)),
-                Map.entry("find", new FindTreatmentCommand(pets)),
-                Map.entry("edit-pet", new EditPetCommand(pets)),
-                Map.entry("group-treatments", new GroupTreatmentsByTypeCommand(pets)),
-                Map.entry("treatment-date", new FilterTreatmentByDateCommand(pets)),
-                Map.entry("summary", new SummaryCommand(pets)),
-                Map.entry("overdue-treatments", new OverdueTreatmentsCommand(pets)),
-                Map.entry("help", new HelpCommand())
-        );
+        LazyCommandMap lazyCommands = new LazyCommandMap()
+                .register("bye", () -> new ByeCommand(this::shutdown))
+                .register("add-pet", () -> new AddPetCommand(pets))
+                .register("add-treatment", () -> new AddTreatmentCommand(pets))
+                .register("add-schedule", () -> new AddScheduleCommand(pets))
+                .register("list-schedules", () -> new ListSchedulesCommand(pets))
+                .register("delete-schedule", () -> new DeleteScheduleCommand(pets))
+                .register("list-pets", () -> new ListPetsCommand(pets))
+                .register("mark", () -> new MarkTreatmentCommand(pets))
+                .register("unmark", () -> new UnmarkTreatmentCommand(pets))
+                .register("list-all-treatments", () -> new ListAllTreatmentsCommand(pets))
+                .register("list-treatments", () -> new ListPetTreatmentsCommand(pets))
+                .register("delete-pet", () -> new DeletePetCommand(pets))
+                .register("delete-treatment", () -> new DeleteTreatmentCommand(pets))
+                .register("find", () -> new FindTreatmentCommand(pets))
+                .register("edit-pet", () -> new EditPetCommand(pets))
+                .register("group-treatments", () -> new GroupTreatmentsByTypeCommand(pets))
+                .register("treatment-date", () -> new FilterTreatmentByDateCommand(pets))
+                .register("summary", () -> new SummaryCommand(pets))
+                .register("overdue-treatments", () -> new OverdueTreatmentsCommand(pets))
+                .register("upcoming-treatments", () -> new UpcomingTreatmentsCommand(pets))
+                .register("stats", () -> new StatsCommand(pets))
+                .register("report", () -> new ReportCommand(pets, dataDirectory.resolve(REPORT_DIRECTORY_NAME)))
+                .register("undo", () -> new UndoCommand(history))
+                .register("redo", () -> new RedoCommand(history))
+                .register("help", this::createHelpCommand);
+        commands = lazyCommands;
         assert commands != null : "Commands map cannot be null";
         parser.setCommands(commands);
-        setCommandsInHelpCommand();
         LOGGER.log(Level.INFO, "Commands initialized with " + commands.size() + " entries");
     }
 
-    private void setCommandsInHelpCommand() {
-        Command helpCommand = commands.get("help");
-        if (!(helpCommand instanceof HelpCommand)) {
-            LOGGER.log(Level.WARNING, "The help command in the commands map is not an instance of HelpCommand");
-            return;
-        }
-        ((HelpCommand) helpCommand).setCommands(commands);
+    private HelpCommand createHelpCommand() {
+        HelpCommand helpCommand = new HelpCommand();
+        helpCommand.setCommands(commands);
+        return helpCommand;
     }
 
     Map<String, Command> getCommandsForTesting() {
@@ -165,11 +404,28 @@ public class CuddleCare {
 
     /**
      * The main entry point for the CuddleCare application.
+     * <p>
+     * Runs a local session by default. See {@link LaunchOptions} for the
+     * recognised command-line options.
      *
-     * @param args Command-line arguments (ignored)
+     * @param args Command-line arguments
      */
     public static void main(String[] args) {
-        CuddleCare application = new CuddleCare();
-        application.run();
+        LaunchOptions options = LaunchOptions.parse(args);
+        if (options.hasErrors()) {
+            return;
+        }
+        switch (options.getMode()) {
+        case SERVER:
+            new CuddleCare(options).runServer(options.getPort());
+            break;
+        case CLIENT:
+            LoggingConfigurator.setup();
+            new CuddleCareClient(options.getPort()).run();
+            break;
+        default:
+            new CuddleCare(options).run();
+            break;
+        }
     }
 }
@@ -1,14 +1,37 @@
 package seedu.cuddlecare;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 public class Pet {
 
+    /** Id of this pet, unique among the pets of its list, or 0 until it has one. */
+    private long id;
+
     private String name;
     private String species;
     private int age;
     private final ArrayList<Treatment> treatments;
 
+    /** Recurring treatments, in the order they were added. */
+    private final ArrayList<TreatmentSchedule> schedules = new ArrayList<>();
+
+    /** Columnar store of the owning pet list, if it uses one. */
+    private TreatmentColumns columns;
+    private int columnId = -1;
+
+    /** Reads this pet's treatments on first access; {@code null} once they are loaded. */
+    private Runnable treatmentLoader;
+
+    /** Pet list this pet belongs to, notified when its treatments change, or {@code null}. */
+    private PetList owner;
+
+    /** Archive lines of this pet's archived treatments, dropped when it was last deleted. */
+    private List<String> archivedLines = List.of();
+
     /**
      * Initializes a pet with a specified name, species, and age.
      *
@@ -18,11 +41,26 @@ public class Pet {
      */
     public Pet(String name, String species, int age) {
         this.name = name;
-        this.species = species;
+        this.species = SymbolTable.intern(species);
         this.age = age;
         this.treatments = new ArrayList<>();
     }
 
+    /**
+     * Returns the id of this pet, or 0 if it has not been added to a {@link PetList}.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of this pet. Used when loading saved data; a {@link PetList}
+     * assigns a new id if this one is missing or taken.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
     /**
      * Returns the name of the pet.
      */
@@ -44,51 +82,412 @@ public class Pet {
         return age;
     }
 
+    /**
+     * Adds a treatment, keeping the treatments in date order. A treatment dated
+     * the same day as existing ones goes after them.
+     *
+     * @param treatment the treatment to add
+     */
     public void addTreatment(Treatment treatment) {
-        treatments.add(treatment);
+        loadTreatments();
+        int index = positionAfter(treatment.getDate());
+        treatments.add(index, treatment);
+        if (columns != null) {
+            treatment.attach(columns, columnId, index);
+        }
+        treatment.setOwner(this);
+        if (owner != null) {
+            owner.fireTreatmentAdded(this, treatment);
+        }
+    }
+
+    /**
+     * Returns the position of the first treatment dated after {@code date}.
+     */
+    private int positionAfter(LocalDate date) {
+        int low = 0;
+        int high = treatments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (treatments.get(mid).getDate().isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
     }
 
+    /**
+     * Returns the position of a treatment in {@link #getTreatments()}, found by binary search on its date.
+     *
+     * @param treatment the treatment to find
+     * @return the 0-based position, or -1 if the treatment does not belong to this pet
+     */
+    public int indexOf(Treatment treatment) {
+        loadTreatments();
+        LocalDate date = treatment.getDate();
+        int low = 0;
+        int high = treatments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (treatments.get(mid).getDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < treatments.size() && treatments.get(i).getDate().equals(date); i++) {
+            if (treatments.get(i) == treatment) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the treatment at the given position of {@link #getTreatments()}.
+     *
+     * @param index the 0-based position of the treatment
+     * @return the removed treatment
+     */
+    public Treatment removeTreatment(int index) {
+        loadTreatments();
+        Treatment removed = treatments.remove(index);
+        removed.detach();
+        removed.setOwner(null);
+        if (owner != null) {
+            owner.fireTreatmentRemoved(this, removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes a treatment of this pet.
+     *
+     * @param treatment the treatment to remove
+     * @return true if the treatment belonged to this pet and was removed
+     */
+    public boolean removeTreatment(Treatment treatment) {
+        int index = indexOf(treatment);
+        if (index < 0) {
+            return false;
+        }
+        removeTreatment(index);
+        return true;
+    }
+
+    /**
+     * Adds a recurring treatment.
+     *
+     * @param schedule the schedule to add
+     */
+    public void addSchedule(TreatmentSchedule schedule) {
+        addSchedule(schedules.size(), schedule);
+    }
+
+    /**
+     * Adds a recurring treatment at the given position of {@link #getSchedules()},
+     * such as the position it was removed from.
+     *
+     * @param index the 0-based position, from 0 to the number of schedules
+     * @param schedule the schedule to add
+     */
+    public void addSchedule(int index, TreatmentSchedule schedule) {
+        assert schedule.getPet() == null : "Schedule already belongs to a pet";
+        schedules.add(index, schedule);
+        schedule.setOwner(this);
+        scheduleChanged(schedule);
+    }
+
+    /**
+     * Removes the recurring treatment at the given position of {@link #getSchedules()}.
+     *
+     * @param index the 0-based position of the schedule
+     * @return the removed schedule
+     */
+    public TreatmentSchedule removeSchedule(int index) {
+        TreatmentSchedule removed = schedules.remove(index);
+        removed.setOwner(null);
+        scheduleChanged(removed);
+        return removed;
+    }
+
+    /**
+     * Returns this pet's recurring treatments in the order they were added, which is
+     * also the order of the 1-based indexes that commands use.
+     */
+    public List<TreatmentSchedule> getSchedules() {
+        return Collections.unmodifiableList(schedules);
+    }
+
+    /**
+     * Checks whether the pet has a recurring treatment with the given name id starting on the given date.
+     *
+     * @param nameId the {@link SymbolTable} id of the treatment name
+     * @param start the date of the first occurrence
+     * @return true if such a schedule exists, false otherwise
+     */
+    public boolean hasSchedule(int nameId, LocalDate start) {
+        for (TreatmentSchedule schedule : schedules) {
+            if (schedule.getNameId() == nameId && schedule.getStart().equals(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the occurrences of this pet's recurring treatments dated within the given range,
+     * in date order. Only the occurrences in the range are worked out.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return the occurrences, as treatments that are not added to this pet
+     */
+    public List<Treatment> getOccurrences(LocalDate fromDate, LocalDate toDate) {
+        List<Treatment> occurrences = new ArrayList<>();
+        for (TreatmentSchedule schedule : schedules) {
+            occurrences.addAll(schedule.occurrencesBetween(fromDate, toDate));
+        }
+        occurrences.sort(Comparator.comparing(Treatment::getDate));
+        return occurrences;
+    }
+
+    /**
+     * Returns the completed occurrences of this pet's recurring treatments dated within the
+     * given range, in date order.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return the completed occurrences, as treatments that are not added to this pet
+     */
+    public List<Treatment> getCompletedOccurrences(LocalDate fromDate, LocalDate toDate) {
+        List<Treatment> occurrences = new ArrayList<>();
+        for (TreatmentSchedule schedule : schedules) {
+            occurrences.addAll(schedule.completedBetween(fromDate, toDate));
+        }
+        occurrences.sort(Comparator.comparing(Treatment::getDate));
+        return occurrences;
+    }
+
+    /**
+     * Notifies the owning pet list that one of this pet's schedules was added, removed,
+     * or had an occurrence marked or unmarked.
+     */
+    void scheduleChanged(TreatmentSchedule schedule) {
+        if (owner != null) {
+            owner.fireScheduleChanged(this, schedule);
+        }
+    }
+
+    /**
+     * Sets the pet list this pet belongs to.
+     */
+    void setOwner(PetList owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Notifies the owning pet list that one of this pet's treatments was marked or unmarked.
+     */
+    void treatmentCompletionChanged(Treatment treatment) {
+        if (owner != null) {
+            owner.fireTreatmentCompletionChanged(this, treatment);
+        }
+    }
+
+    /**
+     * Moves this pet's treatments into {@code columns}, where later treatments are stored too.
+     */
+    void attachTo(TreatmentColumns columns) {
+        assert this.columns == null : "Pet is already attached";
+        this.columns = columns;
+        columnId = columns.registerPet(this);
+        for (int i = 0; i < treatments.size(); i++) {
+            treatments.get(i).attach(columns, columnId, i);
+        }
+    }
+
+    /**
+     * Points this pet's attached treatments at their rows after the columnar store was compacted.
+     *
+     * @param newRows the new row of each old row
+     */
+    void moveRows(int[] newRows) {
+        for (Treatment treatment : treatments) {
+            treatment.moveRow(newRows);
+        }
+    }
+
+    /**
+     * Moves this pet's treatments back out of its columnar store.
+     */
+    void detachFromColumns() {
+        if (columns == null) {
+            return;
+        }
+        // Releasing the pet first drops its row list at once instead of row by row
+        columns.releasePet(columnId);
+        for (Treatment treatment : treatments) {
+            treatment.detach();
+        }
+        columns = null;
+        columnId = -1;
+    }
+
+    /**
+     * Returns the id of this pet in its columnar store, or {@code -1} if it is not in one.
+     */
+    public int getColumnId() {
+        return columnId;
+    }
+
+    /**
+     * Returns this pet's treatments in date order, which is also the order of the
+     * 1-based indexes that commands use. Add and remove treatments through this
+     * pet rather than through the returned list.
+     */
     public ArrayList<Treatment> getTreatments() {
+        loadTreatments();
         return treatments;
     }
 
+    /**
+     * Defers reading this pet's treatments until they are first accessed.
+     * The loader is run at most once and may add treatments through {@link #addTreatment(Treatment)}.
+     *
+     * @param loader the action that reads and adds the treatments
+     */
+    public void setTreatmentLoader(Runnable loader) {
+        this.treatmentLoader = loader;
+    }
+
+    /**
+     * Runs an action once this pet's treatments are in memory: straight away if they
+     * already are, otherwise right after they are read.
+     *
+     * @param action the action to run
+     */
+    public void whenTreatmentsLoaded(Runnable action) {
+        if (treatmentLoader == null) {
+            action.run();
+            return;
+        }
+        Runnable loader = treatmentLoader;
+        treatmentLoader = () -> {
+            loader.run();
+            action.run();
+        };
+    }
+
+    /**
+     * Returns the archive lines of this pet's archived treatments that were dropped when it
+     * was deleted, and forgets them, so that only the first caller keeps them.
+     *
+     * @return the lines, empty if none were dropped since the last call
+     */
+    public List<String> takeArchivedLines() {
+        List<String> lines = archivedLines;
+        archivedLines = List.of();
+        return lines;
+    }
+
+    void setArchivedLines(List<String> lines) {
+        this.archivedLines = lines;
+    }
+
+    /**
+     * Returns true if this pet's treatments are in memory.
+     */
+    public boolean hasLoadedTreatments() {
+        return treatmentLoader == null;
+    }
+
+    /**
+     * Reads this pet's treatments now if they were deferred.
+     */
+    public void loadTreatments() {
+        if (treatmentLoader == null) {
+            return;
+        }
+        Runnable loader = treatmentLoader;
+        treatmentLoader = null;
+        loader.run();
+    }
+
     /**
      * Updates the pet's name.
      */
     public void setName(String name) {
+        String oldName = this.name;
         this.name = name;
+        if (owner != null) {
+            owner.petNameChanged(this, oldName);
+        }
     }
 
     /**
      * Updates the pet's species.
      */
     public void setSpecies(String species) {
-        this.species = species;
+        String oldSpecies = this.species;
+        this.species = SymbolTable.intern(species);
+        if (owner != null && !this.species.equals(oldSpecies)) {
+            owner.firePetSpeciesChanged(this, oldSpecies);
+        }
     }
 
     /**
      * Updates the pet's age.
      */
     public void setAge(int age) {
+        int oldAge = this.age;
         this.age = age;
+        if (owner != null && age != oldAge) {
+            owner.firePetAgeChanged(this, oldAge);
+        }
     }
 
     /**
      * Checks whether a given treatment is a duplicate of any existing treatment
      * in the pet's treatment list. A treatment is considered a duplicate if
      * it has the same name (case-insensitive) and the same date as an existing treatment.
+     * Names are compared by their {@link SymbolTable} ids.
      *
      * @param newTreatment the {@link Treatment} to check for duplication
      * @return true if a duplicate treatment exists, false otherwise
      */
     public boolean isDuplicateTreatment(Treatment newTreatment) {
+        return hasTreatment(newTreatment.getNameId(), newTreatment.getDate());
+    }
+
+    /**
+     * Checks whether the pet has a treatment with the given name id on the given date.
+     *
+     * @param nameId the {@link SymbolTable} id of the treatment name
+     * @param date the treatment date
+     * @return true if such a treatment exists, false otherwise
+     */
+    public boolean hasTreatment(int nameId, LocalDate date) {
+        return findTreatment(nameId, date) != null;
+    }
+
+    /**
+     * Returns the treatment with the given name id on the given date, of which there is at most one.
+     *
+     * @param nameId the {@link SymbolTable} id of the treatment name
+     * @param date the treatment date
+     * @return the treatment, or {@code null} if there is none
+     */
+    public Treatment findTreatment(int nameId, LocalDate date) {
+        loadTreatments();
         for (Treatment treatment: treatments) {
-            if (treatment.getName().equalsIgnoreCase(newTreatment.getName()) &&
-                treatment.getDate().equals(newTreatment.getDate())) {
-                return true;
+            if (treatment.getNameId() == nameId && treatment.getDate().equals(date)) {
+                return treatment;
             }
         }
-        return false;
+        return null;
     }
 
     /**
@@ -1,22 +1,149 @@
 package seedu.cuddlecare;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
+import seedu.cuddlecare.snapshot.ModelSnapshot;
+import seedu.cuddlecare.snapshot.SnapshotPublisher;
+import seedu.cuddlecare.storage.TreatmentArchive;
+
 /**
  * A list that contains all the user's pets.
  *
  */
 public class PetList {
 
+    /** Largest number of names returned by {@link #suggestNames(String)}. */
+    public static final int MAX_SUGGESTIONS = 5;
+
+    /** Largest number of edits between a mistyped name and a suggested pet name. */
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+
     /** Underlying data structure to hold all pets */
     private final ArrayList<Pet> pets;
 
+    /** Columnar store for the treatments of all pets, or {@code null} if not used. */
+    private final TreatmentColumns columns;
+
+    /** Archive of old completed treatments, or {@code null} if not used. */
+    private TreatmentArchive archive;
+
+    /** Listeners notified of changes to pets and their treatments. */
+    private final List<PetListListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Pets by name, kept in step with additions, deletions and renames. */
+    private final PetNameIndex petsByName = new PetNameIndex();
+
+    /** Pets by id. */
+    private final LongMap<Pet> petsById = new LongMap<>();
+
+    /** Treatments of the pets by id, for pets whose treatments are loaded. */
+    private final LongMap<Treatment> treatmentsById = new LongMap<>();
+
+    /** Publishes unchangeable versions of the pets for readers on other threads. */
+    private final SnapshotPublisher snapshots = new SnapshotPublisher();
+
+    /** Ids to give the next new pet and treatment; ids are never reused. */
+    private long nextPetId = 1;
+    private long nextTreatmentId = 1;
+
     /**
      * Initializes the list of pets.
      */
     public PetList() {
+        this(null);
+    }
+
+    private PetList(TreatmentColumns columns) {
         this.pets = new ArrayList<>();
+        this.columns = columns;
+        listeners.add(snapshots);
+    }
+
+    /**
+     * Creates an empty list of pets whose treatments are kept in a {@link TreatmentColumns} store.
+     */
+    public static PetList withColumnarStore() {
+        return new PetList(new TreatmentColumns());
+    }
+
+    /**
+     * Returns the columnar treatment store, or {@code null} if this list does not use one.
+     */
+    public TreatmentColumns getTreatmentColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the archive of old completed treatments, or {@code null} if there is none.
+     */
+    public TreatmentArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Sets the archive that old completed treatments of these pets are moved to.
+     *
+     * @param archive the archive, or {@code null} to keep all treatments in memory
+     */
+    public void setArchive(TreatmentArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Registers a listener to be notified of changes to the pets and their treatments.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(PetListListener listener) {
+        assert listener != null : "Listener cannot be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying a listener registered with {@link #addListener(PetListListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(PetListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the latest published version of the pets, in constant time. Changes made
+     * since the last call to {@link #publish()} are not in it.
+     */
+    public ModelSnapshot snapshot() {
+        return snapshots.current();
+    }
+
+    /**
+     * Publishes a version of the pets with the changes made since the last one. Call
+     * once a command has finished, so that no version holds half of its changes.
+     *
+     * @return the version published, or the latest one if nothing has changed
+     */
+    public ModelSnapshot publish() {
+        return snapshots.publish();
+    }
+
+    /**
+     * Returns the archived treatments dated within the given range.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return map of lowercase pet names to their archived treatments in date order,
+     *     empty if there is no archive
+     */
+    public Map<String, List<Treatment>> getArchivedTreatments(LocalDate fromDate, LocalDate toDate) {
+        if (archive == null) {
+            return Map.of();
+        }
+        return archive.scan(fromDate, toDate);
     }
 
     /**
@@ -26,10 +153,32 @@ public class PetList {
      * @return success
      */
     public boolean add(Pet pet) {
+        return add(pets.size(), pet);
+    }
+
+    /**
+     * Adds the unique pet to the user's pet list at the given position, or at the end
+     * if the list is shorter, such as when a deleted pet is added back.
+     *
+     * @param index the position in the list to add the pet at
+     * @param pet the newly to-be-added pet
+     * @return success
+     */
+    public boolean add(int index, Pet pet) {
+        assert index >= 0 : "Index cannot be negative";
         if (isDuplicateName(pet.getName())) {
             return false;
         }
-        pets.add(pet);
+        pets.add(Math.min(index, pets.size()), pet);
+        petsByName.add(pet);
+        if (columns != null) {
+            pet.attachTo(columns);
+        }
+        registerPet(pet);
+        pet.setOwner(this);
+        for (PetListListener listener : listeners) {
+            listener.petAdded(pet);
+        }
         return true;
     }
 
@@ -40,12 +189,7 @@ public class PetList {
      * @return boolean whether pet exists or not
      */
     private boolean isDuplicateName(String name) {
-        for (Pet pet : pets) {
-            if (pet.getName().equalsIgnoreCase(name)) {
-                return true;
-            }
-        }
-        return false;
+        return petsByName.get(name) != null;
     }
 
     /**
@@ -55,12 +199,56 @@ public class PetList {
      * @return pet if found, null if index is invalid
      */
     public Pet getPetByName(String name) {
-        for (Pet pet : pets) {
-            if (pet.getName().equalsIgnoreCase(name)) {
-                return pet;
+        return petsByName.get(name);
+    }
+
+    /**
+     * Retrieves a pet by its name or, failing that, by the start of its name if
+     * only one pet's name starts that way. Names are matched ignoring case.
+     *
+     * @param name the name or start of the name of the pet
+     * @return the pet, or {@code null} if there is none or the start of the name is ambiguous
+     */
+    public Pet findPet(String name) {
+        return petsByName.getByUniquePrefix(name);
+    }
+
+    /**
+     * Returns the names of the pets whose names are close to {@code name}: names that
+     * start with it, then names at most {@link #MAX_SUGGESTION_DISTANCE} edits away from it.
+     *
+     * @param name a pet name that was not found
+     * @return up to {@link #MAX_SUGGESTIONS} names, closest first
+     */
+    public List<String> suggestNames(String name) {
+        List<String> names = new ArrayList<>();
+        if (name.isEmpty()) {
+            return names;
+        }
+        for (Pet pet : petsByName.startingWith(name)) {
+            names.add(pet.getName());
+        }
+        for (Pet pet : petsByName.near(name, MAX_SUGGESTION_DISTANCE)) {
+            if (!names.contains(pet.getName())) {
+                names.add(pet.getName());
             }
         }
-        return null;
+        return names.size() > MAX_SUGGESTIONS ? names.subList(0, MAX_SUGGESTIONS) : names;
+    }
+
+    /**
+     * Returns the names of the pets whose names start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     *
+     * @param prefix the start of the names
+     * @return the matching names
+     */
+    public List<String> findNamesStartingWith(String prefix) {
+        List<String> names = new ArrayList<>();
+        for (Pet pet : petsByName.startingWith(prefix)) {
+            names.add(pet.getName());
+        }
+        return names;
     }
 
     /**
@@ -80,6 +268,16 @@ public class PetList {
         return pets.get(index);
     }
 
+    /**
+     * Returns the position of a pet in the list.
+     *
+     * @param pet the pet to find
+     * @return the index of the pet, or -1 if it is not in the list
+     */
+    public int indexOf(Pet pet) {
+        return pets.indexOf(pet);
+    }
+
     /**
      * returns a stream of pets in the list
      *
@@ -90,13 +288,219 @@ public class PetList {
     }
 
     /**
-     * Removes the specified pet from the list, if it exists.
+     * Removes the specified pet from the list, if it exists. Its archived treatments are
+     * dropped from the archive, and the pet keeps their lines until {@link Pet#takeArchivedLines()}.
      *
      * @param petToDelete the {@link Pet} object to remove
      * @return {@code true} if the pet was found and removed; {@code false} otherwise
      */
     public boolean deletePet(Pet petToDelete) {
-        return pets.remove(petToDelete);
+        boolean isRemoved = pets.remove(petToDelete);
+        if (isRemoved && columns != null) {
+            petToDelete.detachFromColumns();
+        }
+        if (isRemoved && archive != null) {
+            petToDelete.setArchivedLines(archive.removePet(petToDelete.getName()));
+        }
+        if (isRemoved) {
+            petsByName.remove(petToDelete.getName());
+            petsById.remove(petToDelete.getId());
+            if (petToDelete.hasLoadedTreatments()) {
+                for (Treatment treatment : petToDelete.getTreatments()) {
+                    treatmentsById.remove(treatment.getId());
+                }
+            }
+            petToDelete.setOwner(null);
+            for (PetListListener listener : listeners) {
+                listener.petRemoved(petToDelete);
+            }
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Puts archived treatments of a pet that was deleted and added back into the archive again.
+     *
+     * @param lines the archive lines returned by {@link Pet#takeArchivedLines()} after the pet was deleted
+     */
+    public void restoreArchived(List<String> lines) {
+        if (archive != null && !lines.isEmpty()) {
+            archive.restore(lines);
+        }
+    }
+
+    /**
+     * Renames a pet in the list, along with its archived treatments.
+     *
+     * @param pet the pet to rename
+     * @param newName the new name of the pet
+     */
+    public void renamePet(Pet pet, String newName) {
+        String oldName = pet.getName();
+        pet.setName(newName);
+        if (archive != null) {
+            archive.renamePet(oldName, newName);
+        }
+        for (PetListListener listener : listeners) {
+            listener.petRenamed(pet, oldName);
+        }
+    }
+
+    /**
+     * Files a pet of this list under its new name in the name index.
+     */
+    void petNameChanged(Pet pet, String oldName) {
+        if (petsByName.get(oldName) == pet) {
+            petsByName.remove(oldName);
+        }
+        petsByName.add(pet);
+    }
+
+    /**
+     * Notifies the listeners that the species of a pet in this list was changed.
+     */
+    void firePetSpeciesChanged(Pet pet, String oldSpecies) {
+        for (PetListListener listener : listeners) {
+            listener.petSpeciesChanged(pet, oldSpecies);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the age of a pet in this list was changed.
+     */
+    void firePetAgeChanged(Pet pet, int oldAge) {
+        for (PetListListener listener : listeners) {
+            listener.petAgeChanged(pet, oldAge);
+        }
+    }
+
+    /**
+     * Gives a treatment added to a pet in this list an id and notifies the listeners.
+     */
+    void fireTreatmentAdded(Pet pet, Treatment treatment) {
+        registerTreatment(treatment);
+        for (PetListListener listener : listeners) {
+            listener.treatmentAdded(pet, treatment);
+        }
+    }
+
+    /**
+     * Forgets the id of a treatment removed from a pet in this list and notifies the listeners.
+     */
+    void fireTreatmentRemoved(Pet pet, Treatment treatment) {
+        treatmentsById.remove(treatment.getId());
+        for (PetListListener listener : listeners) {
+            listener.treatmentRemoved(pet, treatment);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a treatment of a pet in this list was marked or unmarked.
+     */
+    void fireTreatmentCompletionChanged(Pet pet, Treatment treatment) {
+        for (PetListListener listener : listeners) {
+            listener.treatmentCompletionChanged(pet, treatment);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a recurring treatment of a pet in this list was added,
+     * removed, marked or unmarked.
+     */
+    void fireScheduleChanged(Pet pet, TreatmentSchedule schedule) {
+        for (PetListListener listener : listeners) {
+            listener.scheduleChanged(pet, schedule);
+        }
+    }
+
+    /**
+     * Returns the pet with the given id, or {@code null} if there is none.
+     */
+    public Pet getPetById(long id) {
+        return petsById.get(id);
+    }
+
+    /**
+     * Returns the treatment with the given id, or {@code null} if there is none.
+     * Deferred treatments are loaded if the id is not found among the loaded ones.
+     */
+    public Treatment getTreatmentById(long id) {
+        Treatment treatment = treatmentsById.get(id);
+        if (treatment == null && id > 0 && id < nextTreatmentId) {
+            loadAllTreatments();
+            treatment = treatmentsById.get(id);
+        }
+        return treatment;
+    }
+
+    /**
+     * Returns the id the next new pet will get.
+     */
+    public long getNextPetId() {
+        return nextPetId;
+    }
+
+    /**
+     * Returns the id the next new treatment will get.
+     */
+    public long getNextTreatmentId() {
+        return nextTreatmentId;
+    }
+
+    /**
+     * Makes sure ids below the given ones are not given out again, for example
+     * because they belonged to deleted or archived data.
+     *
+     * @param nextPetId the lowest id the next new pet may get
+     * @param nextTreatmentId the lowest id the next new treatment may get
+     */
+    public void reserveIds(long nextPetId, long nextTreatmentId) {
+        this.nextPetId = Math.max(this.nextPetId, nextPetId);
+        this.nextTreatmentId = Math.max(this.nextTreatmentId, nextTreatmentId);
+    }
+
+    /**
+     * Records a pet added to this list under its id, giving it a new id if it has none or
+     * its id is taken, and does the same for its loaded treatments.
+     */
+    private void registerPet(Pet pet) {
+        long id = pet.getId();
+        if (id <= 0 || petsById.containsKey(id)) {
+            id = nextPetId++;
+            pet.setId(id);
+        } else {
+            nextPetId = Math.max(nextPetId, id + 1);
+        }
+        petsById.put(id, pet);
+        if (pet.hasLoadedTreatments()) {
+            for (Treatment treatment : pet.getTreatments()) {
+                registerTreatment(treatment);
+            }
+        }
+    }
+
+    private void registerTreatment(Treatment treatment) {
+        long id = treatment.getId();
+        Treatment existing = treatmentsById.get(id);
+        if (existing == treatment) {
+            return;
+        }
+        if (id <= 0 || existing != null) {
+            id = nextTreatmentId++;
+            treatment.setId(id);
+        } else {
+            nextTreatmentId = Math.max(nextTreatmentId, id + 1);
+        }
+        treatmentsById.put(id, treatment);
+    }
+
+    /**
+     * Reads the treatments of every pet whose treatments were deferred.
+     */
+    public void loadAllTreatments() {
+        for (Pet pet : pets) {
+            pet.loadTreatments();
+        }
     }
 
     /** Returns a snapshot copy of all pets as a List. */
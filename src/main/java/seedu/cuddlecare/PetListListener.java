@@ -0,0 +1,74 @@
+package seedu.cuddlecare;
+
+/**
+ * Receives changes to the pets and treatments of a {@link PetList}.
+ * <p>
+ * Listeners are called on the thread that made the change, after the change
+ * has been applied. Every method does nothing by default.
+ */
+public interface PetListListener {
+
+    /**
+     * Called after a pet has been added to the list.
+     */
+    default void petAdded(Pet pet) {
+    }
+
+    /**
+     * Called after a pet has been removed from the list.
+     */
+    default void petRemoved(Pet pet) {
+    }
+
+    /**
+     * Called after a pet in the list has been renamed.
+     *
+     * @param pet the renamed pet
+     * @param oldName the name of the pet before the change
+     */
+    default void petRenamed(Pet pet, String oldName) {
+    }
+
+    /**
+     * Called after the species of a pet in the list has been changed.
+     *
+     * @param pet the changed pet
+     * @param oldSpecies the species of the pet before the change
+     */
+    default void petSpeciesChanged(Pet pet, String oldSpecies) {
+    }
+
+    /**
+     * Called after the age of a pet in the list has been changed.
+     *
+     * @param pet the changed pet
+     * @param oldAge the age of the pet before the change
+     */
+    default void petAgeChanged(Pet pet, int oldAge) {
+    }
+
+    /**
+     * Called after a treatment has been added to a pet in the list.
+     */
+    default void treatmentAdded(Pet pet, Treatment treatment) {
+    }
+
+    /**
+     * Called after a treatment has been removed from a pet in the list.
+     */
+    default void treatmentRemoved(Pet pet, Treatment treatment) {
+    }
+
+    /**
+     * Called after a treatment of a pet in the list has been marked or unmarked.
+     */
+    default void treatmentCompletionChanged(Pet pet, Treatment treatment) {
+    }
+
+    /**
+     * Called after a recurring treatment has been added to or removed from a pet in the list,
+     * or one of its occurrences has been marked or unmarked.
+     */
+    default void scheduleChanged(Pet pet, TreatmentSchedule schedule) {
+    }
+}
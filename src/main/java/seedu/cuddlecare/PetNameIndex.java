@@ -0,0 +1,261 @@
+package seedu.cuddlecare;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An index of pets by name, matched ignoring case.
+ * <p>
+ * Names are kept in a trie, so finding a pet by its name, by the start of its
+ * name, or by a name with a few typing mistakes only visits the part of the
+ * trie that can match, instead of every pet.
+ */
+public class PetNameIndex {
+
+    /**
+     * A node reached by reading the start of one or more names.
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+
+        /** The pet whose name ends at this node, or {@code null}. */
+        private Pet pet;
+
+        /** The number of pets whose names end at or below this node. */
+        private int count;
+
+        private Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node addChild(char key) {
+            Node child = child(key);
+            if (child != null) {
+                return child;
+            }
+            child = new Node();
+            int position = 0;
+            while (position < keys.length && keys[position] < key) {
+                position++;
+            }
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newKeys[position] = key;
+            newChildren[position] = child;
+            System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char key) {
+            int position = 0;
+            while (keys[position] != key) {
+                position++;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, newKeys.length - position);
+            System.arraycopy(children, position + 1, newChildren, position, newChildren.length - position);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+
+    /**
+     * A pet whose name is a few edits away from a searched name.
+     */
+    private static final class Match {
+        private final Pet pet;
+        private final int distance;
+
+        private Match(Pet pet, int distance) {
+            this.pet = pet;
+            this.distance = distance;
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a pet under its current name, replacing any pet with the same name ignoring case.
+     *
+     * @param pet the pet to add
+     */
+    public void add(Pet pet) {
+        assert pet != null : "Pet cannot be null";
+        String name = pet.getName();
+        if (get(name) != null) {
+            remove(name);
+        }
+        Node node = root;
+        node.count++;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.addChild(Character.toLowerCase(name.charAt(i)));
+            node.count++;
+        }
+        node.pet = pet;
+    }
+
+    /**
+     * Removes the pet with the given name, ignoring case.
+     *
+     * @param name the name of the pet
+     * @return the removed pet, or {@code null} if there was none
+     */
+    public Pet remove(String name) {
+        Pet pet = get(name);
+        if (pet == null) {
+            return null;
+        }
+        Node node = root;
+        node.count--;
+        for (int i = 0; i < name.length(); i++) {
+            char key = Character.toLowerCase(name.charAt(i));
+            Node child = node.child(key);
+            child.count--;
+            if (child.count == 0) {
+                node.removeChild(key);
+                return pet;
+            }
+            node = child;
+        }
+        node.pet = null;
+        return pet;
+    }
+
+    /**
+     * Returns the number of pets in the index.
+     */
+    public int size() {
+        return root.count;
+    }
+
+    /**
+     * Returns the pet with the given name, ignoring case, or {@code null} if there is none.
+     */
+    public Pet get(String name) {
+        Node node = find(name);
+        return node == null ? null : node.pet;
+    }
+
+    /**
+     * Returns the pets whose names start with {@code prefix}, ignoring case, in alphabetical order.
+     *
+     * @param prefix the start of the names
+     * @return the matching pets
+     */
+    public List<Pet> startingWith(String prefix) {
+        List<Pet> found = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null) {
+            collect(node, found);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the pet whose name is {@code prefix}, or else the only pet whose name starts with it.
+     *
+     * @param prefix the name or start of the name, ignoring case
+     * @return the pet, or {@code null} if there is none or several pets' names start with {@code prefix}
+     */
+    public Pet getByUniquePrefix(String prefix) {
+        Node node = find(prefix);
+        if (node == null || prefix.isEmpty()) {
+            return null;
+        }
+        if (node.pet != null) {
+            return node.pet;
+        }
+        if (node.count != 1) {
+            return null;
+        }
+        while (node.pet == null) {
+            node = node.children[0];
+        }
+        return node.pet;
+    }
+
+    /**
+     * Returns the pets whose names are at most {@code maxDistance} single-character insertions,
+     * deletions or substitutions away from {@code name}, ignoring case.
+     *
+     * @param name the name to compare against
+     * @param maxDistance the largest number of edits allowed
+     * @return the pets, closest first and then in alphabetical order
+     */
+    public List<Pet> near(String name, int maxDistance) {
+        String target = name.toLowerCase();
+        int[] firstRow = new int[target.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < root.keys.length; i++) {
+            searchNear(root.children[i], root.keys[i], target, firstRow, maxDistance, matches);
+        }
+        matches.sort((a, b) -> a.distance != b.distance
+                ? Integer.compare(a.distance, b.distance)
+                : a.pet.getName().compareToIgnoreCase(b.pet.getName()));
+        List<Pet> near = new ArrayList<>();
+        for (Match match : matches) {
+            near.add(match.pet);
+        }
+        return near;
+    }
+
+    /**
+     * Extends the edit distances in {@code previousRow} by one more character of the names
+     * below {@code node}, and stops once every distance in the row is above the limit.
+     */
+    private static void searchNear(Node node, char key, String target, int[] previousRow,
+                                   int maxDistance, List<Match> matches) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMin = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitution = previousRow[i - 1] + (target.charAt(i - 1) == key ? 0 : 1);
+            row[i] = Math.min(substitution, Math.min(previousRow[i], row[i - 1]) + 1);
+            rowMin = Math.min(rowMin, row[i]);
+        }
+        int distance = row[row.length - 1];
+        if (node.pet != null && distance <= maxDistance) {
+            matches.add(new Match(node.pet, distance));
+        }
+        if (rowMin > maxDistance) {
+            return;
+        }
+        for (int i = 0; i < node.keys.length; i++) {
+            searchNear(node.children[i], node.keys[i], target, row, maxDistance, matches);
+        }
+    }
+
+    private Node find(String name) {
+        Node node = root;
+        for (int i = 0; i < name.length() && node != null; i++) {
+            node = node.child(Character.toLowerCase(name.charAt(i)));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<Pet> found) {
+        if (node.pet != null) {
+            found.add(node.pet);
+        }
+        for (Node child : node.children) {
+            collect(child, found);
+        }
+    }
+}
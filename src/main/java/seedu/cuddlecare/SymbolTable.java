@@ -0,0 +1,149 @@
+package seedu.cuddlecare;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalises strings that repeat across many records, such as treatment
+ * names and species.
+ * <p>
+ * {@link #intern(String)} returns one shared instance per distinct spelling, so
+ * each spelling is kept in memory once. {@link #idOf(String)} returns a small
+ * integer that is equal for spellings that differ only in case, so callers can
+ * compare names with {@code ==} instead of {@link String#equalsIgnoreCase(String)}.
+ * <p>
+ * The table only holds its spellings weakly. A symbol is dropped once none of its
+ * interned spellings is referenced any more, so deleted pets and treatments do not
+ * keep their names alive. Callers that keep an id must therefore also keep an
+ * interned spelling of it, which every record does by holding its own name.
+ * Ids of dropped symbols are never handed out again.
+ */
+public final class SymbolTable {
+
+    /** Case-insensitive symbol shared by all spellings that differ only in case. */
+    private static final class Symbol {
+        private final int id;
+
+        private Symbol(int id) {
+            this.id = id;
+        }
+    }
+
+    /** Interned spelling and its symbol, which stays alive as long as the spelling does. */
+    private static final class Entry {
+        private final WeakReference<String> spelling;
+        private final Symbol symbol;
+
+        private Entry(String spelling, Symbol symbol) {
+            this.spelling = new WeakReference<>(spelling);
+            this.symbol = symbol;
+        }
+    }
+
+    /** Weak reference to a symbol that remembers where the symbol is indexed. */
+    private static final class SymbolReference extends WeakReference<Symbol> {
+        private final String lowercase;
+        private final int id;
+
+        private SymbolReference(Symbol symbol, String lowercase, ReferenceQueue<Symbol> queue) {
+            super(symbol, queue);
+            this.lowercase = lowercase;
+            this.id = symbol.id;
+        }
+    }
+
+    private static final Map<String, Entry> BY_SPELLING = new WeakHashMap<>();
+    private static final Map<String, SymbolReference> BY_LOWERCASE = new HashMap<>();
+    private static final Map<Integer, SymbolReference> BY_ID = new HashMap<>();
+    private static final ReferenceQueue<Symbol> RELEASED = new ReferenceQueue<>();
+    private static int nextId;
+
+    private SymbolTable() {
+
+    }
+
+    /**
+     * Returns the canonical instance of the given spelling.
+     *
+     * @param s the string to intern, may be {@code null}
+     * @return a string equal to {@code s} that is shared by every caller, or {@code null}
+     */
+    public static synchronized String intern(String s) {
+        return s == null ? null : canonical(s);
+    }
+
+    /**
+     * Returns the case-insensitive id of the given string.
+     *
+     * @param s the string to look up
+     * @return an id that is the same for all strings equal to {@code s} ignoring case
+     */
+    public static synchronized int idOf(String s) {
+        assert s != null : "Symbol cannot be null";
+        String spelling = canonical(s);
+        return BY_SPELLING.get(spelling).symbol.id;
+    }
+
+    /**
+     * Returns the lowercase form of the symbol with the given id.
+     *
+     * @param id an id returned by {@link #idOf(String)}
+     * @return the lowercase spelling of the symbol
+     */
+    public static synchronized String nameOf(int id) {
+        SymbolReference reference = BY_ID.get(id);
+        assert reference != null : "Symbol was dropped while its id was in use";
+        return reference.lowercase;
+    }
+
+    /**
+     * Returns the number of symbols that are still indexed.
+     */
+    static synchronized int size() {
+        // Sizing the weak map drops its collected spellings, which releases their symbols.
+        BY_SPELLING.size();
+        expungeReleased();
+        return BY_ID.size();
+    }
+
+    private static String canonical(String s) {
+        expungeReleased();
+        Entry entry = BY_SPELLING.get(s);
+        String spelling = entry == null ? null : entry.spelling.get();
+        if (spelling != null) {
+            return spelling;
+        }
+        BY_SPELLING.put(s, new Entry(s, symbolOf(s.toLowerCase())));
+        return s;
+    }
+
+    private static Symbol symbolOf(String lowercase) {
+        SymbolReference reference = BY_LOWERCASE.get(lowercase);
+        Symbol symbol = reference == null ? null : reference.get();
+        if (symbol == null) {
+            // A lowercase spelling is its own lowercase form, so index a copy that cannot pin it.
+            String key = new String(lowercase);
+            symbol = new Symbol(nextId++);
+            reference = new SymbolReference(symbol, key, RELEASED);
+            BY_LOWERCASE.put(key, reference);
+            BY_ID.put(symbol.id, reference);
+        }
+        return symbol;
+    }
+
+    /**
+     * Removes the index entries of symbols whose spellings were all collected.
+     */
+    private static void expungeReleased() {
+        for (Reference<? extends Symbol> released = RELEASED.poll(); released != null;
+                released = RELEASED.poll()) {
+            SymbolReference reference = (SymbolReference) released;
+            BY_LOWERCASE.remove(reference.lowercase, reference);
+            BY_ID.remove(reference.id, reference);
+        }
+    }
+}
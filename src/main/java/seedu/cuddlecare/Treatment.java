@@ -4,13 +4,27 @@ import java.time.LocalDate;
 
 /**
  * Represents a treatment record for a pet.
+ * <p>
+ * While its pet belongs to a columnar {@link PetList}, a treatment keeps its
+ * data in a {@link TreatmentColumns} row and acts as a view of that row.
  */
 public class Treatment {
-    private final String name;
-    private final String note;
-    private final LocalDate date;
+    /** Id of this treatment, unique within its pet list, or 0 until it has one. */
+    private long id;
+
+    private String name;
+    private int nameId;
+    private String note;
+    private LocalDate date;
     private boolean completed = false;
 
+    /** Store holding this treatment's data while attached, otherwise {@code null}. */
+    private TreatmentColumns columns;
+    private int row = -1;
+
+    /** Pet this treatment belongs to, or {@code null}. */
+    private Pet owner;
+
     /**
      * Creates a Treatment with a treatment name, date.
      *
@@ -18,27 +32,65 @@ public class Treatment {
      * @param date date of the treatment
      */
     public Treatment(String name, String note, LocalDate date) {
-        this.name = name;
+        this.name = SymbolTable.intern(name);
+        this.nameId = name == null ? -1 : SymbolTable.idOf(name);
         this.note = note;
         this.date = date;
     }
 
+    /**
+     * Returns the id of this treatment, or 0 if its pet is not in a {@link PetList}.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of this treatment. Used when loading saved data; a {@link PetList}
+     * assigns a new id if this one is missing or taken.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the pet this treatment belongs to, or {@code null} if it has not been added to one.
+     */
+    public Pet getPet() {
+        return owner;
+    }
+
     public String getName() {
-        return name;
+        return columns == null ? name : columns.getName(row);
+    }
+
+    /**
+     * Returns the case-insensitive {@link SymbolTable} id of this treatment's name.
+     */
+    public int getNameId() {
+        return columns == null ? nameId : columns.getNameId(row);
     }
 
     public String getNote() {
-        return note;
+        return columns == null ? note : columns.getNote(row);
     }
 
     public LocalDate getDate() {
-        return date;
+        return columns == null ? date : columns.getDate(row);
     }
 
     @Override
     public String toString() {
-        String status = completed ? "[X] " : "[ ] ";
-        String noteFormat = hasNote() ? ("\n      Note: " + note) : "";
+        return describe(isCompleted(), getName(), getDate(), getNote());
+    }
+
+    /**
+     * Formats the display text of a treatment.
+     */
+    static String describe(boolean isCompleted, String name, LocalDate date, String note) {
+        String status = isCompleted ? "[X] " : "[ ] ";
+        boolean hasNote = !(note == null || note.isEmpty());
+        String noteFormat = hasNote ? ("\n      Note: " + note) : "";
         return status + name + " on " + date + noteFormat;
     }
 
@@ -46,19 +98,81 @@ public class Treatment {
      * Marks this treatment's completion state.
      */
     public void setCompleted(boolean completed) {
-        this.completed = completed;
+        if (isCompleted() == completed) {
+            return;
+        }
+        if (columns == null) {
+            this.completed = completed;
+        } else {
+            columns.setCompleted(row, completed);
+        }
+        if (owner != null) {
+            owner.treatmentCompletionChanged(this);
+        }
     }
 
     /**
      * Returns true if this treatment is completed.
      */
     public boolean isCompleted() {
-        return completed;
+        return columns == null ? completed : columns.isCompleted(row);
     }
 
     public boolean hasNote() {
+        String note = getNote();
         return !(note == null || note.isEmpty());
     }
 
+    /**
+     * Sets the pet this treatment belongs to.
+     */
+    void setOwner(Pet owner) {
+        this.owner = owner;
+    }
 
+    /**
+     * Moves this treatment's data into a new row of {@code columns}.
+     *
+     * @param columns the store to move into
+     * @param petId the id of the owning pet in that store
+     * @param position the position of this treatment among its pet's treatments
+     */
+    void attach(TreatmentColumns columns, int petId, int position) {
+        assert this.columns == null : "Treatment is already attached";
+        row = columns.append(petId, position, name, note, date, completed);
+        this.columns = columns;
+        name = null;
+        note = null;
+        date = null;
+    }
+
+    /**
+     * Follows this treatment's row to its new position after its store was compacted.
+     * Does nothing if the treatment is not attached.
+     *
+     * @param newRows the new row of each old row
+     */
+    void moveRow(int[] newRows) {
+        if (columns != null) {
+            row = newRows[row];
+        }
+    }
+
+    /**
+     * Copies this treatment's data back out of its row and releases the row.
+     * Does nothing if the treatment is not attached.
+     */
+    void detach() {
+        if (columns == null) {
+            return;
+        }
+        name = columns.getName(row);
+        nameId = columns.getNameId(row);
+        note = columns.getNote(row);
+        date = columns.getDate(row);
+        completed = columns.isCompleted(row);
+        columns.release(row);
+        columns = null;
+        row = -1;
+    }
 }
@@ -0,0 +1,345 @@
+package seedu.cuddlecare;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A column-oriented store for the treatments of every pet in a {@link PetList}.
+ * <p>
+ * Each treatment occupies one row, spread over primitive columns: the date as an
+ * epoch day, the name as an index into a table of distinct names, the owning pet as
+ * a pet id, and the completion flag as a bit. Attached {@link Treatment} objects
+ * only remember their row, so range queries can scan the columns without
+ * touching any treatment objects.
+ * <p>
+ * Rows are appended. A removed treatment leaves a dead row behind that is
+ * skipped by every scan until {@link #compactIfSparse()} drops the dead rows.
+ * <p>
+ * Each pet also keeps the list of its live rows in the order of
+ * {@link Pet#getTreatments()}, which is date order. A row is inserted at the
+ * position its pet computed for the treatment, so range queries find a pet's
+ * rows by binary search and never sort.
+ */
+public class TreatmentColumns {
+
+    /** Completion states that a scan can select. */
+    public enum Status {
+        ANY,
+        COMPLETED,
+        PENDING
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Fewest dead rows worth compacting, so small stores are never copied. */
+    private static final int MIN_DEAD_ROWS = 1024;
+
+    private int size;
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] nameIds = new int[INITIAL_CAPACITY];
+    private int[] petIds = new int[INITIAL_CAPACITY];
+    private String[] notes = new String[INITIAL_CAPACITY];
+    private final BitSet completed = new BitSet();
+    private final BitSet live = new BitSet();
+
+    /** Distinct treatment names, indexed by name id. */
+    private final ArrayList<String> names = new ArrayList<>();
+    private final Map<String, Integer> nameIndex = new HashMap<>();
+
+    /** {@link SymbolTable} id of each distinct name, indexed by name id. */
+    private int[] nameSymbols = new int[INITIAL_CAPACITY];
+
+    /** Registered pets, indexed by pet id; {@code null} once a pet is removed. */
+    private final ArrayList<Pet> pets = new ArrayList<>();
+
+    /** Live rows of each pet in date order, indexed by pet id; {@code null} once a pet is removed. */
+    private final ArrayList<int[]> rowsByPet = new ArrayList<>();
+
+    /** Number of rows in use in each array of {@link #rowsByPet}. */
+    private int[] rowCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * Registers a pet and returns the id its rows are stored under.
+     */
+    int registerPet(Pet pet) {
+        pets.add(pet);
+        rowsByPet.add(new int[4]);
+        int petId = pets.size() - 1;
+        if (petId == rowCounts.length) {
+            rowCounts = Arrays.copyOf(rowCounts, petId * 2);
+        }
+        return petId;
+    }
+
+    /**
+     * Forgets a removed pet. Its rows are then released one by one, while they can still be read.
+     */
+    void releasePet(int petId) {
+        pets.set(petId, null);
+        rowsByPet.set(petId, null);
+        rowCounts[petId] = 0;
+    }
+
+    /**
+     * Appends a row and returns its index.
+     *
+     * @param position the position of the treatment among its pet's treatments
+     */
+    int append(int petId, int position, String name, String note, LocalDate date, boolean isCompleted) {
+        if (size == epochDays.length) {
+            int capacity = size * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            nameIds = Arrays.copyOf(nameIds, capacity);
+            petIds = Arrays.copyOf(petIds, capacity);
+            notes = Arrays.copyOf(notes, capacity);
+        }
+        int row = size++;
+        epochDays[row] = (int) date.toEpochDay();
+        nameIds[row] = nameId(name);
+        petIds[row] = petId;
+        notes[row] = (note == null || note.isEmpty()) ? null : note;
+        completed.set(row, isCompleted);
+        live.set(row);
+        insertPetRow(petId, position, row);
+        return row;
+    }
+
+    /**
+     * Marks a row as removed.
+     */
+    void release(int row) {
+        live.clear(row);
+        notes[row] = null;
+        removePetRow(petIds[row], row);
+    }
+
+    private void insertPetRow(int petId, int position, int row) {
+        int[] rows = rowsByPet.get(petId);
+        int count = rowCounts[petId];
+        assert position >= 0 && position <= count : "Row position out of range";
+        if (count == rows.length) {
+            rows = Arrays.copyOf(rows, count * 2);
+            rowsByPet.set(petId, rows);
+        }
+        System.arraycopy(rows, position, rows, position + 1, count - position);
+        rows[position] = row;
+        rowCounts[petId] = count + 1;
+    }
+
+    private void removePetRow(int petId, int row) {
+        int[] rows = rowsByPet.get(petId);
+        if (rows == null) {
+            return;
+        }
+        int count = rowCounts[petId];
+        int position = firstOnOrAfter(rows, count, epochDays[row]);
+        while (position < count && rows[position] != row) {
+            position++;
+        }
+        assert position < count : "Row does not belong to its pet";
+        System.arraycopy(rows, position + 1, rows, position, count - position - 1);
+        rowCounts[petId] = count - 1;
+    }
+
+    /**
+     * Returns the position of the first of {@code count} date-ordered rows dated on or after {@code day}.
+     */
+    private int firstOnOrAfter(int[] rows, int count, int day) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[rows[mid]] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Drops the dead rows once they make up at least half of all rows.
+     * Live rows keep their relative order, and attached treatments are moved to their new rows.
+     * Rows returned by earlier scans are no longer valid afterwards.
+     *
+     * @return true if the rows were compacted
+     */
+    public boolean compactIfSparse() {
+        int dead = size - live.cardinality();
+        if (dead < MIN_DEAD_ROWS || dead * 2 < size) {
+            return false;
+        }
+        compact();
+        return true;
+    }
+
+    /**
+     * Moves every live row down over the dead rows before it.
+     */
+    void compact() {
+        int[] newRows = new int[size];
+        int newSize = 0;
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            epochDays[newSize] = epochDays[row];
+            nameIds[newSize] = nameIds[row];
+            petIds[newSize] = petIds[row];
+            notes[newSize] = notes[row];
+            completed.set(newSize, completed.get(row));
+            newRows[row] = newSize++;
+        }
+        Arrays.fill(notes, newSize, size, null);
+        completed.clear(newSize, size);
+        live.clear();
+        live.set(0, newSize);
+        size = newSize;
+
+        int capacity = Math.max(INITIAL_CAPACITY, newSize * 2);
+        if (capacity < epochDays.length) {
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            nameIds = Arrays.copyOf(nameIds, capacity);
+            petIds = Arrays.copyOf(petIds, capacity);
+            notes = Arrays.copyOf(notes, capacity);
+        }
+        for (int petId = 0; petId < rowsByPet.size(); petId++) {
+            int[] rows = rowsByPet.get(petId);
+            for (int i = 0; rows != null && i < rowCounts[petId]; i++) {
+                rows[i] = newRows[rows[i]];
+            }
+        }
+        for (Pet pet : pets) {
+            if (pet != null) {
+                pet.moveRows(newRows);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows, dead ones included.
+     */
+    int rowCount() {
+        return size;
+    }
+
+    private int nameId(String name) {
+        Integer id = nameIndex.get(name);
+        if (id == null) {
+            id = names.size();
+            if (id == nameSymbols.length) {
+                nameSymbols = Arrays.copyOf(nameSymbols, id * 2);
+            }
+            names.add(SymbolTable.intern(name));
+            nameSymbols[id] = SymbolTable.idOf(name);
+            nameIndex.put(name, id);
+        }
+        return id;
+    }
+
+    public String getName(int row) {
+        return names.get(nameIds[row]);
+    }
+
+    /**
+     * Returns the case-insensitive {@link SymbolTable} id of a row's name.
+     */
+    public int getNameId(int row) {
+        return nameSymbols[nameIds[row]];
+    }
+
+    public String getNote(int row) {
+        return notes[row];
+    }
+
+    public LocalDate getDate(int row) {
+        return LocalDate.ofEpochDay(epochDays[row]);
+    }
+
+    public boolean isCompleted(int row) {
+        return completed.get(row);
+    }
+
+    void setCompleted(int row, boolean isCompleted) {
+        completed.set(row, isCompleted);
+    }
+
+    /**
+     * Returns the display text of a row, formatted like {@link Treatment#toString()}.
+     */
+    public String describe(int row) {
+        return Treatment.describe(isCompleted(row), getName(row), getDate(row), getNote(row));
+    }
+
+    /**
+     * Returns the pet that owns the given pet id, or {@code null} if it was removed.
+     */
+    public Pet getPet(int petId) {
+        return pets.get(petId);
+    }
+
+    /**
+     * Returns the number of live rows.
+     */
+    public int liveCount() {
+        return live.cardinality();
+    }
+
+    /**
+     * Finds the live rows dated between {@code from} and {@code to} (inclusive)
+     * whose completion state matches {@code status}, grouped by pet id.
+     * <p>
+     * The result is indexed by pet id; pets without matches map to {@code null}.
+     * Within a pet, rows appear in date order, and rows on the same date in the
+     * order they were added, which matches {@link Pet#getTreatments()}. Each pet's
+     * rows in the range are found by binary search on its date-ordered rows.
+     *
+     * @param from the earliest date to include
+     * @param to the latest date to include
+     * @param status the completion states to include
+     * @return matching rows per pet id
+     */
+    public int[][] findRowsByPet(LocalDate from, LocalDate to, Status status) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+
+        int[][] result = new int[pets.size()][];
+        for (int petId = 0; petId < result.length; petId++) {
+            int[] rows = rowsByPet.get(petId);
+            if (rows == null) {
+                continue;
+            }
+            int count = rowCounts[petId];
+            int start = firstOnOrAfter(rows, count, fromDay);
+            int end = toDay == Integer.MAX_VALUE ? count : firstOnOrAfter(rows, count, toDay + 1);
+            int[] matching = new int[Math.max(end - start, 0)];
+            int found = 0;
+            for (int i = start; i < end; i++) {
+                if (matches(rows[i], fromDay, toDay, status)) {
+                    matching[found++] = rows[i];
+                }
+            }
+            if (found > 0) {
+                result[petId] = found == matching.length ? matching : Arrays.copyOf(matching, found);
+            }
+        }
+        return result;
+    }
+
+    private boolean matches(int row, int fromDay, int toDay, Status status) {
+        int day = epochDays[row];
+        if (day < fromDay || day > toDay) {
+            return false;
+        }
+        switch (status) {
+        case COMPLETED:
+            return completed.get(row);
+        case PENDING:
+            return !completed.get(row);
+        default:
+            return true;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package seedu.cuddlecare;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * A treatment that recurs every few days, weeks or months from a start date,
+ * optionally until an end date.
+ * <p>
+ * The schedule is stored once, however many times it recurs. Its occurrences
+ * are worked out only for the dates asked about, and only the dates of the
+ * occurrences that are completed are kept.
+ */
+public class TreatmentSchedule {
+
+    /**
+     * How often a schedule recurs is counted in one of these.
+     */
+    public enum Unit {
+        DAY(ChronoUnit.DAYS),
+        WEEK(ChronoUnit.WEEKS),
+        MONTH(ChronoUnit.MONTHS);
+
+        private final ChronoUnit chronoUnit;
+
+        Unit(ChronoUnit chronoUnit) {
+            this.chronoUnit = chronoUnit;
+        }
+
+        /**
+         * Returns the unit with the given name, singular or plural, ignoring case.
+         *
+         * @param name such as {@code day}, {@code weeks} or {@code Months}
+         * @return the unit, or {@code null} if there is no such unit
+         */
+        public static Unit fromName(String name) {
+            String lower = name.trim().toLowerCase();
+            for (Unit unit : values()) {
+                String singular = unit.name().toLowerCase();
+                if (lower.equals(singular) || lower.equals(singular + "s")) {
+                    return unit;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the name of the unit, in the plural if {@code count} is not 1.
+         */
+        public String describe(int count) {
+            return name().toLowerCase() + (count == 1 ? "" : "s");
+        }
+    }
+
+    /** Largest number of units between two occurrences. */
+    public static final int MAX_INTERVAL = 999;
+
+    private final String name;
+    private final int nameId;
+    private final String note;
+    private final LocalDate start;
+    private final int interval;
+    private final Unit unit;
+
+    /** The last date an occurrence can be on, or {@code null} if the schedule never ends. */
+    private final LocalDate end;
+
+    /** Dates of the occurrences that are completed. */
+    private final TreeSet<LocalDate> completedDates = new TreeSet<>();
+
+    /** Pet this schedule belongs to, or {@code null}. */
+    private Pet owner;
+
+    /**
+     * Creates a schedule whose first occurrence is on {@code start}.
+     *
+     * @param name name of the treatment
+     * @param note note of the treatment, or {@code null}
+     * @param start the date of the first occurrence
+     * @param interval the number of units between occurrences, from 1 to {@link #MAX_INTERVAL}
+     * @param unit the unit {@code interval} is counted in
+     * @param end the last date an occurrence can be on, or {@code null} if the schedule never ends
+     */
+    public TreatmentSchedule(String name, String note, LocalDate start, int interval, Unit unit, LocalDate end) {
+        assert name != null && start != null && unit != null : "Name, start and unit cannot be null";
+        assert interval >= 1 && interval <= MAX_INTERVAL : "Interval out of range: " + interval;
+        assert end == null || !end.isBefore(start) : "End cannot be before start";
+        this.name = SymbolTable.intern(name);
+        this.nameId = SymbolTable.idOf(name);
+        this.note = note;
+        this.start = start;
+        this.interval = interval;
+        this.unit = unit;
+        this.end = end;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the case-insensitive {@link SymbolTable} id of this schedule's name.
+     */
+    public int getNameId() {
+        return nameId;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the last date an occurrence can be on, or {@code null} if the schedule never ends.
+     */
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the pet this schedule belongs to, or {@code null} if it has not been added to one.
+     */
+    public Pet getPet() {
+        return owner;
+    }
+
+    void setOwner(Pet owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the dates of the completed occurrences, earliest first.
+     */
+    public NavigableSet<LocalDate> getCompletedDates() {
+        return Collections.unmodifiableNavigableSet(completedDates);
+    }
+
+    /**
+     * Returns a copy of this schedule with the same completed occurrences, which belongs to no pet.
+     */
+    public TreatmentSchedule copy() {
+        TreatmentSchedule copy = new TreatmentSchedule(name, note, start, interval, unit, end);
+        copy.completedDates.addAll(completedDates);
+        return copy;
+    }
+
+    /**
+     * Returns the date of an occurrence, counting the first occurrence as 0.
+     * Months are counted from the start date, so a schedule starting on the
+     * 31st recurs on the last day of shorter months and on the 31st again after.
+     */
+    private LocalDate occurrence(long count) {
+        return start.plus(count * interval, unit.chronoUnit);
+    }
+
+    /**
+     * Returns the number of the first occurrence on or after {@code date}.
+     */
+    private long firstCountFrom(LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long count = unit.chronoUnit.between(start, date) / interval;
+        while (occurrence(count).isBefore(date)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if the schedule has an occurrence on {@code date}.
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(start) || (end != null && date.isAfter(end))) {
+            return false;
+        }
+        return occurrence(firstCountFrom(date)).equals(date);
+    }
+
+    /**
+     * Returns the occurrences dated within the given range, earliest first. Each is a new
+     * treatment that is not added to any pet; mark and unmark occurrences through
+     * {@link #setCompleted(LocalDate, boolean)}.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return the occurrences
+     */
+    public List<Treatment> occurrencesBetween(LocalDate fromDate, LocalDate toDate) {
+        List<Treatment> occurrences = new ArrayList<>();
+        LocalDate last = end == null || toDate.isBefore(end) ? toDate : end;
+        if (last.isBefore(start) || last.isBefore(fromDate)) {
+            return occurrences;
+        }
+        for (long count = firstCountFrom(fromDate); ; count++) {
+            LocalDate date = occurrence(count);
+            if (date.isAfter(last)) {
+                return occurrences;
+            }
+            occurrences.add(toTreatment(date));
+        }
+    }
+
+    /**
+     * Returns the completed occurrences dated within the given range, earliest first,
+     * without going through the occurrences that are not completed.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return the completed occurrences
+     */
+    public List<Treatment> completedBetween(LocalDate fromDate, LocalDate toDate) {
+        List<Treatment> occurrences = new ArrayList<>();
+        if (fromDate.isAfter(toDate)) {
+            return occurrences;
+        }
+        for (LocalDate date : completedDates.subSet(fromDate, true, toDate, true)) {
+            occurrences.add(toTreatment(date));
+        }
+        return occurrences;
+    }
+
+    private Treatment toTreatment(LocalDate date) {
+        Treatment treatment = new Treatment(name, note, date);
+        treatment.setCompleted(completedDates.contains(date));
+        return treatment;
+    }
+
+    /**
+     * Marks the occurrence on a date as completed or not completed.
+     *
+     * @param date the date of the occurrence
+     * @param completed true to mark it completed
+     * @return true if the schedule has an occurrence on {@code date}
+     */
+    public boolean setCompleted(LocalDate date, boolean completed) {
+        if (!occursOn(date)) {
+            return false;
+        }
+        boolean changed = completed ? completedDates.add(date) : completedDates.remove(date);
+        if (changed && owner != null) {
+            owner.scheduleChanged(this);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the occurrence on {@code date} is completed.
+     */
+    public boolean isCompleted(LocalDate date) {
+        return completedDates.contains(date);
+    }
+
+    /**
+     * Describes how often the schedule recurs, such as {@code every 3 months from 2025-01-31 until 2025-12-31}.
+     */
+    public String describeRule() {
+        String every = interval == 1 ? unit.describe(1) : interval + " " + unit.describe(interval);
+        return "every " + every + " from " + start + (end == null ? "" : " until " + end);
+    }
+
+    @Override
+    public String toString() {
+        boolean hasNote = !(note == null || note.isEmpty());
+        String noteFormat = hasNote ? ("\n      Note: " + note) : "";
+        return name + " " + describeRule() + noteFormat;
+    }
+}
@@ -1,5 +1,9 @@
 package seedu.cuddlecare.command;
 
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.ui.Ui;
+
+import java.io.PrintStream;
 import java.util.List;
 
 /**
@@ -17,6 +21,47 @@ public interface Command {
      */
     void exec(String args);
 
+    /**
+     * Executes the command with everything it prints sent to {@code out}
+     * instead of the console.
+     * <p>
+     * The sink only applies to the calling thread, so commands run on different
+     * threads with different sinks do not see each other's output.
+     *
+     * @param args the arguments passed to the command, may be empty
+     * @param out the sink for the command's output
+     */
+    default void exec(String args, PrintStream out) {
+        Ui.withOutput(out, () -> exec(args));
+    }
+
+    /**
+     * Returns true if the command reads or changes the pets, so it has to wait
+     * until the save file has been loaded.
+     */
+    default boolean requiresData() {
+        return true;
+    }
+
+    /**
+     * Returns true if the command may change the pets or their treatments,
+     * so it has to be recorded before its changes are saved.
+     */
+    default boolean modifiesData() {
+        return false;
+    }
+
+    /**
+     * Returns the change the last call to {@link #exec(String)} made to the pets and
+     * forgets it, so that it can be undone and journaled. Commands that modify data
+     * keep the change they made until it is taken.
+     *
+     * @return the change, or {@code null} if the last call changed nothing
+     */
+    default Change takeChange() {
+        return null;
+    }
+
     default String getSyntax() {
         return "";
     }
@@ -67,8 +67,10 @@ public class CommandWithArguments implements Command {
      */
     @Override
     public void exec(String ignored) {
-        LOGGER.log(Level.INFO, "Executing CommandWithArguments: "
-                + command.getClass().getSimpleName() + " with args: \"" + args + "\"");
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Executing CommandWithArguments: "
+                    + command.getClass().getSimpleName() + " with args: \"" + args + "\"");
+        }
 
         command.exec(args);
     }
@@ -0,0 +1,103 @@
+package seedu.cuddlecare.command;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A read-only map of command names to commands that creates each command the
+ * first time it is looked up.
+ * <p>
+ * Registering a command only stores how to create it, so the command's class
+ * is not loaded until the command is used. Iterating over the entries creates
+ * every command.
+ */
+public final class LazyCommandMap extends AbstractMap<String, Command> {
+
+    /** How to create each command, in registration order. */
+    private final Map<String, Supplier<? extends Command>> suppliers = new LinkedHashMap<>();
+
+    /** Commands created so far. */
+    private final Map<String, Command> created = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a command to be created when first looked up.
+     *
+     * @param name the command name
+     * @param supplier creates the command
+     * @return this map
+     */
+    public LazyCommandMap register(String name, Supplier<? extends Command> supplier) {
+        assert name != null && supplier != null : "Command name and supplier cannot be null";
+        suppliers.put(name, supplier);
+        return this;
+    }
+
+    /**
+     * Returns true if the named command has been created.
+     */
+    public boolean isCreated(String name) {
+        return created.containsKey(name);
+    }
+
+    @Override
+    public Command get(Object name) {
+        Command command = created.get(name);
+        if (command != null) {
+            return command;
+        }
+        Supplier<? extends Command> supplier = suppliers.get(name);
+        if (supplier == null) {
+            return null;
+        }
+        return created.computeIfAbsent((String) name, key -> supplier.get());
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return suppliers.containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return suppliers.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(suppliers.keySet());
+    }
+
+    @Override
+    public Set<Entry<String, Command>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Command>> iterator() {
+                Iterator<String> names = suppliers.keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Command> next() {
+                        String name = names.next();
+                        return new SimpleImmutableEntry<>(name, get(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return suppliers.size();
+            }
+        };
+    }
+}
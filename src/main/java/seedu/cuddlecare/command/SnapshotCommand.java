@@ -0,0 +1,31 @@
+package seedu.cuddlecare.command;
+
+/**
+ * A command that does most of its work on a {@link seedu.cuddlecare.snapshot.ModelSnapshot}
+ * rather than on the pets themselves.
+ * <p>
+ * {@link #prepare(String)} runs while no other command can change the pets, and takes
+ * what the command reads. The work it returns only reads what was taken, so it can run
+ * while other commands change the pets.
+ */
+public interface SnapshotCommand extends Command {
+
+    /**
+     * Reads what the command needs from the pets, printing any error in the arguments,
+     * and returns the rest of the command.
+     *
+     * @param args the arguments passed to the command, may be empty
+     * @return the rest of the command, which does not read the pets
+     */
+    Runnable prepare(String args);
+
+    /**
+     * Executes the command in full on the calling thread.
+     *
+     * @param args the arguments passed to the command, may be empty
+     */
+    @Override
+    default void exec(String args) {
+        prepare(args).run();
+    }
+}
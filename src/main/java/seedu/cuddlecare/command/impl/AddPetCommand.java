@@ -3,7 +3,10 @@ package seedu.cuddlecare.command.impl;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.PetChange;
 import seedu.cuddlecare.ui.Ui;
+import seedu.cuddlecare.validation.Validation;
 
 import java.util.List;
 import java.util.logging.Level;
@@ -34,6 +37,9 @@ public class AddPetCommand implements Command {
 
     /** A list of all pets. */
     private final PetList pets;
+
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
     
     /**
      * Initializes the AddPetCommand with the
@@ -56,6 +62,7 @@ public class AddPetCommand implements Command {
      */
     @Override
     public void exec(String args) {
+        change = null;
         LOGGER.log(Level.INFO, "Executing add-pet command with args: " + args);
         assert args != null : "Command arguments cannot be null";
 
@@ -79,7 +86,7 @@ public class AddPetCommand implements Command {
             String validation = validate(name, species, age);
             if (validation != null) {
                 LOGGER.log(Level.WARNING, "Validation failed: " + validation);
-                System.out.println(validation);
+                Ui.println(validation);
                 Ui.printInvalidInputMessage(SYNTAX);
                 return;
             }
@@ -89,35 +96,34 @@ public class AddPetCommand implements Command {
 
             if (!pets.add(newPet)) {
                 LOGGER.log(Level.WARNING, "Duplicate pet created: " + name);
-                System.out.println("A pet with that name already exists.");
+                Ui.println("A pet with that name already exists.");
                 return;
             }
 
+            change = new PetChange(newPet, true, pets.size() - 1);
             LOGGER.log(Level.INFO, "Pet has been added: " + name);
-            System.out.println(name + " has been successfully added.");
+            Ui.println(name + " has been successfully added.");
         } catch (NumberFormatException e) {
             LOGGER.log(Level.WARNING, "Invalid number format for age: " + args, e);
-            System.out.println("Age must be a valid number.");
+            Ui.println("Age must be a valid number.");
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Unexpected error when executing add-pet command", e);
-            System.out.println("An error occurred.");
+            Ui.println("An error occurred.");
         } finally {
             LOGGER.log(Level.INFO, "Add-pet command execution completed.");
         }
     }
 
     private String validate(String name, String species, int age) {
-        String valid = "^[a-zA-Z\\- ]+";
-
         if (name == null || name.isEmpty()) {
             return "Pet name cannot be empty.";
         }
 
-        if (name.length() > 20) {
-            return "Pet name cannot exceed 20 characters.";
+        if (name.length() > Validation.MAX_PET_NAME_LENGTH) {
+            return "Pet name cannot exceed " + Validation.MAX_PET_NAME_LENGTH + " characters.";
         }
 
-        if (!name.matches(valid)) {
+        if (!Validation.isNameText(name)) {
             return "Pet name can only contain letters, hyphen, and spaces.";
         }
 
@@ -125,21 +131,33 @@ public class AddPetCommand implements Command {
             return "Pet species cannot be empty.";
         }
 
-        if (species.length() > 30) {
-            return "Pet species cannot exceed 30 characters.";
+        if (species.length() > Validation.MAX_SPECIES_LENGTH) {
+            return "Pet species cannot exceed " + Validation.MAX_SPECIES_LENGTH + " characters.";
         }
 
-        if (!species.matches(valid)) {
+        if (!Validation.isNameText(species)) {
             return "Pet species can only contain letters, hyphen, and spaces.";
         }
 
-        if (age < 0 || age > 200) {
-            return "Pet age must be between 0 and 200.";
+        if (!Validation.isValidAge(age)) {
+            return "Pet age must be between " + Validation.MIN_AGE + " and " + Validation.MAX_AGE + ".";
         }
 
         return null;
     }
 
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
@@ -0,0 +1,221 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.SymbolTable;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.ScheduleChange;
+import seedu.cuddlecare.time.ClockService;
+import seedu.cuddlecare.ui.Ui;
+import seedu.cuddlecare.validation.Validation;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A command that adds a recurring treatment for a specified pet.
+ * <p>
+ * The treatment recurs every given number of days, weeks or months from a
+ * start date, optionally until an end date. It is stored once, and its
+ * occurrences are listed by the commands that look at treatments by date.
+ */
+public class AddScheduleCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(AddScheduleCommand.class.getName());
+
+    private static final String SYNTAX = "add-schedule n/PET_NAME t/TREATMENT_NAME every/[N] UNIT " +
+            "from/DATE [until/DATE] [note/NOTE]";
+    private static final String SHORT_DESCRIPTION = "Adds a recurring treatment for a pet";
+    private static final String LONG_DESCRIPTION = "Adds a treatment that recurs every N days, weeks or " +
+            "months, starting on the from/ date and, if until/ is given, ending on or before that date. " +
+            "For example, every/3 months or every/week. Its occurrences are shown by treatment-date, " +
+            "summary, overdue-treatments and upcoming-treatments, and each can be marked with " +
+            "mark n/PET_NAME s/SCHEDULE_INDEX d/DATE.";
+    private static final List<String> CATEGORIES = List.of("Treatment");
+
+    /**
+     * A list of all pets.
+     */
+    private final PetList pets;
+
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
+    /**
+     * Initializes the AddScheduleCommand with the list of pets.
+     *
+     * @param pets the list of all pets
+     */
+    public AddScheduleCommand(PetList pets) {
+        assert pets != null : "PetList cannot be null";
+        this.pets = pets;
+    }
+
+    /**
+     * Executes the add schedule command.
+     * Parses the pet, treatment name, recurrence and dates, and adds the schedule to the pet.
+     *
+     * @param args arguments that contain the pet name, treatment name, recurrence, dates and note (if any)
+     */
+    @Override
+    public void exec(String args) {
+        change = null;
+        assert args != null : "Command arguments cannot be null";
+        LOGGER.log(Level.INFO, "Executing add-schedule: {0}", args);
+
+        String note = null;
+        int noteIndex = args.indexOf("note/");
+        if (noteIndex != -1) {
+            note = args.substring(noteIndex + 5).trim();
+            args = args.substring(0, noteIndex);
+        }
+
+        String petName = null;
+        String treatmentName = null;
+        String every = null;
+        String fromText = null;
+        String untilText = null;
+        for (String tag : args.trim().split(" (?=\\w+/)")) {
+            if (tag.startsWith("n/")) {
+                petName = tag.substring(2).trim();
+            } else if (tag.startsWith("t/")) {
+                treatmentName = tag.substring(2).trim();
+            } else if (tag.startsWith("every/")) {
+                every = tag.substring(6).trim();
+            } else if (tag.startsWith("from/")) {
+                fromText = tag.substring(5).trim();
+            } else if (tag.startsWith("until/")) {
+                untilText = tag.substring(6).trim();
+            } else if (!tag.isEmpty()) {
+                printInvalidArguments();
+                return;
+            }
+        }
+
+        if (petName == null || petName.isEmpty() || treatmentName == null || treatmentName.isEmpty()
+                || every == null || fromText == null || (note != null && note.isEmpty())) {
+            printInvalidArguments();
+            return;
+        }
+
+        try {
+            addSchedule(petName, treatmentName, every, fromText, untilText, note);
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.INFO, "Invalid arguments: {0}", e.getMessage());
+            Ui.println(e.getMessage());
+        } catch (DateTimeParseException e) {
+            LOGGER.log(Level.INFO, "Invalid date format", e);
+            Ui.println("Invalid date format. Please use yyyy-MM-dd format (e.g., 2024-12-25).");
+        }
+    }
+
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+
+    /**
+     * Validates the arguments and adds the schedule to the pet.
+     *
+     * @throws IllegalArgumentException if an argument is invalid or the schedule already exists
+     * @throws DateTimeParseException if a date is not in yyyy-MM-dd format
+     */
+    private void addSchedule(String petName, String treatmentName, String every, String fromText,
+                             String untilText, String note) {
+        if (!Validation.isValidTreatmentName(treatmentName)) {
+            throw new IllegalArgumentException("Error: Treatment name can only contain letters, hyphens (-) " +
+                    "and spaces, and cannot exceed " + Validation.MAX_TREATMENT_NAME_LENGTH + " characters.");
+        }
+
+        String[] everyParts = every.split("\\s+");
+        TreatmentSchedule.Unit unit = TreatmentSchedule.Unit.fromName(everyParts[everyParts.length - 1]);
+        int interval = everyParts.length == 1 ? 1 : parseInterval(everyParts[0]);
+        if (unit == null || everyParts.length > 2 || interval < 1) {
+            throw new IllegalArgumentException("Error: every/ must be a number from 1 to "
+                    + TreatmentSchedule.MAX_INTERVAL + " followed by days, weeks or months, e.g. every/3 months.");
+        }
+
+        LocalDate today = ClockService.getShared().today();
+        LocalDate from = LocalDate.parse(fromText);
+        LocalDate until = untilText == null ? null : LocalDate.parse(untilText);
+        if (from.isBefore(Validation.earliestTreatmentDate(today))) {
+            throw new IllegalArgumentException("Error: Start date cannot be more than "
+                    + Validation.MAX_PAST_YEARS + " years in the past.");
+        }
+        LocalDate latest = Validation.latestTreatmentDate(today);
+        if (from.isAfter(latest) || (until != null && until.isAfter(latest))) {
+            throw new IllegalArgumentException("Error: Dates cannot be more than "
+                    + Validation.MAX_FUTURE_YEARS + " years in the future.");
+        }
+        if (until != null && until.isBefore(from)) {
+            throw new IllegalArgumentException("Error: End date cannot be before the start date.");
+        }
+
+        Pet pet = pets.getPetByName(petName);
+        if (pet == null) {
+            List<String> suggestions = pets.suggestNames(petName);
+            throw new IllegalArgumentException("Pet not found: " + petName
+                    + (suggestions.isEmpty() ? "" : System.lineSeparator() + Ui.formatPetSuggestions(suggestions)));
+        }
+        if (pet.hasSchedule(SymbolTable.idOf(treatmentName), from)) {
+            throw new IllegalArgumentException("Duplicate recurring treatment: \"" + treatmentName
+                    + "\" from " + from + " already exists for " + pet.getName() + ".");
+        }
+
+        TreatmentSchedule schedule = new TreatmentSchedule(treatmentName, note, from, interval, unit, until);
+        pet.addSchedule(schedule);
+        change = new ScheduleChange(pet, schedule, pet.getSchedules().size() - 1, true);
+        LOGGER.log(Level.INFO, "Added schedule {0} for {1}", new Object[]{schedule, pet.getName()});
+        Ui.println("Added recurring treatment \"" + treatmentName + "\" " + schedule.describeRule()
+                + " for " + pet.getName() + ".");
+    }
+
+    /**
+     * Returns the number of units between occurrences, or -1 if it is not a whole number in range.
+     */
+    private static int parseInterval(String text) {
+        try {
+            int interval = Integer.parseInt(text);
+            return interval <= TreatmentSchedule.MAX_INTERVAL ? interval : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void printInvalidArguments() {
+        LOGGER.log(Level.INFO, "Invalid args provided");
+        Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+    }
+}
@@ -3,9 +3,14 @@ package seedu.cuddlecare.command.impl;
 
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.SymbolTable;
 import seedu.cuddlecare.Treatment;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.TreatmentChange;
+import seedu.cuddlecare.time.ClockService;
 import seedu.cuddlecare.ui.Ui;
+import seedu.cuddlecare.validation.Validation;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -34,16 +39,14 @@ public class AddTreatmentCommand implements Command {
     private static final List<String> CATEGORIES = List.of("Treatment");
     // @@author
 
-    private static final int MAX_TREATMENT_NAME_LENGTH = 50;
-    private static final int MAX_FUTURE_YEARS = 100;
-    private static final int MAX_PAST_YEARS = 10;
-    private static final String NAME_PATTERN = "[a-zA-Z\\- ]+";
-
     /**
      * A list of all pets.
      */
     private final PetList pets;
 
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
     /**
      * Initializes the AddTreatmentCommand with the list of pets.
      *
@@ -63,6 +66,7 @@ public class AddTreatmentCommand implements Command {
      */
     @Override
     public void exec(String args) {
+        change = null;
         assert args != null : "Command arguments cannot be null";
         LOGGER.log(Level.INFO, "Executing add-treatment: {0}", args);
 
@@ -108,14 +112,26 @@ public class AddTreatmentCommand implements Command {
         } catch (IllegalArgumentException e) {
             LOGGER.log(Level.WARNING, "Invalid arguments: {0}", e.getMessage());
             if (e.getMessage() != null && !e.getMessage().isEmpty()) {
-                System.out.println(e.getMessage());
+                Ui.println(e.getMessage());
             }
         } catch (DateTimeParseException e) {
             LOGGER.log(Level.WARNING, "Invalid date format", e);
-            System.out.println("Invalid date format. Please use yyyy-MM-dd format (e.g., 2024-12-25).");
+            Ui.println("Invalid date format. Please use yyyy-MM-dd format (e.g., 2024-12-25).");
         }
     }
 
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
@@ -170,14 +186,14 @@ public class AddTreatmentCommand implements Command {
      */
     private void validateTreatmentName(String treatmentName) {
         // Check length
-        if (treatmentName.length() > MAX_TREATMENT_NAME_LENGTH) {
+        if (treatmentName.length() > Validation.MAX_TREATMENT_NAME_LENGTH) {
             throw new IllegalArgumentException(
-                    "Error: Treatment name cannot exceed " + MAX_TREATMENT_NAME_LENGTH + " characters. " +
+                    "Error: Treatment name cannot exceed " + Validation.MAX_TREATMENT_NAME_LENGTH + " characters. " +
                             "Current length: " + treatmentName.length());
         }
 
         // Check for valid characters
-        if (!treatmentName.matches(NAME_PATTERN)) {
+        if (!Validation.isNameText(treatmentName)) {
             throw new IllegalArgumentException(
                     "Error: Treatment name can only contain letters (A-Z, a-z), hyphens (-), and spaces. " +
                             "Invalid characters found in: \"" + treatmentName + "\"");
@@ -191,19 +207,20 @@ public class AddTreatmentCommand implements Command {
      * @throws IllegalArgumentException if date is too far in the future
      */
     private void validateTreatmentDate(LocalDate date) {
-        LocalDate minPastDate = LocalDate.now().minusYears(MAX_PAST_YEARS);
-        LocalDate maxFutureDate = LocalDate.now().plusYears(MAX_FUTURE_YEARS);
+        LocalDate today = ClockService.getShared().today();
+        LocalDate minPastDate = Validation.earliestTreatmentDate(today);
+        LocalDate maxFutureDate = Validation.latestTreatmentDate(today);
 
         if (date.isBefore(minPastDate)) {
             throw new IllegalArgumentException(
-                    "Error: Treatment date cannot be more than " + MAX_PAST_YEARS +
+                    "Error: Treatment date cannot be more than " + Validation.MAX_PAST_YEARS +
                             " years in the past. " +
                             "Provided date: " + date + ", Minimum allowed: " + minPastDate);
         }
 
         if (date.isAfter(maxFutureDate)) {
             throw new IllegalArgumentException(
-                    "Error: Treatment date cannot be more than " + MAX_FUTURE_YEARS +
+                    "Error: Treatment date cannot be more than " + Validation.MAX_FUTURE_YEARS +
                             " years in the future. " +
                             "Provided date: " + date + ", Maximum allowed: " + maxFutureDate);
         }
@@ -237,30 +254,14 @@ public class AddTreatmentCommand implements Command {
         Pet pet = pets.getPetByName(petName);
 
         if (pet == null) {
-            throw new IllegalArgumentException("Pet not found: " + petName);
+            List<String> suggestions = pets.suggestNames(petName);
+            throw new IllegalArgumentException("Pet not found: " + petName
+                    + (suggestions.isEmpty() ? "" : System.lineSeparator() + Ui.formatPetSuggestions(suggestions)));
         }
 
         return pet;
     }
 
-    /**
-     * Checks if a duplicate treatment already exists for the pet.
-     *
-     * @param pet the pet to check
-     * @param treatmentName the treatment name
-     * @param date the treatment date
-     * @return true if duplicate exists, false otherwise
-     */
-    private boolean isDuplicateTreatment(Pet pet, String treatmentName, LocalDate date) {
-        for (Treatment treatment : pet.getTreatments()) {
-            if (treatment.getName().equalsIgnoreCase(treatmentName) &&
-                    treatment.getDate().equals(date)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Adds a treatment to the specified pet.
      * Checks for duplicates before adding.
@@ -273,7 +274,7 @@ public class AddTreatmentCommand implements Command {
      */
     private void addTreatmentToPet(Pet pet, String treatmentName, String note, LocalDate date) {
         // Check for duplicate before adding
-        if (isDuplicateTreatment(pet, treatmentName, date)) {
+        if (pet.hasTreatment(SymbolTable.idOf(treatmentName), date)) {
             LOGGER.log(Level.INFO, "Duplicate treatment '{0}' on {1} for {2}",
                     new Object[]{treatmentName, date, pet.getName()});
             throw new IllegalArgumentException(
@@ -283,6 +284,7 @@ public class AddTreatmentCommand implements Command {
 
         Treatment newTreatment = new Treatment(treatmentName, note, date);
         pet.addTreatment(newTreatment);
+        change = new TreatmentChange(pet, newTreatment, true);
         LOGGER.log(Level.INFO, "Added treatment '{0}' for {1} on {2}",
                 new Object[]{treatmentName, pet.getName(), date});
     }
@@ -297,7 +299,7 @@ public class AddTreatmentCommand implements Command {
     private void printSuccessMessage(String petName, String treatmentName, LocalDate date, String note) {
         boolean hasNote = note != null && !note.isEmpty();
         String noteFormat = hasNote ? ("\n  Note: " + note) : "";
-        System.out.println("Added treatment \"" + treatmentName + "\" on " + date +
+        Ui.println("Added treatment \"" + treatmentName + "\" on " + date +
                 " for " + petName + "." + noteFormat);
     }
 }
@@ -22,18 +22,48 @@ public class ByeCommand implements Command {
             "after displaying a farewell message.";
     private static final List<String> CATEGORIES = List.of("General");
 
+    /**
+     * Runs before the application exits.
+     */
+    private final Runnable shutdown;
+
+    /**
+     * Initializes a Bye command that exits straight away.
+     */
+    public ByeCommand() {
+        this(() -> { });
+    }
+
+    /**
+     * Initializes a Bye command that runs {@code shutdown} before exiting,
+     * for example to save data and close files.
+     *
+     * @param shutdown the action to run before exiting
+     */
+    public ByeCommand(Runnable shutdown) {
+        assert shutdown != null : "shutdown cannot be null";
+        this.shutdown = shutdown;
+    }
+
     /**
      * Executes the Bye command.
      *
-     * Prints a farewell message to the console and exits the application.
+     * Prints a farewell message to the console, runs the shutdown action
+     * and exits the application.
      *
      * @param args ignored; ByeCommand does not use any arguments
      */
     public void exec(String args) {
         Ui.printByeMessage();
+        shutdown.run();
         System.exit(0);
     }
 
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+
     @Override
     public String getSyntax() {
         return SYNTAX;
@@ -3,6 +3,8 @@ package seedu.cuddlecare.command.impl;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.PetChange;
 import seedu.cuddlecare.ui.Ui;
 
 import java.util.List;
@@ -40,6 +42,9 @@ public class DeletePetCommand implements Command {
      */
     private final PetList pets;
 
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
     /**
      * Constructs a new DeletePetCommand for the specified pet list.
      *
@@ -68,6 +73,7 @@ public class DeletePetCommand implements Command {
      */
     @Override
     public void exec(String args) {
+        change = null;
         LOGGER.log(Level.INFO, "Executing DeletePetCommand with args: " + args);
 
         String petName = getPetName(args);
@@ -81,26 +87,43 @@ public class DeletePetCommand implements Command {
         Pet pet = pets.getPetByName(petName);
 
         if (pet == null) {
-            System.out.printf("No Pet named \"%s\" exists%n", petName);
+            Ui.printf("No Pet named \"%s\" exists%n", petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
             LOGGER.log(Level.WARNING, "Invalid Pet Name: " + petName);
             return;
         }
 
+        // The change keeps the pet's treatments, so they have to be read before it is deleted
+        pet.loadTreatments();
+        int index = pets.indexOf(pet);
         boolean isDeleted = pets.deletePet(pet);
 
         if (!isDeleted) {
-            System.out.printf("Something went wrong. Could not delete the pet");
+            Ui.printf("Something went wrong. Could not delete the pet");
             LOGGER.log(Level.WARNING, "Could not delete a pet that exists");
             return;
         }
 
-        System.out.printf("Successfully removed %s (%s, %d) from the list.%n",
+        change = new PetChange(pet, false, index);
+        Ui.printf("Successfully removed %s (%s, %d) from the list.%n",
                 pet.getName(), pet.getSpecies(), pet.getAge());
 
         LOGGER.log(Level.INFO, String.format("Deleted pet: %s (%s, %d)",
                 pet.getName(), pet.getSpecies(), pet.getAge()));
     }
 
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     @Override
     public String getSyntax() {
         return SYNTAX;
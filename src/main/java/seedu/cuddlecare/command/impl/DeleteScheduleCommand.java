@@ -0,0 +1,141 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.ScheduleChange;
+import seedu.cuddlecare.ui.Ui;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A command that deletes a recurring treatment, with all its occurrences, from a specified pet.
+ *
+ * Format: delete-schedule n/PET_NAME s/INDEX
+ */
+public class DeleteScheduleCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(DeleteScheduleCommand.class.getName());
+
+    private static final String SYNTAX = "delete-schedule n/PET_NAME s/INDEX";
+    private static final String SHORT_DESCRIPTION = "Deletes a recurring treatment for a pet";
+    private static final String LONG_DESCRIPTION = "Removes the recurring treatment at the given index " +
+            "from the specified pet, together with all its occurrences. " +
+            "Use 'list-schedules n/PET_NAME' to view the indexes before deleting.";
+    private static final List<String> CATEGORIES = List.of("Treatment");
+
+    private final PetList pets;
+
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
+    /**
+     * Creates a new DeleteScheduleCommand with the given PetList.
+     *
+     * @param pets the list of all pets in the system
+     */
+    public DeleteScheduleCommand(PetList pets) {
+        assert pets != null : "PetList cannot be null";
+        this.pets = pets;
+    }
+
+    /**
+     * Executes the delete-schedule command.
+     *
+     * Finds the specified pet by name, removes the recurring treatment at the
+     * given index and confirms deletion.
+     *
+     * @param args the command arguments
+     */
+    @Override
+    public void exec(String args) {
+        change = null;
+        assert args != null : "Command arguments cannot be null";
+        LOGGER.log(Level.INFO, "Executing delete-schedule: {0}", args);
+
+        String petName = null;
+        String indexString = null;
+        for (String part : args.split("(?=n/|s/)")) {
+            if (part.startsWith("n/")) {
+                petName = part.substring(2).trim();
+            } else if (part.startsWith("s/")) {
+                indexString = part.substring(2).trim();
+            } else if (!part.isBlank()) {
+                Ui.printInvalidInputMessage(SYNTAX);
+                return;
+            }
+        }
+        if (petName == null || petName.isEmpty() || indexString == null || indexString.isEmpty()) {
+            Ui.printInvalidInputMessage(SYNTAX);
+            return;
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(indexString) - 1;
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Invalid index format: {0}", indexString);
+            Ui.println("Invalid index format. Must be an integer.");
+            return;
+        }
+
+        Pet pet = pets.getPetByName(petName);
+        if (pet == null) {
+            LOGGER.log(Level.INFO, "Pet not found: {0}", petName);
+            Ui.println("Pet not found: " + petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
+            return;
+        }
+
+        List<TreatmentSchedule> schedules = pet.getSchedules();
+        if (schedules.isEmpty()) {
+            Ui.println(petName + " has no recurring treatments to delete.");
+            return;
+        }
+        if (index < 0 || index >= schedules.size()) {
+            Ui.println("Invalid schedule index. Please check 'list-schedules n/" + petName + "'.");
+            return;
+        }
+
+        TreatmentSchedule removed = pet.removeSchedule(index);
+        change = new ScheduleChange(pet, removed, index, false);
+        LOGGER.log(Level.INFO, "Deleted schedule '{0}' from {1}", new Object[]{removed.getName(), petName});
+        Ui.println("Deleted recurring treatment \"" + removed.getName() + "\" for " + petName + ".");
+    }
+
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+}
@@ -4,6 +4,8 @@ import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.TreatmentChange;
 import seedu.cuddlecare.ui.Ui;
 
 import java.util.ArrayList;
@@ -32,6 +34,9 @@ public class DeleteTreatmentCommand implements Command {
     
     private final PetList pets;
 
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
     /**
      * Creates a new DeleteTreatmentCommand with the given PetList.
      *
@@ -52,6 +57,7 @@ public class DeleteTreatmentCommand implements Command {
      */
     @Override
     public void exec(String args) {
+        change = null;
         assert args != null : "Command arguments cannot be null";
         LOGGER.log(Level.INFO, "Executing delete-treatment: {0}", args);
 
@@ -66,13 +72,13 @@ public class DeleteTreatmentCommand implements Command {
                 if (part.startsWith("n/")) {
                     petName = part.substring(2).trim();
                     if (petName.isEmpty()) {
-                        System.out.println("Error: Pet name cannot be empty.");
+                        Ui.println("Error: Pet name cannot be empty.");
                         return;
                     }
                 } else if (part.startsWith("i/")) {
                     String indexString = part.substring(2).trim();
                     if (indexString.isEmpty()) {
-                        System.out.println("Error: Index cannot be empty.");
+                        Ui.println("Error: Index cannot be empty.");
                         return;
                     }
 
@@ -80,7 +86,7 @@ public class DeleteTreatmentCommand implements Command {
                         index = Integer.parseInt(indexString) - 1;
                     } catch (NumberFormatException e) {
                         LOGGER.log(Level.WARNING, "Invalid index format: {0}", indexString);
-                        System.out.println("Invalid index format. Must be an integer.");
+                        Ui.println("Invalid index format. Must be an integer.");
                         return;
                     }
                 }
@@ -94,7 +100,8 @@ public class DeleteTreatmentCommand implements Command {
             Pet pet = pets.getPetByName(petName);
             if (pet == null) {
                 LOGGER.log(Level.INFO, "Pet not found: {0}", petName);
-                System.out.println("Pet not found: " + petName);
+                Ui.println("Pet not found: " + petName);
+                Ui.printPetSuggestions(pets.suggestNames(petName));
                 return;
             }
 
@@ -102,25 +109,38 @@ public class DeleteTreatmentCommand implements Command {
             assert treatments != null : "Treatments list should not be null";
 
             if (treatments.isEmpty()) {
-                System.out.println(petName + " has no treatments to delete.");
+                Ui.println(petName + " has no treatments to delete.");
                 return;
             }
 
             if (index < 0 || index >= treatments.size()) {
-                System.out.println("Invalid treatment index. Please check 'list-treatments n/" + petName + "'.");
+                Ui.println("Invalid treatment index. Please check 'list-treatments n/" + petName + "'.");
                 return;
             }
 
-            Treatment removed = treatments.remove(index);
+            Treatment removed = pet.removeTreatment(index);
+            change = new TreatmentChange(pet, removed, false);
             LOGGER.log(Level.INFO, "Deleted treatment '{0}' from {1}", new Object[]{removed.getName(), petName});
-            System.out.println("Deleted treatment \"" + removed.getName() + "\" for " + petName + ".");
+            Ui.println("Deleted treatment \"" + removed.getName() + "\" for " + petName + ".");
 
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Unable to delete treatment", e);
-            System.out.println("Unable to delete the treatment. Please try again.");
+            Ui.println("Unable to delete the treatment. Please try again.");
         }
     }
 
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
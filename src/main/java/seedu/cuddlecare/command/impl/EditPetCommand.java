@@ -5,6 +5,8 @@ import seedu.cuddlecare.parser.args.EditPetArgs;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.PetEditChange;
 
 import java.util.List;
 import java.util.logging.Level;
@@ -38,6 +40,9 @@ public class EditPetCommand implements Command {
 
     private final PetList pets;
 
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
     /**
      * @param pets repository of pets
      */
@@ -47,6 +52,7 @@ public class EditPetCommand implements Command {
 
     @Override
     public void exec(String args) {
+        change = null;
         assert pets != null : "Pet list must not be null";
 
         try {
@@ -60,6 +66,7 @@ public class EditPetCommand implements Command {
             Pet target = pets.getPetByName(p.oldName);
             if (target == null) {
                 Ui.println("No such pet: " + p.oldName);
+                Ui.printPetSuggestions(pets.suggestNames(p.oldName));
                 LOGGER.log(Level.INFO, "Edit failed; unknown pet \"{0}\"", p.oldName);
                 return;
             }
@@ -73,13 +80,16 @@ public class EditPetCommand implements Command {
                 }
             }
 
+            String oldName = target.getName();
+            String oldSpecies = target.getSpecies();
+            int oldAge = target.getAge();
             boolean changed = false;
             StringBuilder summary = new StringBuilder("Updated ").append(target.getName()).append(": ");
 
             if (p.newName != null && !p.newName.trim().isEmpty()
                     && !p.newName.equalsIgnoreCase(target.getName())) {
                 summary.append("name → ").append(p.newName).append(", ");
-                target.setName(p.newName);
+                pets.renamePet(target, p.newName);
                 changed = true;
             }
             if (p.species != null && !p.species.trim().isEmpty()
@@ -104,6 +114,8 @@ public class EditPetCommand implements Command {
                 summary.setLength(summary.length() - 2);
             }
 
+            change = new PetEditChange(target, oldName, oldSpecies, oldAge,
+                    target.getName(), target.getSpecies(), target.getAge());
             LOGGER.log(Level.INFO, "Edited pet \"{0}\" -> {1}", new Object[]{p.oldName, target});
             Ui.println(summary.toString());
 
@@ -117,6 +129,18 @@ public class EditPetCommand implements Command {
     }
 
 
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
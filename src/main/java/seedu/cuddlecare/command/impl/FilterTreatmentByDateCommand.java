@@ -3,8 +3,10 @@ package seedu.cuddlecare.command.impl;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentColumns;
 import seedu.cuddlecare.command.Command;
 import seedu.cuddlecare.command.utils.DateUtils;
+import seedu.cuddlecare.command.utils.ScheduleUtils;
 import seedu.cuddlecare.ui.Ui;
 
 import java.time.LocalDate;
@@ -82,7 +84,7 @@ public class FilterTreatmentByDateCommand implements Command {
             if (filteredTreatments.isEmpty()) {
                 LOGGER.log(Level.INFO, "No treatments found in date range {0} to {1}",
                         new Object[]{fromDate, toDate});
-                System.out.println("No treatments found from " + fromDate + " to " + toDate + ".");
+                Ui.println("No treatments found from " + fromDate + " to " + toDate + ".");
                 return;
             }
 
@@ -92,7 +94,7 @@ public class FilterTreatmentByDateCommand implements Command {
 
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Unexpected error during filter treatment by date execution", e);
-            System.out.println("Unable to filter treatments by date. Please try again.");
+            Ui.println("Unable to filter treatments by date. Please try again.");
         }
     }
 
@@ -122,23 +124,65 @@ public class FilterTreatmentByDateCommand implements Command {
      * Filters treatments across all pets within the specified date range.
      * <p>
      * This method iterates through all pets in the pet list and collects
-     * treatments whose dates fall within the given start and end dates.
+     * treatments whose dates fall within the given start and end dates,
+     * starting with each pet's archived treatments. Occurrences of recurring
+     * treatments in the range are worked out and listed in date order with
+     * the other treatments, after those on the same date.
      *
      * @param fromDate the start date of the filter range
      * @param toDate   the end date of the filter range
      * @return an ArrayList of formatted treatment strings within the date range
      */
     private ArrayList<String> filterTreatments(LocalDate fromDate, LocalDate toDate) {
+        Map<String, List<Treatment>> archived = pets.getArchivedTreatments(fromDate, toDate);
+        TreatmentColumns columns = pets.getTreatmentColumns();
+        if (columns != null) {
+            return filterColumns(columns, archived, fromDate, toDate);
+        }
+
         ArrayList<String> filteredList = new ArrayList<>();
 
         for (int i = 0; i < pets.size(); i++) {
             Pet pet = pets.get(i);
+            for (Treatment treatment : archived.getOrDefault(pet.getName().toLowerCase(), List.of())) {
+                filteredList.add(pet.getName() + ": " + treatment);
+            }
+            List<Treatment> occurrences = pet.getOccurrences(fromDate, toDate);
+            int next = 0;
             for (Treatment treatment : pet.getTreatments()) {
                 LocalDate treatmentDate = treatment.getDate();
                 if (!treatmentDate.isBefore(fromDate) && !treatmentDate.isAfter(toDate)) {
+                    next = ScheduleUtils.addOccurrencesBefore(filteredList, pet, occurrences, next, treatmentDate);
                     filteredList.add(pet.getName() + ": " + treatment);
                 }
             }
+            ScheduleUtils.addOccurrencesBefore(filteredList, pet, occurrences, next, null);
+        }
+        return filteredList;
+    }
+
+    /**
+     * Does the same as {@link #filterTreatments(LocalDate, LocalDate)} by scanning
+     * the columnar treatment store instead of the treatment objects.
+     */
+    private ArrayList<String> filterColumns(TreatmentColumns columns, Map<String, List<Treatment>> archived,
+                                            LocalDate fromDate, LocalDate toDate) {
+        pets.loadAllTreatments();
+        int[][] rowsByPet = columns.findRowsByPet(fromDate, toDate, TreatmentColumns.Status.ANY);
+        ArrayList<String> filteredList = new ArrayList<>();
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            for (Treatment treatment : archived.getOrDefault(pet.getName().toLowerCase(), List.of())) {
+                filteredList.add(pet.getName() + ": " + treatment);
+            }
+            List<Treatment> occurrences = pet.getOccurrences(fromDate, toDate);
+            int next = 0;
+            int[] rows = rowsByPet[pet.getColumnId()];
+            for (int row : rows == null ? new int[0] : rows) {
+                next = ScheduleUtils.addOccurrencesBefore(filteredList, pet, occurrences, next, columns.getDate(row));
+                filteredList.add(pet.getName() + ": " + columns.describe(row));
+            }
+            ScheduleUtils.addOccurrencesBefore(filteredList, pet, occurrences, next, null);
         }
         return filteredList;
     }
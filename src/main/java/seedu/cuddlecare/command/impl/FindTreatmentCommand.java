@@ -64,7 +64,7 @@ public class FindTreatmentCommand implements Command {
 
             if (keyword.isEmpty()) {
                 LOGGER.log(Level.WARNING, "Empty keyword provided");
-                System.out.println("Error: Please provide a keyword to search for.");
+                Ui.println("Error: Please provide a keyword to search for.");
                 return;
             }
 
@@ -81,7 +81,7 @@ public class FindTreatmentCommand implements Command {
 
             if (matchingTreatments.isEmpty()) {
                 LOGGER.log(Level.INFO, "No treatments found containing keyword: {0}", keyword);
-                System.out.println("No treatments found containing: \"" + keyword + "\"");
+                Ui.println("No treatments found containing: \"" + keyword + "\"");
                 return;
             }
 
@@ -91,7 +91,7 @@ public class FindTreatmentCommand implements Command {
 
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Unexpected error during find treatment execution", e);
-            System.out.println("Unable to search for treatments. Please try again.");
+            Ui.println("Unable to search for treatments. Please try again.");
         }
     }
 
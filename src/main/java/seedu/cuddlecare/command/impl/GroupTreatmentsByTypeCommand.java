@@ -5,10 +5,12 @@ import seedu.cuddlecare.parser.args.GroupTreatmentsByTypeArgs;
 import seedu.cuddlecare.ui.args.GroupTreatmentsByTypeArg;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.SymbolTable;
 import seedu.cuddlecare.Treatment;
 import seedu.cuddlecare.command.Command;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -48,8 +50,17 @@ public class GroupTreatmentsByTypeCommand implements Command {
     private static final List<String> CATEGORIES = List.of("Treatment");
     // @@author
 
+    /** Type id used for treatments without a name. */
+    private static final int UNKNOWN_TYPE = -1;
+
+    /** Marks entries of {@link #typeIdByNameId} that have not been worked out yet. */
+    private static final int NOT_COMPUTED = -2;
+
     private final PetList pets;
 
+    /** Type symbol id of each treatment name symbol id seen so far. */
+    private int[] typeIdByNameId = new int[0];
+
     /**
      * @param pets repository of pets
      */
@@ -65,9 +76,10 @@ public class GroupTreatmentsByTypeCommand implements Command {
             GroupTreatmentsByTypeArgs p = GroupTreatmentsByTypeParser.parse(args);
 
             if (p.petName != null && !p.petName.isEmpty()) {
-                Pet pet = pets.getPetByName(p.petName);
+                Pet pet = pets.findPet(p.petName);
                 if (pet == null) {
                     Ui.println("No such pet: " + p.petName);
+                    Ui.printPetSuggestions(pets.suggestNames(p.petName));
                     LOGGER.log(Level.INFO, "Group by type failed; unknown pet \"{0}\"", p.petName);
                     return;
                 }
@@ -137,33 +149,59 @@ public class GroupTreatmentsByTypeCommand implements Command {
     }
 
     private Map<String, List<GroupTreatmentsByTypeArg.Row>> buildGroups(List<Pet> scope) {
-        Map<String, List<GroupTreatmentsByTypeArg.Row>> tmp = new LinkedHashMap<>();
+        Map<Integer, List<GroupTreatmentsByTypeArg.Row>> tmp = new LinkedHashMap<>();
 
         for (Pet pet : scope) {
             for (Treatment t : pet.getTreatments()) {
-                String type = extractType(t);
-                tmp.computeIfAbsent(type, k -> new ArrayList<>()).add(new GroupTreatmentsByTypeArg.Row(pet, t));
+                int typeId = typeIdOf(t);
+                tmp.computeIfAbsent(typeId, k -> new ArrayList<>()).add(new GroupTreatmentsByTypeArg.Row(pet, t));
             }
         }
 
-        List<String> sortedTypes = new ArrayList<>(tmp.keySet());
-        sortedTypes.sort(String.CASE_INSENSITIVE_ORDER);
+        List<Integer> sortedTypes = new ArrayList<>(tmp.keySet());
+        sortedTypes.sort(Comparator.comparing(GroupTreatmentsByTypeCommand::typeName, String.CASE_INSENSITIVE_ORDER));
 
         Map<String, List<GroupTreatmentsByTypeArg.Row>> result = new LinkedHashMap<>();
-        for (String type : sortedTypes) {
-            List<GroupTreatmentsByTypeArg.Row> rows = tmp.get(type);
+        for (int typeId : sortedTypes) {
+            List<GroupTreatmentsByTypeArg.Row> rows = tmp.get(typeId);
             rows.sort(Comparator.comparing(r -> extractDate(r.t)));
-            result.put(type, rows);
+            result.put(typeName(typeId), rows);
         }
         return result;
     }
 
+    /**
+     * Returns the {@link SymbolTable} id of a treatment's type, or {@link #UNKNOWN_TYPE}
+     * if it has no name. Types are worked out once per distinct treatment name.
+     */
+    private int typeIdOf(Treatment t) {
+        int nameId = t.getNameId();
+        if (nameId < 0) {
+            return UNKNOWN_TYPE;
+        }
+        if (nameId >= typeIdByNameId.length) {
+            int oldLength = typeIdByNameId.length;
+            typeIdByNameId = Arrays.copyOf(typeIdByNameId, Math.max(nameId + 1, oldLength * 2));
+            Arrays.fill(typeIdByNameId, oldLength, typeIdByNameId.length, NOT_COMPUTED);
+        }
+        if (typeIdByNameId[nameId] == NOT_COMPUTED) {
+            String type = extractType(t);
+            typeIdByNameId[nameId] = type == null ? UNKNOWN_TYPE : SymbolTable.idOf(type);
+        }
+        return typeIdByNameId[nameId];
+    }
+
+    private static String typeName(int typeId) {
+        return typeId == UNKNOWN_TYPE ? "Unknown" : SymbolTable.nameOf(typeId);
+    }
 
-    // GroupTreatmentsByTypeCommand.java
+    /**
+     * Returns the lowercase first word of a treatment's name, or {@code null} if the name is blank.
+     */
     private static String extractType(Treatment t) {
         String name = t.getName();
         if (name == null || name.isBlank()) {
-            return "Unknown";
+            return null;
         }
         String[] parts = name.trim().toLowerCase().split("\\s+", 2);
         return parts[0];
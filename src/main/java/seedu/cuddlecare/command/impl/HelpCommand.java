@@ -1,15 +1,16 @@
 package seedu.cuddlecare.command.impl;
 
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.ui.Ui;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import static seedu.cuddlecare.ui.Ui.printHeader;
 
 // @@author HarshitSrivastavaHS
 
@@ -23,6 +24,7 @@ import static seedu.cuddlecare.ui.Ui.printHeader;
  * </ul>
  * <p>
  * It requires a map of all commands to be set via {@link #setCommands(Map)} before execution.
+ * The text it prints is rendered once per map of commands and reused afterwards.
  * This class implements the {@link Command} interface and provides syntax, short description,
  * long description, and category metadata for the help command.
  */
@@ -37,16 +39,52 @@ public class HelpCommand implements Command {
             "Optionally, it can show detailed information for a specific command.";
     private static final List<String> CATEGORIES = List.of("General");
 
+    private static final String NEWLINE = System.lineSeparator();
+
+    /** Category headings printed first, in this order; other categories follow alphabetically. */
+    private static final List<String> CATEGORY_ORDER = List.of("General", "Pet", "Treatment");
+
+    /** Largest number of edits between an unknown name and a suggested command name. */
+    private static final int MAX_SUGGESTION_DISTANCE = 3;
+
     private Map<String, Command> commandsMap;
 
+    /** Help text rendered from {@link #commandsMap}, or {@code null} until it is first needed. */
+    private volatile Catalogue catalogue;
+
+    /**
+     * Help text for every command, ready to print.
+     */
+    private static final class Catalogue {
+        /** The list of all commands, grouped by category. */
+        private final String overview;
+
+        /** Detailed help of each command by its name. */
+        private final Map<String, String> pages;
+
+        /** Command names in alphabetical order, compared against unknown names. */
+        private final String[] names;
+
+        private Catalogue(String overview, Map<String, String> pages, String[] names) {
+            this.overview = overview;
+            this.pages = pages;
+            this.names = names;
+        }
+    }
+
     /**
      * Sets the map of commands that this HelpCommand will display.
+     * <p>
+     * The help text is rendered the first time it is printed rather than here, because
+     * rendering it creates every command and this method may be called while the
+     * HelpCommand itself is being created.
      *
      * @param commands a non-null map where the key is the command name and the value is the Command object
      */
     public void setCommands(Map<String, Command> commands) {
         assert commands != null : "Commands cannot be null";
         this.commandsMap = commands;
+        this.catalogue = null;
     }
 
     /**
@@ -67,24 +105,30 @@ public class HelpCommand implements Command {
 
         String commandName = getCommandName(args);
         if (!args.isEmpty() && commandName == null) {
-            System.out.printf("Invalid Syntax.\n%s%n", SYNTAX);
+            Ui.printf("Invalid Syntax.\n%s%n", SYNTAX);
             LOGGER.log(Level.INFO, "Invalid Syntax");
             return;
         }
 
-        if (commandName != null && !commandsMap.containsKey(commandName.toLowerCase())) {
-            System.out.printf("Command \"%s\" not found. Run \"help\" for " +
+        Catalogue help = getCatalogue();
+
+        if (commandName != null && !help.pages.containsKey(commandName.toLowerCase())) {
+            Ui.printf("Command \"%s\" not found. Run \"help\" for " +
                     "a list of all available commands.%n", commandName);
+            List<String> suggestions = suggest(help, commandName.toLowerCase());
+            if (!suggestions.isEmpty()) {
+                Ui.printf("Did you mean: %s?%n", String.join(", ", suggestions));
+            }
             LOGGER.log(Level.INFO, "No command found by the name of \"" + commandName + "\"");
             return;
         }
 
         if (commandName != null) {
             LOGGER.log(Level.INFO, "Printing help for a command");
-            printCommand(commandName, commandsMap.get(commandName.toLowerCase()));
+            Ui.print(help.pages.get(commandName.toLowerCase()));
         } else {
             LOGGER.log(Level.INFO, "Printing all the commands");
-            printAllCommands();
+            Ui.print(help.overview);
         }
     }
 
@@ -100,6 +144,10 @@ public class HelpCommand implements Command {
         return commandsMap != null && !commandsMap.isEmpty();
     }
 
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
 
     // @@author HarshitSrivastavaHS
     @Override
@@ -136,72 +184,126 @@ public class HelpCommand implements Command {
         return null;
     }
 
-    private void printAllCommands() {
-
-        Map<String, Map<String, Command>> categorisedCommands = getCategorizedCommands();
-
-        LOGGER.log(Level.INFO, "Printing all command categories with commands");
-
-        printHeader("Here is the list of all commands supported by the application: ");
-
-        List<String> categoryOrder = List.of("General", "Pet", "Treatment");
-
-        for (String category : categoryOrder) {
-            if (categorisedCommands.containsKey(category)) {
-                printCommandsByCategory(category, categorisedCommands.get(category));
+    // @@author
+    private Catalogue getCatalogue() {
+        Catalogue help = catalogue;
+        if (help == null) {
+            synchronized (this) {
+                help = catalogue;
+                if (help == null) {
+                    help = render(commandsMap);
+                    catalogue = help;
+                }
             }
         }
-
-        categorisedCommands.entrySet().stream()
-                .filter(category -> !categoryOrder.contains(category.getKey()))
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(category -> printCommandsByCategory(category.getKey(), category.getValue()));
-
-
-        System.out.printf("Run \"%s\" to find out more about a command.%n", SYNTAX);
+        return help;
     }
 
-    private void printCommandsByCategory(String category, Map<String, Command> commandsOfCategory) {
-        printHeader(category);
+    /**
+     * Renders the list of all commands and the detailed help of each command.
+     */
+    private static Catalogue render(Map<String, Command> commands) {
+        LOGGER.log(Level.INFO, "Rendering help for " + commands.size() + " commands");
+
+        Map<String, Map<String, Command>> byCategory = new TreeMap<>();
+        Map<String, String> pages = new HashMap<>();
+        for (Map.Entry<String, Command> entry : commands.entrySet()) {
+            Command command = entry.getValue();
+            for (String category : command.getCategory()) {
+                byCategory.computeIfAbsent(category, key -> new TreeMap<>()).putIfAbsent(entry.getKey(), command);
+            }
+            pages.put(entry.getKey(), renderCommand(entry.getKey(), command));
+        }
 
-        commandsOfCategory.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry ->
-                        System.out.printf("\t%s: %s%n", entry.getKey(), entry.getValue().getShortDescription()));
+        Map<String, Map<String, Command>> ordered = new LinkedHashMap<>();
+        for (String category : CATEGORY_ORDER) {
+            if (byCategory.containsKey(category)) {
+                ordered.put(category, byCategory.get(category));
+            }
+        }
+        byCategory.forEach(ordered::putIfAbsent);
+
+        StringBuilder overview = new StringBuilder();
+        overview.append("Here is the list of all commands supported by the application: ").append(NEWLINE);
+        for (Map.Entry<String, Map<String, Command>> category : ordered.entrySet()) {
+            overview.append(category.getKey()).append(NEWLINE);
+            for (Map.Entry<String, Command> entry : category.getValue().entrySet()) {
+                overview.append('\t').append(entry.getKey()).append(": ")
+                        .append(entry.getValue().getShortDescription()).append(NEWLINE);
+            }
+            overview.append(NEWLINE);
+        }
+        overview.append("Run \"").append(SYNTAX).append("\" to find out more about a command.").append(NEWLINE);
 
-        System.out.println();
+        String[] names = new TreeMap<>(pages).keySet().toArray(new String[0]);
+        return new Catalogue(overview.toString(), pages, names);
     }
 
-    private void printCommand(String commandName, Command command) {
-        System.out.printf("\tCommand Name: %s%n\tCategory: %s%n\tDescription: %s%n" +
+    private static String renderCommand(String commandName, Command command) {
+        return String.format("\tCommand Name: %s%n\tCategory: %s%n\tDescription: %s%n" +
                         "\tSyntax: %s%n%n\t*[t/tag] means tag is an optional argument." +
                         "%n", commandName, String.join(",", command.getCategory()),
                 command.getLongDescription(), command.getSyntax());
     }
 
-    private Map<String, Map<String, Command>> getCategorizedCommands() {
-        Stream<Map.Entry<String, Map.Entry<String, Command>>> stream = commandsByCategory();
-        return categorizeCommands(stream);
-    }
-
-
-    private Stream<Map.Entry<String, Map.Entry<String, Command>>> commandsByCategory() {
-        return commandsMap.entrySet().stream()
-                .flatMap(command ->
-                        command.getValue().getCategory().stream()
-                                .map(cat -> Map.entry(cat, command))
-                );
+    /**
+     * Returns the command names closest to an unknown name, nearest first.
+     * A name is suggested if it starts with the unknown name or is at most
+     * {@link #MAX_SUGGESTION_DISTANCE} edits away from it.
+     */
+    private static List<String> suggest(Catalogue help, String unknown) {
+        List<String> prefixed = new ArrayList<>();
+        if (unknown.isEmpty()) {
+            return prefixed;
+        }
+        List<List<String>> byDistance = new ArrayList<>();
+        for (int i = 0; i <= MAX_SUGGESTION_DISTANCE; i++) {
+            byDistance.add(new ArrayList<>());
+        }
+        for (String name : help.names) {
+            if (name.startsWith(unknown)) {
+                prefixed.add(name);
+                continue;
+            }
+            int distance = editDistance(unknown, name, MAX_SUGGESTION_DISTANCE);
+            if (distance <= MAX_SUGGESTION_DISTANCE) {
+                byDistance.get(distance).add(name);
+            }
+        }
+        for (List<String> names : byDistance) {
+            prefixed.addAll(names);
+        }
+        return prefixed;
     }
 
-    private Map<String, Map<String, Command>> categorizeCommands(Stream<Map.Entry<String,
-            Map.Entry<String, Command>>> stream) {
-        return stream.collect(Collectors.groupingBy(
-                Map.Entry::getKey,
-                Collectors.toMap(
-                        e -> e.getValue().getKey(),
-                        e -> e.getValue().getValue(),
-                        (existing, replacement) -> existing
-                )
-        ));
+    /**
+     * Returns the number of single-character insertions, deletions and substitutions
+     * that turn {@code a} into {@code b}, or {@code limit + 1} if it is more than {@code limit}.
+     */
+    private static int editDistance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
     }
 }
@@ -68,16 +68,18 @@ public class ListPetTreatmentsCommand implements Command {
             return;
         }
 
-        Pet pet = pets.getPetByName(petName);
+        Pet pet = pets.findPet(petName);
         if (pet == null) {
             LOGGER.log(Level.WARNING, "No pet named " + petName);
-            System.out.println("Pet not found: " + petName);
+            Ui.println("Pet not found: " + petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
             return;
         }
+        petName = pet.getName();
 
         ArrayList<Treatment> treatments = pet.getTreatments();
         if (treatments.isEmpty()) {
-            System.out.println(petName + " has no logged treatments.");
+            Ui.println(petName + " has no logged treatments.");
             return;
         }
 
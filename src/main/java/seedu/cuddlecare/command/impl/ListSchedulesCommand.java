@@ -0,0 +1,124 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.ui.Ui;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A command that lists the recurring treatments of one pet or of every pet.
+ * <p>
+ * Each recurring treatment is shown with its 1-based index, which is used to
+ * delete it and to mark or unmark its occurrences.
+ */
+public class ListSchedulesCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(ListSchedulesCommand.class.getName());
+
+    private static final String SYNTAX = "list-schedules [n/PET_NAME]";
+    private static final String SHORT_DESCRIPTION = "Lists recurring treatments";
+    private static final String LONG_DESCRIPTION = "Displays the recurring treatments of the specified pet, " +
+            "or of every pet if no pet is given, with how often they recur and how many of their " +
+            "occurrences are completed.";
+    private static final List<String> CATEGORIES = List.of("Treatment");
+
+    /**
+     * A list of all pets.
+     */
+    private final PetList pets;
+
+    /**
+     * Initializes the ListSchedulesCommand with the list of pets.
+     *
+     * @param pets the list of all pets
+     */
+    public ListSchedulesCommand(PetList pets) {
+        assert pets != null : "pets cannot be null.";
+        this.pets = pets;
+    }
+
+    /**
+     * Prints the recurring treatments of the pet given as {@code n/PET_NAME}, or of every pet.
+     *
+     * @param args empty, or the name of the pet
+     */
+    @Override
+    public void exec(String args) {
+        args = args.trim();
+        if (args.isEmpty()) {
+            listAll();
+            return;
+        }
+        if (!args.startsWith("n/") || args.substring(2).isBlank()) {
+            LOGGER.log(Level.INFO, "Invalid args provided");
+            Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+            return;
+        }
+
+        String petName = args.substring(2).trim();
+        Pet pet = pets.findPet(petName);
+        if (pet == null) {
+            LOGGER.log(Level.INFO, "No pet named " + petName);
+            Ui.println("Pet not found: " + petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
+            return;
+        }
+        if (pet.getSchedules().isEmpty()) {
+            Ui.println(pet.getName() + " has no recurring treatments.");
+            return;
+        }
+        Ui.printHeader(pet.getName() + "'s recurring treatments:");
+        printSchedules(pet);
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+
+    private void listAll() {
+        boolean hasAny = false;
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            if (pet.getSchedules().isEmpty()) {
+                continue;
+            }
+            hasAny = true;
+            Ui.printHeader(pet.getName() + ":");
+            printSchedules(pet);
+        }
+        if (!hasAny) {
+            LOGGER.log(Level.INFO, "No recurring treatments");
+            Ui.println("No recurring treatments added.");
+        }
+    }
+
+    private static void printSchedules(Pet pet) {
+        List<TreatmentSchedule> schedules = pet.getSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            TreatmentSchedule schedule = schedules.get(i);
+            int completed = schedule.getCompletedDates().size();
+            Ui.printf("%d.%s (%d completed)%n", i + 1, schedule, completed);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.cuddlecare.command.impl;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -9,12 +10,16 @@ import seedu.cuddlecare.parser.args.MarkTreatmentArgs;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.CompletionChange;
+import seedu.cuddlecare.history.OccurrenceChange;
 import seedu.cuddlecare.ui.Ui;
 
 /**
  * Marks a treatment as completed for a specific pet by local index.
- * <p>Usage: {@code mark n/PET_NAME i/INDEX}</p>
+ * <p>Usage: {@code mark n/PET_NAME i/INDEX} or {@code mark n/PET_NAME s/SCHEDULE_INDEX d/DATE}</p>
  * Example: {@code mark n/Milo i/2}
  */
 public class MarkTreatmentCommand implements Command {
@@ -27,13 +32,17 @@ public class MarkTreatmentCommand implements Command {
     private static final String SHORT_DESCRIPTION = "Marks a treatment as completed for a pet.";
     private static final String LONG_DESCRIPTION = "Marks a specific treatment as completed " +
             "for a given pet. Specify the pet using n/PET_NAME" +
-            " and the treatment index using i/INDEX.";
+            " and the treatment index using i/INDEX. To mark one occurrence of a recurring " +
+            "treatment, use s/SCHEDULE_INDEX and d/DATE instead of i/INDEX.";
     private static final List<String> CATEGORIES = List.of("Treatment");
     // @@author
 
     /** Repository of pets. */
     private final PetList pets;
 
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
     /**
      * @param pets repository of pets
      */
@@ -49,6 +58,7 @@ public class MarkTreatmentCommand implements Command {
      */
     @Override
     public void exec(String args) {
+        change = null;
         assert pets != null : "Pet list must not be null";
         MarkTreatmentArgs parsed = MarkTreatmentParser.parse(args);
 
@@ -63,10 +73,16 @@ public class MarkTreatmentCommand implements Command {
         Pet pet = pets.getPetByName(petName);
         if (pet == null) {
             Ui.println("No such pet: " + petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
             LOGGER.warning("Mark: pet not found: " + petName);
             return;
         }
 
+        if (parsed.scheduleIndex > 0) {
+            markOccurrence(pet, parsed.scheduleIndex, parsed.date);
+            return;
+        }
+
         ArrayList<Treatment> treatments = pet.getTreatments();
         if (treatments.isEmpty()) {
             Ui.println(petName + " has no treatments to mark.");
@@ -91,11 +107,57 @@ public class MarkTreatmentCommand implements Command {
             return;
         }
         t.setCompleted(true);
+        change = new CompletionChange(pet, t, true);
         Ui.println("Marked " + t.getName() + " on " + t.getDate() + " as done for " + petName);
         LOGGER.info(() -> "Marked: " + petName + " i/" + index1Based + " \"" + t.getName() + "\"");
     }
 
 
+    /**
+     * Marks the occurrence of a recurring treatment on the given date.
+     *
+     * @param pet the pet the recurring treatment belongs to
+     * @param scheduleIndex the 1-based index of the recurring treatment
+     * @param date the date of the occurrence
+     */
+    private void markOccurrence(Pet pet, int scheduleIndex, LocalDate date) {
+        List<TreatmentSchedule> schedules = pet.getSchedules();
+        if (scheduleIndex > schedules.size()) {
+            Ui.println("No such recurring treatment");
+            Ui.println("Pet: " + pet.getName());
+            Ui.println("Index: " + scheduleIndex);
+            LOGGER.warning(() -> "Mark: invalid schedule index " + scheduleIndex + " for " + pet.getName());
+            return;
+        }
+
+        TreatmentSchedule schedule = schedules.get(scheduleIndex - 1);
+        if (!schedule.occursOn(date)) {
+            Ui.println(schedule.getName() + " does not recur on " + date + " for " + pet.getName() + ".");
+            LOGGER.info(() -> "Mark: no occurrence on " + date + " for " + pet.getName() + " s/" + scheduleIndex);
+            return;
+        }
+        if (schedule.isCompleted(date)) {
+            Ui.println("The occurrence is already marked.");
+            return;
+        }
+        schedule.setCompleted(date, true);
+        change = new OccurrenceChange(pet, schedule, date, true);
+        Ui.println("Marked " + schedule.getName() + " on " + date + " as done for " + pet.getName());
+        LOGGER.info(() -> "Marked: " + pet.getName() + " s/" + scheduleIndex + " d/" + date);
+    }
+
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
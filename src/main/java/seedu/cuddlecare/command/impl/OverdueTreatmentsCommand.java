@@ -4,16 +4,16 @@ import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.time.ClockService;
+import seedu.cuddlecare.time.OverdueCache;
+import seedu.cuddlecare.ui.Ui;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 // @@author HarshitSrivastavaHS
 
@@ -40,7 +40,7 @@ public class OverdueTreatmentsCommand implements Command {
 
     private final PetList pets;
 
-    private LocalDate testDate;
+    private final OverdueCache overdue;
 
     /**
      * Constructs an OverdueTreatmentsCommand with the given pet list.
@@ -49,15 +49,28 @@ public class OverdueTreatmentsCommand implements Command {
      * @throws AssertionError if pets is null
      */
     public OverdueTreatmentsCommand(PetList pets) {
+        this(pets, ClockService.getShared());
+    }
+
+    /**
+     * Constructs an OverdueTreatmentsCommand that reads today's date from the given clock service.
+     *
+     * @param pets  the PetList containing all pets in the system
+     * @param clock the source of today's date
+     * @throws AssertionError if pets or clock is null
+     */
+    public OverdueTreatmentsCommand(PetList pets, ClockService clock) {
         assert pets != null : "Pets cannot be null";
+        assert clock != null : "Clock cannot be null";
         this.pets = pets;
+        this.overdue = new OverdueCache(pets, clock);
     }
 
     /**
      * Constructs an OverdueTreatmentsCommand with a given pet list and custom date.
      * <p>
      * This constructor is primarily used for testing purposes to allow specifying
-     * a fixed current date instead of using {@link LocalDate#now()}.
+     * a fixed current date instead of the shared {@link ClockService}.
      * </p>
      *
      * @param pets     the PetList containing all pets in the system
@@ -65,10 +78,7 @@ public class OverdueTreatmentsCommand implements Command {
      * @throws AssertionError if pets or testDate is null
      */
     protected OverdueTreatmentsCommand(PetList pets, LocalDate testDate) {
-        assert pets != null : "Pets cannot be null";
-        assert testDate != null : "Date cannot be null";
-        this.pets = pets;
-        this.testDate = testDate;
+        this(pets, ClockService.fixed(testDate));
     }
 
 
@@ -88,7 +98,7 @@ public class OverdueTreatmentsCommand implements Command {
         LOGGER.log(Level.INFO, "Executing Overdue treatment command with args: " + args);
 
         if (pets.size() == 0) {
-            System.out.println("No pets added");
+            Ui.println("No pets added");
             LOGGER.log(Level.INFO, "No pets added yet.");
             return;
         }
@@ -99,10 +109,8 @@ public class OverdueTreatmentsCommand implements Command {
             return;
         }
 
-        Stream<Pet> targetPet = getPetStream(pet);
-
-        LocalDate presentDate = testDate == null ? LocalDate.now() : testDate;
-        Map<Pet, ArrayList<Treatment>> overdueTreatments = getOverdueTreatments(targetPet, presentDate);
+        LocalDate presentDate = overdue.today();
+        Map<Pet, List<Treatment>> overdueTreatments = getOverdueTreatments(pet);
 
         printOverdueTreatments(overdueTreatments, pet, presentDate);
     }
@@ -127,34 +135,12 @@ public class OverdueTreatmentsCommand implements Command {
         return CATEGORIES;
     }
 
-    private Map<Pet, ArrayList<Treatment>> getOverdueTreatments(Stream<Pet> targetPet, LocalDate presentDate) {
-        assert targetPet != null : "Target pet cannot be null. It's either a stream of all pets or just the input pet.";
-        assert presentDate != null : "Present date cannot be null";
-        return targetPet
-                .collect(Collectors.toMap(
-                        p -> p,
-                        p -> getOverdueTreatmentsForPet(p, presentDate)
-                ))
-                .entrySet()
-                .stream()
-                .filter(p -> !p.getValue().isEmpty())
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue
-                ));
-    }
-
-    private ArrayList<Treatment> getOverdueTreatmentsForPet(Pet pet, LocalDate presentDate) {
-        assert pet != null : "Pet cannot be null";
-        assert presentDate != null : "Present date cannot be null";
-
-        return pet.getTreatments().stream()
-                .filter(t -> !t.isCompleted() && t.getDate().isBefore(presentDate))
-                .collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    private Stream<Pet> getPetStream(Pet pet) {
-        return pet == null ? pets.stream() : Stream.of(pet);
+    private Map<Pet, List<Treatment>> getOverdueTreatments(Pet pet) {
+        if (pet == null) {
+            return overdue.getOverdue();
+        }
+        List<Treatment> petOverdue = overdue.getOverdue(pet);
+        return petOverdue.isEmpty() ? Map.of() : Map.of(pet, petOverdue);
     }
 
     private Pet getPetByName(String args) {
@@ -170,42 +156,43 @@ public class OverdueTreatmentsCommand implements Command {
                 break;
             }
         }
-        Pet pet = pets.getPetByName(petName);
+        Pet pet = petName == null ? null : pets.findPet(petName);
 
         if (petName == null) {
             LOGGER.log(Level.INFO, "Invalid args provided");
-            System.out.printf("Invalid arguments provided.%nSyntax: %s", SYNTAX);
+            Ui.printf("Invalid arguments provided.%nSyntax: %s", SYNTAX);
         } else if (pet == null) {
             LOGGER.log(Level.INFO, "No pet found");
-            System.out.printf("No pet found with the name: %s%n", petName);
+            Ui.printf("No pet found with the name: %s%n", petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
         }
 
         return pet;
     }
 
-    private void printOverdueTreatments(Map<Pet, ArrayList<Treatment>> treatments,
+    private void printOverdueTreatments(Map<Pet, List<Treatment>> treatments,
                                         Pet inputPet, LocalDate presentDate) {
         assert presentDate != null : "Present date cannot be null";
         assert treatments != null : "Treatments cannot be null";
 
         if (treatments.isEmpty()) {
             LOGGER.log(Level.INFO, "No overdue Treatment");
-            System.out.printf("No overdue treatment%s. Way to go!%n",
+            Ui.printf("No overdue treatment%s. Way to go!%n",
                     (inputPet == null ? "" : " for " + inputPet.getName()));
             return;
         }
 
-        System.out.printf("Overdue Treatments%s:%n", (inputPet == null ? "" : " for " + inputPet.getName()));
+        Ui.printf("Overdue Treatments%s:%n", (inputPet == null ? "" : " for " + inputPet.getName()));
 
-        for (Map.Entry<Pet, ArrayList<Treatment>> entry : treatments.entrySet()) {
+        for (Map.Entry<Pet, List<Treatment>> entry : treatments.entrySet()) {
             for (Treatment treatment : entry.getValue()) {
                 long overdueSince = ChronoUnit.DAYS.between(treatment.getDate(), presentDate);
                 if (inputPet == null) {
-                    System.out.printf("\t%s: \"%s\" was due on %s (overdue for %d days)%n",
+                    Ui.printf("\t%s: \"%s\" was due on %s (overdue for %d days)%n",
                             entry.getKey().getName(), treatment.getName(), treatment.getDate(), overdueSince);
                     continue;
                 }
-                System.out.printf("\t\"%s\" was due on %s (overdue for %d days)%n",
+                Ui.printf("\t\"%s\" was due on %s (overdue for %d days)%n",
                         treatment.getName(), treatment.getDate(), overdueSince);
 
             }
@@ -0,0 +1,87 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.History;
+import seedu.cuddlecare.ui.Ui;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A command that makes the latest undone change again.
+ *
+ * Format: redo
+ */
+public class RedoCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(RedoCommand.class.getName());
+
+    private static final String SYNTAX = "redo";
+    private static final String SHORT_DESCRIPTION = "Redoes the latest undone change";
+    private static final String LONG_DESCRIPTION = "Makes the latest change that was undone again. " +
+            "Changes that were undone can no longer be redone once another change is made.";
+    private static final List<String> CATEGORIES = List.of("General");
+
+    private final History history;
+
+    /**
+     * Creates a new RedoCommand for the given history.
+     *
+     * @param history the changes made by commands
+     */
+    public RedoCommand(History history) {
+        assert history != null : "History cannot be null";
+        this.history = history;
+    }
+
+    /**
+     * Executes the redo command.
+     *
+     * Makes the latest undone change again and names it, or says that there is nothing to redo.
+     *
+     * @param args the command arguments, which must be empty
+     */
+    @Override
+    public void exec(String args) {
+        assert args != null : "Command arguments cannot be null";
+        if (!args.isBlank()) {
+            LOGGER.log(Level.INFO, "Invalid args provided");
+            Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+            return;
+        }
+
+        Change change = history.redo();
+        if (change == null) {
+            Ui.println("Nothing to redo.");
+            return;
+        }
+        Ui.println("Redone: " + change.describe());
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+}
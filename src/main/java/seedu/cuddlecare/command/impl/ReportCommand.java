@@ -0,0 +1,214 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.command.SnapshotCommand;
+import seedu.cuddlecare.command.utils.DateUtils;
+import seedu.cuddlecare.report.ReportFormat;
+import seedu.cuddlecare.report.ReportGenerator;
+import seedu.cuddlecare.snapshot.ModelSnapshot;
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command that writes a care report of treatments to a Markdown, CSV or HTML file.
+ * <p>
+ * The report covers every pet, or a single pet given with {@code n/PET_NAME},
+ * optionally limited to a period. With {@code by/pet}, a separate report is
+ * written for each pet, several of them at the same time.
+ * <p>
+ * Only finding the pets and reading the archive hold up other commands; the report
+ * is written from a snapshot after that.
+ */
+public class ReportCommand implements SnapshotCommand {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportCommand.class.getName());
+
+    private static final String SYNTAX = "report f/FORMAT [n/PET_NAME] [from/DATE to/DATE] [by/pet]";
+    private static final String SHORT_DESCRIPTION = "Writes a treatment report to a file";
+    private static final String LONG_DESCRIPTION = "Writes the treatments of all pets, or of one pet, to a " +
+            "report file in the format md (Markdown), csv or html. Archived treatments and occurrences of " +
+            "recurring treatments are included. " +
+            "Add from/DATE and to/DATE to only report treatments in that period. Add by/pet to write a " +
+            "separate report for each pet instead of one report for all of them.";
+    private static final List<String> CATEGORIES = List.of("Treatment");
+
+    private final PetList pets;
+
+    private final ReportGenerator generator;
+
+    /**
+     * Constructs a ReportCommand that writes reports of the given pets into a directory.
+     *
+     * @param pets the PetList containing all pets in the system
+     * @param directory the directory reports are written into
+     * @throws AssertionError if pets or directory is null
+     */
+    public ReportCommand(PetList pets, Path directory) {
+        assert pets != null : "Pets cannot be null";
+        assert directory != null : "Directory cannot be null";
+        this.pets = pets;
+        this.generator = new ReportGenerator(pets, directory);
+    }
+
+    /**
+     * Checks the arguments, takes a snapshot of the pets and reads their archived treatments,
+     * and returns the writing of the report or reports described by the arguments, which
+     * prints where they were written.
+     *
+     * @param args the command arguments
+     * @return the writing of the reports, which does nothing if the arguments are invalid
+     */
+    @Override
+    public Runnable prepare(String args) {
+        assert args != null : "args cannot be null";
+
+        String formatName = null;
+        String petName = null;
+        String fromText = null;
+        String toText = null;
+        String byText = null;
+        for (String tag : args.trim().split(" (?=\\w+/)")) {
+            if (tag.startsWith("f/")) {
+                formatName = tag.substring(2).trim();
+            } else if (tag.startsWith("n/")) {
+                petName = tag.substring(2).trim();
+            } else if (tag.startsWith("from/")) {
+                fromText = tag.substring(5).trim();
+            } else if (tag.startsWith("to/")) {
+                toText = tag.substring(3).trim();
+            } else if (tag.startsWith("by/")) {
+                byText = tag.substring(3).trim();
+            } else if (!tag.isEmpty()) {
+                printInvalidArguments();
+                return () -> { };
+            }
+        }
+
+        ReportFormat format = formatName == null ? null : ReportFormat.fromName(formatName);
+        boolean isEach = byText != null;
+        if (format == null || (petName != null && (petName.isEmpty() || isEach))
+                || (isEach && !byText.equalsIgnoreCase("pet"))) {
+            printInvalidArguments();
+            return () -> { };
+        }
+
+        LocalDate from = null;
+        LocalDate to = null;
+        if (fromText != null || toText != null) {
+            try {
+                from = fromText == null || fromText.isEmpty() ? null : LocalDate.parse(fromText);
+                to = toText == null || toText.isEmpty() ? null : LocalDate.parse(toText);
+            } catch (DateTimeParseException e) {
+                LOGGER.log(Level.INFO, "Invalid report date: " + e.getParsedString());
+                Ui.println("Invalid date format. Please use yyyy-MM-dd format.");
+                return () -> { };
+            }
+            if (!DateUtils.isDateValid(from, to, SYNTAX)) {
+                return () -> { };
+            }
+        }
+
+        if (pets.size() == 0) {
+            LOGGER.log(Level.INFO, "No pets to report on");
+            Ui.println("No pets added");
+            return () -> { };
+        }
+
+        Pet pet = null;
+        if (petName != null) {
+            pet = pets.findPet(petName);
+            if (pet == null) {
+                LOGGER.log(Level.INFO, "No pet named " + petName);
+                Ui.println("Pet not found: " + petName);
+                Ui.printPetSuggestions(pets.suggestNames(petName));
+                return () -> { };
+            }
+        }
+
+        ModelSnapshot snapshot = generator.snapshot();
+        List<PetSnapshot> scope = pet == null ? snapshot.getPets() : List.of(snapshot.getPet(pet.getId()));
+        String title = pet == null ? "all pets" : pet.getName();
+        Map<String, List<Treatment>> archived = generator.readArchived(from, to);
+        LocalDate reportFrom = from;
+        LocalDate reportTo = to;
+        return () -> write(format, scope, archived, title, isEach, reportFrom, reportTo);
+    }
+
+    /**
+     * Writes the report or reports of the pets taken by {@link #prepare(String)} and prints
+     * where they were written.
+     */
+    private void write(ReportFormat format, List<PetSnapshot> scope, Map<String, List<Treatment>> archived,
+                       String title, boolean isEach, LocalDate from, LocalDate to) {
+        try {
+            if (isEach) {
+                writeEach(format, scope, archived, from, to);
+            } else {
+                printResult(generator.write(format, scope, archived, title, from, to));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write report", e);
+            Ui.println("Unable to write the report: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+
+    private void writeEach(ReportFormat format, List<PetSnapshot> scope, Map<String, List<Treatment>> archived,
+                           LocalDate from, LocalDate to) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<ReportGenerator.Result> results = generator.writeEach(format, scope, archived, from, to, threads);
+        int total = 0;
+        for (ReportGenerator.Result result : results) {
+            total += result.getTotal();
+        }
+        Ui.printf("Wrote %d reports with %s to %s:%n", results.size(), describe(total),
+                generator.getDirectory());
+        for (ReportGenerator.Result result : results) {
+            Ui.printf("\t%s (%s)%n", result.getFile().getFileName(), describe(result.getTotal()));
+        }
+        LOGGER.log(Level.INFO, "Wrote " + results.size() + " reports");
+    }
+
+    private static void printResult(ReportGenerator.Result result) {
+        Ui.printf("Report with %s written to %s%n", describe(result.getTotal()), result.getFile());
+    }
+
+    private static String describe(int total) {
+        return total + " treatment" + (total == 1 ? "" : "s");
+    }
+
+    private void printInvalidArguments() {
+        LOGGER.log(Level.INFO, "Invalid args provided");
+        Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.stats.TreatmentStats;
+import seedu.cuddlecare.ui.Ui;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command that prints counts of treatments: overall, per pet, per treatment type,
+ * per species and per month, with the share of each that is completed.
+ * <p>
+ * The counts are kept up to date by a {@link TreatmentStats} as data changes, so
+ * printing them does not go through every treatment. {@code stats verify}
+ * recounts everything and reports any count that had drifted.
+ */
+public class StatsCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(StatsCommand.class.getName());
+
+    private static final String SYNTAX = "stats [verify]";
+    private static final String SHORT_DESCRIPTION = "Displays treatment statistics";
+    private static final String LONG_DESCRIPTION = "Displays the number of pets and treatments, and the number " +
+            "and percentage of completed treatments overall, per pet, per treatment type (first word of the " +
+            "treatment name), per species and per month. Add 'verify' to recount every treatment and report " +
+            "any count that was out of date.";
+    private static final List<String> CATEGORIES = List.of("Treatment");
+
+    private final PetList pets;
+
+    /** Counts of the treatments, created on first use. */
+    private TreatmentStats stats;
+
+    /**
+     * Constructs a StatsCommand for the given pet list.
+     *
+     * @param pets the PetList containing all pets in the system
+     * @throws AssertionError if pets is null
+     */
+    public StatsCommand(PetList pets) {
+        assert pets != null : "Pets cannot be null";
+        this.pets = pets;
+    }
+
+    /**
+     * Prints the statistics, after recounting them first if the argument is {@code verify}.
+     *
+     * @param args empty, or {@code verify}
+     */
+    @Override
+    public void exec(String args) {
+        assert args != null : "args cannot be null";
+        String mode = args.trim();
+        if (!mode.isEmpty() && !mode.equalsIgnoreCase("verify")) {
+            LOGGER.log(Level.INFO, "Invalid args provided");
+            Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+            return;
+        }
+
+        TreatmentStats counts = getStats();
+        counts.loadAll();
+        if (!mode.isEmpty()) {
+            printVerification(counts.verify());
+        }
+        printStats(counts);
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+
+    private TreatmentStats getStats() {
+        if (stats == null) {
+            stats = new TreatmentStats(pets);
+        }
+        return stats;
+    }
+
+    private void printVerification(List<String> differences) {
+        if (differences.isEmpty()) {
+            LOGGER.log(Level.INFO, "Statistics verified");
+            Ui.println("Statistics verified: all counts match a full recount.");
+            return;
+        }
+        LOGGER.log(Level.WARNING, "Statistics had drifted: " + differences);
+        Ui.printf("Statistics had drifted; %d count(s) were corrected:%n", differences.size());
+        for (String difference : differences) {
+            Ui.println("\t" + difference);
+        }
+    }
+
+    private void printStats(TreatmentStats counts) {
+        TreatmentStats.Counts overall = counts.getOverall();
+        Ui.printHeader("Treatment statistics:");
+        Ui.printf("\tPets: %d%n", counts.getPetCount());
+        Ui.printf("\tTreatments: %s%n", describe(overall));
+        if (overall.getTotal() == 0) {
+            LOGGER.log(Level.INFO, "No treatments to count");
+            return;
+        }
+
+        Ui.printHeader("By pet:");
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            Ui.printf("\t%s: %s%n", pet.getName(), describe(counts.getForPet(pet)));
+        }
+        printGroups("By type:", counts.getByType());
+        printGroups("By species:", counts.getBySpecies());
+        printGroups("By month:", counts.getByMonth());
+        LOGGER.log(Level.INFO, "Printed statistics");
+    }
+
+    private static void printGroups(String header, Map<?, TreatmentStats.Counts> groups) {
+        Ui.printHeader(header);
+        groups.forEach((group, counts) -> Ui.printf("\t%s: %s%n", group, describe(counts)));
+    }
+
+    private static String describe(TreatmentStats.Counts counts) {
+        if (counts.getTotal() == 0) {
+            return "0 treatments";
+        }
+        return String.format("%d treatment%s, %d completed (%.1f%%)", counts.getTotal(),
+                counts.getTotal() == 1 ? "" : "s", counts.getCompleted(), counts.getCompletionPercentage());
+    }
+}
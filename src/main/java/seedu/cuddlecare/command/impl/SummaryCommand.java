@@ -1,16 +1,22 @@
 package seedu.cuddlecare.command.impl;
 
+import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentColumns;
 import seedu.cuddlecare.command.Command;
 import seedu.cuddlecare.command.utils.DateUtils;
+import seedu.cuddlecare.command.utils.ScheduleUtils;
 import seedu.cuddlecare.ui.Ui;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -87,8 +93,11 @@ public class SummaryCommand implements Command {
      *   <li>The treatment date falls between {@code fromDate} and {@code toDate} (inclusive).</li>
      *   <li>The treatment is marked as completed.</li>
      * </ul>
+     * Completed occurrences of recurring treatments in the range are included, in date order with
+     * the other treatments; they are read from the schedules' completed dates without going
+     * through the other occurrences.
      * The filtered treatments are formatted as strings in the form {@code PetName: Treatment}
-     * and returned in a list.</p>
+     * and returned in a list, with each pet's archived treatments in the range before the others.</p>
      *
      * @param fromDate the start date of the filter range
      * @param toDate   the end date of the filter range
@@ -96,20 +105,55 @@ public class SummaryCommand implements Command {
      *     within the specified date range
      */
     protected ArrayList<String> filterTreatments(LocalDate fromDate, LocalDate toDate) {
+        Map<String, List<Treatment>> archived = pets.getArchivedTreatments(fromDate, toDate);
+        TreatmentColumns columns = pets.getTreatmentColumns();
+        if (columns != null) {
+            return filterColumns(columns, archived, fromDate, toDate);
+        }
+
         ArrayList<String> filteredList = (ArrayList<String>) pets.stream()
-                .flatMap(pet -> pet.getTreatments().stream()
-                        .filter(treatment -> {
-                            LocalDate date = treatment.getDate();
-                            boolean isCompleted = treatment.isCompleted();
-                            boolean isDateValid = !date.isBefore(fromDate) && !date.isAfter(toDate);
-                            return isDateValid && isCompleted;
-                        })
+                .flatMap(pet -> Stream.concat(
+                        archived.getOrDefault(pet.getName().toLowerCase(), List.of()).stream(),
+                        Stream.concat(pet.getTreatments().stream()
+                                .filter(treatment -> {
+                                    LocalDate date = treatment.getDate();
+                                    boolean isCompleted = treatment.isCompleted();
+                                    boolean isDateValid = !date.isBefore(fromDate) && !date.isAfter(toDate);
+                                    return isDateValid && isCompleted;
+                                }), pet.getCompletedOccurrences(fromDate, toDate).stream())
+                                .sorted(Comparator.comparing(Treatment::getDate)))
                         .map(treatment -> pet.getName() + ": " + treatment))
                 .collect(toList());
 
         return filteredList;
     }
 
+    /**
+     * Does the same as {@link #filterTreatments(LocalDate, LocalDate)} by scanning
+     * the columnar treatment store instead of the treatment objects.
+     */
+    private ArrayList<String> filterColumns(TreatmentColumns columns, Map<String, List<Treatment>> archived,
+                                            LocalDate fromDate, LocalDate toDate) {
+        pets.loadAllTreatments();
+        int[][] rowsByPet = columns.findRowsByPet(fromDate, toDate, TreatmentColumns.Status.COMPLETED);
+        ArrayList<String> filteredList = new ArrayList<>();
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            for (Treatment treatment : archived.getOrDefault(pet.getName().toLowerCase(), List.of())) {
+                filteredList.add(pet.getName() + ": " + treatment);
+            }
+            List<Treatment> occurrences = pet.getCompletedOccurrences(fromDate, toDate);
+            int next = 0;
+            int[] rows = rowsByPet[pet.getColumnId()];
+            for (int row : rows == null ? new int[0] : rows) {
+                next = ScheduleUtils.addOccurrencesBefore(filteredList, pet, occurrences, next, columns.getDate(row));
+                filteredList.add(pet.getName() + ": " + columns.describe(row));
+            }
+            ScheduleUtils.addOccurrencesBefore(filteredList, pet, occurrences, next, null);
+        }
+        return filteredList;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
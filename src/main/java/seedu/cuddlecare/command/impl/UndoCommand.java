@@ -0,0 +1,90 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.History;
+import seedu.cuddlecare.ui.Ui;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A command that reverses the latest change that has not been undone.
+ *
+ * Format: undo
+ */
+public class UndoCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(UndoCommand.class.getName());
+
+    private static final String SYNTAX = "undo";
+    private static final String SHORT_DESCRIPTION = "Undoes the latest change";
+    private static final String LONG_DESCRIPTION = "Reverses the latest change made by a command that adds, edits, " +
+            "deletes, marks or unmarks pets, treatments or recurring treatments. Can be repeated to undo " +
+            "earlier changes, as far back as the kept history allows. Changes made before the application " +
+            "started cannot be undone.";
+    private static final List<String> CATEGORIES = List.of("General");
+
+    private final History history;
+
+    /**
+     * Creates a new UndoCommand for the given history.
+     *
+     * @param history the changes made by commands
+     */
+    public UndoCommand(History history) {
+        assert history != null : "History cannot be null";
+        this.history = history;
+    }
+
+    /**
+     * Executes the undo command.
+     *
+     * Reverses the latest change that has not been undone and names it,
+     * or says that there is nothing to undo.
+     *
+     * @param args the command arguments, which must be empty
+     */
+    @Override
+    public void exec(String args) {
+        assert args != null : "Command arguments cannot be null";
+        if (!args.isBlank()) {
+            LOGGER.log(Level.INFO, "Invalid args provided");
+            Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+            return;
+        }
+
+        Change change = history.undo();
+        if (change == null) {
+            Ui.println("Nothing to undo.");
+            return;
+        }
+        Ui.println("Undone: " + change.describe());
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.cuddlecare.command.impl;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -9,12 +10,16 @@ import seedu.cuddlecare.parser.args.UnmarkTreatmentArgs;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
 import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.CompletionChange;
+import seedu.cuddlecare.history.OccurrenceChange;
 import seedu.cuddlecare.ui.Ui;
 
 /**
  * Unmarks (sets not completed) a treatment for a specific pet by local index.
- * <p>Usage: {@code unmark n/PET_NAME i/INDEX}</p>
+ * <p>Usage: {@code unmark n/PET_NAME i/INDEX} or {@code unmark n/PET_NAME s/SCHEDULE_INDEX d/DATE}</p>
  * Example: {@code unmark n/Milo i/2}
  */
 public class UnmarkTreatmentCommand implements Command {
@@ -27,13 +32,17 @@ public class UnmarkTreatmentCommand implements Command {
     private static final String SHORT_DESCRIPTION = "Unmarks a treatment (sets it as not completed) for a pet.";
     private static final String LONG_DESCRIPTION = "Unmarks a specific treatment for a given pet by " +
             "its local index. Specify the pet using n/PET_NAME" +
-            " and the treatment index using i/INDEX.";
+            " and the treatment index using i/INDEX. To unmark one occurrence of a recurring " +
+            "treatment, use s/SCHEDULE_INDEX and d/DATE instead of i/INDEX.";
     private static final List<String> CATEGORIES = List.of("Treatment");
     // @@author
 
     /** Repository of pets. */
     private final PetList pets;
 
+    /** Change made by the last execution, kept until it is taken. */
+    private Change change;
+
     /**
      * @param pets repository of pets
      */
@@ -49,6 +58,7 @@ public class UnmarkTreatmentCommand implements Command {
      */
     @Override
     public void exec(String args) {
+        change = null;
         assert pets != null : "Pet list must not be null";
         UnmarkTreatmentArgs parsed = UnmarkTreatmentParser.parse(args);
 
@@ -63,10 +73,16 @@ public class UnmarkTreatmentCommand implements Command {
         Pet pet = pets.getPetByName(petName);
         if (pet == null) {
             Ui.println("No such pet: " + petName);
+            Ui.printPetSuggestions(pets.suggestNames(petName));
             LOGGER.warning("Mark: pet not found: " + petName);
             return;
         }
 
+        if (parsed.scheduleIndex > 0) {
+            unmarkOccurrence(pet, parsed.scheduleIndex, parsed.date);
+            return;
+        }
+
         ArrayList<Treatment> treatments = pet.getTreatments();
         if (treatments.isEmpty()) {
             Ui.println(petName + " has no treatments to unmark.");
@@ -91,10 +107,56 @@ public class UnmarkTreatmentCommand implements Command {
             return;
         }
         t.setCompleted(false);
+        change = new CompletionChange(pet, t, false);
         Ui.println("Unmarked " + t.getName() + " on " + t.getDate() + " as done for " + petName);
         LOGGER.info(() -> "Marked: " + petName + " i/" + index1Based + " \"" + t.getName() + "\"");
     }
 
+    /**
+     * Unmarks the occurrence of a recurring treatment on the given date.
+     *
+     * @param pet the pet the recurring treatment belongs to
+     * @param scheduleIndex the 1-based index of the recurring treatment
+     * @param date the date of the occurrence
+     */
+    private void unmarkOccurrence(Pet pet, int scheduleIndex, LocalDate date) {
+        List<TreatmentSchedule> schedules = pet.getSchedules();
+        if (scheduleIndex > schedules.size()) {
+            Ui.println("No such recurring treatment");
+            Ui.println("Pet: " + pet.getName());
+            Ui.println("Index: " + scheduleIndex);
+            LOGGER.warning(() -> "Unmark: invalid schedule index " + scheduleIndex + " for " + pet.getName());
+            return;
+        }
+
+        TreatmentSchedule schedule = schedules.get(scheduleIndex - 1);
+        if (!schedule.occursOn(date)) {
+            Ui.println(schedule.getName() + " does not recur on " + date + " for " + pet.getName() + ".");
+            LOGGER.info(() -> "Unmark: no occurrence on " + date + " for " + pet.getName() + " s/" + scheduleIndex);
+            return;
+        }
+        if (!schedule.isCompleted(date)) {
+            Ui.println("The occurrence is already unmarked.");
+            return;
+        }
+        schedule.setCompleted(date, false);
+        change = new OccurrenceChange(pet, schedule, date, false);
+        Ui.println("Unmarked " + schedule.getName() + " on " + date + " as done for " + pet.getName());
+        LOGGER.info(() -> "Unmarked: " + pet.getName() + " s/" + scheduleIndex + " d/" + date);
+    }
+
+    @Override
+    public Change takeChange() {
+        Change taken = change;
+        change = null;
+        return taken;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return true;
+    }
+
     // @@author HarshitSrivastavaHS
     @Override
     public String getSyntax() {
@@ -0,0 +1,198 @@
+package seedu.cuddlecare.command.impl;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.time.ClockService;
+import seedu.cuddlecare.time.UpcomingQueue;
+import seedu.cuddlecare.ui.Ui;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command that lists the treatments due in the next few days.
+ * <p>
+ * This command can display upcoming treatments for either a specific pet
+ * (when the pet name is provided) or all pets if no name is given.
+ * A treatment is upcoming if it is not completed and its date is between
+ * today and the given number of days from today, inclusive.
+ * </p>
+ */
+public class UpcomingTreatmentsCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(UpcomingTreatmentsCommand.class.getName());
+
+    private static final String SYNTAX = "upcoming-treatments [n/PET_NAME] days/N";
+    private static final String SHORT_DESCRIPTION = "Lists treatments due in the next N days";
+    private static final String LONG_DESCRIPTION = "Displays all treatments that are not completed and are " +
+            "due between today and N days from today, in date order. You can optionally provide " +
+            "a pet name to view upcoming treatments for a specific pet only. " +
+            "Use days/0 to see the treatments due today.";
+    private static final List<String> CATEGORIES = List.of("Treatment");
+
+    /** Largest accepted number of days, matching how far ahead treatments can be added. */
+    private static final int MAX_DAYS = 36_500;
+
+    private final PetList pets;
+
+    private final ClockService clock;
+
+    /** Incomplete treatments ordered by date, created on first use. */
+    private UpcomingQueue queue;
+
+    /**
+     * Constructs an UpcomingTreatmentsCommand with the given pet list.
+     *
+     * @param pets the PetList containing all pets in the system
+     * @throws AssertionError if pets is null
+     */
+    public UpcomingTreatmentsCommand(PetList pets) {
+        this(pets, ClockService.getShared());
+    }
+
+    /**
+     * Constructs an UpcomingTreatmentsCommand that reads today's date from the given clock service.
+     *
+     * @param pets  the PetList containing all pets in the system
+     * @param clock the source of today's date
+     * @throws AssertionError if pets or clock is null
+     */
+    public UpcomingTreatmentsCommand(PetList pets, ClockService clock) {
+        assert pets != null : "Pets cannot be null";
+        assert clock != null : "Clock cannot be null";
+        this.pets = pets;
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the upcoming treatments command.
+     * <p>
+     * Prints the incomplete treatments due from today up to {@code days/N} days
+     * from today. If a pet name is provided in the format "n/PET_NAME", only that
+     * pet's treatments are shown; otherwise, all pets are included.
+     *
+     * @param args the command arguments
+     */
+    @Override
+    public void exec(String args) {
+        assert args != null : "args cannot be null";
+
+        LOGGER.log(Level.INFO, "Executing upcoming treatments command with args: " + args);
+
+        String petName = null;
+        String daysText = null;
+        for (String tag : args.trim().split(" (?=\\w+/)")) {
+            if (tag.startsWith("n/")) {
+                petName = tag.substring(2).trim();
+            } else if (tag.startsWith("days/")) {
+                daysText = tag.substring(5).trim();
+            } else if (!tag.isEmpty()) {
+                printInvalidArguments();
+                return;
+            }
+        }
+
+        int days = parseDays(daysText);
+        if (days < 0 || (petName != null && petName.isEmpty())) {
+            printInvalidArguments();
+            return;
+        }
+
+        if (pets.size() == 0) {
+            Ui.println("No pets added");
+            LOGGER.log(Level.INFO, "No pets added yet.");
+            return;
+        }
+
+        Pet pet = null;
+        if (petName != null) {
+            pet = pets.findPet(petName);
+            if (pet == null) {
+                LOGGER.log(Level.INFO, "No pet found");
+                Ui.printf("No pet found with the name: %s%n", petName);
+                Ui.printPetSuggestions(pets.suggestNames(petName));
+                return;
+            }
+        }
+
+        LocalDate today = clock.today();
+        List<UpcomingQueue.Entry> upcoming = getQueue().getDue(today, today.plusDays(days), pet);
+        printUpcomingTreatments(upcoming, pet, today, days);
+    }
+
+    @Override
+    public String getSyntax() {
+        return SYNTAX;
+    }
+
+    @Override
+    public String getLongDescription() {
+        return LONG_DESCRIPTION;
+    }
+
+    @Override
+    public String getShortDescription() {
+        return SHORT_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getCategory() {
+        return CATEGORIES;
+    }
+
+    private UpcomingQueue getQueue() {
+        if (queue == null) {
+            queue = new UpcomingQueue(pets);
+        }
+        return queue;
+    }
+
+    /**
+     * Returns the number of days given, or -1 if it is missing or not a whole number from 0 to {@link #MAX_DAYS}.
+     */
+    private int parseDays(String daysText) {
+        if (daysText == null) {
+            return -1;
+        }
+        try {
+            int days = Integer.parseInt(daysText);
+            return days <= MAX_DAYS ? days : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void printInvalidArguments() {
+        LOGGER.log(Level.INFO, "Invalid args provided");
+        Ui.printf("Invalid arguments provided.%nSyntax: %s%n", SYNTAX);
+    }
+
+    private void printUpcomingTreatments(List<UpcomingQueue.Entry> upcoming, Pet inputPet,
+                                         LocalDate today, int days) {
+        String forPet = inputPet == null ? "" : " for " + inputPet.getName();
+        String period = days == 0 ? "today" : "in the next " + days + " day" + (days == 1 ? "" : "s");
+
+        if (upcoming.isEmpty()) {
+            LOGGER.log(Level.INFO, "No upcoming treatment");
+            Ui.printf("No treatments due%s %s.%n", forPet, period);
+            return;
+        }
+
+        Ui.printf("Treatments due%s %s:%n", forPet, period);
+        for (UpcomingQueue.Entry entry : upcoming) {
+            long dueIn = ChronoUnit.DAYS.between(today, entry.getDate());
+            String when = dueIn == 0 ? "today" : "in " + dueIn + " day" + (dueIn == 1 ? "" : "s");
+            if (inputPet == null) {
+                Ui.printf("\t%s: \"%s\" is due on %s (%s)%n",
+                        entry.getPet().getName(), entry.getTreatment().getName(), entry.getDate(), when);
+                continue;
+            }
+            Ui.printf("\t\"%s\" is due on %s (%s)%n", entry.getTreatment().getName(), entry.getDate(), when);
+        }
+        LOGGER.log(Level.INFO, "Successfully executed the command");
+    }
+}
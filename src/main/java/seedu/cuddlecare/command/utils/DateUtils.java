@@ -35,26 +35,26 @@ public class DateUtils {
             if (part.startsWith("from/")) {
                 String dateString = part.substring(5).trim();
                 if (dateString.isEmpty()) {
-                    System.out.println("Error: Start date cannot be empty.");
+                    Ui.println("Error: Start date cannot be empty.");
                     return null;
                 }
                 try {
                     fromDate = LocalDate.parse(dateString);
                 } catch (DateTimeParseException e) {
-                    System.out.println("Invalid start date format. Please use yyyy-MM-dd format.");
+                    Ui.println("Invalid start date format. Please use yyyy-MM-dd format.");
                     return null;
                 }
             } else if (part.startsWith("to/")) {
                 String dateString = part.substring(3).trim();
                 if (dateString.isEmpty()) {
-                    System.out.println("Error: End date cannot be empty.");
+                    Ui.println("Error: End date cannot be empty.");
                     return null;
                 }
                 try {
                     toDate = LocalDate.parse(dateString);
                 } catch (DateTimeParseException e) {
                     LOGGER.log(Level.WARNING, "Invalid to date format: {0}", dateString);
-                    System.out.println("Invalid end date format. Please use yyyy-MM-dd format.");
+                    Ui.println("Invalid end date format. Please use yyyy-MM-dd format.");
                     return null;
                 }
             }
@@ -86,7 +86,7 @@ public class DateUtils {
         if (fromDate.isAfter(toDate)) {
             LOGGER.log(Level.INFO, "Invalid date range - from {0} is after to {1}",
                     new Object[]{fromDate, toDate});
-            System.out.println("Error: Start date cannot be after end date.");
+            Ui.println("Error: Start date cannot be after end date.");
             return false;
         }
 
@@ -0,0 +1,33 @@
+package seedu.cuddlecare.command.utils;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.Treatment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Helpers for listing occurrences of recurring treatments together with other treatments.
+ */
+public class ScheduleUtils {
+
+    /**
+     * Adds the occurrences from position {@code next} onwards that are dated before {@code date}
+     * to a list of treatment lines, each in the form {@code PetName: Treatment}.
+     *
+     * @param lines       the list the lines are added to
+     * @param pet         the pet the occurrences belong to
+     * @param occurrences the pet's occurrences, in date order
+     * @param next        the position of the first occurrence not listed yet
+     * @param date        the date the added occurrences are before, or {@code null} to add all the rest
+     * @return the position of the first occurrence still not listed
+     */
+    public static int addOccurrencesBefore(List<String> lines, Pet pet, List<Treatment> occurrences,
+                                           int next, LocalDate date) {
+        while (next < occurrences.size() && (date == null || occurrences.get(next).getDate().isBefore(date))) {
+            lines.add(pet.getName() + ": " + occurrences.get(next));
+            next++;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.cuddlecare.config;
+
+import seedu.cuddlecare.server.SessionProtocol;
+import seedu.cuddlecare.ui.Ui;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Options given on the command line when launching CuddleCare.
+ * <p>
+ * Recognised options:
+ * <ul>
+ *     <li>{@code --server [PORT]}: share one pet list with several terminals.</li>
+ *     <li>{@code --client [PORT]}: connect to a running server.</li>
+ *     <li>{@code --columnar}: keep treatments in a columnar store.</li>
+ *     <li>{@code --lazy}: read each pet's treatments only when they are first needed.</li>
+ *     <li>{@code --sharded}: save treatments in several files so that each save rewrites less.</li>
+ *     <li>{@code --compress}: write the save data compressed with gzip.</li>
+ *     <li>{@code --archive-after DAYS}: move completed treatments older than DAYS into compressed archive files.</li>
+ * </ul>
+ */
+public class LaunchOptions {
+
+    /** How the application runs. */
+    public enum Mode {
+        LOCAL,
+        SERVER,
+        CLIENT
+    }
+
+    /** Largest port number a socket can use. */
+    public static final int MAX_PORT = 65535;
+
+    private static final Logger LOGGER = Logger.getLogger(LaunchOptions.class.getName());
+    private static final String PORT_USAGE = "Usage: --server [PORT] or --client [PORT], "
+            + "where PORT is between 0 and " + MAX_PORT + ".";
+
+    private Mode mode = Mode.LOCAL;
+    private int port = SessionProtocol.DEFAULT_PORT;
+    private boolean isColumnar;
+    private boolean isLazyLoading;
+    private boolean isSharded;
+    private boolean isCompressed;
+    private int archiveHorizonDays = -1;
+    private boolean hasErrors;
+
+    /**
+     * Parses the command-line arguments. Unknown options are reported and ignored.
+     *
+     * @param args the command-line arguments
+     * @return the parsed options
+     */
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i].trim();
+            switch (arg) {
+            case "--server":
+            case "--client":
+                options.mode = arg.equals("--server") ? Mode.SERVER : Mode.CLIENT;
+                if (i + 1 < args.length && isNumber(args[i + 1])) {
+                    options.setPort(Integer.parseInt(args[++i].trim()));
+                }
+                break;
+            case "--columnar":
+                options.isColumnar = true;
+                break;
+            case "--lazy":
+                options.isLazyLoading = true;
+                break;
+            case "--sharded":
+                options.isSharded = true;
+                break;
+            case "--compress":
+                options.isCompressed = true;
+                break;
+            case "--archive-after":
+                if (i + 1 < args.length && isNumber(args[i + 1])) {
+                    options.archiveHorizonDays = Integer.parseInt(args[++i].trim());
+                } else {
+                    Ui.println("--archive-after needs a number of days; archiving stays off.");
+                }
+                break;
+            default:
+                LOGGER.log(Level.WARNING, "Unknown option: " + arg);
+                Ui.println("Ignoring unknown option: " + arg);
+                break;
+            }
+        }
+        return options;
+    }
+
+    private void setPort(int port) {
+        if (port > MAX_PORT) {
+            LOGGER.log(Level.WARNING, "Port out of range: " + port);
+            Ui.println("Invalid port: " + port + ". " + PORT_USAGE);
+            hasErrors = true;
+            return;
+        }
+        this.port = port;
+    }
+
+    private static boolean isNumber(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty() || trimmed.length() > 5) {
+            return false;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (!Character.isDigit(trimmed.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if an option was invalid, so the application should not start.
+     * The problem has already been reported.
+     */
+    public boolean hasErrors() {
+        return hasErrors;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isColumnar() {
+        return isColumnar;
+    }
+
+    public boolean isLazyLoading() {
+        return isLazyLoading;
+    }
+
+    public boolean isSharded() {
+        return isSharded;
+    }
+
+    public boolean isCompressed() {
+        return isCompressed;
+    }
+
+    /**
+     * Returns the age in days after which completed treatments are archived,
+     * or -1 if archiving is off.
+     */
+    public int getArchiveHorizonDays() {
+        return archiveHorizonDays;
+    }
+}
@@ -4,9 +4,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -28,6 +31,9 @@ public class LoggingConfigurator {
     /** Path to the main log file for the application. */
     private static final String LOG_FILE_PATH = "logs/cuddlecare_app.log";
 
+    /** Handler holding records until the log file is opened, if logging was deferred. */
+    private static volatile DeferredHandler deferredHandler;
+
     /**
      * Sets up logging for the application.
      * <p>
@@ -44,6 +50,40 @@ public class LoggingConfigurator {
      * to {@link System#err} and the stack trace is printed.
      */
     public static void setup() {
+        Logger rootLogger = resetRootLogger();
+        FileHandler fileHandler = openFileHandler();
+        if (fileHandler != null) {
+            rootLogger.addHandler(fileHandler);
+        }
+    }
+
+    /**
+     * Sets up logging like {@link #setup()}, but without creating the log file yet.
+     * Records logged before {@link #openDeferredLogFile()} is called are kept in
+     * memory and written once the file is open, so the file can be created off the
+     * startup path.
+     */
+    public static void setupDeferred() {
+        Logger rootLogger = resetRootLogger();
+        DeferredHandler handler = new DeferredHandler();
+        deferredHandler = handler;
+        rootLogger.addHandler(handler);
+    }
+
+    /**
+     * Creates the log file for {@link #setupDeferred()} and writes the records
+     * held until now to it. Does nothing if logging was not deferred.
+     */
+    public static void openDeferredLogFile() {
+        DeferredHandler handler = deferredHandler;
+        if (handler == null) {
+            return;
+        }
+        deferredHandler = null;
+        handler.attach(openFileHandler());
+    }
+
+    private static Logger resetRootLogger() {
         Logger rootLogger = Logger.getLogger("");
 
         for (Handler handler: rootLogger.getHandlers()) {
@@ -51,7 +91,15 @@ public class LoggingConfigurator {
         }
 
         rootLogger.setLevel(Level.INFO);
+        return rootLogger;
+    }
 
+    /**
+     * Creates the "logs" directory if needed and opens the log file.
+     *
+     * @return the handler writing to the log file, or null if it could not be opened
+     */
+    private static FileHandler openFileHandler() {
         try {
 
             if (Files.notExists(LOG_DIR_PATH)) {
@@ -60,11 +108,60 @@ public class LoggingConfigurator {
 
             FileHandler fileHandler = new FileHandler(LOG_FILE_PATH, 0, 1, true);
             fileHandler.setFormatter(new SimpleFormatter());
-            rootLogger.addHandler(fileHandler);
+            return fileHandler;
 
         } catch (IOException e) {
             System.err.println("FATAL: Could not set up logging");
             e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Holds log records in memory until the handler that writes them is available.
+     */
+    private static final class DeferredHandler extends Handler {
+        private final List<LogRecord> pending = new ArrayList<>();
+        private Handler target;
+        private boolean isDiscarding;
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            if (target != null) {
+                target.publish(record);
+            } else if (!isDiscarding) {
+                pending.add(record);
+            }
+        }
+
+        /**
+         * Writes the held records to {@code handler} and sends later ones straight to it.
+         * If {@code handler} is null, the held and later records are dropped.
+         */
+        synchronized void attach(Handler handler) {
+            if (handler == null) {
+                isDiscarding = true;
+            } else {
+                for (LogRecord record : pending) {
+                    handler.publish(record);
+                }
+                target = handler;
+            }
+            pending.clear();
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (target != null) {
+                target.close();
+            }
         }
     }
 }
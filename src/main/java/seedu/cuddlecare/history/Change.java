@@ -0,0 +1,43 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.PetList;
+
+/**
+ * A change made to the pets by a command, kept so that it can be undone and redone.
+ * <p>
+ * A change holds only what is needed to make and reverse it, such as the pet a
+ * treatment was removed from and the treatment itself, rather than a copy of the
+ * pet list. Changes are made again in the order they were recorded, so each one
+ * can rely on the pets being as they were right after it was first made.
+ */
+public interface Change {
+
+    /** Rough number of bytes taken by a change and the references it holds. */
+    long ENTRY_SIZE = 48;
+
+    /** Rough number of bytes taken by a treatment, with its name and note, that only a change keeps. */
+    long TREATMENT_SIZE = 128;
+
+    /**
+     * Makes the change to the pets.
+     *
+     * @param pets the pets the change was first made to
+     */
+    void apply(PetList pets);
+
+    /**
+     * Returns the change that reverses this one.
+     */
+    Change inverse();
+
+    /**
+     * Returns a rough number of bytes of memory the change keeps alive, which is
+     * counted against the budget of the {@link History} holding it.
+     */
+    long estimateSize();
+
+    /**
+     * Describes the change for the user, such as {@code delete pet Milo}.
+     */
+    String describe();
+}
@@ -0,0 +1,61 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+
+/**
+ * Marks a treatment as completed or not completed.
+ */
+public class CompletionChange implements Change {
+
+    private final Pet pet;
+    private final Treatment treatment;
+    private final boolean isCompleted;
+
+    /**
+     * Creates the change.
+     *
+     * @param pet the pet the treatment belongs to
+     * @param treatment the treatment that is marked or unmarked
+     * @param isCompleted true if the treatment is marked as completed
+     */
+    public CompletionChange(Pet pet, Treatment treatment, boolean isCompleted) {
+        assert pet != null && treatment != null : "Pet and treatment cannot be null";
+        this.pet = pet;
+        this.treatment = treatment;
+        this.isCompleted = isCompleted;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public Treatment getTreatment() {
+        return treatment;
+    }
+
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+
+    @Override
+    public void apply(PetList pets) {
+        treatment.setCompleted(isCompleted);
+    }
+
+    @Override
+    public Change inverse() {
+        return new CompletionChange(pet, treatment, !isCompleted);
+    }
+
+    @Override
+    public long estimateSize() {
+        return ENTRY_SIZE;
+    }
+
+    @Override
+    public String describe() {
+        return (isCompleted ? "mark " : "unmark ") + treatment.getName() + " for " + pet.getName();
+    }
+}
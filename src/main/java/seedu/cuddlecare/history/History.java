@@ -0,0 +1,168 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.PetList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Undo and redo stacks of the changes commands made to the pets.
+ * <p>
+ * The stacks hold {@link Change} objects, each only as large as what it takes to
+ * reverse it, and are kept within a memory budget: once the estimated size of the
+ * kept changes exceeds it, the oldest changes can no longer be undone. The latest
+ * change can always be undone, even if it alone exceeds the budget.
+ * <p>
+ * Every change made through the history, whether recorded, undone or redone, is
+ * passed to its listeners as the change that was made, so that it can be saved
+ * without saving all the pets.
+ */
+public class History {
+
+    /** Memory budget used unless another one is given, in bytes. */
+    public static final long DEFAULT_BUDGET_BYTES = 1 << 20;
+
+    private static final Logger LOGGER = Logger.getLogger(History.class.getName());
+
+    private final PetList pets;
+    private final long budgetBytes;
+
+    /** Changes that can be undone, latest first. */
+    private final Deque<Change> undoStack = new ArrayDeque<>();
+
+    /** Changes that were undone and can be redone, latest undone first. */
+    private final Deque<Change> redoStack = new ArrayDeque<>();
+
+    private final List<Consumer<Change>> listeners = new ArrayList<>();
+
+    /** Estimated size of the changes in both stacks, in bytes. */
+    private long usedBytes;
+
+    /**
+     * Creates an empty history with the default budget.
+     *
+     * @param pets the pets the changes are made to
+     */
+    public History(PetList pets) {
+        this(pets, DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Creates an empty history.
+     *
+     * @param pets the pets the changes are made to
+     * @param budgetBytes the estimated size in bytes the kept changes may take
+     */
+    public History(PetList pets, long budgetBytes) {
+        assert pets != null : "Pets cannot be null";
+        assert budgetBytes >= 0 : "Budget cannot be negative";
+        this.pets = pets;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Adds a listener that is passed every change made through this history.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Consumer<Change> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Records a change a command has just made, so that it can be undone.
+     * Changes that were undone can no longer be redone.
+     *
+     * @param change the change that was made
+     */
+    public void record(Change change) {
+        assert change != null : "Change cannot be null";
+        for (Change undone : redoStack) {
+            usedBytes -= undone.estimateSize();
+        }
+        redoStack.clear();
+        undoStack.push(change);
+        usedBytes += change.estimateSize();
+        trim();
+        notifyListeners(change);
+    }
+
+    /**
+     * Reverses the latest change that has not been undone.
+     *
+     * @return the change that was undone, or {@code null} if there is none
+     */
+    public Change undo() {
+        Change change = undoStack.poll();
+        if (change == null) {
+            return null;
+        }
+        Change inverse = change.inverse();
+        inverse.apply(pets);
+        redoStack.push(change);
+        LOGGER.log(Level.INFO, "Undid: {0}", change.describe());
+        notifyListeners(inverse);
+        return change;
+    }
+
+    /**
+     * Makes the latest undone change again.
+     *
+     * @return the change that was redone, or {@code null} if there is none
+     */
+    public Change redo() {
+        Change change = redoStack.poll();
+        if (change == null) {
+            return null;
+        }
+        change.apply(pets);
+        undoStack.push(change);
+        LOGGER.log(Level.INFO, "Redid: {0}", change.describe());
+        notifyListeners(change);
+        return change;
+    }
+
+    /**
+     * Returns the number of changes that can be undone.
+     */
+    public int getUndoCount() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the number of changes that can be redone.
+     */
+    public int getRedoCount() {
+        return redoStack.size();
+    }
+
+    /**
+     * Returns the estimated size of the kept changes, in bytes.
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Forgets the oldest changes until the kept changes fit in the budget, keeping
+     * at least the latest one.
+     */
+    private void trim() {
+        while (usedBytes > budgetBytes && undoStack.size() > 1) {
+            Change oldest = undoStack.removeLast();
+            usedBytes -= oldest.estimateSize();
+            LOGGER.log(Level.FINE, "Forgot change over budget: {0}", oldest.describe());
+        }
+    }
+
+    private void notifyListeners(Change change) {
+        for (Consumer<Change> listener : listeners) {
+            listener.accept(change);
+        }
+    }
+}
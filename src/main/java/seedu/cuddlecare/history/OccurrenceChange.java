@@ -0,0 +1,70 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.TreatmentSchedule;
+
+import java.time.LocalDate;
+
+/**
+ * Marks an occurrence of a recurring treatment as completed or not completed.
+ */
+public class OccurrenceChange implements Change {
+
+    private final Pet pet;
+    private final TreatmentSchedule schedule;
+    private final LocalDate date;
+    private final boolean isCompleted;
+
+    /**
+     * Creates the change.
+     *
+     * @param pet the pet the schedule belongs to
+     * @param schedule the schedule the occurrence belongs to
+     * @param date the date of the occurrence
+     * @param isCompleted true if the occurrence is marked as completed
+     */
+    public OccurrenceChange(Pet pet, TreatmentSchedule schedule, LocalDate date, boolean isCompleted) {
+        assert pet != null && schedule != null && date != null : "Pet, schedule and date cannot be null";
+        this.pet = pet;
+        this.schedule = schedule;
+        this.date = date;
+        this.isCompleted = isCompleted;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public TreatmentSchedule getSchedule() {
+        return schedule;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+
+    @Override
+    public void apply(PetList pets) {
+        schedule.setCompleted(date, isCompleted);
+    }
+
+    @Override
+    public Change inverse() {
+        return new OccurrenceChange(pet, schedule, date, !isCompleted);
+    }
+
+    @Override
+    public long estimateSize() {
+        return ENTRY_SIZE;
+    }
+
+    @Override
+    public String describe() {
+        return (isCompleted ? "mark " : "unmark ") + schedule.getName() + " on " + date + " for " + pet.getName();
+    }
+}
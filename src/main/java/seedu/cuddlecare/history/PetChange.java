@@ -0,0 +1,109 @@
+package seedu.cuddlecare.history;
+
+import java.util.List;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+
+/**
+ * Adds a pet to the pet list, or deletes one from it.
+ * <p>
+ * A deleted pet keeps its treatments and recurring treatments, so adding it back
+ * restores them as well. The change also keeps the lines of the pet's archived
+ * treatments, which deleting it dropped from the archive, and puts them back when
+ * the pet is added back. A pet is added back at the position it was deleted from, so
+ * undoing a deletion leaves the pets in the same order as before.
+ */
+public class PetChange implements Change {
+
+    private final Pet pet;
+    private final boolean isAdded;
+
+    /** Position of the pet in the list, which it is added back at. */
+    private final int index;
+
+    /** Archive lines of the pet's archived treatments, put back whenever the pet is added back. */
+    private final List<String> archivedLines;
+
+    /** Estimated size, worked out once so that it stays the same while the change is kept. */
+    private final long size;
+
+    /**
+     * Creates the change.
+     *
+     * @param pet the pet that is added or deleted, with its treatments loaded
+     * @param isAdded true if the pet is added, false if it is deleted, in which case the
+     *     archive lines the deletion dropped are taken from the pet
+     * @param index the position the pet was added at or deleted from
+     */
+    public PetChange(Pet pet, boolean isAdded, int index) {
+        this(pet, isAdded, index, isAdded ? List.of() : pet.takeArchivedLines());
+    }
+
+    private PetChange(Pet pet, boolean isAdded, int index, List<String> archivedLines) {
+        assert pet != null : "Pet cannot be null";
+        assert pet.hasLoadedTreatments() : "Treatments of a pet kept by a change must be loaded";
+        assert index >= 0 : "Index cannot be negative";
+        this.pet = pet;
+        this.isAdded = isAdded;
+        this.index = index;
+        this.archivedLines = archivedLines;
+        this.size = isAdded
+                ? ENTRY_SIZE + archivedLines.size() * TREATMENT_SIZE
+                : ENTRY_SIZE + (1 + pet.getTreatments().size() + pet.getSchedules().size() + archivedLines.size())
+                        * TREATMENT_SIZE;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public boolean isAdded() {
+        return isAdded;
+    }
+
+    /**
+     * Returns the position the pet was added at or deleted from.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the archive lines of the pet's archived treatments, which are put back
+     * when the pet is added back.
+     */
+    public List<String> getArchivedLines() {
+        return archivedLines;
+    }
+
+    @Override
+    public void apply(PetList pets) {
+        if (isAdded) {
+            if (pets.add(index, pet)) {
+                pets.restoreArchived(archivedLines);
+            }
+        } else if (pets.deletePet(pet)) {
+            // The same lines are dropped again, and this change already keeps them
+            pet.takeArchivedLines();
+        }
+    }
+
+    @Override
+    public Change inverse() {
+        return new PetChange(pet, !isAdded, index, archivedLines);
+    }
+
+    /**
+     * A deleted pet is kept alive only by this change, so its treatments are counted too.
+     */
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public String describe() {
+        return (isAdded ? "add pet " : "delete pet ") + pet.getName();
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+
+/**
+ * Changes the name, species and age of a pet.
+ */
+public class PetEditChange implements Change {
+
+    private final Pet pet;
+    private final String oldName;
+    private final String oldSpecies;
+    private final int oldAge;
+    private final String newName;
+    private final String newSpecies;
+    private final int newAge;
+
+    /**
+     * Creates the change from the pet's details before and after it.
+     *
+     * @param pet the pet that is edited
+     * @param oldName the name before the change
+     * @param oldSpecies the species before the change
+     * @param oldAge the age before the change
+     * @param newName the name after the change
+     * @param newSpecies the species after the change
+     * @param newAge the age after the change
+     */
+    public PetEditChange(Pet pet, String oldName, String oldSpecies, int oldAge,
+                         String newName, String newSpecies, int newAge) {
+        assert pet != null : "Pet cannot be null";
+        this.pet = pet;
+        this.oldName = oldName;
+        this.oldSpecies = oldSpecies;
+        this.oldAge = oldAge;
+        this.newName = newName;
+        this.newSpecies = newSpecies;
+        this.newAge = newAge;
+    }
+
+    public String getOldName() {
+        return oldName;
+    }
+
+    public String getNewName() {
+        return newName;
+    }
+
+    public String getNewSpecies() {
+        return newSpecies;
+    }
+
+    public int getNewAge() {
+        return newAge;
+    }
+
+    @Override
+    public void apply(PetList pets) {
+        if (!pet.getName().equals(newName)) {
+            pets.renamePet(pet, newName);
+        }
+        if (!pet.getSpecies().equals(newSpecies)) {
+            pet.setSpecies(newSpecies);
+        }
+        pet.setAge(newAge);
+    }
+
+    @Override
+    public Change inverse() {
+        return new PetEditChange(pet, newName, newSpecies, newAge, oldName, oldSpecies, oldAge);
+    }
+
+    @Override
+    public long estimateSize() {
+        return ENTRY_SIZE;
+    }
+
+    @Override
+    public String describe() {
+        return "edit pet " + oldName;
+    }
+}
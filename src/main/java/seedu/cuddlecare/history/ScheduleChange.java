@@ -0,0 +1,81 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.TreatmentSchedule;
+
+/**
+ * Adds a recurring treatment to a pet, or deletes one from it.
+ */
+public class ScheduleChange implements Change {
+
+    private final Pet pet;
+    private final TreatmentSchedule schedule;
+    private final int index;
+    private final boolean isAdded;
+
+    /** Estimated size, worked out once so that it stays the same while the change is kept. */
+    private final long size;
+
+    /**
+     * Creates the change.
+     *
+     * @param pet the pet the schedule belongs to
+     * @param schedule the schedule that is added or deleted
+     * @param index the 0-based position of the schedule among the pet's schedules
+     * @param isAdded true if the schedule is added, false if it is deleted
+     */
+    public ScheduleChange(Pet pet, TreatmentSchedule schedule, int index, boolean isAdded) {
+        assert pet != null && schedule != null : "Pet and schedule cannot be null";
+        this.pet = pet;
+        this.schedule = schedule;
+        this.index = index;
+        this.isAdded = isAdded;
+        this.size = isAdded ? ENTRY_SIZE : ENTRY_SIZE + (1 + schedule.getCompletedDates().size()) * TREATMENT_SIZE;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public TreatmentSchedule getSchedule() {
+        return schedule;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isAdded() {
+        return isAdded;
+    }
+
+    /**
+     * A deleted schedule is added back at the position it was deleted from, so the
+     * indexes of the pet's other schedules stay as they were.
+     */
+    @Override
+    public void apply(PetList pets) {
+        if (isAdded) {
+            pet.addSchedule(index, schedule);
+        } else {
+            pet.removeSchedule(index);
+        }
+    }
+
+    @Override
+    public Change inverse() {
+        return new ScheduleChange(pet, schedule, index, !isAdded);
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public String describe() {
+        return (isAdded ? "add recurring treatment " : "delete recurring treatment ") + schedule.getName()
+                + " for " + pet.getName();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.cuddlecare.history;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+
+/**
+ * Adds a treatment to a pet, or deletes one from it.
+ */
+public class TreatmentChange implements Change {
+
+    private final Pet pet;
+    private final Treatment treatment;
+    private final boolean isAdded;
+
+    /**
+     * Creates the change.
+     *
+     * @param pet the pet the treatment belongs to
+     * @param treatment the treatment that is added or deleted
+     * @param isAdded true if the treatment is added, false if it is deleted
+     */
+    public TreatmentChange(Pet pet, Treatment treatment, boolean isAdded) {
+        assert pet != null && treatment != null : "Pet and treatment cannot be null";
+        this.pet = pet;
+        this.treatment = treatment;
+        this.isAdded = isAdded;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public Treatment getTreatment() {
+        return treatment;
+    }
+
+    public boolean isAdded() {
+        return isAdded;
+    }
+
+    /**
+     * Treatments are kept in date order, so a deleted treatment added back returns to its place
+     * among the pet's treatments.
+     */
+    @Override
+    public void apply(PetList pets) {
+        if (isAdded) {
+            pet.addTreatment(treatment);
+        } else {
+            pet.removeTreatment(treatment);
+        }
+    }
+
+    @Override
+    public Change inverse() {
+        return new TreatmentChange(pet, treatment, !isAdded);
+    }
+
+    @Override
+    public long estimateSize() {
+        return isAdded ? ENTRY_SIZE : ENTRY_SIZE + TREATMENT_SIZE;
+    }
+
+    @Override
+    public String describe() {
+        return (isAdded ? "add treatment " : "delete treatment ") + treatment.getName() + " for " + pet.getName();
+    }
+}
@@ -0,0 +1,375 @@
+package seedu.cuddlecare.lifecycle;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.command.SnapshotCommand;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.History;
+import seedu.cuddlecare.storage.ChangeRecords;
+import seedu.cuddlecare.storage.Journal;
+import seedu.cuddlecare.storage.Storage;
+import seedu.cuddlecare.storage.TreatmentArchive;
+import seedu.cuddlecare.ui.Ui;
+
+/**
+ * Decides when data is written to disk and in what order the application shuts down.
+ * <p>
+ * Every change a command makes is recorded in a {@link History}, so that it can be
+ * undone, and every change made through the history, including undoing and redoing,
+ * is appended to a {@link Journal} as {@link ChangeRecords}, which is cheap and
+ * durable. The full save file is only written once no command has changed data
+ * for a while, or on shutdown, after which the journal is cleared. On startup, any
+ * journal left by a crash is replayed on top of the save file.
+ * <p>
+ * Commands and saves take what they read while holding a lock, so they never see a
+ * command half-applied. The background save and {@link SnapshotCommand}s then do the
+ * slow part of their work on a snapshot after releasing it, so commands are not held up.
+ * <p>
+ * Shutdown waits for a running save, writes a final save if needed, closes the
+ * journal and flushes the log handlers, in that order.
+ */
+public class LifecycleManager {
+
+    /** Milliseconds without changes after which the save file is written. */
+    public static final long DEFAULT_IDLE_MILLIS = 30_000;
+
+    private static final Logger LOGGER = Logger.getLogger(LifecycleManager.class.getName());
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Storage storage;
+    private final Journal journal;
+    private final History history;
+    private final long idleMillis;
+
+    /** Held while commands change the pets and while a save takes them, so a save never sees a half-applied command. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Writes the save file in the background once the application is idle. */
+    private final ScheduledThreadPoolExecutor saver;
+
+    private final AtomicBoolean isShutDown = new AtomicBoolean();
+
+    /** Save scheduled after the latest change, or null if none is pending. */
+    private ScheduledFuture<?> pendingSave;
+
+    /** Whether there are changes that are only in the journal. */
+    private boolean isDirty;
+
+    /** Number of times data was marked as changed, so a background save can tell if more changes followed. */
+    private long changeCount;
+
+    /** Number of saves started, so a background save can tell that a later save replaced its file. */
+    private long saveCount;
+
+    /**
+     * Initializes the lifecycle manager.
+     *
+     * @param storage the save file to write
+     * @param journal the journal to record changes in
+     * @param history the history that records the changes commands make
+     * @param idleMillis milliseconds without changes after which the save file is written
+     */
+    public LifecycleManager(Storage storage, Journal journal, History history, long idleMillis) {
+        assert storage != null && journal != null : "Storage and journal cannot be null";
+        assert history != null : "History cannot be null";
+        this.storage = storage;
+        this.journal = journal;
+        this.history = history;
+        this.idleMillis = idleMillis;
+        history.addListener(this::journal);
+        this.saver = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "cuddlecare-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        saver.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Loads the save file and the archive, replays changes journaled by a session that did
+     * not shut down cleanly and, if archiving is on, moves old completed treatments into the
+     * archive. The loaded pets are then published as the first version.
+     * <p>
+     * The archive is opened before the journal is replayed, so replayed renames and deletions
+     * of pets reach their archived treatments. Archiving runs after the replay, so it never
+     * moves a treatment that a journaled change still refers to.
+     *
+     * @param today the current date, which the archive horizon is counted back from
+     */
+    public void start(LocalDate today) {
+        storage.load();
+        PetList pets = storage.getPets();
+        TreatmentArchive archive = pets.getArchive();
+        if (archive != null) {
+            archive.open();
+        }
+        recover();
+        if (archive != null && archive.archiveOld(pets, today) > 0) {
+            markDirty();
+            save();
+        }
+        pets.publish();
+    }
+
+    /**
+     * Replays the changes left in the journal by a session that did not shut
+     * down cleanly, then writes the save file and clears the journal.
+     * Call after the save file has been loaded.
+     * <p>
+     * Replayed changes cannot be undone. Lines that are not {@link ChangeRecords} are
+     * logged and skipped.
+     *
+     * @return the number of journaled changes replayed
+     */
+    public int recover() {
+        List<String> lines;
+        try {
+            lines = journal.readAll();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to read journal: " + e.getMessage());
+            Ui.println("Failed to read unsaved changes.");
+            return 0;
+        }
+        if (lines.isEmpty()) {
+            return 0;
+        }
+
+        int replayed = 0;
+        lock.lock();
+        try {
+            for (String line : lines) {
+                if (!ChangeRecords.isRecord(line)) {
+                    LOGGER.log(Level.WARNING, "Not a change record -> Ignoring: " + line);
+                    continue;
+                }
+                storage.replay(line);
+                replayed++;
+            }
+            isDirty = true;
+            save();
+        } finally {
+            storage.getPets().publish();
+            lock.unlock();
+        }
+        LOGGER.log(Level.INFO, "Replayed " + replayed + " journaled changes");
+        return replayed;
+    }
+
+    /**
+     * Executes a command and, if it changes data, records the change in the history,
+     * which also journals it, and schedules a save for when the application is next idle.
+     * Once the command has finished, a new version of the pets is published for readers.
+     *
+     * @param command the command to execute
+     * @param args the arguments of the command
+     */
+    public void execute(Command command, String args) {
+        prepare(command, args).run();
+    }
+
+    /**
+     * Runs the part of a command that reads or changes the pets while holding the lock, and
+     * returns the rest, which only reads snapshots and is run without the lock by the caller.
+     * Only a {@link SnapshotCommand} has a rest; any other command is executed in full, as by
+     * {@link #execute(Command, String)}.
+     *
+     * @param command the command to execute
+     * @param args the arguments of the command
+     * @return the rest of the command, which does nothing if the command has finished
+     */
+    public Runnable prepare(Command command, String args) {
+        lock.lock();
+        try {
+            if (command instanceof SnapshotCommand) {
+                return ((SnapshotCommand) command).prepare(args);
+            }
+            command.exec(args);
+            if (!command.modifiesData()) {
+                return () -> { };
+            }
+            Change change = command.takeChange();
+            if (change != null) {
+                history.record(change);
+            }
+            return () -> { };
+        } finally {
+            storage.getPets().publish();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a change made through the history to the journal, saving in full
+     * if the journal cannot be written.
+     */
+    private void journal(Change change) {
+        lock.lock();
+        try {
+            journal.appendAll(ChangeRecords.encode(change));
+            markDirty();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to write journal, saving instead: " + e.getMessage());
+            isDirty = true;
+            save();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that data was changed outside of {@link #execute(Command, String)}
+     * and schedules a save for when the application is next idle.
+     */
+    public void markDirty() {
+        lock.lock();
+        try {
+            isDirty = true;
+            changeCount++;
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+            }
+            if (!isShutDown.get()) {
+                pendingSave = saver.schedule(this::saveInBackground, idleMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the save file if there are unsaved changes, holding the lock only while the pets
+     * are taken and while the written file replaces the save file, so that commands keep
+     * running while it is written. Only the journal lines appended before the pets were
+     * taken are cleared. A save started while this one is written replaces it.
+     */
+    void saveInBackground() {
+        Storage.SaveTask task;
+        long journalMark;
+        long seenChanges;
+        long count;
+        lock.lock();
+        try {
+            if (!isDirty) {
+                return;
+            }
+            journalMark = journal.size();
+            seenChanges = changeCount;
+            task = storage.prepareSave();
+            count = ++saveCount;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read journal size, saving while holding the lock: " + e.getMessage());
+            save();
+            return;
+        } finally {
+            lock.unlock();
+        }
+
+        boolean isWritten = task.write();
+
+        lock.lock();
+        try {
+            if (count != saveCount) {
+                task.discard();
+                return;
+            }
+            if (!isWritten || !task.finish()) {
+                return;
+            }
+            if (changeCount == seenChanges) {
+                isDirty = false;
+            }
+            journal.clearBefore(journalMark);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Saved, but failed to clear journal: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the save file if there are unsaved changes, then clears the journal.
+     *
+     * @return true if nothing is left unsaved
+     */
+    public boolean save() {
+        lock.lock();
+        try {
+            if (!isDirty) {
+                return true;
+            }
+            // Any background save still being written holds older data
+            saveCount++;
+            if (!storage.save()) {
+                return false;
+            }
+            isDirty = false;
+            journal.clear();
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Saved, but failed to clear journal: " + e.getMessage());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if there are changes that have not been written to the save file.
+     */
+    public boolean isDirty() {
+        lock.lock();
+        try {
+            return isDirty;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Shuts down in order: waits for a running background save, writes the
+     * save file if needed, closes the journal and flushes and closes the log
+     * handlers. Later calls do nothing.
+     * <p>
+     * Must not be called while a command runs, since a background save needs the
+     * lock to finish.
+     */
+    public void shutdown() {
+        assert !lock.isHeldByCurrentThread() : "Cannot shut down while a command runs";
+        if (!isShutDown.compareAndSet(false, true)) {
+            return;
+        }
+
+        saver.shutdown();
+        // A background save writes its temporary file without the lock, so always let it finish or discard it
+        try {
+            if (!saver.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.log(Level.WARNING, "Background save did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!save()) {
+            Ui.println("Changes are kept in the journal and will be restored on the next start.");
+        }
+        journal.close();
+        LOGGER.log(Level.INFO, "CuddleCare shut down");
+
+        for (Handler handler : Logger.getLogger("").getHandlers()) {
+            handler.flush();
+            handler.close();
+        }
+    }
+}
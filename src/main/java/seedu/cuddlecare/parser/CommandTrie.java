@@ -0,0 +1,198 @@
+package seedu.cuddlecare.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A trie of command names, matched ignoring case.
+ * <p>
+ * Names are looked up one character at a time straight from the input, so a
+ * lookup creates no objects. Besides exact names, a lookup accepts any prefix
+ * that only one name starts with, so {@code ov} finds {@code overdue-treatments}.
+ * The trie can also list the names that start with a prefix, for completion.
+ */
+public class CommandTrie {
+
+    /**
+     * A node reached by reading some prefix of one or more names.
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+
+        /** The name ending at this node, or {@code null} if no name ends here. */
+        private String name;
+
+        /** The number of names that end at or below this node. */
+        private int count;
+
+        /** Any one of the names that end at or below this node; the only one if {@code count} is 1. */
+        private String anyName;
+
+        private Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node addChild(char key) {
+            Node child = child(key);
+            if (child != null) {
+                return child;
+            }
+            child = new Node();
+            int position = 0;
+            while (position < keys.length && keys[position] < key) {
+                position++;
+            }
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newKeys[position] = key;
+            newChildren[position] = child;
+            System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a trie holding the given command names.
+     *
+     * @param names the command names
+     */
+    public CommandTrie(Iterable<String> names) {
+        assert names != null : "Names cannot be null";
+        for (String name : names) {
+            add(name);
+        }
+    }
+
+    /**
+     * Adds a command name. Adding a name that differs from an existing one only in case has no effect.
+     *
+     * @param name the command name, not empty
+     */
+    public void add(String name) {
+        assert name != null && !name.isEmpty() : "Command names cannot be empty";
+        if (findExact(name, 0, name.length()) != null) {
+            return;
+        }
+        Node node = root;
+        node.count++;
+        node.anyName = name;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.addChild(fold(name.charAt(i)));
+            node.count++;
+            node.anyName = name;
+        }
+        node.name = name;
+    }
+
+    /**
+     * Returns the number of names in this trie.
+     */
+    public int size() {
+        return root.count;
+    }
+
+    /**
+     * Returns the name equal to {@code input[start, end)} ignoring case, or else the
+     * only name that starts with it.
+     *
+     * @param input the text holding the name or abbreviation
+     * @param start the index of its first character
+     * @param end the index after its last character
+     * @return the command name as it was added, or {@code null} if there is none or the abbreviation is ambiguous
+     */
+    public String find(CharSequence input, int start, int end) {
+        Node node = findNode(input, start, end);
+        if (node == null || start == end) {
+            return null;
+        }
+        if (node.name != null) {
+            return node.name;
+        }
+        return node.count == 1 ? node.anyName : null;
+    }
+
+    /**
+     * Returns the name equal to {@code input[start, end)} ignoring case, or {@code null} if there is none.
+     */
+    public String findExact(CharSequence input, int start, int end) {
+        Node node = findNode(input, start, end);
+        return node == null ? null : node.name;
+    }
+
+    /**
+     * Returns the names that start with {@code prefix}, ignoring case, in alphabetical order.
+     *
+     * @param prefix the start of the names
+     * @return the matching names, empty if there are none
+     */
+    public List<String> complete(CharSequence prefix) {
+        assert prefix != null : "Prefix cannot be null";
+        List<String> names = new ArrayList<>();
+        Node node = findNode(prefix, 0, prefix.length());
+        if (node != null) {
+            collect(node, names);
+        }
+        return names;
+    }
+
+    /**
+     * Returns the longest text that every name starting with {@code prefix} starts with,
+     * ignoring case, or {@code prefix} itself if no name starts with it.
+     *
+     * @param prefix the start of the names
+     * @return {@code prefix} followed by the characters that all matching names share after it
+     */
+    public String commonPrefix(String prefix) {
+        assert prefix != null : "Prefix cannot be null";
+        Node node = findNode(prefix, 0, prefix.length());
+        if (node == null) {
+            return prefix;
+        }
+        int length = prefix.length();
+        while (node.name == null && node.keys.length == 1) {
+            node = node.children[0];
+            length++;
+        }
+        return prefix + node.anyName.substring(prefix.length(), length);
+    }
+
+    private Node findNode(CharSequence input, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.child(fold(input.charAt(i)));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<String> names) {
+        if (node.name != null) {
+            names.add(node.name);
+        }
+        for (Node child : node.children) {
+            collect(child, names);
+        }
+    }
+
+    /**
+     * Returns the lowercase form of a character; ASCII letters are folded without a table lookup.
+     */
+    private static char fold(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return c < 128 ? c : Character.toLowerCase(c);
+    }
+}
@@ -1,8 +1,7 @@
 package seedu.cuddlecare.parser;
 
 import seedu.cuddlecare.parser.args.EditPetArgs;
-
-import java.util.regex.Pattern;
+import seedu.cuddlecare.validation.Validation;
 
 /** Parser for edit-pet. */
 public final class EditPetParser {
@@ -71,29 +70,27 @@ public final class EditPetParser {
             return p;
         }
 
-        Pattern valid = Pattern.compile("[a-zA-Z\\- ]+");
-
-        if (!valid.matcher(oldName).matches()) {
+        if (!Validation.isNameText(oldName)) {
             p.valid = false;
             return p;
         }
 
         if (newName != null) {
-            if (!valid.matcher(newName).matches() || newName.length() > 20) {
+            if (!Validation.isValidPetName(newName)) {
                 p.valid = false;
                 return p;
             }
         }
 
         if (species != null) {
-            if (!valid.matcher(species).matches() || species.length() > 30) {
+            if (!Validation.isValidSpecies(species)) {
                 p.valid = false;
                 return p;
             }
         }
 
         if (age != null) {
-            if (age < 0 || age > 200) {
+            if (!Validation.isValidAge(age)) {
                 p.valid = false;
                 return p;
             }
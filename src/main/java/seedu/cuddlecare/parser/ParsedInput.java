@@ -0,0 +1,67 @@
+package seedu.cuddlecare.parser;
+
+import seedu.cuddlecare.command.Command;
+
+/**
+ * A reusable view of one parsed line of user input.
+ * <p>
+ * Holds the resolved {@link Command} and exposes the arguments as a
+ * {@link CharSequence} slice of the original input, so that dispatching a
+ * command does not copy or split the input. A single instance can be reused
+ * for every line read by the application loop.
+ * <p>
+ * As with {@link Parser#parse(String)}, every {@code |} in the arguments
+ * reads as a space.
+ */
+public final class ParsedInput implements CharSequence {
+
+    private String input = "";
+    private Command command;
+    private int argsStart;
+    private int argsEnd;
+
+    /**
+     * Points this view at a new parse result.
+     */
+    void set(String input, Command command, int argsStart, int argsEnd) {
+        assert argsStart <= argsEnd : "Argument slice cannot be reversed";
+        this.input = input;
+        this.command = command;
+        this.argsStart = argsStart;
+        this.argsEnd = argsEnd;
+    }
+
+    /**
+     * Returns the command resolved from the input.
+     */
+    public Command getCommand() {
+        return command;
+    }
+
+    @Override
+    public int length() {
+        return argsEnd - argsStart;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        char c = input.charAt(argsStart + index);
+        return c == '|' ? ' ' : c;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    /**
+     * Returns the arguments as a string, copying them out of the input.
+     */
+    @Override
+    public String toString() {
+        return input.substring(argsStart, argsEnd).replace('|', ' ');
+    }
+}
@@ -2,7 +2,9 @@ package seedu.cuddlecare.parser;
 
 import seedu.cuddlecare.command.Command;
 import seedu.cuddlecare.command.CommandWithArguments;
+import seedu.cuddlecare.ui.Ui;
 
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,9 +28,15 @@ public class Parser {
 
 
     /**
-     * Map of available commands keyed by their string representation.
+     * Registered command names, matched ignoring case or by a unique abbreviation.
      */
-    private Map<String, Command> commands;
+    private CommandTrie commandNames = new CommandTrie(List.of());
+
+    /**
+     * Registered commands, looked up by name only once a name matches so that
+     * lazily created commands are not created early.
+     */
+    private Map<String, Command> commands = Map.of();
 
     /**
      * Sets the available commands for this parser.
@@ -38,6 +46,7 @@ public class Parser {
     public void setCommands(Map<String, Command> commands) {
         assert commands != null : "commands map cannot be null";
         this.commands = commands;
+        commandNames = new CommandTrie(commands.keySet());
         LOGGER.log(Level.INFO, "Commands map has been set with " + commands.size() + " entries.");
     }
 
@@ -52,29 +61,90 @@ public class Parser {
      *         or {@code null} if the input is empty or invalid
      */
     public Command parse(String input) {
+        ParsedInput parsed = new ParsedInput();
+        if (!parse(input, parsed)) {
+            return null;
+        }
+        return new CommandWithArguments(parsed.getCommand(), parsed.toString());
+    }
+
+    /**
+     * Parses a user input string into a reusable {@link ParsedInput}.
+     * <p>
+     * Behaves like {@link #parse(String)}, but resolves the command name in place
+     * and leaves the arguments as a slice of {@code input}, so no objects are
+     * created for valid input.
+     *
+     * @param input The user input string
+     * @param target the view to fill with the parse result
+     * @return {@code true} if a command was resolved, {@code false} if the input is empty or invalid
+     */
+    public boolean parse(String input, ParsedInput target) {
         assert input != null : "input cannot be null";
-        input = input.trim().replaceAll("\\|", " ");
+        assert target != null : "target cannot be null";
+
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
 
-        if (input.isEmpty()) {
-            System.out.println("Empty Command");
+        if (start == end) {
+            Ui.println("Empty Command");
             LOGGER.log(Level.WARNING, "Received empty input");
-            return null;
+            return false;
         }
 
-        String[] commandParts = input.split(" ", 2);
-        String commandName = commandParts[0];
-        String commandArguments = commandParts.length > 1 ? commandParts[1] : "";
+        int nameEnd = start;
+        while (nameEnd < end && input.charAt(nameEnd) != ' ' && input.charAt(nameEnd) != '|') {
+            nameEnd++;
+        }
 
-        Command command = commands.get(commandName.toLowerCase());
+        Command command = findCommand(input, start, nameEnd);
 
         if (command == null) {
-            System.out.printf("Invalid Command: %s%nRun \"help\" to " +
+            String commandName = input.substring(start, nameEnd);
+            Ui.printf("Invalid Command: %s%nRun \"help\" to " +
                     "find the list of all available commands.%n", commandName);
+            List<String> candidates = commandNames.complete(commandName);
+            if (!candidates.isEmpty()) {
+                Ui.printf("Commands starting with \"%s\": %s%n", commandName, String.join(", ", candidates));
+            }
             LOGGER.log(Level.WARNING, "Invalid command received: " + commandName);
-            return null;
+            return false;
         }
 
-        LOGGER.log(Level.INFO, "Parsed command: " + commandName + " with arguments: " + commandArguments);
-        return new CommandWithArguments(command, commandArguments);
+        int argsStart = Math.min(nameEnd + 1, end);
+        target.set(input, command, argsStart, end);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Parsed command: " + input.substring(start, nameEnd)
+                    + " with arguments: " + target);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the registered command names that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     *
+     * @param prefix the start of the command names
+     * @return the matching command names
+     */
+    public List<String> completeCommandName(String prefix) {
+        return commandNames.complete(prefix);
+    }
+
+    /**
+     * Finds the command whose name matches {@code input[start, end)}, ignoring case,
+     * or the only command whose name starts with it.
+     *
+     * @return the matching command, or {@code null} if there is none or the abbreviation is ambiguous
+     */
+    private Command findCommand(String input, int start, int end) {
+        String name = commandNames.find(input, start, end);
+        return name == null ? null : commands.get(name);
     }
 }
@@ -2,6 +2,9 @@ package seedu.cuddlecare.parser;
 
 import seedu.cuddlecare.parser.args.UnmarkTreatmentArgs;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 /** Parser for unmark-treatment. */
 public final class UnmarkTreatmentParser {
     private UnmarkTreatmentParser() {}
@@ -10,6 +13,10 @@ public final class UnmarkTreatmentParser {
      * Expected tokens:
      *   n/ PET_NAME
      *   i/ INDEX (positive integer)
+     * or, for an occurrence of a recurring treatment:
+     *   n/ PET_NAME
+     *   s/ SCHEDULE_INDEX (positive integer)
+     *   d/ DATE (yyyy-MM-dd)
      */
     public static UnmarkTreatmentArgs parse(String args) {
         UnmarkTreatmentArgs p = new UnmarkTreatmentArgs();
@@ -17,9 +24,11 @@ public final class UnmarkTreatmentParser {
             p.valid = false;
             return p;
         }
-        String[] tokens = args.trim().split("(?=[ni]/)");
+        String[] tokens = args.trim().split("(?=[nisd]/)");
         String name = null;
         Integer idx = null;
+        Integer scheduleIdx = null;
+        LocalDate date = null;
         boolean hasN = false;
         boolean hasI = false;
 
@@ -40,9 +49,34 @@ public final class UnmarkTreatmentParser {
                     p.valid = false;
                     return p;
                 }
+            } else if (tok.startsWith("s/")) {
+                try {
+                    scheduleIdx = Integer.valueOf(tok.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    p.valid = false;
+                    return p;
+                }
+            } else if (tok.startsWith("d/")) {
+                try {
+                    date = LocalDate.parse(tok.substring(2).trim());
+                } catch (DateTimeParseException e) {
+                    p.valid = false;
+                    return p;
+                }
             }
         }
-        if (!hasN || !hasI || name.isEmpty()) {
+        if (!hasN || name.isEmpty()) {
+            p.valid = false;
+            return p;
+        }
+        if (!hasI && scheduleIdx != null && date != null && scheduleIdx > 0) {
+            p.petName = name;
+            p.scheduleIndex = scheduleIdx;
+            p.date = date;
+            p.valid = true;
+            return p;
+        }
+        if (!hasI || scheduleIdx != null || date != null) {
             p.valid = false;
             return p;
         }
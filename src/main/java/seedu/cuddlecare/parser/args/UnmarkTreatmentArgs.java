@@ -1,8 +1,14 @@
 package seedu.cuddlecare.parser.args;
 
-/** Args for unmark (n/PET_NAME i/INDEX). */
+import java.time.LocalDate;
+
+/** Args for unmark (n/PET_NAME i/INDEX, or n/PET_NAME s/SCHEDULE_INDEX d/DATE). */
 public final class UnmarkTreatmentArgs {
     public String petName;
     public int index;
+    /** 1-based index of the recurring treatment, or 0 if a treatment index was given. */
+    public int scheduleIndex;
+    /** Date of the occurrence of the recurring treatment, or null if a treatment index was given. */
+    public LocalDate date;
     public boolean valid;
 }
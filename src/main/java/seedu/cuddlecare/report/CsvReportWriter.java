@@ -0,0 +1,74 @@
+package seedu.cuddlecare.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.snapshot.TreatmentSnapshot;
+
+/**
+ * Writes a care report as CSV, one line per treatment after a header line.
+ * <p>
+ * Only the treatments are written, so that the file can be read by a
+ * spreadsheet; the title and totals are left out.
+ */
+class CsvReportWriter implements ReportWriter {
+
+    static final String HEADER = "pet,species,date,treatment,type,completed,note";
+
+    private final Writer out;
+
+    CsvReportWriter(Writer out) {
+        assert out != null : "Writer cannot be null";
+        this.out = out;
+    }
+
+    @Override
+    public void begin(String title, LocalDate from, LocalDate to) throws IOException {
+        out.write(HEADER + "\n");
+    }
+
+    @Override
+    public void beginPet(PetSnapshot pet) {
+    }
+
+    @Override
+    public void row(PetSnapshot pet, TreatmentSnapshot treatment, String type) throws IOException {
+        out.write(quote(pet.getName()) + ","
+                + quote(pet.getSpecies()) + ","
+                + treatment.getDate() + ","
+                + quote(treatment.getName()) + ","
+                + quote(type) + ","
+                + treatment.isCompleted() + ","
+                + quote(treatment.getNote()) + "\n");
+    }
+
+    @Override
+    public void endPet(PetSnapshot pet, int total, int completed) {
+    }
+
+    @Override
+    public void end(int total, int completed) {
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Quotes a field if it holds a comma, quote or line break, doubling any quotes in it.
+     */
+    static String quote(String field) {
+        if (field == null) {
+            return "";
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuotes ? "\"" + field.replace("\"", "\"\"") + "\"" : field;
+    }
+}
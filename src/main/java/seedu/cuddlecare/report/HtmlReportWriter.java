@@ -0,0 +1,106 @@
+package seedu.cuddlecare.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.snapshot.TreatmentSnapshot;
+
+/**
+ * Writes a care report as a standalone HTML page, with a heading and a table for each pet.
+ */
+class HtmlReportWriter implements ReportWriter {
+
+    private final Writer out;
+
+    /** Whether the table of the current pet has been started. */
+    private boolean hasTable;
+
+    HtmlReportWriter(Writer out) {
+        assert out != null : "Writer cannot be null";
+        this.out = out;
+    }
+
+    @Override
+    public void begin(String title, LocalDate from, LocalDate to) throws IOException {
+        out.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n");
+        out.write("<title>Care report: " + escape(title) + "</title>\n</head>\n<body>\n");
+        out.write("<h1>Care report: " + escape(title) + "</h1>\n");
+        out.write(from == null ? "<p>All dates.</p>\n" : "<p>From " + from + " to " + to + ".</p>\n");
+    }
+
+    @Override
+    public void beginPet(PetSnapshot pet) throws IOException {
+        out.write("<h2>" + escape(pet.getName()) + " (" + escape(pet.getSpecies()) + ", age "
+                + pet.getAge() + ")</h2>\n");
+        hasTable = false;
+    }
+
+    @Override
+    public void row(PetSnapshot pet, TreatmentSnapshot treatment, String type) throws IOException {
+        if (!hasTable) {
+            out.write("<table>\n<tr><th>Date</th><th>Treatment</th><th>Type</th><th>Status</th>"
+                    + "<th>Note</th></tr>\n");
+            hasTable = true;
+        }
+        out.write("<tr><td>" + treatment.getDate()
+                + "</td><td>" + escape(treatment.getName())
+                + "</td><td>" + escape(type)
+                + "</td><td>" + (treatment.isCompleted() ? "Completed" : "Pending")
+                + "</td><td>" + escape(treatment.getNote()) + "</td></tr>\n");
+    }
+
+    @Override
+    public void endPet(PetSnapshot pet, int total, int completed) throws IOException {
+        if (total == 0) {
+            out.write("<p>No treatments.</p>\n");
+            return;
+        }
+        out.write("</table>\n<p>" + ReportGenerator.describe(total, completed) + ".</p>\n");
+    }
+
+    @Override
+    public void end(int total, int completed) throws IOException {
+        out.write("<p><strong>Total:</strong> " + ReportGenerator.describe(total, completed) + ".</p>\n");
+        out.write("</body>\n</html>\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Replaces the characters that have a meaning in HTML with their entities.
+     */
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '&':
+                escaped.append("&amp;");
+                break;
+            case '<':
+                escaped.append("&lt;");
+                break;
+            case '>':
+                escaped.append("&gt;");
+                break;
+            case '"':
+                escaped.append("&quot;");
+                break;
+            case '\'':
+                escaped.append("&#39;");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
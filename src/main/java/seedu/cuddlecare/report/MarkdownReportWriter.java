@@ -0,0 +1,88 @@
+package seedu.cuddlecare.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.snapshot.TreatmentSnapshot;
+
+/**
+ * Writes a care report as Markdown, with a heading and a table for each pet.
+ */
+class MarkdownReportWriter implements ReportWriter {
+
+    private final Writer out;
+
+    /** Whether the table of the current pet has been started. */
+    private boolean hasTable;
+
+    MarkdownReportWriter(Writer out) {
+        assert out != null : "Writer cannot be null";
+        this.out = out;
+    }
+
+    @Override
+    public void begin(String title, LocalDate from, LocalDate to) throws IOException {
+        out.write("# Care report: " + escape(title) + "\n\n");
+        out.write(from == null ? "All dates.\n" : "From " + from + " to " + to + ".\n");
+    }
+
+    @Override
+    public void beginPet(PetSnapshot pet) throws IOException {
+        out.write("\n## " + escape(pet.getName()) + " (" + escape(pet.getSpecies()) + ", age "
+                + pet.getAge() + ")\n\n");
+        hasTable = false;
+    }
+
+    @Override
+    public void row(PetSnapshot pet, TreatmentSnapshot treatment, String type) throws IOException {
+        if (!hasTable) {
+            out.write("| Date | Treatment | Type | Status | Note |\n");
+            out.write("| --- | --- | --- | --- | --- |\n");
+            hasTable = true;
+        }
+        out.write("| " + treatment.getDate()
+                + " | " + escape(treatment.getName())
+                + " | " + escape(type)
+                + " | " + (treatment.isCompleted() ? "Completed" : "Pending")
+                + " | " + escape(treatment.getNote()) + " |\n");
+    }
+
+    @Override
+    public void endPet(PetSnapshot pet, int total, int completed) throws IOException {
+        if (total == 0) {
+            out.write("No treatments.\n");
+            return;
+        }
+        out.write("\n" + ReportGenerator.describe(total, completed) + ".\n");
+    }
+
+    @Override
+    public void end(int total, int completed) throws IOException {
+        out.write("\n**Total:** " + ReportGenerator.describe(total, completed) + ".\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Escapes the characters that would end a table cell or start Markdown formatting.
+     */
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '|' || c == '\\' || c == '*' || c == '_' || c == '`' || c == '#') {
+                escaped.append('\\');
+            }
+            escaped.append(c == '\n' || c == '\r' ? ' ' : c);
+        }
+        return escaped.toString();
+    }
+}
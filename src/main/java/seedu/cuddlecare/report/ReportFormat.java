@@ -0,0 +1,60 @@
+package seedu.cuddlecare.report;
+
+import java.io.Writer;
+
+/**
+ * The file formats a care report can be written in.
+ */
+public enum ReportFormat {
+    MARKDOWN("md", "markdown"),
+    CSV("csv", "csv"),
+    HTML("html", "html");
+
+    private final String extension;
+    private final String longName;
+
+    ReportFormat(String extension, String longName) {
+        this.extension = extension;
+        this.longName = longName;
+    }
+
+    /**
+     * Returns the format with the given file extension or name, ignoring case.
+     *
+     * @param name {@code md}, {@code markdown}, {@code csv}, {@code html} or {@code htm}
+     * @return the format, or {@code null} if there is no such format
+     */
+    public static ReportFormat fromName(String name) {
+        String lower = name.trim().toLowerCase();
+        for (ReportFormat format : values()) {
+            if (format.extension.equals(lower) || format.longName.equals(lower)) {
+                return format;
+            }
+        }
+        return lower.equals("htm") ? HTML : null;
+    }
+
+    /**
+     * Returns the extension of files in this format, without the dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns a report writer that writes this format to {@code out}.
+     *
+     * @param out where the report is written; closed when the report writer is closed
+     * @return the report writer
+     */
+    public ReportWriter open(Writer out) {
+        switch (this) {
+        case CSV:
+            return new CsvReportWriter(out);
+        case HTML:
+            return new HtmlReportWriter(out);
+        default:
+            return new MarkdownReportWriter(out);
+        }
+    }
+}
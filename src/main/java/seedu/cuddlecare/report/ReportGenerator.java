@@ -0,0 +1,346 @@
+package seedu.cuddlecare.report;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.snapshot.ModelSnapshot;
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.snapshot.TreatmentSnapshot;
+import seedu.cuddlecare.stats.TreatmentStats;
+import seedu.cuddlecare.time.ClockService;
+
+/**
+ * Writes care reports of pets' treatments, including archived ones and the occurrences
+ * of recurring treatments, to files.
+ * <p>
+ * Each treatment is written to a buffered file writer as soon as it is read,
+ * in date order, so a report is never held in memory as a whole. Reports of
+ * several pets can be written to separate files on several threads at once.
+ * <p>
+ * A report limited to a period includes the occurrences of recurring treatments in the
+ * period. A report of every date includes those up to today, since a recurring treatment
+ * without an end date has no last occurrence.
+ * <p>
+ * Reports are written from a {@link ModelSnapshot}, so they never see a change
+ * half-applied, and the threads writing them never read pets that are being changed.
+ * Only {@link #snapshot()} and {@link #readArchived} need to run while no command changes
+ * the pets; writing reads only what they return, so it can run while commands do.
+ */
+public class ReportGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportGenerator.class.getName());
+
+    /**
+     * A report that was written.
+     */
+    public static final class Result {
+        private final Path file;
+        private final int total;
+        private final int completed;
+
+        private Result(Path file, int total, int completed) {
+            this.file = file;
+            this.total = total;
+            this.completed = completed;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the number of treatments in the report.
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Returns the number of completed treatments in the report.
+         */
+        public int getCompleted() {
+            return completed;
+        }
+    }
+
+    private final PetList pets;
+
+    private final Path directory;
+
+    /**
+     * Constructs a ReportGenerator that writes reports of the given pets into a directory.
+     *
+     * @param pets the pets whose treatments are reported
+     * @param directory the directory reports are written into, created when the first report is written
+     */
+    public ReportGenerator(PetList pets, Path directory) {
+        assert pets != null : "Pets cannot be null";
+        assert directory != null : "Directory cannot be null";
+        this.pets = pets;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory reports are written into.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reads the treatments of pets whose treatments were deferred and returns the latest
+     * version of the pets, to write reports from.
+     */
+    public ModelSnapshot snapshot() {
+        pets.loadAllTreatments();
+        return pets.publish();
+    }
+
+    /**
+     * Reads the archived treatments in the period, so that writing reports only reads
+     * what is already in memory.
+     *
+     * @param from the first date to report, or {@code null} to report every date
+     * @param to the last date to report, or {@code null} to report every date
+     * @return map of lowercase pet names to their archived treatments in date order
+     */
+    public Map<String, List<Treatment>> readArchived(LocalDate from, LocalDate to) {
+        assert (from == null) == (to == null) : "Both or neither dates must be given";
+        return from == null
+                ? pets.getArchivedTreatments(LocalDate.MIN, LocalDate.MAX)
+                : pets.getArchivedTreatments(from, to);
+    }
+
+    /**
+     * Writes one report covering the given pets, in the order given, reading their
+     * archived treatments first.
+     *
+     * @param format the format of the report
+     * @param scope the pets to report on
+     * @param title what the report covers, such as a pet's name
+     * @param from the first date to report, or {@code null} to report every date
+     * @param to the last date to report, or {@code null} to report every date
+     * @return the report written
+     * @throws IOException if the report cannot be written
+     */
+    public Result write(ReportFormat format, List<PetSnapshot> scope, String title,
+                        LocalDate from, LocalDate to) throws IOException {
+        return write(format, scope, readArchived(from, to), title, from, to);
+    }
+
+    /**
+     * Writes one report covering the given pets, in the order given.
+     *
+     * @param format the format of the report
+     * @param scope the pets to report on
+     * @param archived the archived treatments in the period, from {@link #readArchived}
+     * @param title what the report covers, such as a pet's name
+     * @param from the first date to report, or {@code null} to report every date
+     * @param to the last date to report, or {@code null} to report every date
+     * @return the report written
+     * @throws IOException if the report cannot be written
+     */
+    public Result write(ReportFormat format, List<PetSnapshot> scope, Map<String, List<Treatment>> archived,
+                        String title, LocalDate from, LocalDate to) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(fileName(scope.size() == 1 ? slug(scope.get(0).getName()) : null,
+                from, to, format));
+        return writeFile(file, format, scope, title, archived, from, to, lastOccurrenceDate(to));
+    }
+
+    /**
+     * Writes a separate report for each of the given pets, several at a time, reading
+     * their archived treatments first.
+     *
+     * @param format the format of the reports
+     * @param scope the pets to report on
+     * @param from the first date to report, or {@code null} to report every date
+     * @param to the last date to report, or {@code null} to report every date
+     * @param threads the largest number of reports written at the same time
+     * @return the reports written, in the order of {@code scope}
+     * @throws IOException if a report cannot be written
+     */
+    public List<Result> writeEach(ReportFormat format, List<PetSnapshot> scope, LocalDate from, LocalDate to,
+                                  int threads) throws IOException {
+        return writeEach(format, scope, readArchived(from, to), from, to, threads);
+    }
+
+    /**
+     * Writes a separate report for each of the given pets, several at a time.
+     *
+     * @param format the format of the reports
+     * @param scope the pets to report on
+     * @param archived the archived treatments in the period, from {@link #readArchived}
+     * @param from the first date to report, or {@code null} to report every date
+     * @param to the last date to report, or {@code null} to report every date
+     * @param threads the largest number of reports written at the same time
+     * @return the reports written, in the order of {@code scope}
+     * @throws IOException if a report cannot be written
+     */
+    public List<Result> writeEach(ReportFormat format, List<PetSnapshot> scope, Map<String, List<Treatment>> archived,
+                                  LocalDate from, LocalDate to, int threads) throws IOException {
+        assert threads > 0 : "There must be at least one thread";
+        Files.createDirectories(directory);
+        LocalDate until = lastOccurrenceDate(to);
+        if (scope.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ExecutorService writers = Executors.newFixedThreadPool(Math.min(threads, scope.size()));
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            Set<Path> taken = new HashSet<>();
+            for (PetSnapshot pet : scope) {
+                Path file = uniqueFile(slug(pet.getName()), from, to, format, taken);
+                futures.add(writers.submit(() ->
+                        writeFile(file, format, List.of(pet), pet.getName(), archived, from, to, until)));
+            }
+
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing reports", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            writers.shutdown();
+        }
+    }
+
+    /**
+     * Returns the last date whose occurrences of recurring treatments are reported: the end of
+     * the period, or today if the report covers every date.
+     */
+    private static LocalDate lastOccurrenceDate(LocalDate to) {
+        return to != null ? to : ClockService.getShared().today();
+    }
+
+    /**
+     * Writes the treatments of the pets in the period, merging each pet's archived treatments,
+     * current treatments and occurrences up to {@code until} by date as they are written.
+     */
+    private static Result writeFile(Path file, ReportFormat format, List<PetSnapshot> scope, String title,
+                                    Map<String, List<Treatment>> archived,
+                                    LocalDate from, LocalDate to, LocalDate until) throws IOException {
+        int total = 0;
+        int completed = 0;
+        try (ReportWriter writer = format.open(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.begin(title, from, to);
+            for (PetSnapshot pet : scope) {
+                writer.beginPet(pet);
+                List<Treatment> old = archived.getOrDefault(pet.getName().toLowerCase(), List.of());
+                List<TreatmentSnapshot> current = pet.getTreatments();
+                List<TreatmentSnapshot> occurrences = pet.getOccurrences(from != null ? from : LocalDate.MIN, until);
+                int petTotal = 0;
+                int petCompleted = 0;
+                int i = 0;
+                int j = 0;
+                int k = 0;
+                while (i < old.size() || j < current.size() || k < occurrences.size()) {
+                    TreatmentSnapshot treatment;
+                    if (i < old.size() && !isBefore(current, j, old.get(i).getDate())
+                            && !isBefore(occurrences, k, old.get(i).getDate())) {
+                        treatment = TreatmentSnapshot.of(old.get(i++));
+                    } else if (j < current.size() && !isBefore(occurrences, k, current.get(j).getDate())) {
+                        treatment = current.get(j++);
+                    } else {
+                        treatment = occurrences.get(k++);
+                    }
+                    if (from != null && (treatment.getDate().isBefore(from) || treatment.getDate().isAfter(to))) {
+                        continue;
+                    }
+                    writer.row(pet, treatment, TreatmentStats.typeOf(treatment.getName()));
+                    petTotal++;
+                    petCompleted += treatment.isCompleted() ? 1 : 0;
+                }
+                writer.endPet(pet, petTotal, petCompleted);
+                total += petTotal;
+                completed += petCompleted;
+            }
+            writer.end(total, completed);
+        }
+        LOGGER.log(Level.INFO, "Wrote report " + file + " with " + total + " treatment(s)");
+        return new Result(file, total, completed);
+    }
+
+    /**
+     * Returns true if {@code treatments} has a treatment at {@code index} dated before {@code date}.
+     */
+    private static boolean isBefore(List<TreatmentSnapshot> treatments, int index, LocalDate date) {
+        return index < treatments.size() && treatments.get(index).getDate().isBefore(date);
+    }
+
+    /**
+     * Returns a file for a report that no other report in the same run is written to.
+     */
+    private Path uniqueFile(String slug, LocalDate from, LocalDate to, ReportFormat format, Set<Path> taken) {
+        Path file = directory.resolve(fileName(slug, from, to, format));
+        for (int n = 2; !taken.add(file); n++) {
+            file = directory.resolve(fileName(slug + "-" + n, from, to, format));
+        }
+        return file;
+    }
+
+    /**
+     * Returns the name of a report file, such as {@code report-milo-2025-01-01-to-2025-03-31.md}.
+     *
+     * @param slug the pet part of the name, or {@code null} for a report of all pets
+     */
+    static String fileName(String slug, LocalDate from, LocalDate to, ReportFormat format) {
+        StringBuilder name = new StringBuilder("report");
+        if (slug != null) {
+            name.append('-').append(slug);
+        }
+        if (from != null) {
+            name.append('-').append(from).append("-to-").append(to);
+        }
+        return name.append('.').append(format.getExtension()).toString();
+    }
+
+    /**
+     * Returns a pet name in lowercase, with every run of characters other than letters and digits
+     * replaced by a single {@code -}, so that it can be used in a file name.
+     */
+    static String slug(String name) {
+        StringBuilder slug = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                slug.append(c);
+            } else if (slug.length() > 0 && slug.charAt(slug.length() - 1) != '-') {
+                slug.append('-');
+            }
+        }
+        while (slug.length() > 0 && slug.charAt(slug.length() - 1) == '-') {
+            slug.setLength(slug.length() - 1);
+        }
+        return slug.length() == 0 ? "pet" : slug.toString();
+    }
+
+    /**
+     * Describes a number of treatments, such as {@code 2 treatments, 1 completed}.
+     */
+    static String describe(int total, int completed) {
+        return total + " treatment" + (total == 1 ? "" : "s") + ", " + completed + " completed";
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.cuddlecare.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.snapshot.TreatmentSnapshot;
+
+/**
+ * Writes a care report one piece at a time, in the order the pieces are given.
+ * <p>
+ * A report is written as {@link #begin}, then for each pet {@link #beginPet},
+ * one {@link #row} per treatment and {@link #endPet}, and finally {@link #end}.
+ * Nothing is kept in memory between calls, so a report can be any size.
+ */
+public interface ReportWriter extends Closeable {
+
+    /**
+     * Starts the report.
+     *
+     * @param title what the report covers
+     * @param from the first date covered, or {@code null} if the report covers every date
+     * @param to the last date covered, or {@code null} if the report covers every date
+     * @throws IOException if the report cannot be written
+     */
+    void begin(String title, LocalDate from, LocalDate to) throws IOException;
+
+    /**
+     * Starts the section of a pet.
+     *
+     * @param pet the pet whose treatments follow
+     * @throws IOException if the report cannot be written
+     */
+    void beginPet(PetSnapshot pet) throws IOException;
+
+    /**
+     * Writes one treatment of the current pet.
+     *
+     * @param pet the pet the treatment belongs to
+     * @param treatment the treatment
+     * @param type the type of the treatment, the lowercase first word of its name
+     * @throws IOException if the report cannot be written
+     */
+    void row(PetSnapshot pet, TreatmentSnapshot treatment, String type) throws IOException;
+
+    /**
+     * Ends the section of a pet.
+     *
+     * @param pet the pet whose treatments were written
+     * @param total the number of treatments written for the pet
+     * @param completed how many of them are completed
+     * @throws IOException if the report cannot be written
+     */
+    void endPet(PetSnapshot pet, int total, int completed) throws IOException;
+
+    /**
+     * Ends the report.
+     *
+     * @param total the number of treatments in the report
+     * @param completed how many of them are completed
+     * @throws IOException if the report cannot be written
+     */
+    void end(int total, int completed) throws IOException;
+}
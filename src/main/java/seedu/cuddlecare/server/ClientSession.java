@@ -0,0 +1,83 @@
+package seedu.cuddlecare.server;
+
+import seedu.cuddlecare.parser.ParsedInput;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves one client connection of a {@link CuddleCareServer}.
+ * <p>
+ * Reads one command per line from the socket, has the server run it and
+ * writes the output back followed by an end-of-response marker.
+ */
+class ClientSession implements Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(ClientSession.class.getName());
+
+    private final Socket socket;
+
+    private final CuddleCareServer server;
+
+    /** Collects the output of the command currently being run. */
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    /** Parse result reused for every line of this session. */
+    private final ParsedInput parsed = new ParsedInput();
+
+    ClientSession(Socket socket, CuddleCareServer server) {
+        this.socket = socket;
+        this.server = server;
+    }
+
+    @Override
+    public void run() {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), SessionProtocol.CHARSET));
+             PrintStream out = new PrintStream(socket.getOutputStream(), false, SessionProtocol.CHARSET)) {
+
+            out.println("Hello! Welcome to CuddleCare.");
+            endResponse(out, SessionProtocol.END_OF_RESPONSE);
+
+            PrintStream commandOut = new PrintStream(buffer, true, SessionProtocol.CHARSET);
+            String line;
+            while ((line = in.readLine()) != null) {
+                buffer.reset();
+                boolean isOpen = server.execute(line, parsed, commandOut);
+                writeOutput(out);
+                if (!isOpen) {
+                    endResponse(out, SessionProtocol.END_OF_SESSION);
+                    break;
+                }
+                endResponse(out, SessionProtocol.END_OF_RESPONSE);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Session ended abnormally", e);
+        }
+        LOGGER.log(Level.INFO, "Session closed");
+    }
+
+    /**
+     * Copies the buffered command output to the client, making sure it ends
+     * with a line break so the marker that follows sits on its own line.
+     */
+    private void writeOutput(PrintStream out) {
+        String output = buffer.toString(SessionProtocol.CHARSET);
+        out.print(output);
+        if (!output.isEmpty() && !output.endsWith("\n")) {
+            out.println();
+        }
+    }
+
+    private void endResponse(PrintStream out, String marker) {
+        out.println(marker);
+        out.flush();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.cuddlecare.server;
+
+import seedu.cuddlecare.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A thin terminal client for {@link CuddleCareServer}.
+ * <p>
+ * Forwards every line typed by the user to the server and prints the
+ * response, so the terminal behaves like a local CuddleCare session.
+ */
+public class CuddleCareClient {
+
+    private static final Logger LOGGER = Logger.getLogger(CuddleCareClient.class.getName());
+
+    private final int port;
+
+    /**
+     * Creates a client for a server listening on the given loopback port.
+     *
+     * @param port the server port
+     */
+    public CuddleCareClient(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Connects to the server and relays input until the user exits
+     * or the server closes the session.
+     */
+    public void run() {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader server = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), SessionProtocol.CHARSET));
+             PrintStream toServer = new PrintStream(socket.getOutputStream(), true, SessionProtocol.CHARSET);
+             BufferedReader user = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+
+            if (!relayResponse(server)) {
+                return;
+            }
+
+            Ui.printInputPrompt();
+            String line;
+            while ((line = user.readLine()) != null) {
+                toServer.println(line);
+                if (!relayResponse(server)) {
+                    return;
+                }
+                Ui.printInputPrompt();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Could not talk to server on port " + port, e);
+            System.out.println("Could not connect to the CuddleCare server on port " + port + ".");
+        }
+    }
+
+    /**
+     * Prints one response from the server.
+     *
+     * @return {@code false} if the server ended the session
+     */
+    private boolean relayResponse(BufferedReader server) throws IOException {
+        String line;
+        while ((line = server.readLine()) != null) {
+            if (line.equals(SessionProtocol.END_OF_RESPONSE)) {
+                return true;
+            }
+            if (line.equals(SessionProtocol.END_OF_SESSION)) {
+                return false;
+            }
+            System.out.println(line);
+        }
+        return false;
+    }
+}
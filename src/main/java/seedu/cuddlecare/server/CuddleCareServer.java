@@ -0,0 +1,176 @@
+package seedu.cuddlecare.server;
+
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.command.impl.ByeCommand;
+import seedu.cuddlecare.lifecycle.LifecycleManager;
+import seedu.cuddlecare.parser.ParsedInput;
+import seedu.cuddlecare.parser.Parser;
+import seedu.cuddlecare.ui.Ui;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves several CuddleCare sessions that share one in-memory {@code PetList}.
+ * <p>
+ * The server listens on the loopback interface only. Each connected client is
+ * served by its own {@link ClientSession} thread with its own output sink, while
+ * every command is handed to a single writer thread, which runs it through
+ * {@link LifecycleManager#prepare}. Commands are therefore journaled and saved the
+ * same way as in a single terminal, and never change the pets at the same time as
+ * each other or as a save. What a command does with a snapshot, such as writing a
+ * report, runs back on the session thread so the writer can move on.
+ * <p>
+ * All sessions share the manager's history, so {@code undo} reverses the latest change
+ * made by any client.
+ */
+public class CuddleCareServer {
+
+    private static final Logger LOGGER = Logger.getLogger(CuddleCareServer.class.getName());
+
+    /** Port requested by the caller; {@code 0} picks any free port. */
+    private final int port;
+
+    /** Parser shared by all sessions. */
+    private final Parser parser;
+
+    /** Runs commands, records their changes and saves the shared data. */
+    private final LifecycleManager lifecycle;
+
+    /** Runs one thread per connected session. */
+    private final ExecutorService sessions = Executors.newCachedThreadPool();
+
+    /** Runs every command, one at a time. */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+    private ServerSocket serverSocket;
+
+    /**
+     * Creates a server that dispatches commands through the given parser and runs them
+     * through {@code lifecycle}.
+     *
+     * @param port the loopback port to listen on, or {@code 0} for any free port
+     * @param parser parser with the command map already registered
+     * @param lifecycle the lifecycle manager of the shared pet list
+     */
+    public CuddleCareServer(int port, Parser parser, LifecycleManager lifecycle) {
+        assert parser != null : "Parser cannot be null";
+        assert lifecycle != null : "Lifecycle manager cannot be null";
+        this.port = port;
+        this.parser = parser;
+        this.lifecycle = lifecycle;
+    }
+
+    /**
+     * Binds the server socket on the loopback interface.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public void bind() throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        LOGGER.log(Level.INFO, "Server listening on port " + getPort());
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int getPort() {
+        return serverSocket == null ? port : serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts client connections until {@link #stop()} is called or the server socket fails.
+     * Binds the socket first if {@link #bind()} has not been called yet.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public void serve() throws IOException {
+        if (serverSocket == null) {
+            bind();
+        }
+
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                LOGGER.log(Level.INFO, "Accepted session from " + socket.getRemoteSocketAddress());
+                sessions.submit(new ClientSession(socket, this));
+            } catch (SocketException e) {
+                if (serverSocket.isClosed()) {
+                    LOGGER.log(Level.INFO, "Server socket closed");
+                } else {
+                    LOGGER.log(Level.SEVERE, "Server socket failed, no longer accepting sessions", e);
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Stops accepting sessions and shuts down the worker threads.
+     */
+    public void stop() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close server socket", e);
+        }
+        sessions.shutdownNow();
+        writer.shutdown();
+    }
+
+    /**
+     * Runs one line of user input and waits for it to finish.
+     * <p>
+     * The input is parsed on the calling session thread, then the command runs on the
+     * writer thread through {@link LifecycleManager#prepare}, and whatever it returns runs
+     * back on the session thread. Everything printed on the way is written to {@code out}.
+     *
+     * @param input the raw line typed by the client
+     * @param parsed the session's reusable parse result
+     * @param out where the command output should go
+     * @return {@code false} if the input ends the session, {@code true} otherwise
+     */
+    boolean execute(String input, ParsedInput parsed, PrintStream out) {
+        if (!Ui.withOutput(out, () -> parser.parse(input, parsed))) {
+            return true;
+        }
+        Command command = parsed.getCommand();
+        String args = parsed.toString();
+        if (command instanceof ByeCommand) {
+            Ui.withOutput(out, Ui::printByeMessage);
+            return false;
+        }
+
+        Future<Runnable> result = writer.submit(() -> Ui.withOutput(out, () -> lifecycle.prepare(command, args)));
+        Runnable rest;
+        try {
+            rest = result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Command failed on writer thread", e.getCause());
+            out.println("An error occurred.");
+            return true;
+        }
+        try {
+            Ui.withOutput(out, rest);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Command failed on session thread", e);
+            out.println("An error occurred.");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.cuddlecare.server;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants shared by {@link CuddleCareServer} and {@link CuddleCareClient}.
+ * <p>
+ * The protocol is line based: the client sends one command per line and the
+ * server answers with the command's output followed by a line containing only
+ * {@link #END_OF_RESPONSE}, or by {@link #END_OF_SESSION} when the server
+ * is about to close the connection.
+ */
+public final class SessionProtocol {
+
+    /** Default loopback port used when none is given on the command line. */
+    public static final int DEFAULT_PORT = 5151;
+
+    /** Marker line that terminates every response sent by the server. */
+    public static final String END_OF_RESPONSE = "\u0004";
+
+    /** Marker line that terminates the last response before the server closes the session. */
+    public static final String END_OF_SESSION = "\u0017";
+
+    /** Character set used on the wire. */
+    public static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    private SessionProtocol() {
+
+    }
+}
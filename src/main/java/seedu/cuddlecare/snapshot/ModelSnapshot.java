@@ -0,0 +1,73 @@
+package seedu.cuddlecare.snapshot;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * An unchangeable version of all pets and their treatments.
+ * <p>
+ * Versions are published by a {@link SnapshotPublisher} after each command, so a
+ * version never shows a command's changes half-applied. A version can be read on
+ * any thread, without locks, for as long as it is needed, while commands carry on
+ * changing the pets and newer versions are published.
+ * <p>
+ * Consecutive versions share the snapshots of every pet that did not change between
+ * them, so publishing a version only copies the pets that changed.
+ */
+public final class ModelSnapshot {
+
+    /** The version before anything was published. */
+    static final ModelSnapshot EMPTY = new ModelSnapshot(0, PersistentLongMap.empty());
+
+    private final long version;
+
+    /** Snapshots of the pets by pet id. */
+    private final PersistentLongMap<PetSnapshot> pets;
+
+    ModelSnapshot(long version, PersistentLongMap<PetSnapshot> pets) {
+        this.version = version;
+        this.pets = pets;
+    }
+
+    /**
+     * Returns the number of this version. Later versions have larger numbers.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of pets.
+     */
+    public int size() {
+        return pets.size();
+    }
+
+    /**
+     * Returns the pet with the given id, or {@code null} if there is none.
+     */
+    public PetSnapshot getPet(long id) {
+        return pets.get(id);
+    }
+
+    /**
+     * Returns the pets in the order of their ids, which is the order they were first added in.
+     */
+    public List<PetSnapshot> getPets() {
+        return pets.values();
+    }
+
+    /**
+     * Returns a stream of the pets in the order of their ids.
+     */
+    public Stream<PetSnapshot> stream() {
+        return getPets().stream();
+    }
+
+    /**
+     * Returns the internal map of pets, so that the next version can share it.
+     */
+    PersistentLongMap<PetSnapshot> getPetMap() {
+        return pets;
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.cuddlecare.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable map from non-negative {@code long} keys to values, stored in a trie
+ * with 32 children per node.
+ * <p>
+ * {@link #put} and {@link #remove} return a new map that copies only the nodes on
+ * the path to the key, about {@code log32(key)} small arrays, and shares every other
+ * node with the map it was made from. Old maps stay valid and unchanged, so they can
+ * be read on any thread while newer ones are made. Values are visited in key order.
+ *
+ * @param <V> the type of the values
+ */
+final class PersistentLongMap<V> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(null, 0, 0);
+
+    /** Top node, or {@code null} if the map is empty. */
+    private final Object[] root;
+
+    /** Bit position of the key bits that pick a child of the root; leaves are at 0. */
+    private final int shift;
+
+    private final int size;
+
+    private PersistentLongMap(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value stored under {@code key}, or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        if (key < 0 || !fits(key, shift)) {
+            return null;
+        }
+        Object[] node = root;
+        for (int level = shift; node != null && level > 0; level -= BITS) {
+            node = (Object[]) node[slot(key, level)];
+        }
+        return node == null ? null : (V) node[slot(key, 0)];
+    }
+
+    /**
+     * Returns a map with {@code value} stored under {@code key}, replacing any value stored under it.
+     *
+     * @param key a non-negative key
+     * @param value the value, not {@code null}
+     */
+    PersistentLongMap<V> put(long key, V value) {
+        assert key >= 0 : "Keys cannot be negative";
+        assert value != null : "Values cannot be null";
+        Object[] top = root;
+        int topShift = shift;
+        while (!fits(key, topShift)) {
+            Object[] grown = new Object[WIDTH];
+            grown[0] = top;
+            top = top == null ? null : grown;
+            topShift += BITS;
+        }
+        int newSize = get(key) == null ? size + 1 : size;
+        return new PersistentLongMap<>(set(top, topShift, key, value), topShift, newSize);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not hold the key.
+     */
+    PersistentLongMap<V> remove(long key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Object[] top = set(root, shift, key, null);
+        return top == null ? empty() : new PersistentLongMap<>(top, shift, size - 1);
+    }
+
+    /**
+     * Returns the values in key order.
+     */
+    List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        collect(root, shift, values);
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void collect(Object[] node, int level, List<V> values) {
+        if (node == null) {
+            return;
+        }
+        for (Object child : node) {
+            if (child == null) {
+                continue;
+            }
+            if (level == 0) {
+                values.add((V) child);
+            } else {
+                collect((Object[]) child, level - BITS, values);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code node} with {@code value} under {@code key}, copying the nodes
+     * below it on the way. Nodes left without children are dropped.
+     */
+    private static Object[] set(Object[] node, int level, long key, Object value) {
+        if (node == null && value == null) {
+            return null;
+        }
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int slot = slot(key, level);
+        copy[slot] = level == 0 ? value : set((Object[]) copy[slot], level - BITS, key, value);
+        if (copy[slot] == null) {
+            for (Object child : copy) {
+                if (child != null) {
+                    return copy;
+                }
+            }
+            return null;
+        }
+        return copy;
+    }
+
+    private static int slot(long key, int level) {
+        return (int) ((key >>> level) & MASK);
+    }
+
+    /**
+     * Returns true if a trie whose root picks children by the bits at {@code level} can hold {@code key}.
+     */
+    private static boolean fits(long key, int level) {
+        return level + BITS >= Long.SIZE || (key >>> (level + BITS)) == 0;
+    }
+}
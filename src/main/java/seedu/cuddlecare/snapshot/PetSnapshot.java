@@ -0,0 +1,134 @@
+package seedu.cuddlecare.snapshot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.cuddlecare.LongMap;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+
+/**
+ * An unchangeable copy of a {@link Pet}, its treatments and its recurring treatments
+ * as they were when a {@link ModelSnapshot} was published.
+ * <p>
+ * A new snapshot of a pet reuses the {@link TreatmentSnapshot}s of its previous
+ * snapshot for treatments that have not changed, so marking one treatment of a pet
+ * creates one new treatment snapshot, not one per treatment.
+ */
+public final class PetSnapshot {
+
+    private final long id;
+    private final String name;
+    private final String species;
+    private final int age;
+    private final List<TreatmentSnapshot> treatments;
+    private final List<ScheduleSnapshot> schedules;
+    private final boolean hasLoadedTreatments;
+
+    private PetSnapshot(Pet pet, List<TreatmentSnapshot> treatments, boolean hasLoadedTreatments) {
+        this.id = pet.getId();
+        this.name = pet.getName();
+        this.species = pet.getSpecies();
+        this.age = pet.getAge();
+        this.treatments = treatments;
+        this.hasLoadedTreatments = hasLoadedTreatments;
+        List<ScheduleSnapshot> copies = new ArrayList<>();
+        for (TreatmentSchedule schedule : pet.getSchedules()) {
+            copies.add(ScheduleSnapshot.of(schedule));
+        }
+        this.schedules = Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Returns a snapshot of the pet as it is now. Treatments that have not been read
+     * from the save file yet are left out rather than read.
+     *
+     * @param pet the pet
+     * @param previous the previous snapshot of the pet, whose unchanged treatment
+     *     snapshots are reused, or {@code null} if there is none
+     */
+    public static PetSnapshot of(Pet pet, PetSnapshot previous) {
+        if (!pet.hasLoadedTreatments()) {
+            return new PetSnapshot(pet, List.of(), false);
+        }
+        LongMap<TreatmentSnapshot> reusable = new LongMap<>();
+        if (previous != null) {
+            for (TreatmentSnapshot treatment : previous.treatments) {
+                if (treatment.getId() > 0) {
+                    reusable.put(treatment.getId(), treatment);
+                }
+            }
+        }
+        List<Treatment> current = pet.getTreatments();
+        List<TreatmentSnapshot> treatments = new ArrayList<>(current.size());
+        for (Treatment treatment : current) {
+            TreatmentSnapshot old = treatment.getId() > 0 ? reusable.get(treatment.getId()) : null;
+            treatments.add(old != null && old.matches(treatment) ? old : TreatmentSnapshot.of(treatment));
+        }
+        return new PetSnapshot(pet, Collections.unmodifiableList(treatments), true);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    /**
+     * Returns the pet's treatments in date order. The list cannot be changed.
+     */
+    public List<TreatmentSnapshot> getTreatments() {
+        return treatments;
+    }
+
+    /**
+     * Returns the pet's recurring treatments in the order they were added. The list cannot be changed.
+     */
+    public List<ScheduleSnapshot> getSchedules() {
+        return schedules;
+    }
+
+    /**
+     * Returns the occurrences of the pet's recurring treatments dated within the given range,
+     * in date order.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return the occurrences
+     */
+    public List<TreatmentSnapshot> getOccurrences(LocalDate fromDate, LocalDate toDate) {
+        List<TreatmentSnapshot> occurrences = new ArrayList<>();
+        for (ScheduleSnapshot schedule : schedules) {
+            occurrences.addAll(schedule.occurrencesBetween(fromDate, toDate));
+        }
+        occurrences.sort(Comparator.comparing(TreatmentSnapshot::getDate));
+        return occurrences;
+    }
+
+    /**
+     * Returns true if the pet's treatments had been read from the save file when
+     * this snapshot was taken. If not, {@link #getTreatments()} is empty.
+     */
+    public boolean hasLoadedTreatments() {
+        return hasLoadedTreatments;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (Species: " + species + ", Age: " + age + " years old)";
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.cuddlecare.snapshot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+
+/**
+ * An unchangeable copy of a {@link TreatmentSchedule} and its completed occurrences as they
+ * were when a {@link ModelSnapshot} was published.
+ */
+public final class ScheduleSnapshot {
+
+    /** A copy of the schedule that belongs to no pet and is never changed. */
+    private final TreatmentSchedule schedule;
+
+    private ScheduleSnapshot(TreatmentSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    /**
+     * Returns a snapshot of the schedule as it is now.
+     */
+    public static ScheduleSnapshot of(TreatmentSchedule schedule) {
+        return new ScheduleSnapshot(schedule.copy());
+    }
+
+    public String getName() {
+        return schedule.getName();
+    }
+
+    public String getNote() {
+        return schedule.getNote();
+    }
+
+    public LocalDate getStart() {
+        return schedule.getStart();
+    }
+
+    /**
+     * Returns the last date an occurrence can be on, or {@code null} if the schedule never ends.
+     */
+    public LocalDate getEnd() {
+        return schedule.getEnd();
+    }
+
+    /**
+     * Returns the dates of the completed occurrences, earliest first.
+     */
+    public NavigableSet<LocalDate> getCompletedDates() {
+        return schedule.getCompletedDates();
+    }
+
+    /**
+     * Returns the occurrences dated within the given range, earliest first.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return the occurrences
+     */
+    public List<TreatmentSnapshot> occurrencesBetween(LocalDate fromDate, LocalDate toDate) {
+        List<Treatment> occurrences = schedule.occurrencesBetween(fromDate, toDate);
+        List<TreatmentSnapshot> snapshots = new ArrayList<>(occurrences.size());
+        for (Treatment occurrence : occurrences) {
+            snapshots.add(TreatmentSnapshot.of(occurrence));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Describes how often the schedule recurs, such as {@code every 3 months from 2025-01-31}.
+     */
+    public String describeRule() {
+        return schedule.describeRule();
+    }
+
+    @Override
+    public String toString() {
+        return schedule.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.cuddlecare.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetListListener;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+
+/**
+ * Keeps the latest published {@link ModelSnapshot} of a {@code PetList}.
+ * <p>
+ * As a listener of the list, it notes which pets are changed while a command runs.
+ * {@link #publish()}, called once the command has finished, makes a new version that
+ * holds new snapshots of just those pets and shares everything else with the previous
+ * version. {@link #current()} only reads a field, so a reader gets a consistent
+ * version in constant time, however many pets there are.
+ */
+public class SnapshotPublisher implements PetListListener {
+
+    private static final Logger LOGGER = Logger.getLogger(SnapshotPublisher.class.getName());
+
+    /** The latest published version. */
+    private volatile ModelSnapshot current = ModelSnapshot.EMPTY;
+
+    /** Pets added or changed since the latest version. */
+    private final Set<Pet> changedPets = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Ids of the pets removed since the latest version. */
+    private final List<Long> removedIds = new ArrayList<>();
+
+    /**
+     * Returns the latest published version.
+     */
+    public ModelSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Publishes a version with the changes made since the latest one, if there are any.
+     *
+     * @return the latest version, which is the new one if there were changes
+     */
+    public synchronized ModelSnapshot publish() {
+        if (changedPets.isEmpty() && removedIds.isEmpty()) {
+            return current;
+        }
+        ModelSnapshot previous = current;
+        PersistentLongMap<PetSnapshot> pets = previous.getPetMap();
+        for (long id : removedIds) {
+            pets = pets.remove(id);
+        }
+        for (Pet pet : changedPets) {
+            pets = pets.put(pet.getId(), PetSnapshot.of(pet, pets.get(pet.getId())));
+        }
+        LOGGER.log(Level.FINE, "Published version {0} with {1} changed and {2} removed pet(s)",
+                new Object[]{previous.getVersion() + 1, changedPets.size(), removedIds.size()});
+        changedPets.clear();
+        removedIds.clear();
+        current = new ModelSnapshot(previous.getVersion() + 1, pets);
+        return current;
+    }
+
+    @Override
+    public synchronized void petAdded(Pet pet) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void petRemoved(Pet pet) {
+        changedPets.remove(pet);
+        removedIds.add(pet.getId());
+    }
+
+    @Override
+    public synchronized void petRenamed(Pet pet, String oldName) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void petSpeciesChanged(Pet pet, String oldSpecies) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void petAgeChanged(Pet pet, int oldAge) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void treatmentAdded(Pet pet, Treatment treatment) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void treatmentRemoved(Pet pet, Treatment treatment) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void treatmentCompletionChanged(Pet pet, Treatment treatment) {
+        changedPets.add(pet);
+    }
+
+    @Override
+    public synchronized void scheduleChanged(Pet pet, TreatmentSchedule schedule) {
+        changedPets.add(pet);
+    }
+}
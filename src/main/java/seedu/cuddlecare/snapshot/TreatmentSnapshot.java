@@ -0,0 +1,78 @@
+package seedu.cuddlecare.snapshot;
+
+import java.time.LocalDate;
+
+import seedu.cuddlecare.Treatment;
+
+/**
+ * An unchangeable copy of a {@link Treatment} as it was when a {@link ModelSnapshot} was published.
+ */
+public final class TreatmentSnapshot {
+
+    private final long id;
+    private final String name;
+    private final String note;
+    private final LocalDate date;
+    private final boolean isCompleted;
+
+    /**
+     * Creates a snapshot of a treatment with the given details.
+     *
+     * @param id the id of the treatment
+     * @param name the name of the treatment
+     * @param note the note of the treatment, may be {@code null}
+     * @param date the date of the treatment
+     * @param isCompleted whether the treatment is completed
+     */
+    public TreatmentSnapshot(long id, String name, String note, LocalDate date, boolean isCompleted) {
+        assert name != null && date != null : "Name and date cannot be null";
+        this.id = id;
+        this.name = name;
+        this.note = note;
+        this.date = date;
+        this.isCompleted = isCompleted;
+    }
+
+    /**
+     * Returns a snapshot of the treatment as it is now.
+     */
+    public static TreatmentSnapshot of(Treatment treatment) {
+        return new TreatmentSnapshot(treatment.getId(), treatment.getName(), treatment.getNote(),
+                treatment.getDate(), treatment.isCompleted());
+    }
+
+    /**
+     * Returns true if this snapshot still shows {@code treatment} as it is now. Only
+     * completion can change, since the other details of a treatment are fixed.
+     */
+    boolean matches(Treatment treatment) {
+        return id == treatment.getId() && isCompleted == treatment.isCompleted();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+
+    @Override
+    public String toString() {
+        String status = isCompleted ? "[X] " : "[ ] ";
+        String noteFormat = note == null || note.isEmpty() ? "" : "\n      Note: " + note;
+        return status + name + " on " + date + noteFormat;
+    }
+}
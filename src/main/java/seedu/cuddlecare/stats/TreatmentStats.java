@@ -0,0 +1,338 @@
+package seedu.cuddlecare.stats;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.PetListListener;
+import seedu.cuddlecare.Treatment;
+
+/**
+ * Counts of the treatments of a {@link PetList}: overall, per pet, per treatment
+ * type, per species and per month.
+ * <p>
+ * The counts are updated as pets and treatments are added, removed, marked,
+ * unmarked and edited, each in constant time, so reading them does not depend
+ * on how many treatments there are. {@link #verify()} recounts everything to
+ * check that the counts have not drifted.
+ * <p>
+ * Treatments of pets whose treatments have not been loaded yet are counted
+ * once they are loaded. Archived treatments are not counted.
+ */
+public class TreatmentStats implements PetListListener {
+
+    /** Type of treatments whose name is blank. */
+    public static final String UNKNOWN_TYPE = "unknown";
+
+    /**
+     * The number of treatments in a group and how many of them are completed.
+     */
+    public static final class Counts {
+        private int total;
+        private int completed;
+
+        private Counts() {
+        }
+
+        private Counts(Counts other) {
+            this.total = other.total;
+            this.completed = other.completed;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Returns the percentage of the treatments that are completed, or 0 if there are none.
+         */
+        public double getCompletionPercentage() {
+            return total == 0 ? 0 : completed * 100.0 / total;
+        }
+
+        private boolean isEmpty() {
+            return total == 0 && completed == 0;
+        }
+
+        private boolean sameAs(Counts other) {
+            return other != null && total == other.total && completed == other.completed;
+        }
+
+        @Override
+        public String toString() {
+            return total + " treatments, " + completed + " completed";
+        }
+    }
+
+    /**
+     * Every counter, kept together so that it can be recounted and compared as a whole.
+     */
+    private static final class Tally {
+        private int petCount;
+        private final Counts overall = new Counts();
+        private final Map<Pet, Counts> byPet = new HashMap<>();
+        private final Map<String, Counts> byType = new HashMap<>();
+        private final Map<String, Counts> bySpecies = new HashMap<>();
+        private final Map<YearMonth, Counts> byMonth = new HashMap<>();
+
+        /**
+         * Counts a pet and its loaded treatments in or out of the tally.
+         */
+        private void countPet(Pet pet, int sign) {
+            petCount += sign;
+            if (sign > 0) {
+                byPet.putIfAbsent(pet, new Counts());
+            }
+            if (pet.hasLoadedTreatments()) {
+                for (Treatment treatment : pet.getTreatments()) {
+                    countTreatment(pet, treatment, sign);
+                }
+            }
+            if (sign < 0) {
+                byPet.remove(pet);
+            }
+        }
+
+        /**
+         * Counts a treatment in or out of every group it belongs to.
+         */
+        private void countTreatment(Pet pet, Treatment treatment, int sign) {
+            int completed = treatment.isCompleted() ? sign : 0;
+            add(overall, sign, completed);
+            add(byPet.computeIfAbsent(pet, key -> new Counts()), sign, completed);
+            addTo(byType, typeOf(treatment), sign, completed);
+            addTo(bySpecies, pet.getSpecies(), sign, completed);
+            addTo(byMonth, YearMonth.from(treatment.getDate()), sign, completed);
+        }
+
+        /**
+         * Moves a treatment between the completed and pending counts of every group it belongs to.
+         */
+        private void countCompletion(Pet pet, Treatment treatment) {
+            int completed = treatment.isCompleted() ? 1 : -1;
+            add(overall, 0, completed);
+            add(byPet.computeIfAbsent(pet, key -> new Counts()), 0, completed);
+            addTo(byType, typeOf(treatment), 0, completed);
+            addTo(bySpecies, pet.getSpecies(), 0, completed);
+            addTo(byMonth, YearMonth.from(treatment.getDate()), 0, completed);
+        }
+
+        /**
+         * Moves the counts of a pet's treatments from its old species to its current one.
+         */
+        private void moveSpecies(Pet pet, String oldSpecies) {
+            Counts counts = byPet.get(pet);
+            if (counts == null || counts.isEmpty()) {
+                return;
+            }
+            addTo(bySpecies, oldSpecies, -counts.total, -counts.completed);
+            addTo(bySpecies, pet.getSpecies(), counts.total, counts.completed);
+        }
+
+        private static <K> void addTo(Map<K, Counts> groups, K key, int total, int completed) {
+            Counts counts = groups.computeIfAbsent(key, k -> new Counts());
+            add(counts, total, completed);
+            if (counts.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+
+        private static void add(Counts counts, int total, int completed) {
+            counts.total += total;
+            counts.completed += completed;
+        }
+
+        /**
+         * Describes every counter that differs from {@code expected}.
+         */
+        private List<String> differencesFrom(Tally expected) {
+            List<String> differences = new ArrayList<>();
+            if (petCount != expected.petCount) {
+                differences.add("pets: counted " + petCount + ", recounted " + expected.petCount);
+            }
+            if (!overall.sameAs(expected.overall)) {
+                differences.add("all treatments: counted " + overall + ", recounted " + expected.overall);
+            }
+            Map<String, Counts> countedByPet = new HashMap<>();
+            Map<String, Counts> recountedByPet = new HashMap<>();
+            byPet.forEach((pet, counts) -> countedByPet.put(pet.getName(), counts));
+            expected.byPet.forEach((pet, counts) -> recountedByPet.put(pet.getName(), counts));
+            compare("pet", countedByPet, recountedByPet, differences);
+            compare("type", byType, expected.byType, differences);
+            compare("species", bySpecies, expected.bySpecies, differences);
+            compare("month", byMonth, expected.byMonth, differences);
+            return differences;
+        }
+
+        private static <K> void compare(String group, Map<K, Counts> counted, Map<K, Counts> recounted,
+                                        List<String> differences) {
+            Map<String, K> keys = new TreeMap<>();
+            counted.keySet().forEach(key -> keys.put(key.toString(), key));
+            recounted.keySet().forEach(key -> keys.put(key.toString(), key));
+            for (K key : keys.values()) {
+                Counts mine = counted.getOrDefault(key, new Counts());
+                Counts theirs = recounted.getOrDefault(key, new Counts());
+                if (!mine.sameAs(theirs)) {
+                    differences.add(group + " " + key + ": counted " + mine + ", recounted " + theirs);
+                }
+            }
+        }
+    }
+
+    private final PetList pets;
+
+    private Tally tally;
+
+    /**
+     * Counts the treatments of the pets and starts following their changes.
+     *
+     * @param pets the pets whose treatments are counted
+     */
+    public TreatmentStats(PetList pets) {
+        assert pets != null : "Pets cannot be null";
+        this.pets = pets;
+        synchronized (this) {
+            tally = recount();
+        }
+        pets.addListener(this);
+    }
+
+    /**
+     * Returns the lowercase first word of a treatment's name, or {@link #UNKNOWN_TYPE} if the name is blank.
+     */
+    public static String typeOf(Treatment treatment) {
+        return typeOf(treatment.getName());
+    }
+
+    /**
+     * Returns the lowercase first word of a treatment name, or {@link #UNKNOWN_TYPE} if the name is blank.
+     */
+    public static String typeOf(String name) {
+        if (name == null || name.isBlank()) {
+            return UNKNOWN_TYPE;
+        }
+        String trimmed = name.trim();
+        int space = 0;
+        while (space < trimmed.length() && !Character.isWhitespace(trimmed.charAt(space))) {
+            space++;
+        }
+        return trimmed.substring(0, space).toLowerCase();
+    }
+
+    /**
+     * Reads the treatments of pets whose treatments were deferred, so that they are counted.
+     */
+    public void loadAll() {
+        pets.loadAllTreatments();
+    }
+
+    /**
+     * Returns the number of pets.
+     */
+    public synchronized int getPetCount() {
+        return tally.petCount;
+    }
+
+    /**
+     * Returns the counts of all treatments.
+     */
+    public synchronized Counts getOverall() {
+        return new Counts(tally.overall);
+    }
+
+    /**
+     * Returns the counts of a pet's treatments.
+     */
+    public synchronized Counts getForPet(Pet pet) {
+        Counts counts = tally.byPet.get(pet);
+        return counts == null ? new Counts() : new Counts(counts);
+    }
+
+    /**
+     * Returns the counts per treatment type, the lowercase first word of the treatment name,
+     * in alphabetical order of type.
+     */
+    public synchronized Map<String, Counts> getByType() {
+        return copy(tally.byType);
+    }
+
+    /**
+     * Returns the counts per pet species, in alphabetical order of species.
+     */
+    public synchronized Map<String, Counts> getBySpecies() {
+        return copy(tally.bySpecies);
+    }
+
+    /**
+     * Returns the counts per month of the treatment dates, earliest month first.
+     */
+    public synchronized Map<YearMonth, Counts> getByMonth() {
+        return copy(tally.byMonth);
+    }
+
+    /**
+     * Recounts every treatment from scratch and compares the result with the kept counts.
+     * Any counts that differ are replaced by the recounted ones.
+     *
+     * @return a description of each count that differed, empty if they all matched
+     */
+    public synchronized List<String> verify() {
+        Tally recounted = recount();
+        List<String> differences = tally.differencesFrom(recounted);
+        tally = recounted;
+        return differences;
+    }
+
+    private Tally recount() {
+        Tally fresh = new Tally();
+        for (int i = 0; i < pets.size(); i++) {
+            fresh.countPet(pets.get(i), 1);
+        }
+        return fresh;
+    }
+
+    private static <K> Map<K, Counts> copy(Map<K, Counts> groups) {
+        Map<K, Counts> copy = new TreeMap<>();
+        groups.forEach((key, counts) -> copy.put(key, new Counts(counts)));
+        return copy;
+    }
+
+    @Override
+    public synchronized void petAdded(Pet pet) {
+        tally.countPet(pet, 1);
+    }
+
+    @Override
+    public synchronized void petRemoved(Pet pet) {
+        tally.countPet(pet, -1);
+    }
+
+    @Override
+    public synchronized void petSpeciesChanged(Pet pet, String oldSpecies) {
+        tally.moveSpecies(pet, oldSpecies);
+    }
+
+    @Override
+    public synchronized void treatmentAdded(Pet pet, Treatment treatment) {
+        tally.countTreatment(pet, treatment, 1);
+    }
+
+    @Override
+    public synchronized void treatmentRemoved(Pet pet, Treatment treatment) {
+        tally.countTreatment(pet, treatment, -1);
+    }
+
+    @Override
+    public synchronized void treatmentCompletionChanged(Pet pet, Treatment treatment) {
+        tally.countCompletion(pet, treatment);
+    }
+}
@@ -0,0 +1,295 @@
+package seedu.cuddlecare.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.SymbolTable;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.CompletionChange;
+import seedu.cuddlecare.history.OccurrenceChange;
+import seedu.cuddlecare.history.PetChange;
+import seedu.cuddlecare.history.PetEditChange;
+import seedu.cuddlecare.history.ScheduleChange;
+import seedu.cuddlecare.history.TreatmentChange;
+import seedu.cuddlecare.validation.Validation;
+
+/**
+ * Writes {@link Change}s as journal lines and makes the changes of journal lines
+ * to pets loaded from the save file.
+ * <p>
+ * Each line starts with {@link #PREFIX} and the kind of change, followed by fields
+ * separated by {@code |} in the same form as the save file:
+ * <pre>
+ * &#64;add-pet milo #1 | dog | 2 | 0
+ * &#64;add-treatment milo | vaccine #4 | 2025-01-10 | false | booster
+ * &#64;mark milo | vaccine | 2025-01-10 | true
+ * </pre>
+ * An added pet ends with its position in the list, so a pet that is added back after being
+ * deleted returns to where it was. Such a pet is followed by a line for each of its
+ * treatments, recurring treatments and archived treatments, the last in the form
+ * of the archive, such as
+ * {@code @add-archived milo | vaccine #2 | 2024-01-10 | true | booster}. Treatments are found by pet, name and date,
+ * which no two treatments of a pet share.
+ */
+public final class ChangeRecords {
+
+    /** Starts every change line, so that lines that hold no change can be told apart. */
+    public static final String PREFIX = "@";
+
+    private static final Logger LOGGER = Logger.getLogger(ChangeRecords.class.getName());
+
+    private static final String ADD_PET = "add-pet";
+    private static final String DELETE_PET = "delete-pet";
+    private static final String EDIT_PET = "edit-pet";
+    private static final String ADD_TREATMENT = "add-treatment";
+    private static final String DELETE_TREATMENT = "delete-treatment";
+    private static final String MARK = "mark";
+    private static final String ADD_SCHEDULE = "add-schedule";
+    private static final String DELETE_SCHEDULE = "delete-schedule";
+    private static final String MARK_OCCURRENCE = "mark-occurrence";
+    private static final String ADD_ARCHIVED = "add-archived";
+
+    private ChangeRecords() {
+    }
+
+    /**
+     * Returns true if the journal line holds a change.
+     */
+    public static boolean isRecord(String line) {
+        return line.startsWith(PREFIX);
+    }
+
+    /**
+     * Returns the journal lines that make the change.
+     *
+     * @param change the change that was made
+     * @return one or more lines, without line breaks
+     */
+    public static List<String> encode(Change change) {
+        List<String> lines = new ArrayList<>();
+        if (change instanceof PetChange) {
+            encodePet((PetChange) change, lines);
+        } else if (change instanceof PetEditChange) {
+            PetEditChange edit = (PetEditChange) change;
+            lines.add(line(EDIT_PET, edit.getOldName() + " | " + edit.getNewName() + " | "
+                    + edit.getNewSpecies() + " | " + edit.getNewAge()));
+        } else if (change instanceof TreatmentChange) {
+            TreatmentChange treatmentChange = (TreatmentChange) change;
+            Pet pet = treatmentChange.getPet();
+            Treatment treatment = treatmentChange.getTreatment();
+            lines.add(treatmentChange.isAdded()
+                    ? line(ADD_TREATMENT, Storage.formatTreatment(pet, treatment))
+                    : line(DELETE_TREATMENT, key(pet, treatment)));
+        } else if (change instanceof CompletionChange) {
+            CompletionChange completion = (CompletionChange) change;
+            lines.add(line(MARK, key(completion.getPet(), completion.getTreatment())
+                    + " | " + completion.isCompleted()));
+        } else if (change instanceof ScheduleChange) {
+            ScheduleChange scheduleChange = (ScheduleChange) change;
+            Pet pet = scheduleChange.getPet();
+            TreatmentSchedule schedule = scheduleChange.getSchedule();
+            lines.add(scheduleChange.isAdded()
+                    ? line(ADD_SCHEDULE, scheduleChange.getIndex() + " | " + Storage.formatSchedule(pet, schedule))
+                    : line(DELETE_SCHEDULE, key(pet, schedule)));
+        } else if (change instanceof OccurrenceChange) {
+            OccurrenceChange occurrence = (OccurrenceChange) change;
+            lines.add(line(MARK_OCCURRENCE, key(occurrence.getPet(), occurrence.getSchedule())
+                    + " | " + occurrence.getDate() + " | " + occurrence.isCompleted()));
+        } else {
+            throw new IllegalArgumentException("Unknown change: " + change.getClass().getName());
+        }
+        return lines;
+    }
+
+    private static void encodePet(PetChange change, List<String> lines) {
+        Pet pet = change.getPet();
+        if (!change.isAdded()) {
+            lines.add(line(DELETE_PET, pet.getName()));
+            return;
+        }
+        lines.add(line(ADD_PET, Storage.formatPet(pet).strip() + " | " + change.getIndex()));
+        for (Treatment treatment : pet.getTreatments()) {
+            lines.add(line(ADD_TREATMENT, Storage.formatTreatment(pet, treatment)));
+        }
+        List<TreatmentSchedule> schedules = pet.getSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            lines.add(line(ADD_SCHEDULE, i + " | " + Storage.formatSchedule(pet, schedules.get(i))));
+        }
+        for (String archived : change.getArchivedLines()) {
+            lines.add(line(ADD_ARCHIVED, archived));
+        }
+    }
+
+    private static String line(String kind, String fields) {
+        return PREFIX + kind + " " + fields.strip();
+    }
+
+    private static String key(Pet pet, Treatment treatment) {
+        return pet.getName() + " | " + treatment.getName() + " | " + treatment.getDate();
+    }
+
+    private static String key(Pet pet, TreatmentSchedule schedule) {
+        return pet.getName() + " | " + schedule.getName() + " | " + schedule.getStart();
+    }
+
+    /**
+     * Makes the change of a journal line to the pets. Lines that are malformed or refer
+     * to pets, treatments or recurring treatments that do not exist are logged and skipped.
+     *
+     * @param line a line returned by {@link #encode(Change)}
+     * @param pets the pets to change
+     * @return true if the change was made
+     */
+    static boolean apply(String line, PetList pets) {
+        assert isRecord(line) : "Not a change line: " + line;
+        int space = line.indexOf(' ');
+        if (space < 0) {
+            LOGGER.log(Level.WARNING, "Malformed change -> Ignoring: " + line);
+            return false;
+        }
+        String kind = line.substring(PREFIX.length(), space);
+        String fields = line.substring(space + 1);
+        try {
+            switch (kind) {
+            case ADD_PET:
+                return addPet(fields.split("\\|"), pets);
+            case DELETE_PET:
+                Pet deleted = findPet(pets, fields);
+                return deleted != null && pets.deletePet(deleted);
+            case EDIT_PET:
+                return editPet(fields.split("\\|"), pets);
+            case ADD_TREATMENT:
+                return addTreatment(fields.split("\\|", 5), pets);
+            case DELETE_TREATMENT:
+            case MARK:
+                return changeTreatment(kind, fields.split("\\|"), pets);
+            case ADD_SCHEDULE:
+                return addSchedule(fields.split("\\|", 6), pets);
+            case DELETE_SCHEDULE:
+            case MARK_OCCURRENCE:
+                return changeSchedule(kind, fields.split("\\|"), pets);
+            case ADD_ARCHIVED:
+                if (pets.getArchive() == null) {
+                    LOGGER.log(Level.WARNING, "No archive for change -> Ignoring: " + line);
+                    return false;
+                }
+                pets.restoreArchived(List.of(fields.strip()));
+                return true;
+            default:
+                LOGGER.log(Level.WARNING, "Unknown change -> Ignoring: " + line);
+                return false;
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException | DateTimeParseException e) {
+            LOGGER.log(Level.WARNING, "Malformed change -> Ignoring: " + line);
+            return false;
+        }
+    }
+
+    private static Pet findPet(PetList pets, String field) {
+        String name = Validation.clean(field, Validation.MAX_PET_NAME_LENGTH);
+        Pet pet = pets.getPetByName(name);
+        if (pet == null) {
+            LOGGER.log(Level.WARNING, "Pet not found for change: " + name);
+        }
+        return pet;
+    }
+
+    private static boolean addPet(String[] parts, PetList pets) {
+        String name = Validation.clean(parts[0], Validation.MAX_PET_NAME_LENGTH);
+        String species = Validation.clean(parts[1], Validation.MAX_SPECIES_LENGTH);
+        int age = Math.min(Math.abs(Integer.parseInt(parts[2].trim())), Validation.MAX_AGE);
+        if (name.isEmpty() || species.isEmpty()) {
+            throw new IllegalArgumentException("Blank pet name or species");
+        }
+        Pet pet = new Pet(name, species, age);
+        pet.setId(Storage.parseId(parts[0]));
+        return parts.length > 3 ? pets.add(Math.abs(Integer.parseInt(parts[3].trim())), pet) : pets.add(pet);
+    }
+
+    private static boolean editPet(String[] parts, PetList pets) {
+        Pet pet = findPet(pets, parts[0]);
+        if (pet == null) {
+            return false;
+        }
+        String name = Validation.clean(parts[1], Validation.MAX_PET_NAME_LENGTH);
+        String species = Validation.clean(parts[2], Validation.MAX_SPECIES_LENGTH);
+        int age = Math.min(Math.abs(Integer.parseInt(parts[3].trim())), Validation.MAX_AGE);
+        if (name.isEmpty() || species.isEmpty()) {
+            throw new IllegalArgumentException("Blank pet name or species");
+        }
+        new PetEditChange(pet, pet.getName(), pet.getSpecies(), pet.getAge(), name, species, age).apply(pets);
+        return true;
+    }
+
+    private static boolean addTreatment(String[] parts, PetList pets) {
+        Pet pet = findPet(pets, parts[0]);
+        Treatment treatment = Storage.parseTreatment(parts);
+        if (pet == null || treatment == null || pet.isDuplicateTreatment(treatment)) {
+            return false;
+        }
+        pet.addTreatment(treatment);
+        return true;
+    }
+
+    private static boolean changeTreatment(String kind, String[] parts, PetList pets) {
+        Pet pet = findPet(pets, parts[0]);
+        if (pet == null) {
+            return false;
+        }
+        String name = Validation.clean(parts[1], Validation.MAX_TREATMENT_NAME_LENGTH);
+        Treatment treatment = pet.findTreatment(SymbolTable.idOf(name), LocalDate.parse(parts[2].trim()));
+        if (treatment == null) {
+            LOGGER.log(Level.WARNING, "Treatment not found for change: " + String.join(" | ", parts));
+            return false;
+        }
+        if (kind.equals(MARK)) {
+            treatment.setCompleted(Boolean.parseBoolean(parts[3].trim()));
+            return true;
+        }
+        return pet.removeTreatment(treatment);
+    }
+
+    private static boolean addSchedule(String[] parts, PetList pets) {
+        int index = Integer.parseInt(parts[0].trim());
+        String[] scheduleParts = new String[parts.length - 1];
+        System.arraycopy(parts, 1, scheduleParts, 0, scheduleParts.length);
+        Pet pet = findPet(pets, scheduleParts[0]);
+        TreatmentSchedule schedule = Storage.parseSchedule(scheduleParts);
+        if (pet == null || schedule == null || pet.hasSchedule(schedule.getNameId(), schedule.getStart())) {
+            return false;
+        }
+        pet.addSchedule(Math.min(index, pet.getSchedules().size()), schedule);
+        return true;
+    }
+
+    private static boolean changeSchedule(String kind, String[] parts, PetList pets) {
+        Pet pet = findPet(pets, parts[0]);
+        if (pet == null) {
+            return false;
+        }
+        int nameId = SymbolTable.idOf(Validation.clean(parts[1], Validation.MAX_TREATMENT_NAME_LENGTH));
+        LocalDate start = LocalDate.parse(parts[2].trim());
+        List<TreatmentSchedule> schedules = pet.getSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            TreatmentSchedule schedule = schedules.get(i);
+            if (schedule.getNameId() != nameId || !schedule.getStart().equals(start)) {
+                continue;
+            }
+            if (kind.equals(MARK_OCCURRENCE)) {
+                return schedule.setCompleted(LocalDate.parse(parts[3].trim()), Boolean.parseBoolean(parts[4].trim()));
+            }
+            pet.removeSchedule(i);
+            return true;
+        }
+        LOGGER.log(Level.WARNING, "Recurring treatment not found for change: " + String.join(" | ", parts));
+        return false;
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.cuddlecare.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only record of the changes made to data since the last full save.
+ * <p>
+ * Each line is forced to disk before {@link #append(String)} returns, so after a
+ * crash the save file plus the journal gives back every completed change.
+ * The journal is cleared whenever a full save has been written. A save written while
+ * changes are still being made clears only the lines appended before it started,
+ * through {@link #size()} and {@link #clearBefore(long)}.
+ * <p>
+ * Changes are written as {@link ChangeRecords}.
+ */
+public class Journal {
+
+    private static final Logger LOGGER = Logger.getLogger(Journal.class.getName());
+
+    /** Journal file location. */
+    private final Path path;
+
+    /** Open journal file, or null until the next append. */
+    private FileChannel channel;
+
+    /**
+     * Initializes the journal.
+     *
+     * @param filePath the journal file location
+     */
+    public Journal(String filePath) {
+        this.path = Paths.get(filePath);
+    }
+
+    /**
+     * Returns the recorded lines in the order they were appended.
+     *
+     * @return the lines, empty if there is no journal
+     * @throws IOException if the journal cannot be read
+     */
+    public synchronized List<String> readAll() throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return lines;
+        }
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Appends a line and forces it to disk.
+     *
+     * @param line the line, without line breaks
+     * @throws IOException if the line cannot be written
+     */
+    public synchronized void append(String line) throws IOException {
+        appendAll(List.of(line));
+    }
+
+    /**
+     * Appends several lines and forces them to disk once, after the last of them.
+     *
+     * @param lines the lines, without line breaks
+     * @throws IOException if the lines cannot be written
+     */
+    public synchronized void appendAll(List<String> lines) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            assert line.indexOf('\n') < 0 : "Journal lines cannot contain line breaks";
+            text.append(line).append('\n');
+        }
+        if (channel == null) {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Returns the number of bytes recorded so far, which marks the lines appended before now.
+     *
+     * @throws IOException if the size of the journal cannot be read
+     */
+    public synchronized long size() throws IOException {
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    /**
+     * Removes the lines recorded before {@code mark}, after their changes have been saved in
+     * full, and keeps the lines appended since.
+     *
+     * @param mark a value returned by {@link #size()} since the journal was last cleared
+     * @throws IOException if the journal cannot be rewritten
+     */
+    public synchronized void clearBefore(long mark) throws IOException {
+        if (size() <= mark) {
+            clear();
+            return;
+        }
+        close();
+        byte[] bytes = Files.readAllBytes(path);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer kept = ByteBuffer.wrap(Arrays.copyOfRange(bytes, (int) mark, bytes.length));
+            while (kept.hasRemaining()) {
+                out.write(kept);
+            }
+            out.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Removes every recorded line, after their changes have been saved in full.
+     *
+     * @throws IOException if the journal cannot be removed
+     */
+    public synchronized void clear() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Closes the journal file. A later append opens it again.
+     */
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close journal: " + e.getMessage());
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,413 @@
+package seedu.cuddlecare.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.PetListListener;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.ui.Ui;
+
+/**
+ * Storage that splits the save data into a manifest holding the pet table and
+ * recurring treatments, and a fixed number of shard files holding treatments,
+ * with each pet's treatments in the shard chosen by the hash of its name.
+ * <p>
+ * Changes to the pets are tracked as they happen, and saving only rebuilds and
+ * rewrites the shards they touched, so updating one pet rewrites one shard and
+ * reads no other pet's treatments. Loading reads the shards in parallel, or with
+ * lazy loading, reads each shard the first time one of its pets' treatments is
+ * accessed, and hands the other pets their treatments when they ask for them.
+ * If no manifest exists yet, the single save file is loaded instead, split on
+ * the next save and then renamed so it is not read again.
+ * <p>
+ * A save only writes what changed, so unlike a single save file it is written in
+ * full while no command runs, by {@link SaveTask#finish()}.
+ */
+public class ShardedStorage extends Storage {
+
+    /** Number of shard files the treatments are spread over. */
+    static final int SHARD_COUNT = 16;
+
+    private static final Logger LOGGER = Logger.getLogger(ShardedStorage.class.getName());
+    private static final String MANIFEST_NAME = "cuddlecare_manifest.txt";
+    private static final String SHARD_NAME = "cuddlecare_shard_%02d.txt";
+
+    /** Suffix given to the single save file once its data has been split into shards. */
+    static final String MIGRATED_SUFFIX = ".bak";
+
+    private final Path directory;
+
+    /** Whether the pet table, ids or schedules changed since the manifest was last written. */
+    private boolean isManifestDirty;
+
+    /** Shards holding treatments that changed since they were last written. */
+    private final BitSet dirtyShards = new BitSet(SHARD_COUNT);
+
+    /** Treatments read from each shard that no deferred pet has taken yet, or null while unread. */
+    private final List<Map<String, ArrayList<Treatment>>> readShardTreatments =
+            new ArrayList<>(Collections.nCopies(SHARD_COUNT, null));
+
+    /** Whether the data was read from the single save file, which is renamed once it is split. */
+    private boolean isMigrating;
+
+    /**
+     * Initializes the sharded storage system. The manifest and shards are kept
+     * in the directory of the given save file.
+     *
+     * @param filePath the single save file location, read if no manifest exists
+     * @param pets the list of all pets
+     */
+    public ShardedStorage(String filePath, PetList pets) {
+        super(filePath, pets);
+        this.directory = Paths.get(filePath).toAbsolutePath().getParent();
+        pets.addListener(new DirtyShardTracker());
+    }
+
+    /**
+     * Loads the pets from the manifest and their treatments from the shards.
+     */
+    @Override
+    public void load() {
+        Path manifest = directory.resolve(MANIFEST_NAME);
+        if (!Files.exists(manifest)) {
+            LOGGER.log(Level.INFO, "Manifest does not exist, reading " + filePath);
+            super.load();
+            isMigrating = Files.exists(Paths.get(filePath));
+            if (isMigrating) {
+                isManifestDirty = true;
+                dirtyShards.set(0, SHARD_COUNT);
+            }
+            return;
+        }
+
+        try {
+            Map<String, Pet> petMap = new HashMap<>();
+            boolean isReadingSchedules = false;
+            for (String line : readLines(manifest)) {
+                if (line.startsWith("#")) {
+                    isReadingSchedules = line.equalsIgnoreCase(SCHEDULES_HEADER);
+                    processIds(line);
+                    continue;
+                }
+                if (isReadingSchedules) {
+                    processSchedule(line.split("\\|", 5), petMap);
+                } else {
+                    processPet(line.split("\\|"), petMap);
+                }
+            }
+
+            if (isLazyLoading) {
+                deferShards(petMap);
+            } else {
+                loadTreatments(petMap, readShards());
+            }
+            isManifestDirty = false;
+            dirtyShards.clear();
+            LOGGER.log(Level.INFO, "Data successfully loaded from " + directory);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to load data: " + e.getMessage());
+            Ui.println("Failed to load data.");
+        }
+    }
+
+    /**
+     * Reads and parses every shard on its own thread.
+     *
+     * @return map of lowercase pet names to their treatments
+     * @throws IOException if a shard cannot be read
+     */
+    private Map<String, ArrayList<Treatment>> readShards() throws IOException {
+        int threads = Math.min(SHARD_COUNT, Runtime.getRuntime().availableProcessors());
+        ExecutorService readers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<String, ArrayList<Treatment>>>> results = new ArrayList<>();
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                Path shard = shardPath(i);
+                results.add(readers.submit(() -> readShard(shard)));
+            }
+
+            Map<String, ArrayList<Treatment>> treatmentsMap = new HashMap<>();
+            for (Future<Map<String, ArrayList<Treatment>>> result : results) {
+                for (Map.Entry<String, ArrayList<Treatment>> entry : result.get().entrySet()) {
+                    treatmentsMap.computeIfAbsent(entry.getKey(), k -> new ArrayList<>())
+                            .addAll(entry.getValue());
+                }
+            }
+            return treatmentsMap;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            readers.shutdown();
+        }
+    }
+
+    /**
+     * Gives every pet a loader that takes its treatments from its shard the first time
+     * they are accessed. Each shard is read once, by the first of its pets to load.
+     *
+     * @param petMap map of lowercase pet names to the loaded pets
+     */
+    private void deferShards(Map<String, Pet> petMap) {
+        for (Map.Entry<String, Pet> entry : petMap.entrySet()) {
+            String name = entry.getKey();
+            Pet pet = entry.getValue();
+            pet.setTreatmentLoader(() -> loadFromShard(shardOf(name), name, pet));
+        }
+    }
+
+    /**
+     * Adds the treatments a pet was saved with in the given shard, reading the shard if
+     * none of its pets has loaded yet.
+     *
+     * @param shard the shard the pet was saved in
+     * @param name the lowercase name the pet was saved under
+     * @param pet the pet to add the treatments to
+     */
+    private void loadFromShard(int shard, String name, Pet pet) {
+        Map<String, ArrayList<Treatment>> shardTreatments = readShardTreatments.get(shard);
+        if (shardTreatments == null) {
+            try {
+                shardTreatments = readShard(shardPath(shard));
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to load shard " + shard + ": " + e.getMessage());
+                Ui.println("Failed to load treatments of " + pet.getName() + ".");
+                return;
+            }
+            readShardTreatments.set(shard, shardTreatments);
+        }
+        ArrayList<Treatment> treatments = shardTreatments.remove(name);
+        if (treatments != null) {
+            loadTreatments(Map.of(name, pet), Map.of(name, treatments));
+        }
+    }
+
+    private Map<String, ArrayList<Treatment>> readShard(Path shard) throws IOException {
+        Map<String, ArrayList<Treatment>> treatmentsMap = new HashMap<>();
+        if (!Files.exists(shard)) {
+            return treatmentsMap;
+        }
+        for (String line : readLines(shard)) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            processTreatment(line.split("\\|", 5), treatmentsMap);
+        }
+        return treatmentsMap;
+    }
+
+    /**
+     * Returns the trimmed lines of a file that are not blank.
+     */
+    private static List<String> readLines(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = openReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns a save that does all its work in {@link SaveTask#finish()}, since the dirty
+     * shards are built from the pets themselves and deferred pets read their old shard.
+     */
+    @Override
+    public SaveTask prepareSave() {
+        return new SaveTask() {
+            @Override
+            public boolean write() {
+                return true;
+            }
+
+            @Override
+            public boolean finish() {
+                return save();
+            }
+
+            @Override
+            public void discard() {
+            }
+        };
+    }
+
+    /**
+     * Saves the manifest and every shard whose treatments changed since they were
+     * last read or written. Only the pets of those shards have their treatments read.
+     *
+     * @return true if the data was saved
+     */
+    @Override
+    public boolean save() {
+        try {
+            createSaveDirectory();
+            // Build every shard before writing any, since deferred pets read their old shard
+            int[] shardIndexes = dirtyShards.stream().toArray();
+            String[] shards = buildShards(shardIndexes);
+            for (int i = 0; i < shardIndexes.length; i++) {
+                writeFile(shardPath(shardIndexes[i]), shards[i]);
+                dirtyShards.clear(shardIndexes[i]);
+            }
+            int written = shardIndexes.length;
+
+            if (isManifestDirty) {
+                writeFile(directory.resolve(MANIFEST_NAME), buildManifest());
+                isManifestDirty = false;
+                written++;
+            }
+            if (isMigrating) {
+                Path legacy = Paths.get(filePath);
+                Files.move(legacy, legacy.resolveSibling(legacy.getFileName() + MIGRATED_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING);
+                isMigrating = false;
+                LOGGER.log(Level.INFO, "Split " + filePath + " into shards and renamed it");
+            }
+
+            LOGGER.log(Level.INFO, "Data successfully saved to " + directory + ", files written: " + written);
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to save data: " + e.getMessage());
+            Ui.println("Failed to save data.");
+            return false;
+        }
+    }
+
+    private String buildManifest() {
+        StringBuilder manifest = new StringBuilder(formatIds(pets)).append("# Pets\n");
+        for (int i = 0; i < pets.size(); i++) {
+            manifest.append(formatPet(pets.get(i)));
+        }
+        return manifest.append(formatSchedules(pets)).toString();
+    }
+
+    /**
+     * Returns the contents of the given shards, in the same order.
+     */
+    private String[] buildShards(int[] shardIndexes) {
+        StringBuilder[] builders = new StringBuilder[SHARD_COUNT];
+        for (int shard : shardIndexes) {
+            builders[shard] = new StringBuilder("# Treatments\n");
+        }
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            StringBuilder shard = builders[shardOf(pet.getName())];
+            if (shard == null) {
+                continue;
+            }
+            for (Treatment t : pet.getTreatments()) {
+                shard.append(formatTreatment(pet, t));
+            }
+        }
+
+        String[] shards = new String[shardIndexes.length];
+        for (int i = 0; i < shardIndexes.length; i++) {
+            shards[i] = builders[shardIndexes[i]].toString();
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the shard holding the treatments of the pet with the given name.
+     */
+    static int shardOf(String petName) {
+        return Math.floorMod(petName.toLowerCase().hashCode(), SHARD_COUNT);
+    }
+
+    Path shardPath(int shard) {
+        return directory.resolve(String.format(SHARD_NAME, shard));
+    }
+
+    private void writeFile(Path path, String content) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = openWriter(temp, isCompressed)) {
+            writer.write(content);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Marks the manifest and shards that each change to the pets affects.
+     */
+    private final class DirtyShardTracker implements PetListListener {
+
+        @Override
+        public void petAdded(Pet pet) {
+            isManifestDirty = true;
+            dirtyShards.set(shardOf(pet.getName()));
+        }
+
+        @Override
+        public void petRemoved(Pet pet) {
+            // Undo can add the pet back, so its treatments are read before its shard is rewritten
+            pet.loadTreatments();
+            isManifestDirty = true;
+            dirtyShards.set(shardOf(pet.getName()));
+        }
+
+        @Override
+        public void petRenamed(Pet pet, String oldName) {
+            isManifestDirty = true;
+            dirtyShards.set(shardOf(oldName));
+            dirtyShards.set(shardOf(pet.getName()));
+        }
+
+        @Override
+        public void petSpeciesChanged(Pet pet, String oldSpecies) {
+            isManifestDirty = true;
+        }
+
+        @Override
+        public void petAgeChanged(Pet pet, int oldAge) {
+            isManifestDirty = true;
+        }
+
+        @Override
+        public void treatmentAdded(Pet pet, Treatment treatment) {
+            // The manifest holds the next treatment id
+            isManifestDirty = true;
+            dirtyShards.set(shardOf(pet.getName()));
+        }
+
+        @Override
+        public void treatmentRemoved(Pet pet, Treatment treatment) {
+            dirtyShards.set(shardOf(pet.getName()));
+        }
+
+        @Override
+        public void treatmentCompletionChanged(Pet pet, Treatment treatment) {
+            dirtyShards.set(shardOf(pet.getName()));
+        }
+
+        @Override
+        public void scheduleChanged(Pet pet, TreatmentSchedule schedule) {
+            isManifestDirty = true;
+        }
+    }
+}
@@ -1,24 +1,54 @@
 package seedu.cuddlecare.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.NavigableSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentColumns;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.snapshot.ModelSnapshot;
+import seedu.cuddlecare.snapshot.PetSnapshot;
+import seedu.cuddlecare.snapshot.ScheduleSnapshot;
+import seedu.cuddlecare.snapshot.TreatmentSnapshot;
+import seedu.cuddlecare.time.ClockService;
+import seedu.cuddlecare.ui.Ui;
+import seedu.cuddlecare.validation.Validation;
 
 public class Storage {
 
@@ -26,22 +56,39 @@ public class Storage {
      * Logger instance for this class.
      */
     private static final Logger LOGGER = Logger.getLogger(Storage.class.getName());
-    private static final int MAX_PET_NAME_LENGTH = 20;
-    private static final int MAX_PET_SPECIE_LENGTH = 30;
-    private static final int MAX_TREATMENT_NAME_LENGTH = 50;
-    private static final int MAX_TREATMENT_FUTURE_YEAR = 100;
-    private static final int MAX_TREATMENT_PAST_YEAR = 110;
-    private static final int MAX_PET_AGE = 200;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final String IDS_HEADER = "# Ids";
+    static final String SCHEDULES_HEADER = "# Schedules";
+    private static final Pattern SCHEDULE_RULE = Pattern.compile(
+            "every (?:(\\d{1,3}) )?(\\w+) from (\\S+)(?: until (\\S+))?", Pattern.CASE_INSENSITIVE);
+    private static final char ID_TAG = '#';
 
     /**
      * Save file location.
      */
-    private String filePath;
+    final String filePath;
 
     /**
      * List of all pets.
      */
-    private final PetList pets;
+    final PetList pets;
+
+    /**
+     * Whether treatment blocks are read on first access instead of at startup.
+     */
+    boolean isLazyLoading;
+
+    /**
+     * Whether the save file is written compressed with gzip.
+     */
+    boolean isCompressed;
+
+    /**
+     * Byte ranges {@code [start, end)} in the save file holding the treatment
+     * lines of each pet whose treatments have not been read yet.
+     */
+    private Map<Pet, List<long[]>> pendingBlocks = new IdentityHashMap<>();
 
     /**
      * Initializes the storage system.
@@ -53,22 +100,72 @@ public class Storage {
         this.pets = pets;
     }
 
+    /**
+     * Returns the pets this storage loads and saves.
+     */
+    public PetList getPets() {
+        return pets;
+    }
+
+    /**
+     * Sets whether the treatments of each pet are read from the save file
+     * only when they are first accessed. The pets themselves are always
+     * loaded at startup.
+     *
+     * @param isLazyLoading true to defer reading treatments
+     */
+    public void setLazyLoading(boolean isLazyLoading) {
+        this.isLazyLoading = isLazyLoading;
+    }
+
+    /**
+     * Sets whether the save file is written compressed with gzip. Compressed
+     * and plain save files are both recognised when loading.
+     *
+     * @param isCompressed true to compress the save file
+     */
+    public void setCompressed(boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
     /**
      * Loads the pets and treatments from the save file.
      */
     public void load() {
-        if (!Files.exists(Paths.get(filePath))) {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
             LOGGER.log(Level.INFO, "Save file does not exist.");
             return;
         }
 
         try {
-            List<String> lines = Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
-            Map<String, Pet> petMap = new HashMap<>();
-            Map<String, ArrayList<Treatment>> treatmentsMap = new HashMap<>();
-            boolean isReadingPets = true;
+            if (isLazyLoading && !isGzip(path)) {
+                loadIndex(path);
+            } else {
+                loadAll(path);
+            }
+            LOGGER.log(Level.INFO, "Data successfully loaded from " + filePath);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to load data: " + e.getMessage());
+            Ui.println("Failed to load data.");
+        }
+    }
 
-            for (String line : lines) {
+    /**
+     * Reads and parses every pet and treatment in the save file, line by line
+     * as the file is read and decompressed.
+     * @param path the save file
+     * @throws IOException if the file cannot be read
+     */
+    private void loadAll(Path path) throws IOException {
+        Map<String, Pet> petMap = new HashMap<>();
+        Map<String, ArrayList<Treatment>> treatmentsMap = new HashMap<>();
+        boolean isReadingPets = true;
+        boolean isReadingSchedules = false;
+
+        try (BufferedReader reader = openReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
                 line = line.trim();
                 if (line.isEmpty()) {
                     continue;
@@ -76,15 +173,29 @@ public class Storage {
 
                 if (line.equalsIgnoreCase("# Pets")) {
                     isReadingPets = true;
+                    isReadingSchedules = false;
+                    continue;
+                }
+
+                if (line.equalsIgnoreCase(SCHEDULES_HEADER)) {
+                    isReadingPets = false;
+                    isReadingSchedules = true;
                     continue;
                 }
 
                 if (line.equalsIgnoreCase("# Treatments")) {
                     isReadingPets = false;
+                    isReadingSchedules = false;
                     continue;
                 }
 
-                if (isReadingPets) {
+                if (processIds(line)) {
+                    continue;
+                }
+
+                if (isReadingSchedules) {
+                    processSchedule(line.split("\\|", 5), petMap);
+                } else if (isReadingPets) {
                     String[] parts = line.split("\\|");
                     processPet(parts, petMap);
                 } else {
@@ -92,16 +203,219 @@ public class Storage {
                     processTreatment(parts, treatmentsMap);
                 }
             }
+        }
 
-            loadTreatments(petMap, treatmentsMap);
+        loadTreatments(petMap, treatmentsMap);
+    }
 
-            LOGGER.log(Level.INFO, "Data successfully loaded from " + filePath);
+    /**
+     * Opens a UTF-8 reader over a save file, decompressing it if it starts with the gzip header.
+     *
+     * @param path the file to read
+     * @return a buffered reader over the file's text
+     * @throws IOException if the file cannot be opened
+     */
+    static BufferedReader openReader(Path path) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(path), WRITE_BUFFER_SIZE);
+        in.mark(2);
+        int header = in.read() | (in.read() << 8);
+        in.reset();
+        if (header == GZIP_MAGIC) {
+            in = new GZIPInputStream(in, WRITE_BUFFER_SIZE);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens a UTF-8 writer that replaces the contents of a file, compressing them if asked.
+     *
+     * @param path the file to write
+     * @param isCompressed true to write gzip
+     * @return a buffered writer to the file
+     * @throws IOException if the file cannot be opened
+     */
+    static Writer openWriter(Path path, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(path);
+        if (isCompressed) {
+            out = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns true if the file starts with the gzip header.
+     */
+    private static boolean isGzip(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return (in.read() | (in.read() << 8)) == GZIP_MAGIC;
+        }
+    }
+
+    /**
+     * Parses the pets in the save file and records where each pet's treatment
+     * lines are, without parsing them. Each pet reads its own lines the first
+     * time its treatments are accessed.
+     * <p>
+     * Consecutive lines of the same pet are merged into one range, so a file
+     * written by {@link #save()} gives a single range per pet.
+     *
+     * @param path the save file
+     * @throws IOException if the file cannot be read
+     */
+    private void loadIndex(Path path) throws IOException {
+        Map<String, Pet> petMap = new HashMap<>();
+        Map<String, List<long[]>> blocks = new HashMap<>();
+        boolean isReadingPets = true;
+        boolean isReadingSchedules = false;
+
+        byte[] petNameBytes = null;
+        String petName = null;
+        long[] lastBlock = null;
+
+        try (OffsetLineReader reader = new OffsetLineReader(Files.newInputStream(path))) {
+            while (reader.next()) {
+                byte[] data = reader.line;
+                long lineStart = reader.lineStart;
+                long next = reader.lineEnd;
+
+                int start = 0;
+                int end = reader.length;
+                while (start < end && (data[start] & 0xff) <= ' ') {
+                    start++;
+                }
+                while (end > start && (data[end - 1] & 0xff) <= ' ') {
+                    end--;
+                }
+
+                if (start == end) {
+                    continue;
+                }
+
+                if (data[start] == '#') {
+                    String header = new String(data, start, end - start, StandardCharsets.UTF_8);
+                    if (header.equalsIgnoreCase("# Pets")) {
+                        isReadingPets = true;
+                        isReadingSchedules = false;
+                    } else if (header.equalsIgnoreCase(SCHEDULES_HEADER)) {
+                        isReadingPets = false;
+                        isReadingSchedules = true;
+                    } else if (header.equalsIgnoreCase("# Treatments")) {
+                        isReadingPets = false;
+                        isReadingSchedules = false;
+                    } else {
+                        processIds(header);
+                    }
+                    continue;
+                }
+
+                if (isReadingPets) {
+                    String line = new String(data, start, end - start, StandardCharsets.UTF_8);
+                    processPet(line.split("\\|"), petMap);
+                    continue;
+                }
+
+                // Schedules are few and short, so they are always read at startup
+                if (isReadingSchedules) {
+                    String line = new String(data, start, end - start, StandardCharsets.UTF_8);
+                    processSchedule(line.split("\\|", 5), petMap);
+                    continue;
+                }
+
+                int bar = start;
+                while (bar < end && data[bar] != '|') {
+                    bar++;
+                }
+                if (bar == end) {
+                    LOGGER.log(Level.WARNING, "Malformed Treatment -> Ignoring: "
+                            + new String(data, start, end - start, StandardCharsets.UTF_8));
+                    continue;
+                }
+
+                // Lines of one pet are usually together, so the name is only decoded when it changes
+                boolean isSamePet = petNameBytes != null
+                        && Arrays.equals(data, start, bar, petNameBytes, 0, petNameBytes.length);
+                if (!isSamePet) {
+                    petName = Validation.clean(new String(data, start, bar - start, StandardCharsets.UTF_8),
+                            Validation.MAX_PET_NAME_LENGTH);
+                    petNameBytes = Arrays.copyOfRange(data, start, bar);
+                    lastBlock = null;
+                }
+
+                if (lastBlock != null && lastBlock[1] == lineStart) {
+                    lastBlock[1] = next;
+                } else {
+                    lastBlock = new long[] {lineStart, next};
+                    blocks.computeIfAbsent(petName, k -> new ArrayList<>()).add(lastBlock);
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<long[]>> entry : blocks.entrySet()) {
+            Pet pet = petMap.get(entry.getKey());
+            if (pet == null) {
+                LOGGER.log(Level.WARNING, String.format("Pet '%s' not found for treatments", entry.getKey()));
+                continue;
+            }
+            pendingBlocks.put(pet, entry.getValue());
+            pet.setTreatmentLoader(() -> loadBlocks(pet));
+        }
+    }
+
+    /**
+     * Reads and parses the deferred treatment lines of a pet from the save file.
+     *
+     * @param pet the pet whose treatments are being accessed
+     */
+    private void loadBlocks(Pet pet) {
+        List<long[]> blocks = pendingBlocks.remove(pet);
+        if (blocks == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath))) {
+            for (String line : readBlocks(channel, blocks)) {
+                Treatment treatment = parseTreatment(line.split("\\|", 5));
+                if (treatment == null) {
+                    continue;
+                }
+                if (pet.isDuplicateTreatment(treatment)) {
+                    LOGGER.log(Level.WARNING, String.format("Duplicate Treatment '%s' for pet '%s'", treatment, pet));
+                    continue;
+                }
+                pet.addTreatment(treatment);
+            }
         } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Failed to load data: " + e.getMessage());
-            System.out.println("Failed to load data.");
+            LOGGER.log(Level.SEVERE, "Failed to load treatments of " + pet.getName() + ": " + e.getMessage());
+            Ui.println("Failed to load treatments of " + pet.getName() + ".");
         }
     }
 
+    /**
+     * Returns the non-blank, trimmed lines in the given byte ranges of a file.
+     */
+    private static List<String> readBlocks(FileChannel channel, List<long[]> blocks) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (long[] block : blocks) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) (block[1] - block[0]));
+            long position = block[0];
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Save file changed while reading treatments");
+                }
+                position += read;
+            }
+            String text = new String(buffer.array(), StandardCharsets.UTF_8);
+            for (String line : text.split("\n")) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
     /**
      * Processes each line from the save file that contains
      * information about the pet including its name, species,
@@ -109,15 +423,15 @@ public class Storage {
      * @param parts each part of the line in the save file
      * @param petMap the name of the pet to its Pet object
      */
-    private void processPet(String[] parts, Map<String, Pet> petMap) {
+    void processPet(String[] parts, Map<String, Pet> petMap) {
         if (parts.length < 3) {
             LOGGER.log(Level.WARNING, "Unrecognized or malformed " +
                     "line: " + String.join(" | ", parts));
             return;
         }
 
-        String name = parts[0].replaceAll("[^a-zA-Z\\- ]", "").toLowerCase().trim();
-        String species = parts[1].replaceAll("[^a-zA-Z\\- ]", "").toLowerCase().trim();
+        String name = Validation.clean(parts[0], Integer.MAX_VALUE);
+        String species = Validation.clean(parts[1], Integer.MAX_VALUE);
         int age;
 
         if (name.isEmpty()) {
@@ -142,15 +456,67 @@ public class Storage {
             return;
         }
 
-        name = name.substring(0, Math.min(name.length(), MAX_PET_NAME_LENGTH));
-        age = Math.min(age, MAX_PET_AGE);
-        species = species.substring(0, Math.min(species.length(), MAX_PET_SPECIE_LENGTH));
+        name = name.substring(0, Math.min(name.length(), Validation.MAX_PET_NAME_LENGTH));
+        age = Math.min(age, Validation.MAX_AGE);
+        species = species.substring(0, Math.min(species.length(), Validation.MAX_SPECIES_LENGTH));
 
         Pet pet = new Pet(name, species, age);
+        pet.setId(parseId(parts[0]));
         pets.add(pet);
         petMap.put(name, pet);
     }
 
+    /**
+     * Reads the ids line of a save file, which holds the ids the next new pet and
+     * treatment get, so that ids of deleted or archived data are not given out again.
+     *
+     * @param line a trimmed line of the save file
+     * @return true if the line was the ids line
+     */
+    boolean processIds(String line) {
+        if (!line.startsWith(IDS_HEADER)) {
+            return false;
+        }
+        String[] ids = line.substring(IDS_HEADER.length()).trim().split(" +");
+        try {
+            pets.reserveIds(Long.parseLong(ids[0]), Long.parseLong(ids[1]));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            LOGGER.log(Level.WARNING, "Malformed ids line -> Ignoring: " + line);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the id tagged onto a name field as {@code name #id}, or 0 if there is none.
+     * Ids are tagged onto names because older versions strip everything but letters
+     * from names, so they can still read save files with ids.
+     */
+    static long parseId(String field) {
+        int hash = field.lastIndexOf(ID_TAG);
+        if (hash < 0) {
+            return 0;
+        }
+        long id = 0;
+        for (int i = hash + 1; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c < '0' || c > '9' || id > (Long.MAX_VALUE - 9) / 10) {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    /**
+     * Returns the {@code " #id"} tag written after a name, or nothing if there is no id yet.
+     */
+    static String idTag(long id) {
+        return id > 0 ? " " + ID_TAG + id : "";
+    }
+
     /**
      * Parses a line from the save file representing a treatment and stores it
      * in a temporary map until all pets have been processed.
@@ -159,56 +525,150 @@ public class Storage {
      *                       (format: petName | treatmentName | date | completed | note)
      * @param treatmentsMap  a map linking lowercase pet names to their list of {@link Treatment} objects
      */
-    private void processTreatment(String[] parts,
-                                  Map<String, ArrayList<Treatment>> treatmentsMap) {
-        if (parts.length < 4) {
-            LOGGER.log(Level.WARNING, "Malformed Treatment " +
-                    "-> Ignoring: "+String.join(" | ", parts));
+    void processTreatment(String[] parts,
+                          Map<String, ArrayList<Treatment>> treatmentsMap) {
+        Treatment t = parseTreatment(parts);
+        if (t == null) {
             return;
         }
 
-        String petName = parts[0].replaceAll("[^a-zA-Z\\- ]", "").toLowerCase().trim();
-        String treatmentName = parts[1].replaceAll("[^a-zA-Z\\- ]", "").toLowerCase().trim();
-        LocalDate date;
-
+        String petName = Validation.clean(parts[0], Validation.MAX_PET_NAME_LENGTH);
         if (petName.isEmpty()) {
             LOGGER.log(Level.WARNING, "PetName cannot be empty for the provided treatment");
             return;
         }
 
+        if (treatmentsMap.containsKey(petName)) {
+            treatmentsMap.get(petName).add(t);
+        } else {
+            ArrayList<Treatment> newList = new ArrayList<>();
+            newList.add(t);
+            treatmentsMap.put(petName, newList);
+        }
+    }
+
+    /**
+     * Parses a line from the save file representing a recurring treatment and adds it
+     * to its pet, which must already have been read.
+     *
+     * @param parts  the split components of the line
+     *               (format: petName | treatmentName | rule | completedDates | note)
+     * @param petMap the name of the pet to its Pet object
+     */
+    void processSchedule(String[] parts, Map<String, Pet> petMap) {
+        TreatmentSchedule schedule = parseSchedule(parts);
+        if (schedule == null) {
+            return;
+        }
+
+        String petName = Validation.clean(parts[0], Validation.MAX_PET_NAME_LENGTH);
+        Pet pet = petMap.get(petName);
+        if (pet == null) {
+            LOGGER.log(Level.WARNING, String.format("Pet '%s' not found for schedule %s", petName, schedule));
+            return;
+        }
+        if (pet.hasSchedule(schedule.getNameId(), schedule.getStart())) {
+            LOGGER.log(Level.WARNING, String.format("Duplicate schedule '%s' for pet '%s'", schedule, pet));
+            return;
+        }
+        pet.addSchedule(schedule);
+    }
+
+    /**
+     * Parses the fields of a recurring treatment line from the save file, ignoring the pet name.
+     * The rule is written as {@code every N UNITS from DATE [until DATE]} and the completed
+     * occurrences as a comma-separated list of dates.
+     *
+     * @param parts the split components of the line
+     *              (format: petName | treatmentName | rule | completedDates | note)
+     * @return the schedule, or null if the line is malformed
+     */
+    static TreatmentSchedule parseSchedule(String[] parts) {
+        if (parts.length < 3) {
+            LOGGER.log(Level.WARNING, "Malformed Schedule -> Ignoring: " + String.join(" | ", parts));
+            return null;
+        }
+
+        String treatmentName = Validation.clean(parts[1], Validation.MAX_TREATMENT_NAME_LENGTH);
+        if (treatmentName.isEmpty()) {
+            LOGGER.log(Level.WARNING, "Schedule name cannot be empty");
+            return null;
+        }
+
+        Matcher rule = SCHEDULE_RULE.matcher(parts[2].trim());
+        TreatmentSchedule.Unit unit = rule.matches() ? TreatmentSchedule.Unit.fromName(rule.group(2)) : null;
+        if (unit == null) {
+            LOGGER.log(Level.WARNING, "Invalid rule for schedule " + treatmentName + ": " + parts[2].trim());
+            return null;
+        }
+
+        TreatmentSchedule schedule;
+        try {
+            int interval = rule.group(1) == null ? 1 : Integer.parseInt(rule.group(1));
+            LocalDate start = LocalDate.parse(rule.group(3));
+            LocalDate end = rule.group(4) == null ? null : LocalDate.parse(rule.group(4));
+            if (interval < 1 || (end != null && end.isBefore(start))) {
+                LOGGER.log(Level.WARNING, "Invalid rule for schedule " + treatmentName + ": " + parts[2].trim());
+                return null;
+            }
+            String note = parts.length >= 5 ? parts[4].trim() : "";
+            schedule = new TreatmentSchedule(treatmentName, note, start, interval, unit, end);
+        } catch (DateTimeParseException e) {
+            LOGGER.log(Level.WARNING, "Invalid date for schedule " + treatmentName);
+            return null;
+        }
+
+        String completed = parts.length >= 4 ? parts[3].trim() : "";
+        for (String date : completed.isEmpty() ? new String[0] : completed.split(",")) {
+            try {
+                if (!schedule.setCompleted(LocalDate.parse(date.trim()), true)) {
+                    LOGGER.log(Level.WARNING, "Ignoring completed date off schedule " + treatmentName + ": " + date);
+                }
+            } catch (DateTimeParseException e) {
+                LOGGER.log(Level.WARNING, "Invalid completed date for schedule " + treatmentName + ": " + date);
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * Parses the treatment fields of a line from the save file, ignoring the pet name.
+     *
+     * @param parts the split components of the line
+     *              (format: petName | treatmentName | date | completed | note)
+     * @return the treatment, or null if the line is malformed
+     */
+    static Treatment parseTreatment(String[] parts) {
+        if (parts.length < 4) {
+            LOGGER.log(Level.WARNING, "Malformed Treatment " +
+                    "-> Ignoring: "+String.join(" | ", parts));
+            return null;
+        }
+
+        String treatmentName = Validation.clean(parts[1], Validation.MAX_TREATMENT_NAME_LENGTH);
+        LocalDate date;
+
         if (treatmentName.isEmpty()) {
             LOGGER.log(Level.WARNING, "Treatment name cannot be empty");
-            return;
+            return null;
         }
 
         try {
             date = LocalDate.parse(parts[2].trim());
         } catch (DateTimeParseException e) {
             LOGGER.log(Level.WARNING, "Invalid date for treatment " + treatmentName);
-            return;
+            return null;
         }
 
-        petName = petName.substring(0, Math.min(petName.length(), MAX_PET_NAME_LENGTH));
-        treatmentName = treatmentName.substring(0, Math.min(treatmentName.length(), MAX_TREATMENT_NAME_LENGTH));
-
-        LocalDate maxFutureDate = LocalDate.now().plusYears(MAX_TREATMENT_FUTURE_YEAR);
-        LocalDate maxPastDate = LocalDate.now().minusYears(MAX_TREATMENT_PAST_YEAR);
-        date = date.isAfter(maxFutureDate) ? maxFutureDate : date;
-        date = date.isBefore(maxPastDate) ? maxPastDate : date;
+        date = Validation.clampLoadedDate(date, ClockService.getShared().today());
 
         boolean isComplete = Boolean.parseBoolean(parts[3].trim());
         String note = (parts.length >= 5) ? parts[4].trim() : "";
 
         Treatment t = new Treatment(treatmentName, note, date);
         t.setCompleted(isComplete);
-
-        if (treatmentsMap.containsKey(petName)) {
-            treatmentsMap.get(petName).add(t);
-        } else {
-            ArrayList<Treatment> newList = new ArrayList<>();
-            newList.add(t);
-            treatmentsMap.put(petName, newList);
-        }
+        t.setId(parseId(parts[1]));
+        return t;
     }
 
     /**
@@ -219,7 +679,7 @@ public class Storage {
      * @param petMap        map of lowercase pet names to their corresponding {@link Pet} objects
      * @param treatmentsMap map of lowercase pet names to their list of {@link Treatment} objects
      */
-    private void loadTreatments(Map<String, Pet> petMap, Map<String,
+    void loadTreatments(Map<String, Pet> petMap, Map<String,
             ArrayList<Treatment>> treatmentsMap) {
 
         for (Map.Entry<String, ArrayList<Treatment>> entry: treatmentsMap.entrySet()) {
@@ -244,56 +704,312 @@ public class Storage {
         }
     }
 
+    /**
+     * Makes a change recorded in the journal to the loaded pets.
+     *
+     * @param record a journal line written by {@link ChangeRecords#encode}
+     * @return true if the change was made, false if the line was skipped
+     */
+    public boolean replay(String record) {
+        return ChangeRecords.apply(record, pets);
+    }
+
+    /**
+     * A save split into steps, so that the slow part runs while commands keep changing the pets.
+     * <p>
+     * {@link Storage#prepareSave()} takes what is saved while no command runs. {@link #write()}
+     * then writes it to a temporary file and can run while commands run. {@link #finish()},
+     * again while no command runs, makes that file the save file.
+     */
+    public interface SaveTask {
+
+        /**
+         * Writes the data taken when the save was prepared to a temporary file.
+         *
+         * @return true if the data was written
+         */
+        boolean write();
+
+        /**
+         * Replaces the save file with the file {@link #write()} wrote. Call while no command runs.
+         *
+         * @return true if the data was saved
+         */
+        boolean finish();
+
+        /**
+         * Deletes the file {@link #write()} wrote without using it, such as when a later
+         * save has already replaced the save file.
+         */
+        void discard();
+    }
+
     /**
      * Saves all the pet and treatment information
      * to the save file.
+     * <p>
+     * The data is written to a temporary file that then replaces the save file.
+     * Treatments that were never read are copied from the old save file as they are.
+     *
+     * @return true if the data was saved
      */
-    public void save() {
-        try {
-            createSaveDirectory();
-            FileWriter writer = new FileWriter(filePath, StandardCharsets.UTF_8);
-            
-            savePets(writer);
-            saveTreatments(writer);
+    public boolean save() {
+        SaveTask task = prepareSave();
+        return task.write() && task.finish();
+    }
+
+    /**
+     * Takes what the next save writes: the latest published {@link ModelSnapshot} of the pets,
+     * in the order of the list, and where the treatments that were never read are in the
+     * save file. Call while no command runs.
+     *
+     * @return the save, whose file is written by {@link SaveTask#write()}
+     */
+    public SaveTask prepareSave() {
+        TreatmentColumns columns = pets.getTreatmentColumns();
+        if (columns != null && columns.compactIfSparse()) {
+            LOGGER.log(Level.FINE, "Compacted treatment rows");
+        }
+        Map<Long, List<long[]>> unreadBlocks = new HashMap<>();
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            List<long[]> blocks = pendingBlocks.get(pet);
+            if (pet.hasLoadedTreatments()) {
+                continue;
+            }
+            // Offsets into a compressed file are of no use, so unread pets are parsed instead
+            if (blocks == null || isCompressed) {
+                pet.loadTreatments();
+            } else {
+                unreadBlocks.put(pet.getId(), blocks);
+            }
+        }
+
+        ModelSnapshot snapshot = pets.publish();
+        List<PetSnapshot> order = new ArrayList<>(pets.size());
+        for (int i = 0; i < pets.size(); i++) {
+            order.add(snapshot.getPet(pets.get(i).getId()));
+        }
+        return new SnapshotSave(order, pets.getNextPetId(), pets.getNextTreatmentId(), unreadBlocks, isCompressed);
+    }
 
-            writer.close();
+    /**
+     * Writes a save file from pet snapshots, so that writing it never reads the pets themselves.
+     */
+    private final class SnapshotSave implements SaveTask {
+        private final List<PetSnapshot> order;
+        private final long nextPetId;
+        private final long nextTreatmentId;
+        private final boolean isCompressed;
+
+        /** Where the unread treatment lines of each pet, by id, are in the current save file. */
+        private final Map<Long, List<long[]>> unreadBlocks;
+
+        /** Where the unread treatment lines of each pet, by id, are in the written file. */
+        private final Map<Long, List<long[]>> movedBlocks = new HashMap<>();
+
+        /** The written file, or null until it is written. */
+        private Path temp;
+
+        SnapshotSave(List<PetSnapshot> order, long nextPetId, long nextTreatmentId,
+                     Map<Long, List<long[]>> unreadBlocks, boolean isCompressed) {
+            this.order = order;
+            this.nextPetId = nextPetId;
+            this.nextTreatmentId = nextTreatmentId;
+            this.unreadBlocks = unreadBlocks;
+            this.isCompressed = isCompressed;
+        }
+
+        @Override
+        public boolean write() {
+            try {
+                createSaveDirectory();
+                Path path = Paths.get(filePath).toAbsolutePath();
+                // Each save has its own file, so a save that supersedes a running one never writes over it
+                temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+                OutputStream out = Files.newOutputStream(temp);
+                if (isCompressed) {
+                    out = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+                }
+                try (LineWriter writer = new LineWriter(out)) {
+                    writer.write(IDS_HEADER + " " + nextPetId + " " + nextTreatmentId + "\n");
+                    writer.write("# Pets\n");
+                    for (PetSnapshot pet : order) {
+                        writer.write(formatPet(pet));
+                    }
+                    writer.write(formatSchedules(order));
+                    writeTreatments(writer);
+                }
+                return true;
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to save data: " + e.getMessage());
+                Ui.println("Failed to save data.");
+                discard();
+                return false;
+            }
+        }
+
+        /**
+         * Writes the treatments of each pet, copying the lines of treatments that were never
+         * read from the current save file.
+         */
+        private void writeTreatments(LineWriter writer) throws IOException {
+            writer.write("\n# Treatments\n");
+            FileChannel oldFile = unreadBlocks.isEmpty() ? null : FileChannel.open(Paths.get(filePath));
+            try {
+                for (PetSnapshot pet : order) {
+                    List<long[]> blocks = unreadBlocks.get(pet.getId());
+                    if (blocks != null) {
+                        long start = writer.getPosition();
+                        copyBlocks(oldFile, blocks, pet.getName(), writer);
+                        movedBlocks.put(pet.getId(), List.of(new long[] {start, writer.getPosition()}));
+                        continue;
+                    }
+                    for (TreatmentSnapshot t : pet.getTreatments()) {
+                        writer.write(formatTreatment(pet.getName(), t));
+                    }
+                }
+            } finally {
+                if (oldFile != null) {
+                    oldFile.close();
+                }
+            }
+        }
+
+        @Override
+        public boolean finish() {
+            assert temp != null : "The save has not been written";
+            try {
+                Files.move(temp, Paths.get(filePath), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to save data: " + e.getMessage());
+                Ui.println("Failed to save data.");
+                discard();
+                return false;
+            }
+
+            // Pets read while the file was written no longer need their lines
+            Map<Pet, List<long[]>> stillUnread = new IdentityHashMap<>();
+            for (Map.Entry<Long, List<long[]>> entry : movedBlocks.entrySet()) {
+                Pet pet = pets.getPetById(entry.getKey());
+                if (pet != null && pendingBlocks.containsKey(pet)) {
+                    stillUnread.put(pet, entry.getValue());
+                }
+            }
+            pendingBlocks = stillUnread;
             LOGGER.log(Level.INFO, "Data successfully saved to " + filePath);
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Failed to save data: " + e.getMessage());
-            System.out.println("Failed to save data.");
+            return true;
+        }
+
+        @Override
+        public void discard() {
+            if (temp == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to delete " + temp + ": " + e.getMessage());
+            }
         }
     }
 
     /**
-     * Saves all the current treatments for each pet into
-     * the save file.
-     * @param writer the file writer
-     * @throws IOException
+     * Copies unread treatment lines of a pet, writing the pet's current name
+     * in place of the one in the old save file.
+     */
+    private static void copyBlocks(FileChannel oldFile, List<long[]> blocks, String petName,
+                                   LineWriter writer) throws IOException {
+        for (String line : readBlocks(oldFile, blocks)) {
+            int bar = line.indexOf('|');
+            writer.write(petName + " " + line.substring(bar) + "\n");
+        }
+    }
+
+    /**
+     * Returns the save file line of a pet.
+     */
+    static String formatPet(Pet pet) {
+        return pet.getName() + idTag(pet.getId()) + " | " + pet.getSpecies() + " | " + pet.getAge() + "\n";
+    }
+
+    /**
+     * Returns the save file line of a pet snapshot.
      */
-    private void saveTreatments(FileWriter writer) throws IOException {
-        writer.write("\n# Treatments\n");
+    static String formatPet(PetSnapshot pet) {
+        return pet.getName() + idTag(pet.getId()) + " | " + pet.getSpecies() + " | " + pet.getAge() + "\n";
+    }
+
+    /**
+     * Returns the save file section holding the recurring treatments of every pet,
+     * or nothing if there are none, so that save files without them stay as they were.
+     */
+    static String formatSchedules(PetList pets) {
+        StringBuilder section = new StringBuilder();
         for (int i = 0; i < pets.size(); i++) {
             Pet pet = pets.get(i);
-            for (Treatment t : pet.getTreatments()) {
-                writer.write(pet.getName() + " | " + t.getName() + " | " +
-                        t.getDate() + " | " + t.isCompleted() + " | " +
-                        (t.hasNote() ? t.getNote() : "") + "\n");
+            for (TreatmentSchedule schedule : pet.getSchedules()) {
+                section.append(formatSchedule(pet, schedule));
             }
         }
+        return section.length() == 0 ? "" : "\n" + SCHEDULES_HEADER + "\n" + section;
     }
 
     /**
-     * Saves all the current pets in the pet list
-     * into the save file.
-     * @param writer the file writer
-     * @throws IOException
+     * Returns the save file section holding the recurring treatments of the given pet
+     * snapshots, or nothing if there are none.
      */
-    private void savePets(FileWriter writer) throws IOException {
-        writer.write("# Pets\n");
-        for (int i = 0; i < pets.size(); i++) {
-            Pet pet = pets.get(i);
-            writer.write(pet.getName() + " | " + pet.getSpecies() + " | " + pet.getAge() + "\n");
+    static String formatSchedules(List<PetSnapshot> pets) {
+        StringBuilder section = new StringBuilder();
+        for (PetSnapshot pet : pets) {
+            for (ScheduleSnapshot schedule : pet.getSchedules()) {
+                section.append(scheduleLine(pet.getName(), schedule.getName(), schedule.describeRule(),
+                        schedule.getCompletedDates(), schedule.getNote()));
+            }
+        }
+        return section.length() == 0 ? "" : "\n" + SCHEDULES_HEADER + "\n" + section;
+    }
+
+    /**
+     * Returns the save file line of a recurring treatment of the given pet.
+     */
+    static String formatSchedule(Pet pet, TreatmentSchedule schedule) {
+        return scheduleLine(pet.getName(), schedule.getName(), schedule.describeRule(),
+                schedule.getCompletedDates(), schedule.getNote());
+    }
+
+    private static String scheduleLine(String petName, String name, String rule,
+                                       NavigableSet<LocalDate> completedDates, String note) {
+        StringBuilder completed = new StringBuilder();
+        for (LocalDate date : completedDates) {
+            completed.append(completed.length() == 0 ? "" : ",").append(date);
         }
+        return petName + " | " + name + " | " + rule + " | " + completed + " | " + (note == null ? "" : note) + "\n";
+    }
+
+    /**
+     * Returns the save file line holding the ids the next new pet and treatment get.
+     */
+    static String formatIds(PetList pets) {
+        return IDS_HEADER + " " + pets.getNextPetId() + " " + pets.getNextTreatmentId() + "\n";
+    }
+
+    /**
+     * Returns the save file line of a treatment of the given pet.
+     */
+    static String formatTreatment(Pet pet, Treatment t) {
+        return pet.getName() + " | " + t.getName() + idTag(t.getId()) + " | " +
+                t.getDate() + " | " + t.isCompleted() + " | " +
+                (t.hasNote() ? t.getNote() : "") + "\n";
+    }
+
+    /**
+     * Returns the save file line of a treatment snapshot of the pet with the given name.
+     */
+    static String formatTreatment(String petName, TreatmentSnapshot t) {
+        return petName + " | " + t.getName() + idTag(t.getId()) + " | " +
+                t.getDate() + " | " + t.isCompleted() + " | " +
+                (t.getNote() == null ? "" : t.getNote()) + "\n";
     }
 
     /**
@@ -301,10 +1017,103 @@ public class Storage {
      * it otherwise.
      * @throws IOException
      */
-    private void createSaveDirectory() throws IOException {
+    void createSaveDirectory() throws IOException {
         File file = new File(filePath).getParentFile();
         if (!file.exists()) {
             Files.createDirectories(file.toPath());
         }
     }
+
+    /**
+     * Reads the lines of a file as raw bytes through its own buffer, keeping track of
+     * the file offsets each line starts and ends at.
+     */
+    private static final class OffsetLineReader implements Closeable {
+        private final InputStream in;
+        private final byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private long bufferOffset;
+
+        /** Bytes of the current line, without its line break. */
+        private byte[] line = new byte[256];
+        private int length;
+        /** File offset of the first byte of the current line. */
+        private long lineStart;
+        /** File offset just past the current line and its line break. */
+        private long lineEnd;
+
+        OffsetLineReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return false once the end of the file is reached
+         */
+        boolean next() throws IOException {
+            lineStart = bufferOffset + position;
+            length = 0;
+            while (true) {
+                if (position == limit && !fill()) {
+                    lineEnd = bufferOffset + position;
+                    return lineEnd > lineStart;
+                }
+                int newline = position;
+                while (newline < limit && buffer[newline] != '\n') {
+                    newline++;
+                }
+                append(position, newline);
+                if (newline < limit) {
+                    position = newline + 1;
+                    lineEnd = bufferOffset + position;
+                    return true;
+                }
+                position = limit;
+            }
+        }
+
+        private boolean fill() throws IOException {
+            bufferOffset += limit;
+            position = 0;
+            limit = Math.max(in.read(buffer), 0);
+            return limit > 0;
+        }
+
+        private void append(int from, int to) {
+            int count = to - from;
+            if (length + count > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+            }
+            System.arraycopy(buffer, from, line, length, count);
+            length += count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Writes UTF-8 text while keeping track of the number of bytes written.
+     */
+    private static final class LineWriter extends FilterOutputStream {
+        private long position;
+
+        LineWriter(OutputStream out) {
+            super(new BufferedOutputStream(out, WRITE_BUFFER_SIZE));
+        }
+
+        void write(String text) throws IOException {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        long getPosition() {
+            return position;
+        }
+    }
 }
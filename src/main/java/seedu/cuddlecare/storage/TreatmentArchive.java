@@ -0,0 +1,406 @@
+package seedu.cuddlecare.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.ui.Ui;
+
+/**
+ * Cold storage for completed treatments older than a horizon.
+ * <p>
+ * Archived treatments are removed from their pets and kept in one compressed
+ * segment file per month, so they no longer take memory or get rewritten on
+ * every save. Date range queries read only the segments of the months they
+ * overlap. Segments are only appended to, except when a pet with archived
+ * treatments is renamed or deleted, which rewrites only the segments that
+ * mention the pet. Appending skips lines a segment already holds, so archiving
+ * again after a crash before the next save adds no duplicates.
+ * <p>
+ * Deleting a pet returns the lines of its archived treatments, so that undoing the
+ * deletion can {@link #restore(List)} them.
+ */
+public class TreatmentArchive {
+
+    private static final Logger LOGGER = Logger.getLogger(TreatmentArchive.class.getName());
+    private static final String SEGMENT_PREFIX = "treatments-";
+    private static final String SEGMENT_SUFFIX = ".txt.gz";
+
+    /** Directory holding the segment files. */
+    private final Path directory;
+
+    /** Completed treatments this many days old or older are archived. */
+    private final int horizonDays;
+
+    /** Months that have a segment file. */
+    private final TreeSet<YearMonth> segments = new TreeSet<>();
+
+    /**
+     * Months whose segments mention each pet, keyed by lowercase pet name, or
+     * {@code null} until a pet is first renamed or deleted.
+     */
+    private Map<String, TreeSet<YearMonth>> monthsByPet;
+
+    /**
+     * Initializes the archive.
+     *
+     * @param directory directory holding the segment files
+     * @param horizonDays age in days after which completed treatments are archived
+     */
+    public TreatmentArchive(String directory, int horizonDays) {
+        assert horizonDays >= 0 : "Archive horizon cannot be negative";
+        this.directory = Paths.get(directory);
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * Finds the existing segment files.
+     */
+    public void open() {
+        segments.clear();
+        monthsByPet = null;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String month = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                try {
+                    segments.add(YearMonth.parse(month));
+                } catch (DateTimeParseException e) {
+                    LOGGER.log(Level.WARNING, "Ignoring unrecognised archive file " + name);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to open archive: " + e.getMessage());
+            Ui.println("Failed to open the treatment archive.");
+        }
+    }
+
+    /**
+     * Moves every completed treatment dated before the horizon out of the pets
+     * and into the segment of its month.
+     * <p>
+     * Pets whose treatments have not been read yet ({@code --lazy}) are not loaded
+     * for this; their old treatments are archived right after they are first read.
+     *
+     * @param pets the list of all pets
+     * @param today the current date
+     * @return the number of treatments archived from pets already in memory
+     */
+    public int archiveOld(PetList pets, LocalDate today) {
+        LocalDate horizon = today.minusDays(horizonDays);
+        List<Pet> loaded = new ArrayList<>();
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            if (pet.hasLoadedTreatments()) {
+                loaded.add(pet);
+            } else {
+                pet.whenTreatmentsLoaded(() -> archive(List.of(pet), horizon));
+            }
+        }
+        return archive(loaded, horizon);
+    }
+
+    /**
+     * Moves the completed treatments of the given pets dated before {@code horizon}
+     * into the segments of their months.
+     *
+     * @return the number of treatments archived
+     */
+    private int archive(List<Pet> pets, LocalDate horizon) {
+        TreeMap<YearMonth, List<String>> linesByMonth = new TreeMap<>();
+        List<Pet> owners = new ArrayList<>();
+        List<Treatment> archived = new ArrayList<>();
+
+        for (Pet pet : pets) {
+            for (Treatment t : pet.getTreatments()) {
+                if (!t.isCompleted() || !t.getDate().isBefore(horizon)) {
+                    continue;
+                }
+                linesByMonth.computeIfAbsent(YearMonth.from(t.getDate()), k -> new ArrayList<>())
+                        .add(Storage.formatTreatment(pet, t).trim());
+                owners.add(pet);
+                archived.add(t);
+            }
+        }
+
+        if (owners.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<YearMonth, List<String>> entry : linesByMonth.entrySet()) {
+                appendToSegment(entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to archive treatments: " + e.getMessage());
+            Ui.println("Failed to archive old treatments.");
+            return 0;
+        }
+
+        for (int k = 0; k < owners.size(); k++) {
+            owners.get(k).removeTreatment(archived.get(k));
+        }
+        LOGGER.log(Level.INFO, "Archived " + owners.size() + " treatments older than " + horizon);
+        return owners.size();
+    }
+
+    /**
+     * Returns the archived treatments dated within the given range, reading only
+     * the segments of the months the range overlaps.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @return map of lowercase pet names to their archived treatments in date order
+     */
+    public Map<String, List<Treatment>> scan(LocalDate fromDate, LocalDate toDate) {
+        Map<String, List<Treatment>> treatmentsByPet = new HashMap<>();
+        if (segments.isEmpty() || fromDate.isAfter(toDate)) {
+            return treatmentsByPet;
+        }
+
+        for (YearMonth month : segments.subSet(YearMonth.from(fromDate), true, YearMonth.from(toDate), true)) {
+            try {
+                for (String line : readSegment(month)) {
+                    String[] parts = line.split("\\|", 5);
+                    if (parts.length < 4) {
+                        continue;
+                    }
+                    LocalDate date = LocalDate.parse(parts[2].trim());
+                    if (date.isBefore(fromDate) || date.isAfter(toDate)) {
+                        continue;
+                    }
+                    int tag = parts[1].indexOf('#');
+                    String name = (tag < 0 ? parts[1] : parts[1].substring(0, tag)).trim();
+                    Treatment t = new Treatment(name, parts.length >= 5 ? parts[4].trim() : "", date);
+                    t.setId(Storage.parseId(parts[1]));
+                    t.setCompleted(Boolean.parseBoolean(parts[3].trim()));
+                    treatmentsByPet.computeIfAbsent(parts[0].trim().toLowerCase(), k -> new ArrayList<>()).add(t);
+                }
+            } catch (IOException | DateTimeParseException e) {
+                LOGGER.log(Level.WARNING, "Failed to read archive segment " + month + ": " + e.getMessage());
+            }
+        }
+
+        for (List<Treatment> treatments : treatmentsByPet.values()) {
+            treatments.sort((a, b) -> a.getDate().compareTo(b.getDate()));
+        }
+        return treatmentsByPet;
+    }
+
+    /**
+     * Updates the archived treatments of a renamed pet.
+     *
+     * @param oldName the previous name of the pet
+     * @param newName the new name of the pet
+     */
+    public void renamePet(String oldName, String newName) {
+        rewritePet(oldName, newName);
+    }
+
+    /**
+     * Drops the archived treatments of a deleted pet.
+     *
+     * @param name the name of the deleted pet
+     * @return the dropped lines, which {@link #restore(List)} puts back
+     */
+    public List<String> removePet(String name) {
+        return rewritePet(name, null);
+    }
+
+    /**
+     * Puts back archived treatments dropped by {@link #removePet(String)}, into the
+     * segments of their months. Lines a segment already holds are skipped.
+     *
+     * @param lines the lines to put back
+     */
+    public void restore(List<String> lines) {
+        TreeMap<YearMonth, List<String>> linesByMonth = new TreeMap<>();
+        try {
+            for (String line : lines) {
+                String[] parts = line.split("\\|", 4);
+                YearMonth month = YearMonth.from(LocalDate.parse(parts[2].trim()));
+                linesByMonth.computeIfAbsent(month, k -> new ArrayList<>()).add(line);
+            }
+            Files.createDirectories(directory);
+            for (Map.Entry<YearMonth, List<String>> entry : linesByMonth.entrySet()) {
+                appendToSegment(entry.getKey(), entry.getValue());
+            }
+        } catch (IOException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            LOGGER.log(Level.SEVERE, "Failed to restore archived treatments: " + e.getMessage());
+            Ui.println("Failed to update the treatment archive.");
+        }
+    }
+
+    /**
+     * Rewrites the segments that mention the given pet, replacing its name or
+     * dropping its lines if {@code newName} is null.
+     *
+     * @return the lines dropped
+     */
+    private List<String> rewritePet(String name, String newName) {
+        List<String> dropped = new ArrayList<>();
+        TreeSet<YearMonth> months = monthsByPet().remove(name.toLowerCase());
+        if (months == null) {
+            return dropped;
+        }
+        TreeSet<YearMonth> failed = new TreeSet<>();
+        for (YearMonth month : months) {
+            try {
+                List<String> lines = readSegment(month);
+                StringBuilder content = new StringBuilder();
+                for (String line : lines) {
+                    int bar = line.indexOf('|');
+                    if (bar < 0 || !line.substring(0, bar).trim().equalsIgnoreCase(name)) {
+                        content.append(line).append('\n');
+                    } else if (newName != null) {
+                        content.append(newName).append(' ').append(line.substring(bar)).append('\n');
+                    } else {
+                        dropped.add(line);
+                    }
+                }
+                replaceSegment(month, content.toString());
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to update archive segment " + month + ": " + e.getMessage());
+                Ui.println("Failed to update the treatment archive.");
+                failed.add(month);
+            }
+        }
+        if (!failed.isEmpty()) {
+            monthsByPet.put(name.toLowerCase(), failed);
+            months.removeAll(failed);
+        }
+        if (newName != null) {
+            monthsByPet.computeIfAbsent(newName.toLowerCase(), k -> new TreeSet<>()).addAll(months);
+        }
+        return dropped;
+    }
+
+    /**
+     * Returns the months whose segments mention each pet, reading every segment
+     * the first time it is needed.
+     */
+    private Map<String, TreeSet<YearMonth>> monthsByPet() {
+        if (monthsByPet != null) {
+            return monthsByPet;
+        }
+        monthsByPet = new HashMap<>();
+        for (YearMonth month : segments) {
+            try {
+                for (String line : readSegment(month)) {
+                    index(month, line);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to read archive segment " + month + ": " + e.getMessage());
+            }
+        }
+        return monthsByPet;
+    }
+
+    /**
+     * Records that a segment mentions the pet of the given line, if the index has been built.
+     */
+    private void index(YearMonth month, String line) {
+        int bar = line.indexOf('|');
+        if (monthsByPet == null || bar < 0) {
+            return;
+        }
+        monthsByPet.computeIfAbsent(line.substring(0, bar).trim().toLowerCase(), k -> new TreeSet<>()).add(month);
+    }
+
+    /**
+     * Returns true if a segment exists for the given month.
+     */
+    public boolean hasSegment(YearMonth month) {
+        return segments.contains(month);
+    }
+
+    private Path segmentPath(YearMonth month) {
+        return directory.resolve(SEGMENT_PREFIX + month + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Appends lines to a segment as a new gzip member, which readers see as
+     * a continuation of the existing ones. Lines the segment already holds are skipped.
+     */
+    private void appendToSegment(YearMonth month, List<String> lines) throws IOException {
+        Set<String> existing = segments.contains(month) ? new HashSet<>(readSegment(month)) : new HashSet<>();
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            if (existing.add(line)) {
+                content.append(line).append('\n');
+                index(month, line);
+            }
+        }
+        if (content.length() == 0) {
+            return;
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(
+                Files.newOutputStream(segmentPath(month), StandardOpenOption.CREATE, StandardOpenOption.APPEND)),
+                StandardCharsets.UTF_8))) {
+            writer.write(content.toString());
+        }
+        segments.add(month);
+    }
+
+    private void replaceSegment(YearMonth month, String lines) throws IOException {
+        Path segment = segmentPath(month);
+        if (lines.isEmpty()) {
+            Files.deleteIfExists(segment);
+            segments.remove(month);
+            return;
+        }
+        Path temp = segment.resolveSibling(segment.getFileName() + ".tmp");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            writer.write(lines);
+        }
+        Files.move(temp, segment, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private List<String> readSegment(YearMonth month) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segmentPath(month))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.cuddlecare.time;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Source of the current date for everything that depends on it.
+ * <p>
+ * The date is read from a {@link Clock}, so tests can supply a fixed or
+ * adjustable one. It is worked out once per calendar day: {@link #today()}
+ * only compares the clock's milliseconds with the next day boundary.
+ * <p>
+ * Once {@link #start()} is called, a background task also fires at each day
+ * boundary and notifies the day listeners, so that caches of time-dependent
+ * views are refreshed once per day instead of on every query.
+ */
+public class ClockService {
+
+    private static final Logger LOGGER = Logger.getLogger(ClockService.class.getName());
+
+    /** Extra delay after the boundary, so the task never sees the end of the old day. */
+    private static final long BOUNDARY_MARGIN_MILLIS = 50;
+
+    /** Clock service used by parts of the application that are not given one. */
+    private static volatile ClockService shared = new ClockService(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private final List<Consumer<LocalDate>> dayListeners = new CopyOnWriteArrayList<>();
+
+    /** The current date, or null until first read. */
+    private LocalDate today;
+    private long dayStartMillis;
+    private long nextDayMillis;
+
+    /** The date the day listeners were last told about, or null before the first check. */
+    private LocalDate notifiedDate;
+
+    /** Fires the day boundary task, or null if not started. */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Initializes the clock service.
+     *
+     * @param clock the clock to read the date and time zone from
+     */
+    public ClockService(Clock clock) {
+        assert clock != null : "Clock cannot be null";
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a clock service that always reads the given date.
+     *
+     * @param date the date to report as today
+     */
+    public static ClockService fixed(LocalDate date) {
+        ZoneId zone = ZoneId.systemDefault();
+        return new ClockService(Clock.fixed(date.atStartOfDay(zone).toInstant(), zone));
+    }
+
+    /**
+     * Returns the clock service shared by the application.
+     */
+    public static ClockService getShared() {
+        return shared;
+    }
+
+    /**
+     * Replaces the clock service shared by the application.
+     *
+     * @param clockService the new shared clock service
+     */
+    public static void setShared(ClockService clockService) {
+        assert clockService != null : "Clock service cannot be null";
+        shared = clockService;
+    }
+
+    /**
+     * Returns the underlying clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the current date in the clock's time zone.
+     */
+    public synchronized LocalDate today() {
+        long now = clock.millis();
+        if (today == null || now >= nextDayMillis || now < dayStartMillis) {
+            updateToday();
+        }
+        return today;
+    }
+
+    /**
+     * Registers a listener to be called with the new date when the day changes.
+     * Listeners are called on the thread that notices the change.
+     *
+     * @param listener the listener to add
+     */
+    public void addDayListener(Consumer<LocalDate> listener) {
+        assert listener != null : "Listener cannot be null";
+        dayListeners.add(listener);
+    }
+
+    /**
+     * Stops calling a listener registered with {@link #addDayListener(Consumer)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeDayListener(Consumer<LocalDate> listener) {
+        dayListeners.remove(listener);
+    }
+
+    /**
+     * Checks whether the date has changed since the last check and, if so,
+     * notifies the day listeners.
+     *
+     * @return true if the date had changed
+     */
+    public boolean checkRollover() {
+        LocalDate previous;
+        LocalDate current;
+        synchronized (this) {
+            previous = notifiedDate;
+            current = today();
+            notifiedDate = current;
+        }
+        if (previous == null || previous.equals(current)) {
+            return false;
+        }
+        LOGGER.log(Level.INFO, "Date changed from " + previous + " to " + current);
+        for (Consumer<LocalDate> listener : dayListeners) {
+            listener.accept(current);
+        }
+        return true;
+    }
+
+    /**
+     * Starts the background task that fires at each day boundary.
+     * Does nothing if it is already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "cuddlecare-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler = executor;
+        checkRollover();
+        scheduleNextBoundary();
+    }
+
+    /**
+     * Stops the background task started by {@link #start()}.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    private void onBoundary() {
+        checkRollover();
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduleNextBoundary();
+            }
+        }
+    }
+
+    private void scheduleNextBoundary() {
+        assert Thread.holdsLock(this) && scheduler != null;
+        long delay = Math.max(0, nextDayMillis - clock.millis()) + BOUNDARY_MARGIN_MILLIS;
+        scheduler.schedule(this::onBoundary, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void updateToday() {
+        assert Thread.holdsLock(this);
+        ZoneId zone = clock.getZone();
+        today = LocalDate.now(clock);
+        dayStartMillis = today.atStartOfDay(zone).toInstant().toEpochMilli();
+        nextDayMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.cuddlecare.time;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.PetListListener;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+
+/**
+ * Overdue treatments of every pet, worked out once per day and then kept up to date.
+ * <p>
+ * A treatment is overdue if it is not completed and dated before today. This
+ * includes the occurrences of recurring treatments up to yesterday. After the
+ * first query of a day, each change to the pets updates only the overdue list
+ * of the pet it touches: adding, removing, marking or unmarking a treatment
+ * inserts or removes that one treatment, and changing a recurring treatment
+ * works out that pet's list again. A new day from the {@link ClockService}
+ * is noticed on the next query, which then checks every treatment again.
+ */
+public class OverdueCache implements PetListListener {
+
+    private static final Logger LOGGER = Logger.getLogger(OverdueCache.class.getName());
+
+    /**
+     * Order of a pet's overdue treatments: by date, with the pet's own treatments before
+     * occurrences of recurring ones on the same date, and own treatments in the order they were added.
+     */
+    private static final Comparator<Treatment> ORDER = Comparator.comparing(Treatment::getDate)
+            .thenComparing(treatment -> treatment.getPet() == null)
+            .thenComparingLong(Treatment::getId);
+
+    private final PetList pets;
+    private final ClockService clock;
+
+    /** Overdue treatments of each pet that has any, kept in {@link #ORDER}, or null before the first query. */
+    private Map<Pet, List<Treatment>> overdueByPet;
+
+    /** Read-only copy of {@link #overdueByPet} in pet list order, or null if it must be built again. */
+    private Map<Pet, List<Treatment>> overdue;
+
+    /** The date {@link #overdueByPet} was worked out for. */
+    private LocalDate computedFor;
+
+    /**
+     * Initializes the cache and starts following changes to the pets.
+     *
+     * @param pets the pets whose treatments are checked
+     * @param clock the source of today's date
+     */
+    public OverdueCache(PetList pets, ClockService clock) {
+        assert pets != null && clock != null : "Pets and clock cannot be null";
+        this.pets = pets;
+        this.clock = clock;
+        pets.addListener(this);
+    }
+
+    /**
+     * Returns today's date as used by this cache.
+     */
+    public LocalDate today() {
+        return clock.today();
+    }
+
+    /**
+     * Returns the overdue treatments of every pet that has any.
+     *
+     * @return read-only map of pets to their overdue treatments, in pet list order
+     */
+    public synchronized Map<Pet, List<Treatment>> getOverdue() {
+        LocalDate today = clock.today();
+        if (overdueByPet == null || !today.equals(computedFor)) {
+            computedFor = today;
+            overdueByPet = compute(today);
+            overdue = null;
+        }
+        if (overdue == null) {
+            overdue = snapshot();
+        }
+        return overdue;
+    }
+
+    /**
+     * Returns the overdue treatments of one pet.
+     *
+     * @param pet the pet to check
+     * @return read-only list of the pet's overdue treatments, empty if there are none
+     */
+    public List<Treatment> getOverdue(Pet pet) {
+        return getOverdue().getOrDefault(pet, List.of());
+    }
+
+    /**
+     * Discards the cached result so that the next query works it out again.
+     */
+    public synchronized void invalidate() {
+        overdueByPet = null;
+        overdue = null;
+    }
+
+    private Map<Pet, List<Treatment>> compute(LocalDate today) {
+        Map<Pet, List<Treatment>> result = new IdentityHashMap<>();
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            List<Treatment> petOverdue = computeFor(pet, today);
+            if (!petOverdue.isEmpty()) {
+                result.put(pet, petOverdue);
+            }
+        }
+        LOGGER.log(Level.FINE, "Worked out overdue treatments for " + today);
+        return result;
+    }
+
+    private static List<Treatment> computeFor(Pet pet, LocalDate today) {
+        List<Treatment> petOverdue = new ArrayList<>();
+        for (Treatment treatment : pet.getTreatments()) {
+            if (isOverdue(treatment, today)) {
+                petOverdue.add(treatment);
+            }
+        }
+        if (!pet.getSchedules().isEmpty()) {
+            for (Treatment occurrence : pet.getOccurrences(LocalDate.MIN, today.minusDays(1))) {
+                if (!occurrence.isCompleted()) {
+                    petOverdue.add(occurrence);
+                }
+            }
+        }
+        petOverdue.sort(ORDER);
+        return petOverdue;
+    }
+
+    private static boolean isOverdue(Treatment treatment, LocalDate today) {
+        return !treatment.isCompleted() && treatment.getDate().isBefore(today);
+    }
+
+    /**
+     * Returns a read-only copy of the overdue treatments in pet list order.
+     */
+    private Map<Pet, List<Treatment>> snapshot() {
+        Map<Pet, List<Treatment>> result = new LinkedHashMap<>();
+        for (int i = 0; i < pets.size() && result.size() < overdueByPet.size(); i++) {
+            Pet pet = pets.get(i);
+            List<Treatment> petOverdue = overdueByPet.get(pet);
+            if (petOverdue != null) {
+                result.put(pet, Collections.unmodifiableList(new ArrayList<>(petOverdue)));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Adds a treatment to its pet's overdue list if it is overdue.
+     */
+    private void insert(Pet pet, Treatment treatment) {
+        if (!isOverdue(treatment, computedFor)) {
+            return;
+        }
+        List<Treatment> petOverdue = overdueByPet.computeIfAbsent(pet, k -> new ArrayList<>());
+        int index = Collections.binarySearch(petOverdue, treatment, ORDER);
+        petOverdue.add(index < 0 ? -index - 1 : index + 1, treatment);
+        overdue = null;
+    }
+
+    /**
+     * Removes a treatment from its pet's overdue list, if it is there.
+     */
+    private void remove(Pet pet, Treatment treatment) {
+        List<Treatment> petOverdue = overdueByPet.get(pet);
+        if (petOverdue == null || !petOverdue.removeIf(entry -> entry == treatment)) {
+            return;
+        }
+        if (petOverdue.isEmpty()) {
+            overdueByPet.remove(pet);
+        }
+        overdue = null;
+    }
+
+    @Override
+    public synchronized void petAdded(Pet pet) {
+        if (overdueByPet == null) {
+            return;
+        }
+        List<Treatment> petOverdue = computeFor(pet, computedFor);
+        if (!petOverdue.isEmpty()) {
+            overdueByPet.put(pet, petOverdue);
+        }
+        overdue = null;
+    }
+
+    @Override
+    public synchronized void petRemoved(Pet pet) {
+        if (overdueByPet != null && overdueByPet.remove(pet) != null) {
+            overdue = null;
+        }
+    }
+
+    @Override
+    public synchronized void treatmentAdded(Pet pet, Treatment treatment) {
+        if (overdueByPet != null) {
+            insert(pet, treatment);
+        }
+    }
+
+    @Override
+    public synchronized void treatmentRemoved(Pet pet, Treatment treatment) {
+        if (overdueByPet != null) {
+            remove(pet, treatment);
+        }
+    }
+
+    @Override
+    public synchronized void treatmentCompletionChanged(Pet pet, Treatment treatment) {
+        if (overdueByPet == null) {
+            return;
+        }
+        if (treatment.isCompleted()) {
+            remove(pet, treatment);
+        } else {
+            insert(pet, treatment);
+        }
+    }
+
+    @Override
+    public synchronized void scheduleChanged(Pet pet, TreatmentSchedule schedule) {
+        if (overdueByPet == null) {
+            return;
+        }
+        List<Treatment> petOverdue = computeFor(pet, computedFor);
+        if (petOverdue.isEmpty()) {
+            overdueByPet.remove(pet);
+        } else {
+            overdueByPet.put(pet, petOverdue);
+        }
+        overdue = null;
+    }
+}
@@ -0,0 +1,243 @@
+package seedu.cuddlecare.time;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import seedu.cuddlecare.LongMap;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.PetListListener;
+import seedu.cuddlecare.Treatment;
+
+/**
+ * Incomplete treatments of every pet, ordered by date.
+ * <p>
+ * The treatments are kept in a set ordered by date, and again in one such set per
+ * pet, so adding, removing, marking and unmarking a treatment each cost
+ * {@code O(log n)}. Reading the {@code k} treatments in a date range starts at the
+ * first one on or after the start of the range, in the set of the requested pet
+ * if there is one, and costs {@code O(log n + k)}.
+ * <p>
+ * Pets whose treatments have not been loaded yet are added once their
+ * treatments are loaded. Occurrences of recurring treatments are not queued;
+ * they are worked out for the range each time it is read.
+ */
+public class UpcomingQueue implements PetListListener {
+
+    /**
+     * A treatment due on a date, with its pet.
+     */
+    public static final class Entry {
+        private final Pet pet;
+        private final Treatment treatment;
+        private final LocalDate date;
+        private final long sequence;
+
+        private Entry(Pet pet, Treatment treatment, long sequence) {
+            this.pet = pet;
+            this.treatment = treatment;
+            this.date = treatment.getDate();
+            this.sequence = sequence;
+        }
+
+        /**
+         * Creates an entry that only marks a position in the order, for range queries.
+         */
+        private Entry(LocalDate date, long sequence) {
+            this.pet = null;
+            this.treatment = null;
+            this.date = date;
+            this.sequence = sequence;
+        }
+
+        public Pet getPet() {
+            return pet;
+        }
+
+        public Treatment getTreatment() {
+            return treatment;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+    }
+
+    /** Orders entries by date, and entries on the same date in the order they were added. */
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::getDate)
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final PetList pets;
+
+    /** Every queued entry, in {@link #ORDER}. */
+    private final TreeSet<Entry> queue = new TreeSet<>(ORDER);
+
+    /** Queued entries of each pet that has any, in {@link #ORDER}. */
+    private final Map<Pet, TreeSet<Entry>> queueByPet = new IdentityHashMap<>();
+
+    /** Queued entries by treatment id. */
+    private final LongMap<Entry> entries = new LongMap<>();
+
+    /** Breaks ties between treatments on the same date in the order they were added. */
+    private long nextSequence;
+
+    /**
+     * Initializes the queue with the incomplete treatments of the pets and
+     * starts following their changes.
+     *
+     * @param pets the pets whose treatments are queued
+     */
+    public UpcomingQueue(PetList pets) {
+        assert pets != null : "Pets cannot be null";
+        this.pets = pets;
+        synchronized (this) {
+            for (int i = 0; i < pets.size(); i++) {
+                addPet(pets.get(i));
+            }
+        }
+        pets.addListener(this);
+    }
+
+    /**
+     * Returns the number of queued treatments.
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the queued treatments dated within the given range, in date order.
+     *
+     * @param fromDate the start of the range (inclusive)
+     * @param toDate the end of the range (inclusive)
+     * @param pet the only pet to include, or {@code null} for every pet
+     * @return the treatments, ordered by date and then by when they were added, with
+     *     occurrences of recurring treatments after the other treatments on their date
+     */
+    public List<Entry> getDue(LocalDate fromDate, LocalDate toDate, Pet pet) {
+        assert fromDate != null && toDate != null : "Dates cannot be null";
+        if (pet == null) {
+            pets.loadAllTreatments();
+        } else {
+            pet.loadTreatments();
+        }
+        synchronized (this) {
+            List<Entry> due = new ArrayList<>();
+            NavigableSet<Entry> candidates = pet == null ? queue : queueByPet.get(pet);
+            if (candidates != null && !fromDate.isAfter(toDate)) {
+                due.addAll(candidates.subSet(new Entry(fromDate, Long.MIN_VALUE), true,
+                        new Entry(toDate, Long.MAX_VALUE), true));
+            }
+            addOccurrences(due, fromDate, toDate, pet);
+            return due;
+        }
+    }
+
+    @Override
+    public synchronized void petAdded(Pet pet) {
+        addPet(pet);
+    }
+
+    @Override
+    public synchronized void petRemoved(Pet pet) {
+        TreeSet<Entry> petEntries = queueByPet.remove(pet);
+        if (petEntries == null) {
+            return;
+        }
+        for (Entry entry : petEntries) {
+            queue.remove(entry);
+            entries.remove(entry.treatment.getId());
+        }
+    }
+
+    @Override
+    public synchronized void treatmentAdded(Pet pet, Treatment treatment) {
+        if (!treatment.isCompleted()) {
+            insert(pet, treatment);
+        }
+    }
+
+    @Override
+    public synchronized void treatmentRemoved(Pet pet, Treatment treatment) {
+        remove(treatment);
+    }
+
+    @Override
+    public synchronized void treatmentCompletionChanged(Pet pet, Treatment treatment) {
+        if (treatment.isCompleted()) {
+            remove(treatment);
+        } else {
+            insert(pet, treatment);
+        }
+    }
+
+    /**
+     * Adds the incomplete occurrences of recurring treatments in the range to {@code due},
+     * keeping it in date order. Occurrences are not queued; they are worked out for the range.
+     */
+    private void addOccurrences(List<Entry> due, LocalDate fromDate, LocalDate toDate, Pet pet) {
+        boolean isAdded = false;
+        if (pet != null) {
+            isAdded = addOccurrencesOf(due, pet, fromDate, toDate);
+        } else {
+            for (int i = 0; i < pets.size(); i++) {
+                isAdded |= addOccurrencesOf(due, pets.get(i), fromDate, toDate);
+            }
+        }
+        if (isAdded) {
+            due.sort(Comparator.comparing(Entry::getDate));
+        }
+    }
+
+    private static boolean addOccurrencesOf(List<Entry> due, Pet pet, LocalDate fromDate, LocalDate toDate) {
+        boolean isAdded = false;
+        for (Treatment occurrence : pet.getOccurrences(fromDate, toDate)) {
+            if (!occurrence.isCompleted()) {
+                due.add(new Entry(pet, occurrence, Long.MAX_VALUE));
+                isAdded = true;
+            }
+        }
+        return isAdded;
+    }
+
+    private void addPet(Pet pet) {
+        if (!pet.hasLoadedTreatments()) {
+            return;
+        }
+        for (Treatment treatment : pet.getTreatments()) {
+            if (!treatment.isCompleted()) {
+                insert(pet, treatment);
+            }
+        }
+    }
+
+    private void insert(Pet pet, Treatment treatment) {
+        assert treatment.getId() > 0 : "Queued treatments must belong to the pet list";
+        if (entries.containsKey(treatment.getId())) {
+            return;
+        }
+        Entry entry = new Entry(pet, treatment, nextSequence++);
+        entries.put(treatment.getId(), entry);
+        queue.add(entry);
+        queueByPet.computeIfAbsent(pet, k -> new TreeSet<>(ORDER)).add(entry);
+    }
+
+    private void remove(Treatment treatment) {
+        Entry entry = entries.remove(treatment.getId());
+        if (entry == null) {
+            return;
+        }
+        queue.remove(entry);
+        TreeSet<Entry> petEntries = queueByPet.get(entry.pet);
+        petEntries.remove(entry);
+        if (petEntries.isEmpty()) {
+            queueByPet.remove(entry.pet);
+        }
+    }
+}
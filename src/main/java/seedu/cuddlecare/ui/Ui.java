@@ -2,9 +2,11 @@ package seedu.cuddlecare.ui;
 
 import seedu.cuddlecare.ui.args.GroupTreatmentsByTypeArg;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class Ui {
 
@@ -13,29 +15,90 @@ public class Ui {
      */
     private static final String PROMPT_SYMBOL = "> ";
 
+    /**
+     * Output sink bound to the current thread, if any.
+     * Threads without a bound sink print to {@link System#out}.
+     */
+    private static final ThreadLocal<PrintStream> OUTPUT = new ThreadLocal<>();
+
     private Ui() {
 
     }
 
+    /**
+     * Returns the sink that output of the current thread should go to.
+     * This is the sink bound through {@link #withOutput(PrintStream, Runnable)},
+     * or the console if none is bound.
+     */
+    public static PrintStream out() {
+        PrintStream out = OUTPUT.get();
+        return out == null ? System.out : out;
+    }
+
+    /**
+     * Runs an action with all output of the current thread sent to the given sink.
+     * The previous sink is restored afterwards, so calls may be nested.
+     *
+     * @param out the sink to print to
+     * @param action the action to run
+     */
+    public static void withOutput(PrintStream out, Runnable action) {
+        withOutput(out, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs an action with all output of the current thread sent to the given sink
+     * and returns its result.
+     *
+     * @param out the sink to print to
+     * @param action the action to run
+     * @param <T> the type of the result
+     * @return the result of the action
+     */
+    public static <T> T withOutput(PrintStream out, Supplier<T> action) {
+        assert out != null : "Output sink cannot be null";
+        PrintStream previous = OUTPUT.get();
+        OUTPUT.set(out);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                OUTPUT.remove();
+            } else {
+                OUTPUT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the symbol printed to prompt for user input.
+     */
+    public static String getPromptSymbol() {
+        return PROMPT_SYMBOL;
+    }
+
     /**
      * Prints a greeting message to the user.
      */
     public static void printGreetMessage() {
-        System.out.println("Hello! Welcome to CuddleCare.");
+        out().println("Hello! Welcome to CuddleCare.");
     }
 
     /**
      * Prints a bye message to the user.
      */
     public static void printByeMessage() {
-        System.out.println("Bye bye, Have a wonderful day ahead :)");
+        out().println("Bye bye, Have a wonderful day ahead :)");
     }
 
     /**
      * Prints the input prompt to the user.
      */
     public static void printInputPrompt() {
-        System.out.print(PROMPT_SYMBOL);
+        out().print(PROMPT_SYMBOL);
     }
 
     /**
@@ -44,7 +107,7 @@ public class Ui {
      * @param syntax the syntax for the command
      */
     public static void printInvalidInputMessage(String syntax) {
-        System.out.println("Invalid input. Usage: " + syntax);
+        out().println("Invalid input. Usage: " + syntax);
     }
 
     /**
@@ -53,7 +116,7 @@ public class Ui {
      * @param header the header message to be printed
      */
     public static void printHeader(String header) {
-        System.out.println(header);
+        out().println(header);
     }
 
     /**
@@ -65,29 +128,64 @@ public class Ui {
      */
     public static <T> void printList(ArrayList<T> list) {
         for (int i = 0; i < list.size(); i++) {
-            System.out.println(i + 1 + "." + list.get(i));
+            out().println(i + 1 + "." + list.get(i));
         }
     }
 
 
     public static void println(String s) {
-        System.out.println(s);
+        out().println(s);
+    }
+
+    public static void println() {
+        out().println();
+    }
+
+    public static void print(String s) {
+        out().print(s);
+    }
+
+    public static void printf(String format, Object... args) {
+        out().printf(format, args);
+    }
+
+    /**
+     * Prints the pet names suggested for a name that was not found, if there are any.
+     *
+     * @param names the suggested names, closest first
+     */
+    public static void printPetSuggestions(List<String> names) {
+        if (!names.isEmpty()) {
+            out().println(formatPetSuggestions(names));
+        }
+    }
+
+    /**
+     * Returns the line suggesting pet names for a name that was not found.
+     *
+     * @param names the suggested names, closest first
+     * @return the line, or an empty string if there are no names
+     */
+    public static String formatPetSuggestions(List<String> names) {
+        return names.isEmpty() ? "" : "Did you mean: " + String.join(", ", names) + "?";
     }
 
     public static void printMarkUsage() {
-        System.out.println("Usage: mark n/PET_NAME i/INDEX");
-        System.out.println("Example: mark n/Milo i/2");
+        out().println("Usage: mark n/PET_NAME i/INDEX");
+        out().println("   or: mark n/PET_NAME s/SCHEDULE_INDEX d/DATE");
+        out().println("Example: mark n/Milo i/2");
     }
 
     public static void printUnmarkUsage() {
-        System.out.println("Usage: unmark n/PET_NAME i/INDEX");
-        System.out.println("Example: unmark n/Milo i/2");
+        out().println("Usage: unmark n/PET_NAME i/INDEX");
+        out().println("   or: unmark n/PET_NAME s/SCHEDULE_INDEX d/DATE");
+        out().println("Example: unmark n/Milo i/2");
     }
 
     public static void printEditPetUsage() {
-        System.out.println("Usage: edit-pet n/OLD_NAME [nn/NEW_NAME] [s/SPECIES] [a/AGE]");
-        System.out.println("Names/species: letters, spaces and '-' only.");
-        System.out.println("NEW_NAME max 20 chars, SPECIES max 30 chars, AGE between 0 and 200 (inclusive).");
+        out().println("Usage: edit-pet n/OLD_NAME [nn/NEW_NAME] [s/SPECIES] [a/AGE]");
+        out().println("Names/species: letters, spaces and '-' only.");
+        out().println("NEW_NAME max 20 chars, SPECIES max 30 chars, AGE between 0 and 200 (inclusive).");
     }
 
 
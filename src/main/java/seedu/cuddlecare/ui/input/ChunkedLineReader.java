@@ -0,0 +1,100 @@
+package seedu.cuddlecare.ui.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * Reads lines from piped or redirected input in large chunks.
+ * <p>
+ * Characters are decoded a whole chunk at a time and each line is cut straight
+ * out of the chunk, so a line that fits in one chunk is copied only once. Lines
+ * end at {@code \n}, {@code \r\n} or {@code \r}.
+ */
+public class ChunkedLineReader implements LineInput {
+
+    /** Number of characters read from the input at a time. */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final char[] chunk;
+
+    /** Position of the next unread character in {@link #chunk}. */
+    private int position;
+
+    /** Number of characters in {@link #chunk}. */
+    private int limit;
+
+    /** True if the last line ended with {@code \r}, so a {@code \n} straight after it is skipped. */
+    private boolean isAfterCarriageReturn;
+
+    /**
+     * Creates a reader of lines from a stream in the platform's default character set.
+     *
+     * @param in the stream to read
+     */
+    public ChunkedLineReader(InputStream in) {
+        this(new InputStreamReader(in, Charset.defaultCharset()), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a reader of lines that reads {@code chunkSize} characters at a time.
+     */
+    ChunkedLineReader(Reader reader, int chunkSize) {
+        assert reader != null : "Reader cannot be null";
+        assert chunkSize > 0 : "Chunk size must be positive";
+        this.reader = reader;
+        this.chunk = new char[chunkSize];
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        StringBuilder partial = null;
+        while (true) {
+            if (position == limit && !fill()) {
+                return partial == null ? null : partial.toString();
+            }
+            if (isAfterCarriageReturn) {
+                isAfterCarriageReturn = false;
+                if (chunk[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            int start = position;
+            while (position < limit) {
+                char c = chunk[position];
+                if (c == '\n' || c == '\r') {
+                    String line = partial == null
+                            ? new String(chunk, start, position - start)
+                            : partial.append(chunk, start, position - start).toString();
+                    position++;
+                    isAfterCarriageReturn = c == '\r';
+                    return line;
+                }
+                position++;
+            }
+            if (partial == null) {
+                partial = new StringBuilder();
+            }
+            partial.append(chunk, start, position - start);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(chunk, 0, chunk.length);
+        while (read == 0) {
+            read = reader.read(chunk, 0, chunk.length);
+        }
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.cuddlecare.ui.input;
+
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Completes the word being typed: a command name, a tag, or a pet name after {@code n/}.
+ */
+public class InputCompleter {
+
+    /** Tags offered when completing a word that has no {@code /} yet. */
+    private static final List<String> TAGS = List.of("n/", "t/", "d/", "i/");
+
+    private final Parser parser;
+
+    /** Supplies the pets whose names are completed, or {@code null} while they are not available. */
+    private final Supplier<PetList> pets;
+
+    /**
+     * Creates a completer for the commands of a parser and the names of some pets.
+     *
+     * @param parser the parser whose command names are completed
+     * @param pets supplies the pets whose names are completed, or {@code null} while they are loading
+     */
+    public InputCompleter(Parser parser, Supplier<PetList> pets) {
+        assert parser != null && pets != null : "Parser and pets cannot be null";
+        this.parser = parser;
+        this.pets = pets;
+    }
+
+    /**
+     * Completes the end of {@code head} as far as every possible completion agrees.
+     * <p>
+     * The first word is completed as a command name. A word after a {@code n/} or
+     * {@code nn/} tag is completed as a pet name, which may contain spaces. Any
+     * other word without a {@code /} is completed as a tag. A word with a single
+     * completion is followed by a space, unless it is a tag.
+     *
+     * @param head the text before the cursor
+     * @param alternatives receives every possible completion if there is more than one
+     * @return {@code head} with its last word completed
+     */
+    public String complete(String head, List<String> alternatives) {
+        assert head != null && alternatives != null : "Text and alternatives cannot be null";
+        int space = head.lastIndexOf(' ');
+        if (space < 0) {
+            return extend(head, 0, parser.completeCommandName(head), alternatives);
+        }
+
+        int nameStart = petNameStart(head);
+        PetList petList = pets.get();
+        if (nameStart >= 0 && petList != null) {
+            List<String> names = petList.findNamesStartingWith(head.substring(nameStart));
+            if (!names.isEmpty()) {
+                return extend(head, nameStart, names, alternatives);
+            }
+        }
+
+        String word = head.substring(space + 1);
+        if (word.indexOf('/') >= 0) {
+            return head;
+        }
+        List<String> tags = new ArrayList<>();
+        for (String tag : TAGS) {
+            if (tag.regionMatches(true, 0, word, 0, word.length())) {
+                tags.add(tag);
+            }
+        }
+        return extend(head, space + 1, tags, alternatives);
+    }
+
+    /**
+     * Returns where the value of the last tag in {@code head} starts if that tag names
+     * a pet, or -1 otherwise.
+     */
+    private static int petNameStart(String head) {
+        int slash = head.lastIndexOf('/');
+        while (slash > 0) {
+            int tagStart = slash;
+            while (tagStart > 0 && Character.isLetter(head.charAt(tagStart - 1))) {
+                tagStart--;
+            }
+            if (tagStart < slash && tagStart > 0 && head.charAt(tagStart - 1) == ' ') {
+                String tag = head.substring(tagStart, slash);
+                return tag.equalsIgnoreCase("n") || tag.equalsIgnoreCase("nn") ? slash + 1 : -1;
+            }
+            slash = head.lastIndexOf('/', slash - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces {@code head} from {@code start} with the longest text all candidates start with.
+     */
+    private static String extend(String head, int start, List<String> candidates, List<String> alternatives) {
+        if (candidates.isEmpty()) {
+            return head;
+        }
+        String first = candidates.get(0);
+        if (candidates.size() == 1) {
+            return head.substring(0, start) + first + (first.endsWith("/") ? "" : " ");
+        }
+        alternatives.addAll(candidates);
+        int common = first.length();
+        for (String candidate : candidates) {
+            int length = 0;
+            while (length < common && length < candidate.length()
+                    && Character.toLowerCase(candidate.charAt(length)) == Character.toLowerCase(first.charAt(length))) {
+                length++;
+            }
+            common = length;
+        }
+        if (common <= head.length() - start) {
+            return head;
+        }
+        return head.substring(0, start) + first.substring(0, common);
+    }
+}
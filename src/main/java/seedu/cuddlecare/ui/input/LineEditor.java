@@ -0,0 +1,336 @@
+package seedu.cuddlecare.ui.input;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads lines typed at a terminal, with editing, history and tab completion.
+ * <p>
+ * The terminal is switched to read each key as it is pressed, and this class
+ * echoes the line itself. Supported keys:
+ * <ul>
+ *     <li>Left, Right, Home, End, Ctrl-A and Ctrl-E move the cursor.</li>
+ *     <li>Backspace and Delete remove a character; Ctrl-U removes everything before the cursor.</li>
+ *     <li>Up and Down step through earlier lines.</li>
+ *     <li>Tab completes the word before the cursor, listing the choices if there are several.</li>
+ *     <li>Ctrl-D on an empty line ends the input.</li>
+ * </ul>
+ */
+public class LineEditor implements LineInput {
+
+    private static final Logger LOGGER = Logger.getLogger(LineEditor.class.getName());
+
+    /** Number of earlier lines kept for Up and Down. */
+    static final int MAX_HISTORY = 500;
+
+    private static final int CTRL_A = 1;
+    private static final int CTRL_D = 4;
+    private static final int CTRL_E = 5;
+    private static final int BACKSPACE = 8;
+    private static final int TAB = 9;
+    private static final int CTRL_U = 21;
+    private static final int ESCAPE = 27;
+    private static final int DELETE = 127;
+
+    private final InputStream in;
+    private final PrintStream out;
+    private final InputCompleter completer;
+    private final String prompt;
+
+    /** Puts the terminal back the way it was, or does nothing if it was not changed. */
+    private final Runnable restoreTerminal;
+
+    private final List<String> history = new ArrayList<>();
+
+    /** The line being edited. */
+    private final StringBuilder line = new StringBuilder();
+
+    /** Position of the cursor in {@link #line}. */
+    private int cursor;
+
+    /**
+     * Creates an editor that reads keys from {@code in} and echoes to {@code out}.
+     * The terminal is assumed to already send each key as it is pressed, without echoing it.
+     *
+     * @param in the key presses
+     * @param out where the line is echoed
+     * @param completer completes the word before the cursor
+     * @param prompt the prompt printed before each line
+     */
+    public LineEditor(InputStream in, PrintStream out, InputCompleter completer, String prompt) {
+        this(in, out, completer, prompt, () -> { });
+    }
+
+    private LineEditor(InputStream in, PrintStream out, InputCompleter completer, String prompt,
+                       Runnable restoreTerminal) {
+        assert in != null && out != null && completer != null && prompt != null : "Arguments cannot be null";
+        this.in = in;
+        this.out = out;
+        this.completer = completer;
+        this.prompt = prompt;
+        this.restoreTerminal = restoreTerminal;
+    }
+
+    /**
+     * Opens an editor on the console if the application is attached to a terminal
+     * that can be switched to read each key as it is pressed.
+     * <p>
+     * The terminal is put back when the editor is closed or the application exits.
+     *
+     * @param completer completes the word before the cursor
+     * @param prompt the prompt printed before each line
+     * @return the editor, or {@code null} if input is not from such a terminal
+     */
+    public static LineEditor openTerminal(InputCompleter completer, String prompt) {
+        File tty = new File("/dev/tty");
+        if (System.console() == null || !tty.exists()) {
+            return null;
+        }
+        String savedMode;
+        try {
+            savedMode = stty(tty, "-g");
+            stty(tty, "-icanon", "-echo", "min", "1");
+        } catch (IOException e) {
+            LOGGER.log(Level.INFO, "Terminal does not support line editing", e);
+            return null;
+        }
+
+        AtomicBoolean isRestored = new AtomicBoolean();
+        Runnable restore = () -> {
+            if (isRestored.compareAndSet(false, true)) {
+                try {
+                    stty(tty, savedMode);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Could not restore the terminal", e);
+                }
+            }
+        };
+        Runtime.getRuntime().addShutdownHook(new Thread(restore, "cuddlecare-terminal"));
+        LOGGER.log(Level.INFO, "Line editing enabled");
+        return new LineEditor(System.in, System.out, completer, prompt, restore);
+    }
+
+    private static String stty(File tty, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("stty");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectInput(tty).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        try {
+            if (process.waitFor() != 0) {
+                throw new IOException("stty failed: " + output);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running stty", e);
+        }
+        return output;
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        line.setLength(0);
+        cursor = 0;
+        int historyIndex = history.size();
+        String draft = "";
+
+        while (true) {
+            int key = in.read();
+            switch (key) {
+            case -1:
+                if (line.length() == 0) {
+                    return null;
+                }
+                return finishLine();
+            case '\r':
+            case '\n':
+                return finishLine();
+            case CTRL_D:
+                if (line.length() == 0) {
+                    out.println();
+                    return null;
+                }
+                deleteAtCursor();
+                break;
+            case BACKSPACE:
+            case DELETE:
+                if (cursor > 0) {
+                    cursor--;
+                    deleteAtCursor();
+                }
+                break;
+            case TAB:
+                complete();
+                break;
+            case CTRL_A:
+                moveCursor(0);
+                break;
+            case CTRL_E:
+                moveCursor(line.length());
+                break;
+            case CTRL_U:
+                line.delete(0, cursor);
+                cursor = 0;
+                redraw();
+                break;
+            case ESCAPE:
+                int action = readEscapeSequence();
+                if (action == 'A' && historyIndex > 0) {
+                    if (historyIndex == history.size()) {
+                        draft = line.toString();
+                    }
+                    historyIndex--;
+                    replaceLine(history.get(historyIndex));
+                } else if (action == 'B' && historyIndex < history.size()) {
+                    historyIndex++;
+                    replaceLine(historyIndex == history.size() ? draft : history.get(historyIndex));
+                } else if (action == 'C') {
+                    moveCursor(Math.min(cursor + 1, line.length()));
+                } else if (action == 'D') {
+                    moveCursor(Math.max(cursor - 1, 0));
+                } else if (action == 'H') {
+                    moveCursor(0);
+                } else if (action == 'F') {
+                    moveCursor(line.length());
+                } else if (action == '3') {
+                    deleteAtCursor();
+                }
+                break;
+            default:
+                if (key >= ' ') {
+                    insert(decode(key));
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the lines read so far that are kept for Up and Down, oldest first.
+     */
+    List<String> getHistory() {
+        return history;
+    }
+
+    private String finishLine() {
+        out.println();
+        out.flush();
+        String result = line.toString();
+        boolean isRepeat = !history.isEmpty() && history.get(history.size() - 1).equals(result);
+        if (!result.isBlank() && !isRepeat) {
+            history.add(result);
+            if (history.size() > MAX_HISTORY) {
+                history.remove(0);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the rest of an escape sequence such as {@code ESC [ A}.
+     *
+     * @return the final letter of the sequence, {@code '3'} for Delete, or 0 if it is not recognised
+     */
+    private int readEscapeSequence() throws IOException {
+        int kind = in.read();
+        if (kind != '[' && kind != 'O') {
+            return 0;
+        }
+        int code = in.read();
+        if (code >= '0' && code <= '9') {
+            int next = in.read();
+            while (next >= '0' && next <= '9' || next == ';') {
+                next = in.read();
+            }
+            return next == '~' && code == '3' ? '3' : 0;
+        }
+        return code;
+    }
+
+    /**
+     * Decodes the character that starts with byte {@code first}, reading any further UTF-8 bytes of it.
+     */
+    private String decode(int first) throws IOException {
+        int extra = first >= 0xF0 ? 3 : first >= 0xE0 ? 2 : first >= 0xC0 ? 1 : 0;
+        if (extra == 0) {
+            return String.valueOf((char) first);
+        }
+        byte[] bytes = new byte[extra + 1];
+        bytes[0] = (byte) first;
+        for (int i = 1; i <= extra; i++) {
+            int next = in.read();
+            if (next < 0) {
+                return "";
+            }
+            bytes[i] = (byte) next;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void complete() {
+        List<String> alternatives = new ArrayList<>();
+        String head = line.substring(0, cursor);
+        String completed = completer.complete(head, alternatives);
+        if (!completed.equals(head)) {
+            line.replace(0, cursor, completed);
+            cursor = completed.length();
+            redraw();
+            return;
+        }
+        if (!alternatives.isEmpty()) {
+            out.println();
+            out.println(String.join("  ", alternatives));
+            redraw();
+        }
+    }
+
+    private void insert(String text) {
+        line.insert(cursor, text);
+        cursor += text.length();
+        redraw();
+    }
+
+    private void deleteAtCursor() {
+        if (cursor < line.length()) {
+            line.deleteCharAt(cursor);
+        }
+        redraw();
+    }
+
+    private void replaceLine(String text) {
+        line.setLength(0);
+        line.append(text);
+        cursor = line.length();
+        redraw();
+    }
+
+    private void moveCursor(int position) {
+        cursor = position;
+        redraw();
+    }
+
+    /**
+     * Prints the prompt and the line again over the current terminal row and puts the cursor in place.
+     */
+    private void redraw() {
+        out.print("\r" + prompt + line + "\033[K");
+        int back = line.length() - cursor;
+        if (back > 0) {
+            out.print("\033[" + back + "D");
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        restoreTerminal.run();
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.cuddlecare.ui.input;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A source of lines of user input.
+ */
+public interface LineInput extends Closeable {
+
+    /**
+     * Reads the next line, without its line terminator.
+     *
+     * @return the line, or {@code null} once the input has ended
+     * @throws IOException if the input cannot be read
+     */
+    String readLine() throws IOException;
+}
@@ -0,0 +1,147 @@
+package seedu.cuddlecare.validation;
+
+import java.time.LocalDate;
+
+/**
+ * The rules that pet and treatment data must follow, defined once for commands,
+ * parsers and storage.
+ * <p>
+ * Text is checked by a single pass over its characters using a lookup table of
+ * character classes, so no regular expression is compiled or run.
+ */
+public final class Validation {
+
+    public static final int MAX_PET_NAME_LENGTH = 20;
+    public static final int MAX_SPECIES_LENGTH = 30;
+    public static final int MAX_TREATMENT_NAME_LENGTH = 50;
+    public static final int MIN_AGE = 0;
+    public static final int MAX_AGE = 200;
+
+    /** How far from today a new treatment may be dated. */
+    public static final int MAX_PAST_YEARS = 10;
+    public static final int MAX_FUTURE_YEARS = 100;
+
+    /** How far in the past a loaded treatment may be dated before it is clamped. */
+    public static final int MAX_LOADED_PAST_YEARS = 110;
+
+    private static final byte LETTER = 1;
+    private static final byte HYPHEN = 2;
+    private static final byte SPACE = 4;
+
+    /** Classes a name may be made of: letters, hyphens and spaces. */
+    private static final byte NAME = LETTER | HYPHEN | SPACE;
+
+    /** Character class of each ASCII character; 0 for characters in no class. */
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LETTER;
+            CLASSES[Character.toUpperCase(c)] = LETTER;
+        }
+        CLASSES['-'] = HYPHEN;
+        CLASSES[' '] = SPACE;
+    }
+
+    private Validation() {}
+
+    /**
+     * Returns true if {@code text} is non-empty and made only of letters, hyphens and spaces.
+     */
+    public static boolean isNameText(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isNameChar(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code name} is a valid pet name.
+     */
+    public static boolean isValidPetName(String name) {
+        return isNameText(name) && name.length() <= MAX_PET_NAME_LENGTH;
+    }
+
+    /**
+     * Returns true if {@code species} is a valid pet species.
+     */
+    public static boolean isValidSpecies(String species) {
+        return isNameText(species) && species.length() <= MAX_SPECIES_LENGTH;
+    }
+
+    /**
+     * Returns true if {@code name} is a valid treatment name.
+     */
+    public static boolean isValidTreatmentName(String name) {
+        return isNameText(name) && name.length() <= MAX_TREATMENT_NAME_LENGTH;
+    }
+
+    /**
+     * Returns true if {@code age} is a valid pet age.
+     */
+    public static boolean isValidAge(int age) {
+        return age >= MIN_AGE && age <= MAX_AGE;
+    }
+
+    /**
+     * Returns the earliest date a new treatment may have.
+     */
+    public static LocalDate earliestTreatmentDate(LocalDate today) {
+        return today.minusYears(MAX_PAST_YEARS);
+    }
+
+    /**
+     * Returns the latest date a new or loaded treatment may have.
+     */
+    public static LocalDate latestTreatmentDate(LocalDate today) {
+        return today.plusYears(MAX_FUTURE_YEARS);
+    }
+
+    /**
+     * Moves a loaded treatment date into the range that loaded treatments may have.
+     */
+    public static LocalDate clampLoadedDate(LocalDate date, LocalDate today) {
+        LocalDate latest = latestTreatmentDate(today);
+        LocalDate earliest = today.minusYears(MAX_LOADED_PAST_YEARS);
+        date = date.isAfter(latest) ? latest : date;
+        return date.isBefore(earliest) ? earliest : date;
+    }
+
+    /**
+     * Turns saved text into a name: drops characters other than letters, hyphens
+     * and spaces, lowercases the letters, trims surrounding spaces and truncates
+     * the result to {@code maxLength}.
+     *
+     * @param raw the text to clean
+     * @param maxLength the longest name to return
+     * @return the cleaned name, empty if nothing is left
+     */
+    public static String clean(String raw, int maxLength) {
+        char[] kept = new char[raw.length()];
+        int length = 0;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (!isNameChar(c)) {
+                continue;
+            }
+            kept[length++] = CLASSES[c] == LETTER ? Character.toLowerCase(c) : c;
+        }
+        int start = 0;
+        while (start < length && kept[start] == ' ') {
+            start++;
+        }
+        while (length > start && kept[length - 1] == ' ') {
+            length--;
+        }
+        return new String(kept, start, Math.min(length - start, maxLength));
+    }
+
+    private static boolean isNameChar(char c) {
+        return c < CLASSES.length && (CLASSES[c] & NAME) != 0;
+    }
+}
@@ -5,15 +5,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.cuddlecare.command.Command;
 import seedu.cuddlecare.command.impl.ByeCommand;
+import seedu.cuddlecare.config.LaunchOptions;
+import seedu.cuddlecare.ui.Ui;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
@@ -61,7 +72,7 @@ class CuddleCareTest {
         app.initialiseCommands();
         Map<String, Command> commands = app.getCommandsForTesting();
 
-        assertEquals(17, commands.size(), "Expected 17 registered commands");
+        assertEquals(25, commands.size(), "Expected 25 registered commands");
 
         assertInstanceOf(ByeCommand.class, commands.get("bye"));
         assertInstanceOf(seedu.cuddlecare.command.impl.AddPetCommand.class, commands.get("add-pet"));
@@ -79,4 +90,50 @@ class CuddleCareTest {
         seedu.cuddlecare.command.impl.HelpCommand hc = (seedu.cuddlecare.command.impl.HelpCommand) helpCommand;
         assertTrue(hc.hasCommands(), "HelpCommand should have received command map");
     }
+
+    @Test
+    void execute_byeWhileJournalRecovered_shutsDownAfterRecovery() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("cuddlecare-app");
+        try {
+            List<String> records = new ArrayList<>();
+            for (int i = 1; i <= 300; i++) {
+                records.add("@add-pet " + petName(i) + " #" + i + " | Dog | 2");
+            }
+            Files.write(directory.resolve("cuddlecare_journal.txt"), records);
+            CuddleCare recovering = new CuddleCare(new LaunchOptions(), directory);
+            Command bye = new ByeCommand() {
+                @Override
+                public void exec(String args) {
+                    Ui.printByeMessage();
+                    recovering.shutdown();
+                }
+            };
+
+            recovering.loadDataInBackground();
+            Thread main = new Thread(() -> recovering.execute(bye, ""));
+            main.setDaemon(true);
+            main.start();
+            main.join(10_000);
+
+            assertFalse(main.isAlive(), "bye should not wait for the loader while holding the lock");
+            String saved = Files.readString(directory.resolve("cuddlecare_save.txt"));
+            assertTrue(saved.contains(petName(300) + " #300"));
+            assertFalse(Files.exists(directory.resolve("cuddlecare_journal.txt")));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /** Returns a pet name made of lowercase letters, as saved, that is different for every number. */
+    private static String petName(int number) {
+        StringBuilder name = new StringBuilder("pet");
+        for (char digit : Integer.toString(number).toCharArray()) {
+            name.append((char) ('a' + digit - '0'));
+        }
+        return name.toString();
+    }
 }
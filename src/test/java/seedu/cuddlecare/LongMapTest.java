@@ -0,0 +1,46 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LongMapTest {
+
+    @Test
+    void putGetRemove_randomOperations_matchesHashMap() {
+        Random random = new Random(40);
+        LongMap<String> map = new LongMap<>();
+        Map<Long, String> expected = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            long key = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = "v" + step;
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void get_missingOrInvalidKey_returnsNull() {
+        LongMap<String> map = new LongMap<>();
+        map.put(7, "seven");
+        assertNull(map.get(8));
+        assertNull(map.get(0));
+        assertFalse(map.containsKey(-7));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PetListTest {
+
+    @Test
+    void getPetByName_afterRenames_followsNewName() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        pets.add(milo);
+        pets.renamePet(milo, "Max");
+        assertNull(pets.getPetByName("milo"));
+        assertSame(milo, pets.getPetByName("MAX"));
+
+        milo.setName("Rex");
+        assertNull(pets.getPetByName("max"));
+        assertSame(milo, pets.getPetByName("rex"));
+
+        pets.deletePet(milo);
+        assertNull(pets.getPetByName("rex"));
+        assertTrue(pets.add(new Pet("Rex", "Cat", 1)));
+    }
+
+    @Test
+    void suggestNames_prefixesThenTypos() {
+        PetList pets = new PetList();
+        for (String name : new String[] {"Milo", "Mila", "Milou", "Bindi"}) {
+            pets.add(new Pet(name, "Dog", 1));
+        }
+
+        assertEquals(List.of("Milo", "Milou", "Mila"), pets.suggestNames("milo"));
+        assertEquals(List.of("Bindi"), pets.suggestNames("Bnidi"));
+        assertEquals(List.of(), pets.suggestNames(""));
+        assertSame(pets.getPetByName("bindi"), pets.findPet("bi"));
+        assertNull(pets.findPet("mil"));
+    }
+
+    @Test
+    void add_petsAndTreatments_getIncreasingIds() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        Treatment vaccine = new Treatment("Vaccine", null, LocalDate.of(2025, 1, 10));
+        milo.addTreatment(vaccine);
+        pets.add(milo);
+        Pet luna = new Pet("Luna", "Cat", 3);
+        pets.add(luna);
+        Treatment checkup = new Treatment("Checkup", null, LocalDate.of(2025, 3, 5));
+        luna.addTreatment(checkup);
+
+        assertEquals(1, milo.getId());
+        assertEquals(2, luna.getId());
+        assertEquals(1, vaccine.getId());
+        assertEquals(2, checkup.getId());
+        assertSame(luna, pets.getPetById(2));
+        assertSame(checkup, pets.getTreatmentById(2));
+    }
+
+    @Test
+    void deletePet_idsForgottenAndNotReused() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        pets.add(milo);
+        Treatment vaccine = new Treatment("Vaccine", null, LocalDate.of(2025, 1, 10));
+        milo.addTreatment(vaccine);
+        pets.deletePet(milo);
+
+        assertNull(pets.getPetById(milo.getId()));
+        assertNull(pets.getTreatmentById(vaccine.getId()));
+        Pet luna = new Pet("Luna", "Cat", 3);
+        pets.add(luna);
+        assertNotEquals(milo.getId(), luna.getId());
+    }
+
+    @Test
+    void add_takenId_getsNewId() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        milo.setId(5);
+        pets.add(milo);
+        Pet luna = new Pet("Luna", "Cat", 3);
+        luna.setId(5);
+        pets.add(luna);
+
+        assertEquals(5, milo.getId());
+        assertEquals(6, luna.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PetNameIndexTest {
+
+    private static List<String> names(List<Pet> pets) {
+        List<String> names = new ArrayList<>();
+        for (Pet pet : pets) {
+            names.add(pet.getName());
+        }
+        return names;
+    }
+
+    private static PetNameIndex indexOf(String... names) {
+        PetNameIndex index = new PetNameIndex();
+        for (String name : names) {
+            index.add(new Pet(name, "Dog", 1));
+        }
+        return index;
+    }
+
+    @Test
+    void get_anyCase_findsPet() {
+        PetNameIndex index = new PetNameIndex();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        index.add(milo);
+
+        assertSame(milo, index.get("mILO"));
+        assertNull(index.get("Mil"));
+        assertNull(index.get("Milos"));
+    }
+
+    @Test
+    void remove_sharedPrefix_otherNamesKept() {
+        PetNameIndex index = indexOf("Mi", "Milo", "Mini Max");
+
+        assertEquals("Milo", index.remove("milo").getName());
+        assertNull(index.remove("milo"));
+        assertEquals(List.of("Mi", "Mini Max"), names(index.startingWith("m")));
+        assertEquals(2, index.size());
+
+        index.remove("Mi");
+        assertEquals(List.of("Mini Max"), names(index.startingWith("M")));
+    }
+
+    @Test
+    void getByUniquePrefix_uniqueOrExact_found() {
+        PetNameIndex index = indexOf("Mi", "Milo", "Mini Max", "Bindi");
+
+        assertEquals("Bindi", index.getByUniquePrefix("b").getName());
+        assertEquals("Mini Max", index.getByUniquePrefix("min").getName());
+        assertEquals("Mi", index.getByUniquePrefix("mi").getName());
+        assertNull(index.getByUniquePrefix("x"));
+        assertNull(index.getByUniquePrefix(""));
+    }
+
+    @Test
+    void getByUniquePrefix_ambiguous_returnsNull() {
+        assertNull(indexOf("Milo", "Mini").getByUniquePrefix("Mi"));
+    }
+
+    @Test
+    void near_typos_closestFirst() {
+        PetNameIndex index = indexOf("Milo", "Mila", "Bindi", "Chiku");
+
+        assertEquals(List.of("Milo", "Mila"), names(index.near("milo", 1)));
+        assertEquals(List.of("Mila", "Milo"), names(index.near("Mla", 2)));
+        assertEquals(List.of("Bindi"), names(index.near("bnidi", 2)));
+        assertEquals(List.of(), names(index.near("rex", 1)));
+    }
+}
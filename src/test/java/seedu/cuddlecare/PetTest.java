@@ -0,0 +1,41 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PetTest {
+
+    @Test
+    void addTreatment_outOfOrderDates_keptInDateOrder() {
+        Pet milo = new Pet("Milo", "Dog", 2);
+        Treatment checkup = new Treatment("Checkup", null, LocalDate.of(2025, 3, 5));
+        Treatment vaccine = new Treatment("Vaccine", null, LocalDate.of(2025, 1, 10));
+        Treatment bath = new Treatment("Bath", null, LocalDate.of(2025, 3, 5));
+        milo.addTreatment(checkup);
+        milo.addTreatment(vaccine);
+        milo.addTreatment(bath);
+
+        assertEquals(List.of(vaccine, checkup, bath), milo.getTreatments());
+        assertEquals(2, milo.indexOf(bath));
+        assertEquals(-1, milo.indexOf(new Treatment("Bath", null, LocalDate.of(2025, 3, 5))));
+    }
+
+    @Test
+    void removeTreatment_byTreatment_removesOnlyThatTreatment() {
+        Pet milo = new Pet("Milo", "Dog", 2);
+        Treatment first = new Treatment("Walk", null, LocalDate.of(2025, 3, 5));
+        Treatment second = new Treatment("Walk", null, LocalDate.of(2025, 3, 5));
+        milo.addTreatment(first);
+        milo.addTreatment(second);
+
+        assertTrue(milo.removeTreatment(second));
+        assertFalse(milo.removeTreatment(second));
+        assertEquals(List.of(first), milo.getTreatments());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SymbolTableTest {
+
+    @Test
+    void intern_equalSpellings_returnsSameInstance() {
+        String first = SymbolTable.intern(new String("deworming"));
+        String second = SymbolTable.intern(new String("deworming"));
+        assertSame(first, second);
+    }
+
+    @Test
+    void idOf_spellingsDifferingInCase_shareOneId() {
+        assertEquals(SymbolTable.idOf("Vaccine"), SymbolTable.idOf("vACCINE"));
+        assertNotEquals(SymbolTable.idOf("Vaccine"), SymbolTable.idOf("Vaccines"));
+        assertEquals("vaccine", SymbolTable.nameOf(SymbolTable.idOf("VACCINE")));
+    }
+
+    @Test
+    void newPets_sameSpecies_shareSpeciesInstance() {
+        Pet milo = new Pet("Milo", new String("dog"), 2);
+        Pet rex = new Pet("Rex", new String("dog"), 4);
+        assertSame(milo.getSpecies(), rex.getSpecies());
+    }
+
+    @Test
+    void isDuplicateTreatment_nameDiffersInCase_detectsDuplicate() {
+        Pet milo = new Pet("Milo", "dog", 2);
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.of(2025, 1, 1)));
+
+        assertTrue(milo.isDuplicateTreatment(new Treatment("vaccine", null, LocalDate.of(2025, 1, 1))));
+        assertFalse(milo.isDuplicateTreatment(new Treatment("vaccine", null, LocalDate.of(2025, 1, 2))));
+    }
+
+    @Test
+    void intern_unreferencedSpellings_droppedAfterCollection() throws InterruptedException {
+        int before = SymbolTable.size();
+        for (int i = 0; i < 1000; i++) {
+            SymbolTable.idOf("temporary symbol " + i);
+        }
+        for (int attempt = 0; attempt < 50 && SymbolTable.size() >= before + 1000; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(SymbolTable.size() < before + 1000);
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreatmentColumnsTest {
+
+    private PetList pets;
+    private Pet milo;
+    private Pet luna;
+
+    @BeforeEach
+    void setUp() {
+        pets = PetList.withColumnarStore();
+        milo = new Pet("Milo", "Dog", 2);
+        milo.addTreatment(new Treatment("Vaccine", "booster", LocalDate.of(2025, 1, 10)));
+        pets.add(milo);
+        luna = new Pet("Luna", "Cat", 3);
+        pets.add(luna);
+        luna.addTreatment(new Treatment("Vaccine", null, LocalDate.of(2025, 2, 1)));
+        milo.addTreatment(new Treatment("Checkup", null, LocalDate.of(2025, 3, 5)));
+    }
+
+    @Test
+    void addTreatment_attachedPet_treatmentReadsFromColumns() {
+        Treatment vaccine = milo.getTreatments().get(0);
+        vaccine.setCompleted(true);
+
+        TreatmentColumns columns = pets.getTreatmentColumns();
+        assertEquals(3, columns.liveCount());
+        assertEquals("Vaccine", vaccine.getName());
+        assertEquals("booster", vaccine.getNote());
+        assertEquals(LocalDate.of(2025, 1, 10), vaccine.getDate());
+        assertTrue(vaccine.isCompleted());
+        assertEquals("[X] Vaccine on 2025-01-10\n      Note: booster", vaccine.toString());
+    }
+
+    @Test
+    void findRowsByPet_treatmentAddedOutOfOrder_rowsInListOrder() {
+        milo.addTreatment(new Treatment("Bath", null, LocalDate.of(2025, 2, 1)));
+        TreatmentColumns columns = pets.getTreatmentColumns();
+
+        int[] rows = columns.findRowsByPet(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                TreatmentColumns.Status.ANY)[milo.getColumnId()];
+        assertEquals(milo.getTreatments().size(), rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            assertEquals(milo.getTreatments().get(i).toString(), columns.describe(rows[i]));
+        }
+    }
+
+    @Test
+    void findRowsByPet_statusAndRange_selectsMatchingRowsPerPet() {
+        milo.getTreatments().get(1).setCompleted(true);
+        TreatmentColumns columns = pets.getTreatmentColumns();
+
+        int[][] pending = columns.findRowsByPet(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                TreatmentColumns.Status.PENDING);
+        assertEquals(1, pending[milo.getColumnId()].length);
+        assertEquals(1, pending[luna.getColumnId()].length);
+
+        int[][] completed = columns.findRowsByPet(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31),
+                TreatmentColumns.Status.COMPLETED);
+        assertNotNull(completed[milo.getColumnId()]);
+        assertEquals("[X] Checkup on 2025-03-05", columns.describe(completed[milo.getColumnId()][0]));
+        assertNull(completed[luna.getColumnId()]);
+    }
+
+    @Test
+    void removeTreatment_attachedPet_rowIsSkippedAndTreatmentStaysReadable() {
+        Treatment removed = milo.removeTreatment(0);
+        TreatmentColumns columns = pets.getTreatmentColumns();
+
+        assertEquals(2, columns.liveCount());
+        assertEquals("Vaccine", removed.getName());
+        assertEquals(LocalDate.of(2025, 1, 10), removed.getDate());
+        int[][] rows = columns.findRowsByPet(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31),
+                TreatmentColumns.Status.ANY);
+        assertNull(rows[milo.getColumnId()]);
+    }
+
+    @Test
+    void deletePet_attachedPet_releasesAllRows() {
+        pets.deletePet(milo);
+
+        assertEquals(1, pets.getTreatmentColumns().liveCount());
+        assertEquals(-1, milo.getColumnId());
+        assertEquals(2, milo.getTreatments().size());
+        assertEquals("Checkup", milo.getTreatments().get(1).getName());
+    }
+
+    @Test
+    void compact_deadRows_liveTreatmentsFollowTheirRows() {
+        milo.removeTreatment(0);
+        luna.getTreatments().get(0).setCompleted(true);
+        TreatmentColumns columns = pets.getTreatmentColumns();
+
+        columns.compact();
+
+        assertEquals(2, columns.rowCount());
+        assertEquals(2, columns.liveCount());
+        assertEquals("[ ] Checkup on 2025-03-05", milo.getTreatments().get(0).toString());
+        assertEquals("[X] Vaccine on 2025-02-01", luna.getTreatments().get(0).toString());
+        int[][] rows = columns.findRowsByPet(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                TreatmentColumns.Status.ANY);
+        assertEquals("[ ] Checkup on 2025-03-05", columns.describe(rows[milo.getColumnId()][0]));
+    }
+
+    @Test
+    void compactIfSparse_fewDeadRows_keepsRows() {
+        milo.removeTreatment(0);
+
+        assertFalse(pets.getTreatmentColumns().compactIfSparse());
+        assertEquals(3, pets.getTreatmentColumns().rowCount());
+    }
+
+    @Test
+    void findRowsByPet_randomChanges_matchesPetTreatmentsInRange() {
+        Random random = new Random(39);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int step = 0; step < 3000; step++) {
+            Pet pet = random.nextBoolean() ? milo : luna;
+            List<Treatment> treatments = pet.getTreatments();
+            int action = random.nextInt(4);
+            if (action <= 1 || treatments.isEmpty()) {
+                pet.addTreatment(new Treatment("T" + step, null, start.plusDays(random.nextInt(90))));
+            } else if (action == 2) {
+                pet.removeTreatment(random.nextInt(treatments.size()));
+            } else {
+                treatments.get(random.nextInt(treatments.size())).setCompleted(random.nextBoolean());
+            }
+            if (step == 1500) {
+                pets.getTreatmentColumns().compact();
+            }
+        }
+
+        LocalDate from = start.plusDays(20);
+        LocalDate to = start.plusDays(60);
+        TreatmentColumns columns = pets.getTreatmentColumns();
+        int[][] rowsByPet = columns.findRowsByPet(from, to, TreatmentColumns.Status.PENDING);
+        for (Pet pet : List.of(milo, luna)) {
+            List<String> expected = pet.getTreatments().stream()
+                    .filter(t -> !t.isCompleted() && !t.getDate().isBefore(from) && !t.getDate().isAfter(to))
+                    .map(Treatment::toString)
+                    .collect(Collectors.toList());
+            int[] rows = rowsByPet[pet.getColumnId()];
+            List<String> actual = rows == null ? List.of()
+                    : Arrays.stream(rows).mapToObj(columns::describe).collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.cuddlecare;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreatmentScheduleTest {
+
+    private static List<LocalDate> datesOf(List<Treatment> treatments) {
+        return treatments.stream().map(Treatment::getDate).collect(Collectors.toList());
+    }
+
+    @Test
+    void unitFromName_singularPluralAndCase_resolved() {
+        assertEquals(TreatmentSchedule.Unit.DAY, TreatmentSchedule.Unit.fromName("day"));
+        assertEquals(TreatmentSchedule.Unit.WEEK, TreatmentSchedule.Unit.fromName("Weeks"));
+        assertEquals(TreatmentSchedule.Unit.MONTH, TreatmentSchedule.Unit.fromName("MONTHS"));
+        assertNull(TreatmentSchedule.Unit.fromName("fortnight"));
+    }
+
+    @Test
+    void occurrencesBetween_onlyInsideWindow() {
+        TreatmentSchedule schedule = new TreatmentSchedule("Deworming", null, LocalDate.of(2025, 1, 1),
+                2, TreatmentSchedule.Unit.WEEK, null);
+
+        List<LocalDate> dates = datesOf(schedule.occurrencesBetween(LocalDate.of(2025, 2, 1),
+                LocalDate.of(2025, 3, 1)));
+        assertEquals(List.of(LocalDate.of(2025, 2, 12), LocalDate.of(2025, 2, 26)), dates);
+        assertTrue(schedule.occurrencesBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)).isEmpty());
+        assertEquals(1, schedule.occurrencesBetween(LocalDate.of(2099, 1, 1), LocalDate.of(2099, 1, 14)).size());
+    }
+
+    @Test
+    void occurrencesBetween_monthsFromEndOfMonth_clampedAndStopAtEnd() {
+        TreatmentSchedule schedule = new TreatmentSchedule("Vaccine", null, LocalDate.of(2025, 1, 31),
+                1, TreatmentSchedule.Unit.MONTH, LocalDate.of(2025, 4, 29));
+
+        List<LocalDate> dates = datesOf(schedule.occurrencesBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31)),
+                dates);
+        assertTrue(schedule.occursOn(LocalDate.of(2025, 2, 28)));
+        assertFalse(schedule.occursOn(LocalDate.of(2025, 2, 27)));
+    }
+
+    @Test
+    void setCompleted_onlyOccurrenceDatesAndReflectedInOccurrences() {
+        TreatmentSchedule schedule = new TreatmentSchedule("Checkup", "fasting", LocalDate.of(2025, 1, 1),
+                3, TreatmentSchedule.Unit.DAY, null);
+
+        assertFalse(schedule.setCompleted(LocalDate.of(2025, 1, 2), true));
+        assertTrue(schedule.setCompleted(LocalDate.of(2025, 1, 4), true));
+        assertEquals(1, schedule.getCompletedDates().size());
+
+        List<Treatment> occurrences = schedule.occurrencesBetween(LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 1, 7));
+        assertEquals(3, occurrences.size());
+        assertFalse(occurrences.get(0).isCompleted());
+        assertTrue(occurrences.get(1).isCompleted());
+        assertEquals("fasting", occurrences.get(1).getNote());
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 4)),
+                datesOf(schedule.completedBetween(LocalDate.MIN, LocalDate.MAX)));
+        assertTrue(schedule.setCompleted(LocalDate.of(2025, 1, 4), false));
+        assertTrue(schedule.completedBetween(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    void describeRule_pluralAndEnd() {
+        assertEquals("every 3 months from 2025-01-31 until 2025-12-31", new TreatmentSchedule("Vaccine", null,
+                LocalDate.of(2025, 1, 31), 3, TreatmentSchedule.Unit.MONTH, LocalDate.of(2025, 12, 31))
+                .describeRule());
+        assertEquals("every week from 2025-01-01", new TreatmentSchedule("Vaccine", null,
+                LocalDate.of(2025, 1, 1), 1, TreatmentSchedule.Unit.WEEK, null).describeRule());
+    }
+
+    @Test
+    void pet_occurrencesAcrossSchedules_sortedAndChangesNotified() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "dog", 2);
+        pets.add(milo);
+        int[] changes = {0};
+        pets.addListener(new PetListListener() {
+            @Override
+            public void scheduleChanged(Pet pet, TreatmentSchedule schedule) {
+                changes[0]++;
+            }
+        });
+
+        TreatmentSchedule weekly = new TreatmentSchedule("Brushing", null, LocalDate.of(2025, 1, 2),
+                1, TreatmentSchedule.Unit.WEEK, null);
+        TreatmentSchedule monthly = new TreatmentSchedule("Deworming", null, LocalDate.of(2025, 1, 1),
+                1, TreatmentSchedule.Unit.MONTH, null);
+        milo.addSchedule(weekly);
+        milo.addSchedule(monthly);
+        monthly.setCompleted(LocalDate.of(2025, 1, 1), true);
+
+        List<Treatment> occurrences = milo.getOccurrences(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10));
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 9)),
+                datesOf(occurrences));
+        assertEquals(1, milo.getCompletedOccurrences(LocalDate.MIN, LocalDate.MAX).size());
+
+        milo.removeSchedule(0);
+        assertEquals(4, changes[0]);
+        assertNull(weekly.getPet());
+    }
+}
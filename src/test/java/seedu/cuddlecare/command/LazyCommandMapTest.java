@@ -0,0 +1,56 @@
+package seedu.cuddlecare.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.command.impl.ByeCommand;
+import seedu.cuddlecare.command.impl.HelpCommand;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyCommandMapTest {
+
+    @Test
+    void get_registeredCommand_createdOnceOnFirstLookup() {
+        int[] created = new int[1];
+        LazyCommandMap commands = new LazyCommandMap()
+                .register("bye", () -> {
+                    created[0]++;
+                    return new ByeCommand();
+                })
+                .register("help", HelpCommand::new);
+
+        assertEquals(2, commands.size());
+        assertTrue(commands.containsKey("bye"));
+        assertFalse(commands.isCreated("bye"));
+        assertEquals(0, created[0]);
+
+        Command bye = commands.get("bye");
+        assertInstanceOf(ByeCommand.class, bye);
+        assertSame(bye, commands.get("bye"));
+        assertEquals(1, created[0]);
+        assertFalse(commands.isCreated("help"));
+        assertNull(commands.get("unknown"));
+    }
+
+    @Test
+    void entrySet_iterated_createsEveryCommandInOrder() {
+        LazyCommandMap commands = new LazyCommandMap()
+                .register("help", HelpCommand::new)
+                .register("bye", ByeCommand::new);
+
+        StringBuilder names = new StringBuilder();
+        for (Map.Entry<String, Command> entry : commands.entrySet()) {
+            names.append(entry.getKey()).append(' ');
+        }
+
+        assertEquals("help bye ", names.toString());
+        assertTrue(commands.isCreated("help"));
+        assertTrue(commands.isCreated("bye"));
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.cuddlecare.command.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.time.ClockService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AddScheduleCommandTest {
+
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+    private PetList pets;
+    private Pet milo;
+    private ClockService originalClock;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() {
+        originalClock = ClockService.getShared();
+        ClockService.setShared(ClockService.fixed(LocalDate.parse("2025-10-24")));
+        pets = new PetList();
+        milo = new Pet("Milo", "dog", 2);
+        pets.add(milo);
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        ClockService.setShared(originalClock);
+    }
+
+    @Test
+    void exec_validArgs_addsSchedule() {
+        new AddScheduleCommand(pets).exec("n/Milo t/Deworming every/3 months from/2025-01-31 "
+                + "until/2025-12-31 note/half tablet");
+
+        assertEquals(1, milo.getSchedules().size());
+        TreatmentSchedule schedule = milo.getSchedules().get(0);
+        assertEquals(TreatmentSchedule.Unit.MONTH, schedule.getUnit());
+        assertEquals(3, schedule.getInterval());
+        assertEquals("half tablet", schedule.getNote());
+        assertTrue(outContent.toString().contains("Added recurring treatment \"Deworming\" "
+                + "every 3 months from 2025-01-31 until 2025-12-31 for Milo."));
+    }
+
+    @Test
+    void exec_unitWithoutNumber_recursEveryUnit() {
+        new AddScheduleCommand(pets).exec("n/Milo t/Brushing every/week from/2025-10-01");
+
+        assertEquals("every week from 2025-10-01", milo.getSchedules().get(0).describeRule());
+    }
+
+    @Test
+    void exec_invalidRecurrenceOrDates_notAdded() {
+        AddScheduleCommand command = new AddScheduleCommand(pets);
+        command.exec("n/Milo t/Brushing every/0 days from/2025-10-01");
+        command.exec("n/Milo t/Brushing every/2 fortnights from/2025-10-01");
+        command.exec("n/Milo t/Brushing every/week from/2025-10-01 until/2025-09-01");
+        command.exec("n/Milo t/Brushing every/week from/2025-13-01");
+        command.exec("n/Milo t/Brushing from/2025-10-01");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Error: every/ must be a number from 1 to 999"));
+        assertTrue(output.contains("Error: End date cannot be before the start date."));
+        assertTrue(output.contains("Invalid date format."));
+        assertTrue(output.contains("Syntax: add-schedule"));
+        assertTrue(milo.getSchedules().isEmpty());
+    }
+
+    @Test
+    void exec_duplicateOrUnknownPet_notAdded() {
+        AddScheduleCommand command = new AddScheduleCommand(pets);
+        command.exec("n/Milo t/Brushing every/week from/2025-10-01");
+        command.exec("n/Milo t/brushing every/2 weeks from/2025-10-01");
+        command.exec("n/Mlio t/Brushing every/week from/2025-10-01");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Duplicate recurring treatment"));
+        assertTrue(output.contains("Pet not found: Mlio"));
+        assertEquals(1, milo.getSchedules().size());
+    }
+
+    @Test
+    void listAndDelete_schedules_showIndexesAndRemove() {
+        new AddScheduleCommand(pets).exec("n/Milo t/Brushing every/week from/2025-10-01");
+        milo.getSchedules().get(0).setCompleted(LocalDate.parse("2025-10-08"), true);
+        outContent.reset();
+
+        new ListSchedulesCommand(pets).exec("n/mi");
+        assertTrue(outContent.toString().contains("1.Brushing every week from 2025-10-01 (1 completed)"));
+
+        new DeleteScheduleCommand(pets).exec("n/Milo s/2");
+        assertTrue(outContent.toString().contains("Invalid schedule index."));
+        new DeleteScheduleCommand(pets).exec("n/Milo s/1");
+        assertTrue(outContent.toString().contains("Deleted recurring treatment \"Brushing\" for Milo."));
+        assertTrue(milo.getSchedules().isEmpty());
+
+        outContent.reset();
+        new ListSchedulesCommand(pets).exec("");
+        assertTrue(outContent.toString().contains("No recurring treatments added."));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -187,4 +188,17 @@ class FilterTreatmentByDateCommandTest {
         String output = outContent.toString().trim();
         assertEquals("No treatments found from 2024-12-01 to 2024-12-31.", output);
     }
+
+    @Test
+    void exec_recurringTreatment_listsOccurrencesInRange() {
+        petList.getPetByName("Peanut").addSchedule(new TreatmentSchedule("Brushing", null,
+                LocalDate.parse("2024-11-26"), 1, TreatmentSchedule.Unit.WEEK, LocalDate.parse("2025-06-30")));
+        FilterTreatmentByDateCommand command = new FilterTreatmentByDateCommand(petList);
+        command.exec("from/2024-12-01 to/2024-12-15");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Found 5 treatment(s) from 2024-12-01 to 2024-12-15:"), output);
+        assertTrue(output.contains("2024-12-03"), output);
+        assertTrue(output.contains("2024-12-10"), output);
+    }
 }
@@ -15,6 +15,7 @@ import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -101,6 +102,63 @@ public class HelpCommandTest {
         assertTrue(output.contains("Command \"unknown\" not found"));
     }
 
+    @Test
+    public void exec_misspelledCommandName_suggestsClosestCommands() {
+        Map<String, Command> commands = new HashMap<>();
+        commands.put("add-pet", new AddPetCommand(new PetList()));
+        commands.put("edit-pet", new EditPetCommand(new PetList()));
+        commands.put("mark", new MarkTreatmentCommand(new PetList()));
+        helpCommand.setCommands(commands);
+
+        helpCommand.exec("c/ad-pet");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Command \"ad-pet\" not found"));
+        assertTrue(output.contains("Did you mean: add-pet, edit-pet?"));
+    }
+
+    @Test
+    public void exec_unrelatedCommandName_noSuggestions() {
+        Map<String, Command> commands = new HashMap<>();
+        commands.put("add-pet", new AddPetCommand(new PetList()));
+        helpCommand.setCommands(commands);
+
+        helpCommand.exec("c/summary");
+
+        assertFalse(outContent.toString().contains("Did you mean"));
+    }
+
+    @Test
+    public void exec_calledTwice_samePrintedText() {
+        Map<String, Command> commands = new HashMap<>();
+        commands.put("add-pet", new AddPetCommand(new PetList()));
+        commands.put("help", new HelpCommand());
+        helpCommand.setCommands(commands);
+
+        helpCommand.exec("");
+        String first = outContent.toString();
+        outContent.reset();
+        helpCommand.exec("");
+
+        assertEquals(first, outContent.toString());
+    }
+
+    @Test
+    public void setCommands_newCommands_helpRenderedAgain() {
+        Map<String, Command> commands = new HashMap<>();
+        commands.put("add-pet", new AddPetCommand(new PetList()));
+        helpCommand.setCommands(commands);
+        helpCommand.exec("");
+
+        Map<String, Command> moreCommands = new HashMap<>(commands);
+        moreCommands.put("mark", new MarkTreatmentCommand(new PetList()));
+        helpCommand.setCommands(moreCommands);
+        outContent.reset();
+        helpCommand.exec("");
+
+        assertTrue(outContent.toString().contains("mark: "));
+    }
+
     @Test
     public void exec_invalidSyntax_invalidSyntaxMessage() {
         Map<String, Command> commands = new HashMap<>();
@@ -80,6 +80,23 @@ class ListPetTreatmentsCommandTest {
         assertTrue(outContent.toString().contains("Pet not found: Snoopy"));
     }
 
+    @Test
+    void exec_uniquePrefixOfName_listsThatPet() {
+        ListPetTreatmentsCommand command = new ListPetTreatmentsCommand(petList);
+
+        command.exec("n/mi");
+        assertTrue(outContent.toString().contains("Mimi's treatment history:"));
+    }
+
+    @Test
+    void exec_misspelledName_suggestsClosePets() {
+        ListPetTreatmentsCommand command = new ListPetTreatmentsCommand(petList);
+
+        command.exec("n/Mimmi");
+        assertTrue(outContent.toString().contains("Pet not found: Mimmi"));
+        assertTrue(outContent.toString().contains("Did you mean: Mimi?"));
+    }
+
     @Test
     void exec_emptyList_showsError() {
         ListPetTreatmentsCommand command = new ListPetTreatmentsCommand(petList);
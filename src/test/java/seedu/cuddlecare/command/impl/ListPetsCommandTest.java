@@ -79,6 +79,48 @@ public class ListPetsCommandTest {
         Assertions.assertTrue(s.contains("2. " + luna.toString()), "Missing/incorrect 2nd line.\n" + s);
     }
 
+    @Test
+    void exec_withOutputSink_printsOnlyToSink() {
+        PetList pets = new PetList();
+        pets.add(new Pet("Milo", "Dog", 2));
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        Command cmd = new ListPetsCommand(pets);
+        cmd.exec("", new PrintStream(sink));
+
+        Assertions.assertTrue(sink.toString().contains("Milo"), "Sink should receive the output.\n" + sink);
+        Assertions.assertEquals("", out.toString(), "Console should stay untouched.");
+    }
+
+    @Test
+    void exec_concurrentSinks_keepOutputSeparate() throws InterruptedException {
+        PetList dogs = new PetList();
+        dogs.add(new Pet("Milo", "Dog", 2));
+        PetList cats = new PetList();
+        cats.add(new Pet("Luna", "Cat", 3));
+        ByteArrayOutputStream dogSink = new ByteArrayOutputStream();
+        ByteArrayOutputStream catSink = new ByteArrayOutputStream();
+
+        Thread dogThread = new Thread(() -> {
+            for (int i = 0; i < 50; i++) {
+                new ListPetsCommand(dogs).exec("", new PrintStream(dogSink));
+            }
+        });
+        Thread catThread = new Thread(() -> {
+            for (int i = 0; i < 50; i++) {
+                new ListPetsCommand(cats).exec("", new PrintStream(catSink));
+            }
+        });
+        dogThread.start();
+        catThread.start();
+        dogThread.join();
+        catThread.join();
+
+        Assertions.assertFalse(dogSink.toString().contains("Luna"), "Dog sink received cat output.");
+        Assertions.assertFalse(catSink.toString().contains("Milo"), "Cat sink received dog output.");
+        Assertions.assertEquals("", out.toString(), "Console should stay untouched.");
+    }
+
     @Test
     void exec_withNullPetList_triggersAssertionWhenEnabled() {
         Assumptions.assumeTrue(assertionsEnabled(), "Assertions not enabled (-ea); skipping.");
@@ -14,6 +14,7 @@ import java.util.logging.Logger;
 import seedu.cuddlecare.Pet;
 import seedu.cuddlecare.PetList;
 import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
 import seedu.cuddlecare.command.Command;
 
 import java.io.ByteArrayOutputStream;
@@ -107,6 +108,30 @@ public class MarkTreatmentCommandTest {
         Assertions.assertTrue(s.contains("No such treatment"), "Expected 'No such treatment' message.\n" + s);
     }
 
+    /**
+     * Marks an occurrence of a recurring treatment and rejects dates it does not recur on.
+     */
+    @Test
+    void exec_scheduleOccurrence_marksOnlyOccurrenceDates() {
+        TreatmentSchedule schedule = new TreatmentSchedule("Brushing", null, LocalDate.parse("2025-10-01"),
+                1, TreatmentSchedule.Unit.WEEK, null);
+        pets.getPetByName("Milo").addSchedule(schedule);
+        Command cmd = new MarkTreatmentCommand(pets);
+
+        cmd.exec("n/Milo s/1 d/2025-10-08");
+        cmd.exec("n/Milo s/1 d/2025-10-08");
+        cmd.exec("n/Milo s/1 d/2025-10-09");
+        cmd.exec("n/Milo s/2 d/2025-10-08");
+
+        String s = out.toString();
+        Assertions.assertTrue(s.contains("Marked Brushing on 2025-10-08 as done for Milo"), s);
+        Assertions.assertTrue(s.contains("The occurrence is already marked."), s);
+        Assertions.assertTrue(s.contains("Brushing does not recur on 2025-10-09 for Milo."), s);
+        Assertions.assertTrue(s.contains("No such recurring treatment"), s);
+        Assertions.assertTrue(schedule.isCompleted(LocalDate.parse("2025-10-08")));
+        Assertions.assertEquals(1, schedule.getCompletedDates().size());
+    }
+
     /**
      * Provides malformed arguments and expects the usage line.
      */
@@ -0,0 +1,118 @@
+package seedu.cuddlecare.command.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportCommandTest {
+
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+    private Path directory;
+    private PetList pets;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("cuddlecare-reports");
+        pets = new PetList();
+        Pet milo = new Pet("Milo", "dog", 2);
+        pets.add(milo);
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.of(2025, 10, 1)));
+        milo.addTreatment(new Treatment("Checkup", null, LocalDate.of(2025, 11, 3)));
+        Pet luna = new Pet("Luna", "cat", 1);
+        pets.add(luna);
+        luna.addTreatment(new Treatment("Grooming", null, LocalDate.of(2025, 10, 20)));
+
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.setOut(originalOut);
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void exec_allPets_writesOneReport() throws IOException {
+        new ReportCommand(pets, directory).exec("f/csv");
+
+        Path report = directory.resolve("report.csv");
+        assertTrue(outContent.toString().contains("Report with 3 treatments written to " + report));
+        assertTrue(Files.readString(report).contains("Luna,cat,2025-10-20,Grooming,grooming,false,"));
+    }
+
+    @Test
+    void exec_petAndPeriod_writesPetReportForPeriod() throws IOException {
+        new ReportCommand(pets, directory).exec("f/md n/mi from/2025-10-01 to/2025-10-31");
+
+        Path report = directory.resolve("report-milo-2025-10-01-to-2025-10-31.md");
+        assertTrue(outContent.toString().contains("Report with 1 treatment written to " + report));
+        String written = Files.readString(report);
+        assertTrue(written.contains("# Care report: Milo"));
+        assertFalse(written.contains("Checkup"));
+    }
+
+    @Test
+    void exec_byPet_writesReportPerPet() {
+        new ReportCommand(pets, directory).exec("f/html by/pet");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Wrote 2 reports with 3 treatments to " + directory));
+        assertTrue(output.contains("\treport-milo.html (2 treatments)"));
+        assertTrue(output.contains("\treport-luna.html (1 treatment)"));
+        assertTrue(Files.exists(directory.resolve("report-luna.html")));
+    }
+
+    @Test
+    void exec_invalidArguments_printsSyntax() {
+        ReportCommand command = new ReportCommand(pets, directory);
+        command.exec("");
+        command.exec("f/pdf");
+        command.exec("f/md n/Milo by/pet");
+        command.exec("f/md by/species");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Syntax: report f/FORMAT [n/PET_NAME] [from/DATE to/DATE] [by/pet]"));
+        assertFalse(output.contains("written"));
+    }
+
+    @Test
+    void exec_unknownPet_printsSuggestions() {
+        new ReportCommand(pets, directory).exec("f/md n/Lunaa");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Pet not found: Lunaa"));
+        assertTrue(output.contains("Did you mean: Luna?"));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.cuddlecare.command.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatsCommandTest {
+
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+    private PetList pets;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() {
+        pets = new PetList();
+        Pet milo = new Pet("Milo", "dog", 2);
+        pets.add(milo);
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.of(2025, 10, 1)));
+        Treatment checkup = new Treatment("Checkup", null, LocalDate.of(2025, 11, 3));
+        milo.addTreatment(checkup);
+        checkup.setCompleted(true);
+        pets.add(new Pet("Luna", "cat", 1));
+
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void exec_noArgs_printsDashboard() {
+        new StatsCommand(pets).exec("");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("\tPets: 2"));
+        assertTrue(output.contains("\tTreatments: 2 treatments, 1 completed (50.0%)"));
+        assertTrue(output.contains("\tMilo: 2 treatments, 1 completed (50.0%)"));
+        assertTrue(output.contains("\tLuna: 0 treatments"));
+        assertTrue(output.contains("\tcheckup: 1 treatment, 1 completed (100.0%)"));
+        assertTrue(output.contains("\tdog: 2 treatments"));
+        assertTrue(output.contains("\t2025-10: 1 treatment, 0 completed (0.0%)"));
+        assertFalse(output.contains("verified"));
+    }
+
+    @Test
+    void exec_verify_reportsNoDrift() {
+        StatsCommand command = new StatsCommand(pets);
+        command.exec("");
+        pets.get(0).addTreatment(new Treatment("Deworming", null, LocalDate.of(2025, 12, 1)));
+        outContent.reset();
+
+        command.exec("verify");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Statistics verified: all counts match a full recount."));
+        assertTrue(output.contains("\tTreatments: 3 treatments, 1 completed (33.3%)"));
+    }
+
+    @Test
+    void exec_unknownArgument_printsSyntax() {
+        new StatsCommand(pets).exec("everything");
+
+        assertTrue(outContent.toString().contains("Syntax: stats [verify]"));
+    }
+}
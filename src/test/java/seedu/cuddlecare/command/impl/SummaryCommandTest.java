@@ -69,4 +69,27 @@ class SummaryCommandTest {
 
         assertEquals("No treatments found from 2025-01-01 to 2025-01-01.", outContent.toString().trim());
     }
+
+    @Test
+    void exec_columnarStore_printsSameSummary() {
+        PetList columnarPets = PetList.withColumnarStore();
+        Pet snoopy = new Pet("Snoopy", "Dog", 1);
+        Pet mimi = new Pet("Mimi", "Cat", 2);
+        columnarPets.add(snoopy);
+        columnarPets.add(mimi);
+
+        Treatment checkup = new Treatment("Health Checkup", null, LocalDate.parse("2025-10-09"));
+        Treatment dental = new Treatment("Dental Appointment", null, LocalDate.parse("2025-12-20"));
+        mimi.addTreatment(dental);
+        snoopy.addTreatment(new Treatment("Vaccination", null, LocalDate.parse("2025-11-11")));
+        snoopy.addTreatment(checkup);
+        checkup.setCompleted(true);
+        dental.setCompleted(true);
+
+        new SummaryCommand(columnarPets).exec("from/2025-10-01 to/2025-12-30");
+
+        String[] lines = outContent.toString().trim().split("\\R");
+        assertEquals("1.Snoopy: [X] Health Checkup on 2025-10-09", lines[1]);
+        assertEquals("2.Mimi: [X] Dental Appointment on 2025-12-20", lines[2]);
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.cuddlecare.command.impl;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.time.ClockService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpcomingTreatmentsCommandTest {
+
+    private PetList pets;
+    private UpcomingTreatmentsCommand upcomingTreatments;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger root = Logger.getLogger("");
+        root.setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() {
+        pets = new PetList();
+        pets.add(new Pet("Chiku", "Dog", 3));
+        pets.add(new Pet("Bindi", "Cat", 2));
+        upcomingTreatments = new UpcomingTreatmentsCommand(pets, ClockService.fixed(LocalDate.parse("2025-10-24")));
+    }
+
+    private String run(String args) {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+        upcomingTreatments.exec(args);
+        System.setOut(originalOut);
+        return outContent.toString();
+    }
+
+    @Test
+    void exec_allPets_showsTreatmentsInRangeInDateOrder() {
+        pets.getPetByName("Chiku").addTreatment(new Treatment("Bath", null, LocalDate.parse("2025-10-30")));
+        pets.getPetByName("Bindi").addTreatment(new Treatment("Vaccine", null, LocalDate.parse("2025-10-24")));
+        pets.getPetByName("Chiku").addTreatment(new Treatment("Checkup", null, LocalDate.parse("2025-11-20")));
+        pets.getPetByName("Bindi").addTreatment(new Treatment("Deworm", null, LocalDate.parse("2025-10-01")));
+
+        String output = run("days/7");
+
+        assertTrue(output.contains("Treatments due in the next 7 days:"));
+        int vaccine = output.indexOf("Bindi: \"Vaccine\" is due on 2025-10-24 (today)");
+        int bath = output.indexOf("Chiku: \"Bath\" is due on 2025-10-30 (in 6 days)");
+        assertTrue(vaccine >= 0 && bath > vaccine);
+        assertFalse(output.contains("Checkup") || output.contains("Deworm"));
+    }
+
+    @Test
+    void exec_markedAndDeletedTreatments_notShown() {
+        Pet chiku = pets.getPetByName("Chiku");
+        Treatment bath = new Treatment("Bath", null, LocalDate.parse("2025-10-25"));
+        chiku.addTreatment(bath);
+        chiku.addTreatment(new Treatment("Walk", null, LocalDate.parse("2025-10-26")));
+        assertTrue(run("n/Chiku days/3").contains("\"Bath\" is due on 2025-10-25 (in 1 day)"));
+
+        bath.setCompleted(true);
+        chiku.removeTreatment(1);
+        assertTrue(run("n/Chiku days/3").contains("No treatments due for Chiku in the next 3 days."));
+
+        bath.setCompleted(false);
+        assertTrue(run("n/Chiku days/3").contains("\"Bath\""));
+    }
+
+    @Test
+    void exec_missingDays_printsInvalidArgsMessage() {
+        assertTrue(run("n/Chiku").contains("Invalid arguments provided"));
+        assertTrue(run("days/soon").contains("Invalid arguments provided"));
+    }
+
+    @Test
+    void exec_invalidPetNameProvided_printsNoPetFoundMessage() {
+        assertTrue(run("n/Nobody days/3").contains("No pet found with the name: Nobody"));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.cuddlecare.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.server.SessionProtocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LaunchOptionsTest {
+
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream output;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void parse_serverWithPort_portUsed() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--server", "65535"});
+
+        assertEquals(LaunchOptions.Mode.SERVER, options.getMode());
+        assertEquals(65535, options.getPort());
+        assertFalse(options.hasErrors());
+    }
+
+    @Test
+    void parse_portOutOfRange_rejectedWithUsage() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{"--client", "70000"});
+
+        assertTrue(options.hasErrors());
+        assertEquals(SessionProtocol.DEFAULT_PORT, options.getPort());
+        assertTrue(output.toString().contains("Usage: --server [PORT] or --client [PORT]"));
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.cuddlecare.history;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.command.impl.AddPetCommand;
+import seedu.cuddlecare.command.impl.DeletePetCommand;
+import seedu.cuddlecare.command.impl.DeleteTreatmentCommand;
+import seedu.cuddlecare.command.impl.EditPetCommand;
+import seedu.cuddlecare.command.impl.MarkTreatmentCommand;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link History}, with changes made by the commands that record them.
+ */
+class HistoryTest {
+
+    private final PrintStream originalOut = System.out;
+    private PetList pets;
+    private History history;
+    private Pet peanut;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        pets = new PetList();
+        history = new History(pets);
+        peanut = new Pet("peanut", "dog", 2);
+        pets.add(peanut);
+        peanut.addTreatment(new Treatment("Rabies Vaccine", null, LocalDate.parse("2025-10-10")));
+        peanut.addTreatment(new Treatment("Grooming", null, LocalDate.parse("2025-10-20")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private void run(Command command, String args) {
+        command.exec(args);
+        Change change = command.takeChange();
+        if (change != null) {
+            history.record(change);
+        }
+    }
+
+    @Test
+    void undo_deletePet_petAndTreatmentsRestored() {
+        run(new DeletePetCommand(pets), "n/peanut");
+        assertNull(pets.getPetByName("peanut"));
+
+        assertNotNull(history.undo());
+        Pet restored = pets.getPetByName("peanut");
+        assertSame(peanut, restored);
+        assertEquals(2, restored.getTreatments().size());
+
+        assertNotNull(history.redo());
+        assertNull(pets.getPetByName("peanut"));
+    }
+
+    @Test
+    void undo_deleteTreatment_treatmentRestoredWithCompletion() {
+        run(new MarkTreatmentCommand(pets), "n/peanut i/2");
+        run(new DeleteTreatmentCommand(pets), "n/peanut i/2");
+        assertEquals(1, peanut.getTreatments().size());
+
+        history.undo();
+        assertEquals(2, peanut.getTreatments().size());
+        assertTrue(peanut.getTreatments().get(1).isCompleted());
+
+        history.undo();
+        assertFalse(peanut.getTreatments().get(1).isCompleted());
+        assertEquals(2, history.getRedoCount());
+    }
+
+    @Test
+    void undo_editPet_oldDetailsRestored() {
+        run(new EditPetCommand(pets), "n/peanut nn/biscuit s/cat a/5");
+        assertNull(pets.getPetByName("peanut"));
+
+        history.undo();
+        assertSame(peanut, pets.getPetByName("peanut"));
+        assertNull(pets.getPetByName("biscuit"));
+        assertEquals("dog", peanut.getSpecies());
+        assertEquals(2, peanut.getAge());
+    }
+
+    @Test
+    void undo_failedCommand_nothingRecorded() {
+        run(new DeletePetCommand(pets), "n/nobody");
+        assertEquals(0, history.getUndoCount());
+        assertNull(history.undo());
+        assertNull(history.redo());
+    }
+
+    @Test
+    void record_afterUndo_redoCleared() {
+        run(new AddPetCommand(pets), "n/milo s/dog a/1");
+        history.undo();
+        assertEquals(1, history.getRedoCount());
+
+        run(new AddPetCommand(pets), "n/luna s/cat a/3");
+        assertEquals(0, history.getRedoCount());
+        assertNull(history.redo());
+        assertNull(pets.getPetByName("milo"));
+    }
+
+    @Test
+    void record_overBudget_oldestChangesForgotten() {
+        history = new History(pets, Change.ENTRY_SIZE * 3);
+        for (char name = 'a'; name < 'k'; name++) {
+            run(new AddPetCommand(pets), "n/pet" + name + " s/dog a/1");
+        }
+
+        assertTrue(history.getUndoCount() < 10);
+        assertTrue(history.getUsedBytes() <= Change.ENTRY_SIZE * 3 || history.getUndoCount() == 1);
+        int undone = 0;
+        while (history.undo() != null) {
+            undone++;
+        }
+        assertTrue(undone < 10);
+        assertNotNull(pets.getPetByName("peta"));
+        assertNull(pets.getPetByName("petj"));
+    }
+
+    @Test
+    void undo_listener_passedInverseChange() {
+        List<Change> made = new ArrayList<>();
+        history.addListener(made::add);
+        run(new AddPetCommand(pets), "n/milo s/dog a/1");
+        history.undo();
+
+        assertEquals(2, made.size());
+        assertTrue(((PetChange) made.get(0)).isAdded());
+        assertFalse(((PetChange) made.get(1)).isAdded());
+    }
+}
@@ -0,0 +1,378 @@
+package seedu.cuddlecare.lifecycle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.command.impl.AddPetCommand;
+import seedu.cuddlecare.command.impl.DeletePetCommand;
+import seedu.cuddlecare.command.impl.ListPetsCommand;
+import seedu.cuddlecare.command.impl.UndoCommand;
+import seedu.cuddlecare.history.History;
+import seedu.cuddlecare.parser.ParsedInput;
+import seedu.cuddlecare.parser.Parser;
+import seedu.cuddlecare.storage.Journal;
+import seedu.cuddlecare.storage.Storage;
+import seedu.cuddlecare.storage.TreatmentArchive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LifecycleManagerTest {
+
+    /** Long enough that no background save happens while a test runs. */
+    private static final long IDLE_MILLIS = 3_600_000;
+
+    private Path directory;
+    private Path saveFile;
+    private Path journalFile;
+    private final PrintStream originalOut = System.out;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("cuddlecare-lifecycle");
+        saveFile = directory.resolve("save.txt");
+        journalFile = directory.resolve("journal.txt");
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.setOut(originalOut);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private LifecycleManager newManager(PetList pets) {
+        return newManager(pets, new History(pets));
+    }
+
+    private LifecycleManager newManager(PetList pets, History history) {
+        return new LifecycleManager(new Storage(saveFile.toString(), pets),
+                new Journal(journalFile.toString()), history, IDLE_MILLIS);
+    }
+
+    private Parser newParser(PetList pets) {
+        return newParser(pets, new History(pets));
+    }
+
+    private Parser newParser(PetList pets, History history) {
+        Parser parser = new Parser();
+        parser.setCommands(Map.of("add-pet", new AddPetCommand(pets), "list-pets", new ListPetsCommand(pets),
+                "undo", new UndoCommand(history)));
+        return parser;
+    }
+
+    private void run(LifecycleManager lifecycle, Parser parser, String input) {
+        ParsedInput parsed = new ParsedInput();
+        assertTrue(parser.parse(input, parsed));
+        lifecycle.execute(parsed.getCommand(), parsed.toString());
+    }
+
+    @Test
+    void execute_modifyingCommand_journaledWithoutSaving() throws IOException {
+        PetList pets = new PetList();
+        LifecycleManager lifecycle = newManager(pets);
+        Parser parser = newParser(pets);
+
+        run(lifecycle, parser, "list-pets");
+        assertFalse(lifecycle.isDirty());
+
+        run(lifecycle, parser, "add-pet n/Milo s/Dog a/2");
+        assertTrue(lifecycle.isDirty());
+        assertFalse(Files.exists(saveFile));
+        assertEquals("@add-pet Milo #1 | Dog | 2 | 0", Files.readAllLines(journalFile).get(0));
+
+        lifecycle.shutdown();
+        assertFalse(lifecycle.isDirty());
+        assertTrue(Files.exists(saveFile));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void saveInBackground_commandDuringWrite_runsWithoutWaitingAndStaysUnsaved() throws IOException {
+        PetList pets = new PetList();
+        Parser parser = newParser(pets);
+        LifecycleManager[] holder = new LifecycleManager[1];
+        boolean[] isInterrupted = new boolean[1];
+        Storage storage = new Storage(saveFile.toString(), pets) {
+            @Override
+            public SaveTask prepareSave() {
+                SaveTask task = super.prepareSave();
+                if (isInterrupted[0]) {
+                    return task;
+                }
+                isInterrupted[0] = true;
+                return new SaveTask() {
+                    @Override
+                    public boolean write() {
+                        Thread command = new Thread(() -> run(holder[0], parser, "add-pet n/Luna s/Cat a/3"));
+                        command.start();
+                        try {
+                            command.join(10_000);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        assertFalse(command.isAlive());
+                        return task.write();
+                    }
+
+                    @Override
+                    public boolean finish() {
+                        return task.finish();
+                    }
+
+                    @Override
+                    public void discard() {
+                        task.discard();
+                    }
+                };
+            }
+        };
+        LifecycleManager lifecycle = new LifecycleManager(storage, new Journal(journalFile.toString()),
+                new History(pets), IDLE_MILLIS);
+        holder[0] = lifecycle;
+
+        run(lifecycle, parser, "add-pet n/Milo s/Dog a/2");
+        lifecycle.saveInBackground();
+
+        assertEquals(2, pets.size());
+        String saved = Files.readString(saveFile);
+        assertTrue(saved.contains("Milo"));
+        assertFalse(saved.contains("Luna"));
+        assertEquals(List.of("@add-pet Luna #2 | Cat | 3 | 1"), Files.readAllLines(journalFile));
+        assertTrue(lifecycle.isDirty());
+
+        lifecycle.shutdown();
+        assertFalse(lifecycle.isDirty());
+        assertTrue(Files.readString(saveFile).contains("Luna"));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void shutdown_backgroundSaveWriting_waitsAndLeavesNoTemporaryFile() throws Exception {
+        PetList pets = new PetList();
+        CountDownLatch writing = new CountDownLatch(1);
+        Storage storage = new Storage(saveFile.toString(), pets) {
+            @Override
+            public SaveTask prepareSave() {
+                SaveTask task = super.prepareSave();
+                return new SaveTask() {
+                    @Override
+                    public boolean write() {
+                        writing.countDown();
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return task.write();
+                    }
+
+                    @Override
+                    public boolean finish() {
+                        return task.finish();
+                    }
+
+                    @Override
+                    public void discard() {
+                        task.discard();
+                    }
+                };
+            }
+        };
+        LifecycleManager lifecycle = new LifecycleManager(storage, new Journal(journalFile.toString()),
+                new History(pets), 10);
+
+        run(lifecycle, newParser(pets), "add-pet n/Milo s/Dog a/2");
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        lifecycle.shutdown();
+
+        assertFalse(lifecycle.isDirty());
+        assertTrue(Files.readString(saveFile).contains("Milo"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void execute_command_newVersionPublishedAfterwards() {
+        PetList pets = new PetList();
+        History history = new History(pets);
+        LifecycleManager lifecycle = newManager(pets, history);
+        Parser parser = newParser(pets, history);
+
+        run(lifecycle, parser, "add-pet n/Milo s/Dog a/2");
+        long version = pets.snapshot().getVersion();
+        assertEquals(1, pets.snapshot().size());
+
+        run(lifecycle, parser, "list-pets");
+        assertEquals(version, pets.snapshot().getVersion());
+        run(lifecycle, parser, "undo");
+        assertEquals(0, pets.snapshot().size());
+    }
+
+    @Test
+    void recover_journalLeftByCrash_changesReplayedAndSaved() throws IOException {
+        PetList crashed = new PetList();
+        LifecycleManager first = newManager(crashed);
+        run(first, newParser(crashed), "add-pet n/Milo s/Dog a/2");
+
+        PetList pets = new PetList();
+        LifecycleManager second = newManager(pets);
+        new Storage(saveFile.toString(), pets).load();
+
+        assertEquals(1, second.recover());
+        assertNotNull(pets.getPetByName("milo"));
+        assertTrue(Files.exists(saveFile));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void recover_undoneChangeJournaled_changeNotReplayed() throws IOException {
+        PetList crashed = new PetList();
+        History history = new History(crashed);
+        LifecycleManager first = newManager(crashed, history);
+        Parser parser = newParser(crashed, history);
+        run(first, parser, "add-pet n/Milo s/Dog a/2");
+        run(first, parser, "add-pet n/Luna s/Cat a/3");
+        run(first, parser, "undo");
+        assertEquals(3, Files.readAllLines(journalFile).size());
+
+        PetList pets = new PetList();
+        LifecycleManager second = newManager(pets);
+        assertEquals(3, second.recover());
+        assertNotNull(pets.getPetByName("milo"));
+        assertNull(pets.getPetByName("luna"));
+    }
+
+    @Test
+    void recover_lineNotChangeRecord_skipped() throws IOException {
+        Files.write(journalFile, List.of("add-pet n/Luna s/Cat a/3", "@add-pet Milo #1 | Dog | 2"));
+
+        PetList pets = new PetList();
+        LifecycleManager lifecycle = newManager(pets);
+        assertEquals(1, lifecycle.recover());
+        assertNotNull(pets.getPetByName("milo"));
+        assertNull(pets.getPetByName("luna"));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void start_journaledRenameAndDelete_archivedTreatmentsUpdated() throws IOException {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        PetList crashed = new PetList();
+        crashed.setArchive(new TreatmentArchive(directory.toString(), 90));
+        for (String name : new String[]{"milo", "luna"}) {
+            Pet pet = new Pet(name, "dog", 2);
+            crashed.add(pet);
+            Treatment vaccine = new Treatment("vaccine", null, LocalDate.of(2024, 1, 15));
+            vaccine.setCompleted(true);
+            pet.addTreatment(vaccine);
+        }
+        crashed.getArchive().archiveOld(crashed, today);
+        new Storage(saveFile.toString(), crashed).save();
+        Files.write(journalFile, List.of("@edit-pet milo | max | dog | 2", "@delete-pet luna"));
+
+        PetList pets = new PetList();
+        pets.setArchive(new TreatmentArchive(directory.toString(), 90));
+        newManager(pets).start(today);
+
+        Map<String, List<Treatment>> archived = pets.getArchive().scan(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31));
+        assertEquals(1, archived.get("max").size());
+        assertFalse(archived.containsKey("milo"));
+        assertFalse(archived.containsKey("luna"));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void execute_undoDeletePet_petBackInPlaceAndReplayedInPlace() {
+        PetList pets = new PetList();
+        History history = new History(pets);
+        LifecycleManager lifecycle = newManager(pets, history);
+        Parser parser = new Parser();
+        parser.setCommands(Map.of("add-pet", new AddPetCommand(pets), "delete-pet", new DeletePetCommand(pets),
+                "undo", new UndoCommand(history)));
+        run(lifecycle, parser, "add-pet n/Milo s/Dog a/2");
+        run(lifecycle, parser, "add-pet n/Luna s/Cat a/3");
+        run(lifecycle, parser, "add-pet n/Max s/Dog a/4");
+
+        run(lifecycle, parser, "delete-pet n/Luna");
+        run(lifecycle, parser, "undo");
+        assertEquals(List.of("Milo", "Luna", "Max"), pets.stream().map(Pet::getName).collect(Collectors.toList()));
+
+        // Replaying the journal after a crash puts the pet back in the same place
+        PetList recovered = new PetList();
+        newManager(recovered).recover();
+        assertEquals(List.of("milo", "luna", "max"),
+                recovered.stream().map(Pet::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void execute_undoDeletePet_archivedTreatmentsRestoredAndReplayed() throws IOException {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        PetList saved = new PetList();
+        Pet milo = new Pet("milo", "dog", 2);
+        saved.add(milo);
+        Treatment vaccine = new Treatment("vaccine", null, LocalDate.of(2024, 1, 15));
+        vaccine.setCompleted(true);
+        milo.addTreatment(vaccine);
+        new Storage(saveFile.toString(), saved).save();
+
+        PetList pets = new PetList();
+        pets.setArchive(new TreatmentArchive(directory.toString(), 90));
+        History history = new History(pets);
+        LifecycleManager lifecycle = newManager(pets, history);
+        Parser parser = new Parser();
+        parser.setCommands(Map.of("delete-pet", new DeletePetCommand(pets), "undo", new UndoCommand(history)));
+        lifecycle.start(today);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        assertEquals(1, pets.getArchive().scan(from, to).get("milo").size());
+
+        run(lifecycle, parser, "delete-pet n/milo");
+        assertFalse(pets.getArchive().scan(from, to).containsKey("milo"));
+        run(lifecycle, parser, "undo");
+        assertEquals(1, pets.getArchive().scan(from, to).get("milo").size());
+
+        // Replaying the journal after a crash deletes the pet and adds it back again
+        PetList recovered = new PetList();
+        recovered.setArchive(new TreatmentArchive(directory.toString(), 90));
+        newManager(recovered).start(today);
+        assertNotNull(recovered.getPetByName("milo"));
+        assertEquals(1, recovered.getArchive().scan(from, to).get("milo").size());
+    }
+}
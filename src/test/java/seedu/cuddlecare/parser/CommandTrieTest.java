@@ -0,0 +1,56 @@
+package seedu.cuddlecare.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CommandTrieTest {
+
+    private final CommandTrie trie = new CommandTrie(List.of("list-pets", "list-treatments",
+            "list-all-treatments", "overdue-treatments", "mark", "unmark", "upcoming-treatments"));
+
+    @Test
+    void find_exactNameAnyCase_returnsName() {
+        assertEquals("mark", trie.find("MaRk", 0, 4));
+        assertEquals("list-pets", trie.find("> list-pets now", 2, 11));
+    }
+
+    @Test
+    void find_uniqueAbbreviation_returnsName() {
+        assertEquals("overdue-treatments", trie.find("ov", 0, 2));
+        assertEquals("unmark", trie.find("un", 0, 2));
+        assertEquals("list-all-treatments", trie.find("list-a", 0, 6));
+    }
+
+    @Test
+    void find_ambiguousOrUnknown_returnsNull() {
+        assertNull(trie.find("list", 0, 4));
+        assertNull(trie.find("u", 0, 1));
+        assertNull(trie.find("marks", 0, 5));
+        assertNull(trie.find("", 0, 0));
+    }
+
+    @Test
+    void findExact_abbreviation_returnsNull() {
+        assertNull(trie.findExact("ov", 0, 2));
+        assertEquals("unmark", trie.findExact("UNMARK", 0, 6));
+    }
+
+    @Test
+    void complete_prefix_namesInAlphabeticalOrder() {
+        assertEquals(List.of("list-all-treatments", "list-pets", "list-treatments"), trie.complete("LIST"));
+        assertEquals(List.of(), trie.complete("x"));
+        assertEquals(7, trie.complete("").size());
+    }
+
+    @Test
+    void commonPrefix_sharedContinuation_extended() {
+        assertEquals("list-", trie.commonPrefix("l"));
+        assertEquals("overdue-treatments", trie.commonPrefix("o"));
+        assertEquals("u", trie.commonPrefix("u"));
+        assertEquals("xyz", trie.commonPrefix("xyz"));
+    }
+}
@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -51,6 +52,25 @@ class ParserTest {
         assertEquals("someargs", result.getArgs());
     }
 
+    @Test
+    void parse_uniqueAbbreviation_resolvesCommand() {
+        CommandWithArguments result = (CommandWithArguments) parser.parse("by now");
+        assertNotNull(result);
+        assertInstanceOf(ByeCommand.class, result.getCommand());
+        assertEquals("now", result.getArgs());
+    }
+
+    @Test
+    void parse_ambiguousAbbreviation_listsCandidates() {
+        commands.put("bark", new ByeCommand());
+        parser.setCommands(commands);
+
+        assertNull(parser.parse("b"));
+        String output = outContent.toString();
+        assertTrue(output.contains("Invalid Command: b"));
+        assertTrue(output.contains("Commands starting with \"b\": bark, bye"));
+    }
+
     @Test
     void parse_emptyInput_returnsNullAndPrintsMessage() {
         Command result = parser.parse("   ");
@@ -73,4 +93,32 @@ class ParserTest {
         assertNotNull(result);
         assertEquals("arg1 arg2", result.getArgs());
     }
+
+    @Test
+    void parseInto_knownCommand_resolvesCommandAndArgumentSlice() {
+        ParsedInput parsed = new ParsedInput();
+        assertTrue(parser.parse("  Bye arg1|arg2  ", parsed));
+        assertInstanceOf(ByeCommand.class, parsed.getCommand());
+        assertEquals(9, parsed.length());
+        assertEquals(' ', parsed.charAt(4));
+        assertEquals("arg1 arg2", parsed.toString());
+    }
+
+    @Test
+    void parseInto_sameTargetReused_reflectsLatestInput() {
+        ParsedInput parsed = new ParsedInput();
+        assertTrue(parser.parse("bye first", parsed));
+        assertTrue(parser.parse("bye", parsed));
+        assertEquals("", parsed.toString());
+    }
+
+    @Test
+    void parseInto_invalidOrEmptyInput_returnsFalse() {
+        ParsedInput parsed = new ParsedInput();
+        assertFalse(parser.parse("byebye now", parsed));
+        assertFalse(parser.parse(" \t ", parsed));
+        String output = outContent.toString();
+        assertTrue(output.contains("Invalid Command: byebye"));
+        assertTrue(output.contains("Empty Command"));
+    }
 }
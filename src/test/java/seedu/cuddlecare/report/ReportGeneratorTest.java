@@ -0,0 +1,218 @@
+package seedu.cuddlecare.report;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.snapshot.ModelSnapshot;
+import seedu.cuddlecare.storage.TreatmentArchive;
+import seedu.cuddlecare.time.ClockService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportGeneratorTest {
+
+    private Path directory;
+    private Path reports;
+    private PetList pets;
+    private Pet milo;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("cuddlecare-report");
+        reports = directory.resolve("reports");
+        pets = new PetList();
+        pets.setArchive(new TreatmentArchive(directory.resolve("archive").toString(), 90));
+
+        milo = new Pet("Milo", "dog", 2);
+        pets.add(milo);
+        milo.addTreatment(new Treatment("Checkup", "bring \"records\", please", LocalDate.of(2024, 2, 3)));
+        milo.addTreatment(completed("Vaccine Rabies", LocalDate.of(2024, 1, 15)));
+        milo.addTreatment(completed("Deworming", LocalDate.of(2025, 5, 20)));
+        Pet luna = new Pet("Luna", "cat", 3);
+        pets.add(luna);
+        luna.addTreatment(completed("Grooming", LocalDate.of(2024, 2, 10)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static Treatment completed(String name, LocalDate date) {
+        Treatment treatment = new Treatment(name, null, date);
+        treatment.setCompleted(true);
+        return treatment;
+    }
+
+    private static String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void write_markdownAllPets_rowsInDateOrderWithTotals() throws IOException {
+        ReportGenerator generator = new ReportGenerator(pets, reports);
+        ReportGenerator.Result result = generator.write(ReportFormat.MARKDOWN, generator.snapshot().getPets(),
+                "all pets", null, null);
+
+        assertEquals(reports.resolve("report.md"), result.getFile());
+        assertEquals(4, result.getTotal());
+        assertEquals(3, result.getCompleted());
+        String report = read(result.getFile());
+        assertTrue(report.startsWith("# Care report: all pets\n\nAll dates.\n"));
+        assertTrue(report.contains("## Milo (dog, age 2)\n\n| Date | Treatment | Type | Status | Note |\n"));
+        assertTrue(report.contains("| 2024-01-15 | Vaccine Rabies | vaccine | Completed |  |\n"
+                + "| 2024-02-03 | Checkup | checkup | Pending | bring \"records\", please |\n"
+                + "| 2025-05-20 | Deworming | deworming | Completed |  |\n"
+                + "\n3 treatments, 2 completed.\n"));
+        assertTrue(report.endsWith("\n**Total:** 4 treatments, 3 completed.\n"));
+    }
+
+    @Test
+    void write_csvAfterArchiving_sameRowsInDateOrder() throws IOException {
+        ReportGenerator generator = new ReportGenerator(pets, reports);
+        String before = read(generator.write(ReportFormat.CSV, generator.snapshot().getPets(), "all pets",
+                null, null).getFile());
+
+        pets.getArchive().archiveOld(pets, LocalDate.of(2025, 6, 1));
+        String after = read(generator.write(ReportFormat.CSV, generator.snapshot().getPets(), "all pets",
+                null, null).getFile());
+
+        assertEquals(before, after);
+        assertTrue(after.startsWith(CsvReportWriter.HEADER + "\n"
+                + "Milo,dog,2024-01-15,Vaccine Rabies,vaccine,true,\n"
+                + "Milo,dog,2024-02-03,Checkup,checkup,false,\"bring \"\"records\"\", please\"\n"));
+    }
+
+    @Test
+    void write_periodForOnePet_onlyTreatmentsInPeriod() throws IOException {
+        ReportGenerator generator = new ReportGenerator(pets, reports);
+        ReportGenerator.Result result = generator.write(ReportFormat.HTML,
+                List.of(generator.snapshot().getPet(milo.getId())),
+                "Milo", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 12, 31));
+
+        assertEquals("report-milo-2024-02-01-to-2024-12-31.html", result.getFile().getFileName().toString());
+        assertEquals(1, result.getTotal());
+        String report = read(result.getFile());
+        assertTrue(report.contains("<p>From 2024-02-01 to 2024-12-31.</p>"));
+        assertTrue(report.contains("<td>bring &quot;records&quot;, please</td>"));
+        assertTrue(!report.contains("Deworming") && !report.contains("Grooming"));
+        assertTrue(report.endsWith("</body>\n</html>\n"));
+    }
+
+    @Test
+    void write_recurringTreatment_occurrencesMergedByDate() throws IOException {
+        TreatmentSchedule schedule = new TreatmentSchedule("Flea treatment", null, LocalDate.of(2024, 1, 20), 1,
+                TreatmentSchedule.Unit.MONTH, null);
+        milo.addSchedule(schedule);
+        schedule.setCompleted(LocalDate.of(2024, 2, 20), true);
+        ReportGenerator generator = new ReportGenerator(pets, reports);
+
+        ReportGenerator.Result period = generator.write(ReportFormat.CSV,
+                List.of(generator.snapshot().getPet(milo.getId())), "Milo",
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 31));
+        assertEquals(3, period.getTotal());
+        assertEquals(1, period.getCompleted());
+        assertTrue(read(period.getFile()).endsWith("\n"
+                + "Milo,dog,2024-02-03,Checkup,checkup,false,\"bring \"\"records\"\", please\"\n"
+                + "Milo,dog,2024-02-20,Flea treatment,flea,true,\n"
+                + "Milo,dog,2024-03-20,Flea treatment,flea,false,\n"));
+
+        ClockService original = ClockService.getShared();
+        ClockService.setShared(ClockService.fixed(LocalDate.of(2024, 4, 1)));
+        try {
+            ReportGenerator.Result all = generator.write(ReportFormat.CSV, generator.snapshot().getPets(),
+                    "all pets", null, null);
+            assertEquals(7, all.getTotal());
+            assertTrue(read(all.getFile()).contains("Milo,dog,2024-01-15,Vaccine Rabies,vaccine,true,\n"
+                    + "Milo,dog,2024-01-20,Flea treatment,flea,false,\n"));
+        } finally {
+            ClockService.setShared(original);
+        }
+    }
+
+    @Test
+    void writeEach_severalThreads_sameAsOneReportPerPet() throws IOException {
+        pets.add(new Pet("milo!", "cat", 1));
+        ReportGenerator generator = new ReportGenerator(pets, reports);
+
+        ModelSnapshot snapshot = generator.snapshot();
+        List<ReportGenerator.Result> results = generator.writeEach(ReportFormat.MARKDOWN, snapshot.getPets(),
+                null, null, 4);
+
+        assertEquals(3, results.size());
+        assertEquals("report-milo.md", results.get(0).getFile().getFileName().toString());
+        assertEquals("report-luna.md", results.get(1).getFile().getFileName().toString());
+        assertEquals("report-milo-2.md", results.get(2).getFile().getFileName().toString());
+        assertEquals(0, results.get(2).getTotal());
+        assertTrue(read(results.get(2).getFile()).contains("No treatments.\n"));
+
+        String milosReport = read(results.get(0).getFile());
+        assertEquals(milosReport, read(generator.write(ReportFormat.MARKDOWN, List.of(snapshot.getPet(milo.getId())),
+                "Milo", null, null).getFile()));
+    }
+
+    @Test
+    void write_petsChangedAfterSnapshot_reportShowsSnapshot() throws IOException {
+        ReportGenerator generator = new ReportGenerator(pets, reports);
+        ModelSnapshot snapshot = generator.snapshot();
+
+        milo.getTreatments().get(1).setCompleted(true);
+        milo.removeTreatment(0);
+        pets.renamePet(milo, "Max");
+        pets.publish();
+
+        String report = read(generator.write(ReportFormat.CSV, snapshot.getPets(), "all pets", null, null).getFile());
+        assertTrue(report.contains("Milo,dog,2024-01-15,Vaccine Rabies,vaccine,true,\n"
+                + "Milo,dog,2024-02-03,Checkup,checkup,false,"));
+        assertTrue(!report.contains("Max"));
+    }
+
+    @Test
+    void escaping_specialCharacters_escapedForEachFormat() {
+        assertEquals("plain", CsvReportWriter.quote("plain"));
+        assertEquals("\"a,b\"", CsvReportWriter.quote("a,b"));
+        assertEquals("a \\| b \\*c\\*", MarkdownReportWriter.escape("a | b *c*"));
+        assertEquals("&lt;b&gt; &amp; &#39;", HtmlReportWriter.escape("<b> & '"));
+        assertEquals("", HtmlReportWriter.escape(null));
+    }
+
+    @Test
+    void fromName_namesAndExtensions_matchIgnoringCase() {
+        assertEquals(ReportFormat.MARKDOWN, ReportFormat.fromName("md"));
+        assertEquals(ReportFormat.MARKDOWN, ReportFormat.fromName("Markdown"));
+        assertEquals(ReportFormat.CSV, ReportFormat.fromName("CSV"));
+        assertEquals(ReportFormat.HTML, ReportFormat.fromName("htm"));
+        assertNull(ReportFormat.fromName("pdf"));
+        assertEquals("spot-the-dog", ReportGenerator.slug("  Spot  the Dog!"));
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.cuddlecare.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.command.impl.AddPetCommand;
+import seedu.cuddlecare.command.impl.ByeCommand;
+import seedu.cuddlecare.command.impl.ListPetsCommand;
+import seedu.cuddlecare.history.History;
+import seedu.cuddlecare.lifecycle.LifecycleManager;
+import seedu.cuddlecare.parser.Parser;
+import seedu.cuddlecare.storage.Journal;
+import seedu.cuddlecare.storage.Storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CuddleCareServerTest {
+
+    private PetList pets;
+    private LifecycleManager lifecycle;
+    private CuddleCareServer server;
+    private Path saveDir;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger root = Logger.getLogger("");
+        root.setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pets = new PetList();
+        saveDir = Files.createTempDirectory("cuddlecare-server");
+        Storage storage = new Storage(saveDir.resolve("save.txt").toString(), pets);
+
+        Parser parser = new Parser();
+        parser.setCommands(Map.of(
+                "add-pet", new AddPetCommand(pets),
+                "list-pets", new ListPetsCommand(pets),
+                "bye", new ByeCommand()));
+
+        lifecycle = new LifecycleManager(storage, new Journal(saveDir.resolve("journal.txt").toString()),
+                new History(pets), LifecycleManager.DEFAULT_IDLE_MILLIS);
+        server = new CuddleCareServer(0, parser, lifecycle);
+        server.bind();
+        Thread acceptor = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+        lifecycle.shutdown();
+    }
+
+    private static String readResponse(BufferedReader in) throws IOException {
+        StringBuilder response = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.equals(SessionProtocol.END_OF_RESPONSE) || line.equals(SessionProtocol.END_OF_SESSION)) {
+                response.append(line);
+                break;
+            }
+            response.append(line).append('\n');
+        }
+        return response.toString();
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    @Test
+    void execute_twoSessions_shareOnePetList() throws IOException {
+        try (Socket first = connect(); Socket second = connect()) {
+            BufferedReader firstIn = new BufferedReader(new InputStreamReader(first.getInputStream()));
+            PrintStream firstOut = new PrintStream(first.getOutputStream(), true);
+            BufferedReader secondIn = new BufferedReader(new InputStreamReader(second.getInputStream()));
+            PrintStream secondOut = new PrintStream(second.getOutputStream(), true);
+
+            assertTrue(readResponse(firstIn).startsWith("Hello! Welcome to CuddleCare."));
+            assertTrue(readResponse(secondIn).startsWith("Hello! Welcome to CuddleCare."));
+
+            firstOut.println("add-pet n/Milo s/Dog a/2");
+            assertTrue(readResponse(firstIn).contains("Milo has been successfully added."));
+
+            secondOut.println("list-pets");
+            assertTrue(readResponse(secondIn).contains("Milo"));
+        }
+
+        assertEquals(1, pets.size());
+        assertTrue(Files.readString(saveDir.resolve("journal.txt")).startsWith("@add-pet Milo"));
+        assertTrue(lifecycle.isDirty());
+
+        lifecycle.shutdown();
+        assertTrue(Files.exists(saveDir.resolve("save.txt")));
+        assertTrue(!lifecycle.isDirty());
+    }
+
+    @Test
+    void execute_bye_endsOnlyThatSession() throws IOException {
+        try (Socket first = connect(); Socket second = connect()) {
+            BufferedReader firstIn = new BufferedReader(new InputStreamReader(first.getInputStream()));
+            PrintStream firstOut = new PrintStream(first.getOutputStream(), true);
+            BufferedReader secondIn = new BufferedReader(new InputStreamReader(second.getInputStream()));
+            PrintStream secondOut = new PrintStream(second.getOutputStream(), true);
+            readResponse(firstIn);
+            readResponse(secondIn);
+
+            firstOut.println("bye");
+            String bye = readResponse(firstIn);
+            assertTrue(bye.contains("Bye bye"));
+            assertTrue(bye.endsWith(SessionProtocol.END_OF_SESSION));
+
+            secondOut.println("list-pets");
+            assertTrue(readResponse(secondIn).endsWith(SessionProtocol.END_OF_RESPONSE));
+        }
+    }
+}
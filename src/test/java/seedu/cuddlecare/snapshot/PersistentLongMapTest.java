@@ -0,0 +1,68 @@
+package seedu.cuddlecare.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PersistentLongMapTest {
+
+    @Test
+    void put_manyKeys_oldMapsUnchanged() {
+        PersistentLongMap<String> empty = PersistentLongMap.empty();
+        PersistentLongMap<String> map = empty;
+        List<PersistentLongMap<String>> versions = new ArrayList<>();
+        for (long key = 0; key < 2000; key++) {
+            map = map.put(key, "v" + key);
+            versions.add(map);
+        }
+
+        assertEquals(2000, map.size());
+        assertEquals("v1999", map.get(1999));
+        assertEquals(0, empty.size());
+        assertNull(empty.get(0));
+        assertEquals(11, versions.get(10).size());
+        assertNull(versions.get(10).get(11));
+        assertEquals("v10", versions.get(10).get(10));
+    }
+
+    @Test
+    void put_largeAndSparseKeys_valuesInKeyOrder() {
+        PersistentLongMap<String> map = PersistentLongMap.<String>empty()
+                .put(Long.MAX_VALUE, "max")
+                .put(40, "forty")
+                .put(1L << 40, "big")
+                .put(3, "three");
+
+        assertEquals(List.of("three", "forty", "big", "max"), map.values());
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertNull(map.get(41));
+        assertNull(map.get(-1));
+    }
+
+    @Test
+    void put_existingKey_replacedWithoutChangingSize() {
+        PersistentLongMap<String> map = PersistentLongMap.<String>empty().put(7, "a");
+        PersistentLongMap<String> replaced = map.put(7, "b");
+
+        assertEquals(1, replaced.size());
+        assertEquals("b", replaced.get(7));
+        assertEquals("a", map.get(7));
+    }
+
+    @Test
+    void remove_keys_removedOnlyFromNewMap() {
+        PersistentLongMap<String> map = PersistentLongMap.<String>empty().put(1, "a").put(100, "b");
+        PersistentLongMap<String> removed = map.remove(100);
+
+        assertEquals(List.of("a"), removed.values());
+        assertEquals(List.of("a", "b"), map.values());
+        assertSame(removed, removed.remove(100));
+        assertEquals(0, removed.remove(1).size());
+        assertNull(removed.remove(1).get(1));
+    }
+}
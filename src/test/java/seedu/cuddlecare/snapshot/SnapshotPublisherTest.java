@@ -0,0 +1,197 @@
+package seedu.cuddlecare.snapshot;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SnapshotPublisher} through the {@link PetList} that owns it.
+ */
+class SnapshotPublisherTest {
+
+    private PetList pets;
+    private Pet milo;
+    private Pet luna;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() {
+        pets = new PetList();
+        milo = new Pet("milo", "dog", 2);
+        luna = new Pet("luna", "cat", 3);
+        pets.add(milo);
+        pets.add(luna);
+        milo.addTreatment(new Treatment("vaccine", null, LocalDate.of(2025, 1, 10)));
+        milo.addTreatment(new Treatment("checkup", "fasting", LocalDate.of(2025, 3, 5)));
+        luna.addTreatment(new Treatment("grooming", null, LocalDate.of(2025, 2, 1)));
+    }
+
+    @Test
+    void snapshot_beforePublish_changesNotVisible() {
+        assertEquals(0, pets.snapshot().size());
+
+        ModelSnapshot published = pets.publish();
+        assertSame(published, pets.snapshot());
+        assertEquals(2, published.size());
+        assertEquals(List.of("milo", "luna"), List.of(published.getPets().get(0).getName(),
+                published.getPets().get(1).getName()));
+        assertEquals("fasting", published.getPet(milo.getId()).getTreatments().get(1).getNote());
+    }
+
+    @Test
+    void publish_noChanges_sameVersion() {
+        ModelSnapshot first = pets.publish();
+        assertSame(first, pets.publish());
+        assertEquals(first.getVersion(), pets.snapshot().getVersion());
+    }
+
+    @Test
+    void publish_afterEdits_oldVersionUnchanged() {
+        ModelSnapshot before = pets.publish();
+
+        pets.renamePet(milo, "max");
+        milo.setSpecies("wolf");
+        milo.setAge(5);
+        milo.getTreatments().get(0).setCompleted(true);
+        milo.removeTreatment(1);
+        ModelSnapshot after = pets.publish();
+
+        PetSnapshot old = before.getPet(milo.getId());
+        assertEquals("milo", old.getName());
+        assertEquals("dog", old.getSpecies());
+        assertEquals(2, old.getAge());
+        assertEquals(2, old.getTreatments().size());
+        assertFalse(old.getTreatments().get(0).isCompleted());
+
+        PetSnapshot edited = after.getPet(milo.getId());
+        assertEquals("max", edited.getName());
+        assertEquals("wolf", edited.getSpecies());
+        assertEquals(5, edited.getAge());
+        assertEquals(1, edited.getTreatments().size());
+        assertTrue(edited.getTreatments().get(0).isCompleted());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    @Test
+    void publish_onePetChanged_otherPetsAndTreatmentsShared() {
+        ModelSnapshot before = pets.publish();
+
+        milo.getTreatments().get(1).setCompleted(true);
+        ModelSnapshot after = pets.publish();
+
+        assertSame(before.getPet(luna.getId()), after.getPet(luna.getId()));
+        PetSnapshot oldMilo = before.getPet(milo.getId());
+        PetSnapshot newMilo = after.getPet(milo.getId());
+        assertNotSame(oldMilo, newMilo);
+        assertSame(oldMilo.getTreatments().get(0), newMilo.getTreatments().get(0));
+        assertNotSame(oldMilo.getTreatments().get(1), newMilo.getTreatments().get(1));
+    }
+
+    @Test
+    void publish_scheduleMarked_occurrenceCompletedInNewVersionOnly() {
+        TreatmentSchedule schedule = new TreatmentSchedule("flea", null, LocalDate.of(2025, 1, 1), 1,
+                TreatmentSchedule.Unit.MONTH, null);
+        luna.addSchedule(schedule);
+        ModelSnapshot before = pets.publish();
+
+        schedule.setCompleted(LocalDate.of(2025, 2, 1), true);
+        ModelSnapshot after = pets.publish();
+
+        assertNotSame(before, after);
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 3, 1);
+        assertEquals("[[ ] flea on 2025-01-01, [ ] flea on 2025-02-01, [ ] flea on 2025-03-01]",
+                before.getPet(luna.getId()).getOccurrences(from, to).toString());
+        assertEquals("[[ ] flea on 2025-01-01, [X] flea on 2025-02-01, [ ] flea on 2025-03-01]",
+                after.getPet(luna.getId()).getOccurrences(from, to).toString());
+    }
+
+    @Test
+    void publish_petDeletedAndAddedBack_versionsFollowList() {
+        pets.publish();
+        pets.deletePet(luna);
+        ModelSnapshot deleted = pets.publish();
+        assertNull(deleted.getPet(luna.getId()));
+        assertEquals(1, deleted.size());
+
+        pets.add(luna);
+        pets.deletePet(milo);
+        ModelSnapshot restored = pets.publish();
+        assertEquals(1, restored.size());
+        assertEquals("luna", restored.getPets().get(0).getName());
+        assertEquals(1, restored.getPet(luna.getId()).getTreatments().size());
+    }
+
+    @Test
+    void publish_deferredTreatments_notLoaded() {
+        Pet bella = new Pet("bella", "cat", 1);
+        AtomicBoolean isLoaded = new AtomicBoolean();
+        bella.setTreatmentLoader(() -> {
+            isLoaded.set(true);
+            bella.addTreatment(new Treatment("bath", null, LocalDate.of(2025, 4, 1)));
+        });
+        pets.add(bella);
+
+        PetSnapshot deferred = pets.publish().getPet(bella.getId());
+        assertFalse(isLoaded.get());
+        assertFalse(deferred.hasLoadedTreatments());
+        assertTrue(deferred.getTreatments().isEmpty());
+
+        bella.loadTreatments();
+        PetSnapshot loaded = pets.publish().getPet(bella.getId());
+        assertTrue(loaded.hasLoadedTreatments());
+        assertEquals("bath", loaded.getTreatments().get(0).getName());
+    }
+
+    @Test
+    void snapshot_readWhileWriterPublishes_readerSeesWholeCommands() throws InterruptedException {
+        pets.publish();
+        AtomicBoolean isDone = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!isDone.get()) {
+                for (PetSnapshot pet : pets.snapshot().getPets()) {
+                    // Each edit below renames a pet and sets its age to match, as one command
+                    if (!pet.getName().equals("pet" + pet.getAge()) && pet.getAge() != 2 && pet.getAge() != 3) {
+                        failure.set(pet.toString());
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int age = 10; age < 2000; age++) {
+            pets.renamePet(milo, "pet" + age);
+            milo.setAge(age);
+            pets.publish();
+        }
+        isDone.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals("pet1999", pets.snapshot().getPet(milo.getId()).getName());
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.cuddlecare.stats;
+
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreatmentStatsTest {
+
+    @Test
+    void counts_addMarkEditDelete_keptUpToDate() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "dog", 2);
+        milo.addTreatment(new Treatment("Vaccine A", null, LocalDate.of(2025, 1, 10)));
+        pets.add(milo);
+        TreatmentStats stats = new TreatmentStats(pets);
+
+        Treatment checkup = new Treatment("Checkup", null, LocalDate.of(2025, 2, 1));
+        milo.addTreatment(checkup);
+        checkup.setCompleted(true);
+        Pet luna = new Pet("Luna", "cat", 3);
+        pets.add(luna);
+        luna.addTreatment(new Treatment("vaccine B", null, LocalDate.of(2025, 2, 20)));
+
+        assertEquals(2, stats.getPetCount());
+        assertEquals(3, stats.getOverall().getTotal());
+        assertEquals(1, stats.getOverall().getCompleted());
+        assertEquals(2, stats.getForPet(milo).getTotal());
+        assertEquals(50.0, stats.getForPet(milo).getCompletionPercentage());
+        assertEquals(List.of("checkup", "vaccine"), List.copyOf(stats.getByType().keySet()));
+        assertEquals(2, stats.getByType().get("vaccine").getTotal());
+        assertEquals(2, stats.getByMonth().get(YearMonth.of(2025, 2)).getTotal());
+
+        milo.setSpecies("cat");
+        assertFalse(stats.getBySpecies().containsKey("dog"));
+        assertEquals(3, stats.getBySpecies().get("cat").getTotal());
+
+        pets.deletePet(milo);
+        assertEquals(1, stats.getPetCount());
+        assertEquals(1, stats.getOverall().getTotal());
+        assertEquals(0, stats.getOverall().getCompleted());
+        assertTrue(stats.verify().isEmpty());
+    }
+
+    @Test
+    void verify_randomChanges_noDrift() {
+        Random random = new Random(46);
+        PetList pets = new PetList();
+        TreatmentStats stats = new TreatmentStats(pets);
+        String[] species = {"dog", "cat", "rabbit"};
+        String[] names = {"Vaccine", "Checkup visit", "Deworming", "vaccine booster"};
+
+        for (int step = 0; step < 2_000; step++) {
+            int action = random.nextInt(10);
+            if (action == 0 || pets.size() == 0) {
+                pets.add(new Pet("Pet" + step, species[random.nextInt(species.length)], 1));
+                continue;
+            }
+            Pet pet = pets.get(random.nextInt(pets.size()));
+            List<Treatment> treatments = pet.getTreatments();
+            if (action == 1 && pets.size() > 3) {
+                pets.deletePet(pet);
+            } else if (action == 2) {
+                pet.setSpecies(species[random.nextInt(species.length)]);
+            } else if (action <= 5 || treatments.isEmpty()) {
+                pet.addTreatment(new Treatment(names[random.nextInt(names.length)], null,
+                        LocalDate.of(2025, 1, 1).plusDays(random.nextInt(400))));
+            } else if (action <= 8) {
+                Treatment treatment = treatments.get(random.nextInt(treatments.size()));
+                treatment.setCompleted(!treatment.isCompleted());
+            } else {
+                pet.removeTreatment(random.nextInt(treatments.size()));
+            }
+        }
+
+        assertEquals(List.of(), stats.verify());
+    }
+
+    @Test
+    void verify_countsChangedBehindItsBack_reportsAndRepairs() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "dog", 2);
+        pets.add(milo);
+        TreatmentStats stats = new TreatmentStats(pets);
+        pets.removeListener(stats);
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.of(2025, 1, 10)));
+
+        List<String> differences = stats.verify();
+
+        assertFalse(differences.isEmpty());
+        assertTrue(differences.get(0).startsWith("all treatments: counted 0 treatments"));
+        assertEquals(1, stats.getOverall().getTotal());
+        assertTrue(stats.verify().isEmpty());
+    }
+
+    @Test
+    void typeOf_names_firstWordLowercase() {
+        assertEquals("vaccine", TreatmentStats.typeOf(new Treatment("  Vaccine  Rabies", null, LocalDate.now())));
+        assertEquals("checkup", TreatmentStats.typeOf(new Treatment("Checkup", null, LocalDate.now())));
+    }
+}
@@ -0,0 +1,425 @@
+package seedu.cuddlecare.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+import seedu.cuddlecare.history.Change;
+import seedu.cuddlecare.history.CompletionChange;
+import seedu.cuddlecare.history.OccurrenceChange;
+import seedu.cuddlecare.history.PetChange;
+import seedu.cuddlecare.history.PetEditChange;
+import seedu.cuddlecare.history.ScheduleChange;
+import seedu.cuddlecare.history.TreatmentChange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageTest {
+
+    private static final String SAVE_FILE = "# Pets\n"
+            + "milo | dog | 2\n"
+            + "luna | cat | 3\n"
+            + "\n# Treatments\n"
+            + "milo | vaccine | 2025-01-10 | true | booster\n"
+            + "milo | checkup | 2025-03-05 | false | \n"
+            + "luna | deworming | 2025-02-01 | false | \n";
+
+    private Path directory;
+    private Path saveFile;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("cuddlecare");
+        saveFile = directory.resolve("save.txt");
+        Files.writeString(saveFile, SAVE_FILE, StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void load_lazy_treatmentsReadOnFirstAccess() {
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.setLazyLoading(true);
+        storage.load();
+
+        assertEquals(2, pets.size());
+        Pet milo = pets.getPetByName("milo");
+        assertFalse(milo.hasLoadedTreatments());
+
+        assertEquals(2, milo.getTreatments().size());
+        Treatment vaccine = milo.getTreatments().get(0);
+        assertEquals("vaccine", vaccine.getName());
+        assertEquals(LocalDate.of(2025, 1, 10), vaccine.getDate());
+        assertTrue(vaccine.isCompleted());
+        assertEquals("booster", vaccine.getNote());
+        assertFalse(pets.getPetByName("luna").hasLoadedTreatments());
+    }
+
+    @Test
+    void load_lazyFileLargerThanReadBuffer_offsetsFollowEveryLine() throws IOException {
+        StringBuilder file = new StringBuilder("# Pets\nmilo | dog | 2\nluna | cat | 3\n\n# Treatments\n");
+        LocalDate first = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 3000; i++) {
+            file.append("milo | checkup | ").append(first.plusDays(i)).append(" | false | \n");
+        }
+        file.append("luna | deworming | 2025-02-01 | true | \u00e9t\u00e9\n");
+        Files.writeString(saveFile, file.toString(), StandardCharsets.UTF_8);
+
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.setLazyLoading(true);
+        storage.load();
+
+        Treatment deworming = pets.getPetByName("luna").getTreatments().get(0);
+        assertEquals("deworming", deworming.getName());
+        assertEquals("\u00e9t\u00e9", deworming.getNote());
+        assertEquals(3000, pets.getPetByName("milo").getTreatments().size());
+        assertEquals(first.plusDays(2999), pets.getPetByName("milo").getTreatments().get(2999).getDate());
+    }
+
+    @Test
+    void save_lazyUnreadPets_copiesTreatmentsUnchanged() throws IOException {
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.setLazyLoading(true);
+        storage.load();
+
+        pets.getPetByName("milo").getTreatments().get(1).setCompleted(true);
+        pets.getPetByName("luna").setName("lulu");
+        storage.save();
+        storage.save();
+
+        PetList reloaded = new PetList();
+        new Storage(saveFile.toString(), reloaded).load();
+        assertTrue(reloaded.getPetByName("milo").getTreatments().get(1).isCompleted());
+        Pet lulu = reloaded.getPetByName("lulu");
+        assertEquals(1, lulu.getTreatments().size());
+        assertEquals("deworming", lulu.getTreatments().get(0).getName());
+
+        assertEquals(1, pets.getPetByName("lulu").getTreatments().size());
+    }
+
+    @Test
+    void save_sharded_rewritesOnlyChangedShard() throws IOException {
+        PetList pets = new PetList();
+        ShardedStorage storage = new ShardedStorage(saveFile.toString(), pets);
+        storage.load();
+        storage.save();
+
+        int miloShard = ShardedStorage.shardOf("milo");
+        int lunaShard = ShardedStorage.shardOf("luna");
+        FileTime old = FileTime.fromMillis(0);
+        for (int i = 0; i < ShardedStorage.SHARD_COUNT; i++) {
+            Path shard = storage.shardPath(i);
+            if (Files.exists(shard)) {
+                Files.setLastModifiedTime(shard, old);
+            }
+        }
+
+        pets.getPetByName("milo").getTreatments().get(1).setCompleted(true);
+        storage.save();
+
+        assertNotEquals(old, Files.getLastModifiedTime(storage.shardPath(miloShard)));
+        if (lunaShard != miloShard) {
+            assertEquals(old, Files.getLastModifiedTime(storage.shardPath(lunaShard)));
+        }
+
+        PetList reloaded = new PetList();
+        new ShardedStorage(saveFile.toString(), reloaded).load();
+        assertEquals(2, reloaded.size());
+        assertTrue(reloaded.getPetByName("milo").getTreatments().get(1).isCompleted());
+        assertEquals("deworming", reloaded.getPetByName("luna").getTreatments().get(0).getName());
+    }
+
+    @Test
+    void save_shardedFirstSave_renamesSingleSaveFile() {
+        PetList pets = new PetList();
+        ShardedStorage storage = new ShardedStorage(saveFile.toString(), pets);
+        storage.load();
+        storage.save();
+
+        assertFalse(Files.exists(saveFile));
+        assertTrue(Files.exists(directory.resolve("save.txt" + ShardedStorage.MIGRATED_SUFFIX)));
+        PetList reloaded = new PetList();
+        new ShardedStorage(saveFile.toString(), reloaded).load();
+        assertEquals(2, reloaded.getPetByName("milo").getTreatments().size());
+    }
+
+    @Test
+    void save_shardedManifestWriteFails_manifestWrittenOnNextSave() throws IOException {
+        ShardedStorage migrating = new ShardedStorage(saveFile.toString(), new PetList());
+        migrating.load();
+        migrating.save();
+
+        PetList pets = new PetList();
+        ShardedStorage storage = new ShardedStorage(saveFile.toString(), pets);
+        storage.load();
+        pets.add(new Pet("max", "dog", 4));
+        Path blocker = directory.resolve("cuddlecare_manifest.txt.tmp");
+        Files.createDirectory(blocker);
+        assertFalse(storage.save());
+
+        Files.delete(blocker);
+        assertTrue(storage.save());
+        PetList reloaded = new PetList();
+        new ShardedStorage(saveFile.toString(), reloaded).load();
+        assertNotNull(reloaded.getPetByName("max"));
+    }
+
+    @Test
+    void save_shardedLazy_readsOnlyPetsOfChangedShards() {
+        ShardedStorage migrating = new ShardedStorage(saveFile.toString(), new PetList());
+        migrating.load();
+        migrating.save();
+
+        PetList pets = new PetList();
+        ShardedStorage storage = new ShardedStorage(saveFile.toString(), pets);
+        storage.setLazyLoading(true);
+        storage.load();
+        Pet milo = pets.getPetByName("milo");
+        Pet luna = pets.getPetByName("luna");
+        assertFalse(milo.hasLoadedTreatments());
+
+        milo.getTreatments().get(1).setCompleted(true);
+        storage.save();
+
+        assertEquals(ShardedStorage.shardOf("milo") == ShardedStorage.shardOf("luna"), luna.hasLoadedTreatments());
+        PetList reloaded = new PetList();
+        new ShardedStorage(saveFile.toString(), reloaded).load();
+        assertTrue(reloaded.getPetByName("milo").getTreatments().get(1).isCompleted());
+        assertEquals("deworming", reloaded.getPetByName("luna").getTreatments().get(0).getName());
+    }
+
+    @Test
+    void save_compressed_writesGzipThatLoadsAutomatically() throws IOException {
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.setLazyLoading(true);
+        storage.setCompressed(true);
+        storage.load();
+        pets.getPetByName("luna").getTreatments().get(0).setCompleted(true);
+        storage.save();
+
+        byte[] header = Files.readAllBytes(saveFile);
+        assertEquals((byte) 0x1f, header[0]);
+        assertEquals((byte) 0x8b, header[1]);
+
+        PetList reloaded = new PetList();
+        Storage plain = new Storage(saveFile.toString(), reloaded);
+        plain.setLazyLoading(true);
+        plain.load();
+        assertEquals(2, reloaded.getPetByName("milo").getTreatments().size());
+        assertTrue(reloaded.getPetByName("luna").getTreatments().get(0).isCompleted());
+    }
+
+    @Test
+    void save_ids_keptAcrossReloadsAndNeverReused() throws IOException {
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.setLazyLoading(true);
+        storage.load();
+        long miloId = pets.getPetByName("milo").getId();
+        long checkupId = pets.getPetByName("milo").getTreatments().get(1).getId();
+        pets.deletePet(pets.getPetByName("luna"));
+        Pet bella = new Pet("bella", "dog", 1);
+        pets.add(bella);
+        storage.save();
+
+        PetList reloaded = new PetList();
+        Storage lazy = new Storage(saveFile.toString(), reloaded);
+        lazy.setLazyLoading(true);
+        lazy.load();
+        assertEquals(miloId, reloaded.getPetByName("milo").getId());
+        assertEquals(bella.getId(), reloaded.getPetByName("bella").getId());
+        assertEquals("checkup", reloaded.getTreatmentById(checkupId).getName());
+        assertEquals(reloaded.getPetByName("milo"), reloaded.getTreatmentById(checkupId).getPet());
+
+        Pet max = new Pet("max", "cat", 4);
+        reloaded.add(max);
+        assertTrue(max.getId() > bella.getId());
+    }
+
+    @Test
+    void save_schedules_roundTripWithCompletedOccurrences() throws IOException {
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.load();
+        TreatmentSchedule schedule = new TreatmentSchedule("deworming", "half tablet", LocalDate.of(2025, 1, 31),
+                3, TreatmentSchedule.Unit.MONTH, LocalDate.of(2026, 1, 31));
+        pets.getPetByName("milo").addSchedule(schedule);
+        schedule.setCompleted(LocalDate.of(2025, 4, 30), true);
+        schedule.setCompleted(LocalDate.of(2025, 7, 31), true);
+        pets.getPetByName("luna").addSchedule(new TreatmentSchedule("brushing", null, LocalDate.of(2025, 2, 1),
+                1, TreatmentSchedule.Unit.WEEK, null));
+        storage.save();
+
+        for (boolean lazy : new boolean[]{false, true}) {
+            PetList reloaded = new PetList();
+            Storage reloading = new Storage(saveFile.toString(), reloaded);
+            reloading.setLazyLoading(lazy);
+            reloading.load();
+            TreatmentSchedule loaded = reloaded.getPetByName("milo").getSchedules().get(0);
+            assertEquals("deworming", loaded.getName());
+            assertEquals("half tablet", loaded.getNote());
+            assertEquals(schedule.describeRule(), loaded.describeRule());
+            assertEquals(schedule.getCompletedDates(), loaded.getCompletedDates());
+            assertEquals(2, reloaded.getPetByName("milo").getTreatments().size());
+            TreatmentSchedule brushing = reloaded.getPetByName("luna").getSchedules().get(0);
+            assertEquals("every week from 2025-02-01", brushing.describeRule());
+            assertTrue(brushing.getCompletedDates().isEmpty());
+        }
+    }
+
+    @Test
+    void save_schedulesSharded_roundTrip() throws IOException {
+        PetList pets = new PetList();
+        ShardedStorage storage = new ShardedStorage(saveFile.toString(), pets);
+        storage.load();
+        TreatmentSchedule schedule = new TreatmentSchedule("brushing", null, LocalDate.of(2025, 2, 1),
+                2, TreatmentSchedule.Unit.DAY, null);
+        pets.getPetByName("luna").addSchedule(schedule);
+        schedule.setCompleted(LocalDate.of(2025, 2, 3), true);
+        storage.save();
+
+        PetList reloaded = new PetList();
+        new ShardedStorage(saveFile.toString(), reloaded).load();
+        TreatmentSchedule loaded = reloaded.getPetByName("luna").getSchedules().get(0);
+        assertEquals("every 2 days from 2025-02-01", loaded.describeRule());
+        assertTrue(loaded.isCompleted(LocalDate.of(2025, 2, 3)));
+    }
+
+    @Test
+    void save_noSchedules_writesNoSchedulesSection() throws IOException {
+        PetList pets = new PetList();
+        Storage storage = new Storage(saveFile.toString(), pets);
+        storage.load();
+        storage.save();
+
+        assertFalse(Files.readString(saveFile).contains(Storage.SCHEDULES_HEADER));
+    }
+
+    private PetList load() {
+        PetList pets = new PetList();
+        new Storage(saveFile.toString(), pets).load();
+        return pets;
+    }
+
+    /** Applies {@code change} to {@code pets}, and replays its records on {@code copy}. */
+    private void applyAndReplay(Change change, PetList pets, PetList copy) {
+        change.apply(pets);
+        Storage storage = new Storage(saveFile.toString(), copy);
+        for (String record : ChangeRecords.encode(change)) {
+            assertTrue(ChangeRecords.isRecord(record));
+            assertTrue(storage.replay(record), record);
+        }
+    }
+
+    @Test
+    void replay_deletedPetAddedBack_treatmentsRestored() {
+        PetList pets = load();
+        PetList copy = load();
+        Pet milo = pets.getPetByName("milo");
+        milo.loadTreatments();
+
+        applyAndReplay(new PetChange(milo, false, 0), pets, copy);
+        assertNull(copy.getPetByName("milo"));
+
+        applyAndReplay(new PetChange(milo, true, 0), pets, copy);
+        Pet restored = copy.getPetByName("milo");
+        assertEquals(restored, copy.get(0));
+        assertEquals(milo.getId(), restored.getId());
+        assertEquals(2, restored.getTreatments().size());
+        assertTrue(restored.getTreatments().get(0).isCompleted());
+        assertEquals("booster", restored.getTreatments().get(0).getNote());
+    }
+
+    @Test
+    void replay_treatmentAndEditChanges_sameAsOriginal() {
+        PetList pets = load();
+        PetList copy = load();
+        Pet milo = pets.getPetByName("milo");
+        Treatment checkup = milo.getTreatments().get(1);
+
+        applyAndReplay(new CompletionChange(milo, checkup, true), pets, copy);
+        assertTrue(copy.getPetByName("milo").getTreatments().get(1).isCompleted());
+
+        applyAndReplay(new TreatmentChange(milo, checkup, false), pets, copy);
+        assertEquals(1, copy.getPetByName("milo").getTreatments().size());
+
+        Treatment bath = new Treatment("bath", "oatmeal | mild", LocalDate.of(2025, 4, 1));
+        applyAndReplay(new TreatmentChange(milo, bath, true), pets, copy);
+        assertEquals("oatmeal | mild", copy.getPetByName("milo").getTreatments().get(1).getNote());
+
+        applyAndReplay(new PetEditChange(milo, "milo", "dog", 2, "max", "wolf", 4), pets, copy);
+        Pet max = copy.getPetByName("max");
+        assertEquals("wolf", max.getSpecies());
+        assertEquals(4, max.getAge());
+        assertNull(copy.getPetByName("milo"));
+    }
+
+    @Test
+    void replay_scheduleChanges_sameAsOriginal() {
+        PetList pets = load();
+        PetList copy = load();
+        Pet luna = pets.getPetByName("luna");
+        TreatmentSchedule brushing = new TreatmentSchedule("brushing", null, LocalDate.of(2025, 2, 1),
+                1, TreatmentSchedule.Unit.WEEK, null);
+
+        applyAndReplay(new ScheduleChange(luna, brushing, 0, true), pets, copy);
+        applyAndReplay(new OccurrenceChange(luna, brushing, LocalDate.of(2025, 2, 8), true), pets, copy);
+        TreatmentSchedule replayed = copy.getPetByName("luna").getSchedules().get(0);
+        assertEquals("every week from 2025-02-01", replayed.describeRule());
+        assertTrue(replayed.isCompleted(LocalDate.of(2025, 2, 8)));
+
+        applyAndReplay(new ScheduleChange(luna, brushing, 0, false), pets, copy);
+        assertTrue(copy.getPetByName("luna").getSchedules().isEmpty());
+    }
+
+    @Test
+    void replay_malformedOrUnknownRecord_ignored() {
+        PetList pets = load();
+        Storage storage = new Storage(saveFile.toString(), pets);
+
+        assertFalse(storage.replay("@delete-pet nobody"));
+        assertFalse(storage.replay("@mark milo | vaccine | not-a-date | true"));
+        assertFalse(storage.replay("@rename milo"));
+        assertFalse(storage.replay("@add-pet"));
+        assertEquals(2, pets.size());
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.cuddlecare.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.command.impl.SummaryCommand;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreatmentArchiveTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private Path directory;
+    private PetList pets;
+    private Pet milo;
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("cuddlecare-archive");
+        pets = new PetList();
+        pets.setArchive(new TreatmentArchive(directory.toString(), 90));
+
+        milo = new Pet("milo", "dog", 2);
+        pets.add(milo);
+        milo.addTreatment(completed("vaccine", LocalDate.of(2024, 1, 15)));
+        milo.addTreatment(new Treatment("checkup", null, LocalDate.of(2024, 2, 3)));
+        milo.addTreatment(completed("deworming", LocalDate.of(2025, 5, 20)));
+        Pet luna = new Pet("luna", "cat", 3);
+        pets.add(luna);
+        luna.addTreatment(completed("grooming", LocalDate.of(2024, 2, 10)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static Treatment completed(String name, LocalDate date) {
+        Treatment treatment = new Treatment(name, null, date);
+        treatment.setCompleted(true);
+        return treatment;
+    }
+
+    private String summary(String args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SummaryCommand(pets).exec(args, new PrintStream(out));
+        return out.toString();
+    }
+
+    @Test
+    void archiveOld_oldCompletedTreatments_movedToMonthlySegments() {
+        TreatmentArchive archive = pets.getArchive();
+
+        assertEquals(2, archive.archiveOld(pets, TODAY));
+
+        assertEquals(2, milo.getTreatments().size());
+        assertEquals("checkup", milo.getTreatments().get(0).getName());
+        assertTrue(pets.getPetByName("luna").getTreatments().isEmpty());
+        assertTrue(archive.hasSegment(YearMonth.of(2024, 1)));
+        assertTrue(archive.hasSegment(YearMonth.of(2024, 2)));
+        assertFalse(archive.hasSegment(YearMonth.of(2025, 5)));
+    }
+
+    @Test
+    void scan_rangeOverlappingSegments_returnsArchivedTreatmentsInRange() {
+        TreatmentArchive archive = pets.getArchive();
+        archive.archiveOld(pets, TODAY);
+
+        Map<String, List<Treatment>> found = archive.scan(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 28));
+        assertFalse(found.containsKey("milo"));
+        assertEquals("grooming", found.get("luna").get(0).getName());
+
+        TreatmentArchive reopened = new TreatmentArchive(directory.toString(), 90);
+        reopened.open();
+        assertEquals(1, reopened.scan(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)).get("milo").size());
+    }
+
+    @Test
+    void summary_afterArchiving_outputUnchanged() {
+        String args = "from/2024-01-01 to/2025-05-31";
+        String before = summary(args);
+
+        pets.getArchive().archiveOld(pets, TODAY);
+
+        assertEquals(before, summary(args));
+    }
+
+    @Test
+    void renamePet_archivedTreatments_followNewName() {
+        TreatmentArchive archive = pets.getArchive();
+        archive.archiveOld(pets, TODAY);
+
+        pets.renamePet(milo, "max");
+        assertEquals(1, archive.scan(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)).get("max").size());
+
+        pets.deletePet(pets.getPetByName("luna"));
+        assertFalse(archive.hasSegment(YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    void renamePet_otherPetsSegments_notRewritten() throws IOException {
+        TreatmentArchive archive = pets.getArchive();
+        archive.archiveOld(pets, TODAY);
+        Path february = directory.resolve("treatments-2024-02.txt.gz");
+        FileTime old = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(february, old);
+
+        pets.renamePet(milo, "max");
+
+        assertEquals(old, Files.getLastModifiedTime(february));
+        assertEquals(1, archive.scan(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)).get("max").size());
+    }
+
+    @Test
+    void archiveOld_sameTreatmentsAgain_noDuplicates() {
+        long vaccineId = milo.getTreatments().get(0).getId();
+        pets.getArchive().archiveOld(pets, TODAY);
+
+        PetList reloaded = new PetList();
+        TreatmentArchive archive = new TreatmentArchive(directory.toString(), 90);
+        archive.open();
+        Pet again = new Pet("milo", "dog", 2);
+        reloaded.add(again);
+        Treatment vaccine = completed("vaccine", LocalDate.of(2024, 1, 15));
+        vaccine.setId(vaccineId);
+        again.addTreatment(vaccine);
+
+        assertEquals(1, archive.archiveOld(reloaded, TODAY));
+        assertEquals(1, archive.scan(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)).get("milo").size());
+    }
+
+    @Test
+    void archiveOld_deferredTreatments_archivedWhenFirstRead() {
+        Pet rex = new Pet("rex", "dog", 4);
+        pets.add(rex);
+        rex.setTreatmentLoader(() -> rex.addTreatment(completed("bath", LocalDate.of(2024, 3, 3))));
+        TreatmentArchive archive = pets.getArchive();
+
+        assertEquals(2, archive.archiveOld(pets, TODAY));
+        assertFalse(rex.hasLoadedTreatments());
+        assertFalse(archive.hasSegment(YearMonth.of(2024, 3)));
+
+        assertTrue(rex.getTreatments().isEmpty());
+        assertTrue(archive.hasSegment(YearMonth.of(2024, 3)));
+    }
+}
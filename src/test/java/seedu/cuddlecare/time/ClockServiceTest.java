@@ -0,0 +1,90 @@
+package seedu.cuddlecare.time;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClockServiceTest {
+
+    /** A clock that tests can move forward. */
+    static class AdjustableClock extends Clock {
+        private Instant instant;
+
+        AdjustableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @Test
+    void today_clockCrossesMidnight_returnsNewDate() {
+        AdjustableClock clock = new AdjustableClock(Instant.parse("2025-10-24T23:59:00Z"));
+        ClockService service = new ClockService(clock);
+        assertEquals(LocalDate.parse("2025-10-24"), service.today());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(LocalDate.parse("2025-10-25"), service.today());
+    }
+
+    @Test
+    void checkRollover_dayChanged_notifiesListenersOnce() {
+        AdjustableClock clock = new AdjustableClock(Instant.parse("2025-10-24T12:00:00Z"));
+        ClockService service = new ClockService(clock);
+        List<LocalDate> notified = new ArrayList<>();
+        service.addDayListener(notified::add);
+
+        assertFalse(service.checkRollover());
+        clock.advance(Duration.ofHours(6));
+        assertFalse(service.checkRollover());
+
+        clock.advance(Duration.ofHours(12));
+        service.today();
+        assertTrue(service.checkRollover());
+        assertFalse(service.checkRollover());
+        assertEquals(List.of(LocalDate.parse("2025-10-25")), notified);
+    }
+
+    @Test
+    void fixed_anyTime_returnsGivenDate() {
+        assertEquals(LocalDate.parse("2025-10-24"), ClockService.fixed(LocalDate.parse("2025-10-24")).today());
+    }
+}
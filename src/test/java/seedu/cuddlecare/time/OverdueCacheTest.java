@@ -0,0 +1,129 @@
+package seedu.cuddlecare.time;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+import seedu.cuddlecare.TreatmentSchedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OverdueCacheTest {
+
+    @BeforeAll
+    static void muteLogs() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    @Test
+    void getOverdue_unchangedData_reusesResult() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        pets.add(milo);
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.parse("2025-10-01")));
+        OverdueCache cache = new OverdueCache(pets, ClockService.fixed(LocalDate.parse("2025-10-24")));
+
+        Map<Pet, List<Treatment>> overdue = cache.getOverdue();
+        assertEquals(1, overdue.get(milo).size());
+        assertSame(overdue, cache.getOverdue());
+    }
+
+    @Test
+    void getOverdue_treatmentsChanged_followsChanges() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        pets.add(milo);
+        OverdueCache cache = new OverdueCache(pets, ClockService.fixed(LocalDate.parse("2025-10-24")));
+        assertTrue(cache.getOverdue().isEmpty());
+
+        Treatment vaccine = new Treatment("Vaccine", null, LocalDate.parse("2025-10-01"));
+        milo.addTreatment(vaccine);
+        assertEquals(List.of(vaccine), cache.getOverdue(milo));
+
+        vaccine.setCompleted(true);
+        assertTrue(cache.getOverdue().isEmpty());
+
+        vaccine.setCompleted(false);
+        pets.deletePet(milo);
+        assertTrue(cache.getOverdue().isEmpty());
+    }
+
+    @Test
+    void getOverdue_dayRollsOver_includesTreatmentDueYesterday() {
+        ClockServiceTest.AdjustableClock clock =
+                new ClockServiceTest.AdjustableClock(Instant.parse("2025-10-24T12:00:00Z"));
+        ClockService service = new ClockService(clock);
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        pets.add(milo);
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.parse("2025-10-24")));
+        OverdueCache cache = new OverdueCache(pets, service);
+        assertTrue(cache.getOverdue().isEmpty());
+
+        clock.advance(Duration.ofDays(1));
+        service.checkRollover();
+        assertEquals(1, cache.getOverdue(milo).size());
+    }
+
+    @Test
+    void getOverdue_schedule_includesPastIncompleteOccurrences() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        pets.add(milo);
+        OverdueCache cache = new OverdueCache(pets, ClockService.fixed(LocalDate.parse("2025-10-24")));
+        milo.addTreatment(new Treatment("Vaccine", null, LocalDate.parse("2025-10-10")));
+        TreatmentSchedule schedule = new TreatmentSchedule("Brushing", null, LocalDate.parse("2025-10-03"),
+                1, TreatmentSchedule.Unit.WEEK, null);
+        milo.addSchedule(schedule);
+
+        List<Treatment> overdue = cache.getOverdue(milo);
+        assertEquals(4, overdue.size());
+        assertEquals(LocalDate.parse("2025-10-03"), overdue.get(0).getDate());
+        assertEquals("Vaccine", overdue.get(1).getName());
+
+        schedule.setCompleted(LocalDate.parse("2025-10-17"), true);
+        assertEquals(3, cache.getOverdue(milo).size());
+    }
+
+    @Test
+    void getOverdue_changesAfterFirstQuery_matchesFreshResult() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        Pet luna = new Pet("Luna", "Cat", 3);
+        pets.add(milo);
+        pets.add(luna);
+        ClockService clock = ClockService.fixed(LocalDate.parse("2025-10-24"));
+        OverdueCache cache = new OverdueCache(pets, clock);
+        Treatment bath = new Treatment("Bath", null, LocalDate.parse("2025-10-05"));
+        milo.addTreatment(bath);
+        luna.addTreatment(new Treatment("Vaccine", null, LocalDate.parse("2025-10-01")));
+        assertEquals(2, cache.getOverdue().size());
+
+        milo.addSchedule(new TreatmentSchedule("Brushing", null, LocalDate.parse("2025-10-03"),
+                1, TreatmentSchedule.Unit.WEEK, null));
+        milo.addTreatment(new Treatment("Checkup", null, LocalDate.parse("2025-10-10")));
+        milo.addTreatment(new Treatment("Grooming", null, LocalDate.parse("2025-11-10")));
+        bath.setCompleted(true);
+        bath.setCompleted(false);
+        pets.deletePet(luna);
+
+        assertEquals(new OverdueCache(pets, clock).getOverdue().toString(), cache.getOverdue().toString());
+        List<Treatment> overdue = cache.getOverdue(milo);
+        assertEquals(List.of("Brushing", "Bath", "Checkup", "Brushing", "Brushing"),
+                overdue.stream().map(Treatment::getName).collect(Collectors.toList()));
+    }
+}
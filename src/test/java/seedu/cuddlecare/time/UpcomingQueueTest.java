@@ -0,0 +1,84 @@
+package seedu.cuddlecare.time;
+
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.Treatment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpcomingQueueTest {
+
+    @Test
+    void getDue_randomChanges_matchesFullScan() {
+        Random random = new Random(38);
+        PetList pets = new PetList();
+        for (int i = 0; i < 5; i++) {
+            pets.add(new Pet("Pet" + i, "Dog", 1));
+        }
+        UpcomingQueue queue = new UpcomingQueue(pets);
+        LocalDate start = LocalDate.parse("2025-01-01");
+
+        for (int step = 0; step < 2000; step++) {
+            Pet pet = pets.get(random.nextInt(pets.size()));
+            List<Treatment> treatments = pet.getTreatments();
+            int action = random.nextInt(4);
+            if (action <= 1 || treatments.isEmpty()) {
+                pet.addTreatment(new Treatment("T" + step, null, start.plusDays(random.nextInt(60))));
+            } else if (action == 2) {
+                pet.removeTreatment(random.nextInt(treatments.size()));
+            } else {
+                Treatment treatment = treatments.get(random.nextInt(treatments.size()));
+                treatment.setCompleted(!treatment.isCompleted());
+            }
+        }
+
+        LocalDate from = start.plusDays(10);
+        LocalDate to = start.plusDays(40);
+        List<Treatment> expected = new ArrayList<>();
+        pets.stream().flatMap(p -> p.getTreatments().stream())
+                .filter(t -> !t.isCompleted() && !t.getDate().isBefore(from) && !t.getDate().isAfter(to))
+                .forEach(expected::add);
+        List<UpcomingQueue.Entry> due = queue.getDue(from, to, null);
+
+        assertEquals(expected.size(), due.size());
+        for (int i = 1; i < due.size(); i++) {
+            assertTrue(!due.get(i).getDate().isBefore(due.get(i - 1).getDate()));
+        }
+        for (UpcomingQueue.Entry entry : due) {
+            assertTrue(expected.contains(entry.getTreatment()));
+        }
+    }
+
+    @Test
+    void getDue_onePet_onlyThatPetsTreatmentsInRange() {
+        PetList pets = new PetList();
+        Pet milo = new Pet("Milo", "Dog", 2);
+        Pet luna = new Pet("Luna", "Cat", 3);
+        pets.add(milo);
+        pets.add(luna);
+        UpcomingQueue queue = new UpcomingQueue(pets);
+        milo.addTreatment(new Treatment("Overdue", null, LocalDate.parse("2025-01-01")));
+        Treatment bath = new Treatment("Bath", null, LocalDate.parse("2025-02-03"));
+        milo.addTreatment(bath);
+        Treatment checkup = new Treatment("Checkup", null, LocalDate.parse("2025-02-03"));
+        milo.addTreatment(checkup);
+        luna.addTreatment(new Treatment("Vaccine", null, LocalDate.parse("2025-02-02")));
+
+        List<UpcomingQueue.Entry> due = queue.getDue(LocalDate.parse("2025-02-01"),
+                LocalDate.parse("2025-02-28"), milo);
+        assertEquals(2, due.size());
+        assertEquals(bath, due.get(0).getTreatment());
+        assertEquals(checkup, due.get(1).getTreatment());
+
+        pets.deletePet(milo);
+        assertEquals(1, queue.size());
+        assertTrue(queue.getDue(LocalDate.parse("2025-02-01"), LocalDate.parse("2025-02-28"), milo).isEmpty());
+    }
+}
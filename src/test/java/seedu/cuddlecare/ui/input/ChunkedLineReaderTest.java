@@ -0,0 +1,54 @@
+package seedu.cuddlecare.ui.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChunkedLineReaderTest {
+
+    @Test
+    void readLine_mixedTerminatorsAcrossChunks_splitsLikeScanner() throws IOException {
+        ChunkedLineReader reader = new ChunkedLineReader(
+                new StringReader("add-pet n/Milo\r\nlist-pets\rhelp\n\nsummary"), 3);
+
+        assertEquals("add-pet n/Milo", reader.readLine());
+        assertEquals("list-pets", reader.readLine());
+        assertEquals("help", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("summary", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void readLine_carriageReturnLineFeedSplitByChunk_oneLineEnding() throws IOException {
+        ChunkedLineReader reader = new ChunkedLineReader(new StringReader("ab\r\ncd\r\n"), 3);
+
+        assertEquals("ab", reader.readLine());
+        assertEquals("cd", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void readLine_emptyInput_returnsNull() throws IOException {
+        assertNull(new ChunkedLineReader(new StringReader(""), 8).readLine());
+    }
+
+    @Test
+    void readLine_manyLines_allReadInOrder() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            input.append("line ").append(i).append('\n');
+        }
+        ChunkedLineReader reader = new ChunkedLineReader(new StringReader(input.toString()),
+                ChunkedLineReader.DEFAULT_CHUNK_SIZE);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("line " + i, reader.readLine());
+        }
+        assertNull(reader.readLine());
+    }
+}
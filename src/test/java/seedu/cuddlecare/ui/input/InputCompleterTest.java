@@ -0,0 +1,74 @@
+package seedu.cuddlecare.ui.input;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.Pet;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.command.impl.ByeCommand;
+import seedu.cuddlecare.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputCompleterTest {
+
+    private InputCompleter completer;
+    private PetList pets;
+    private final List<String> alternatives = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Command> commands = new LinkedHashMap<>();
+        for (String name : List.of("add-pet", "add-treatment", "list-pets", "list-treatments", "bye")) {
+            commands.put(name, new ByeCommand());
+        }
+        Parser parser = new Parser();
+        parser.setCommands(commands);
+
+        pets = new PetList();
+        pets.add(new Pet("Milo", "Cat", 2));
+        pets.add(new Pet("Mini Max", "Dog", 4));
+        pets.add(new Pet("Bindi", "Dog", 6));
+        completer = new InputCompleter(parser, () -> pets);
+    }
+
+    @Test
+    void complete_uniqueCommandPrefix_fullNameAndSpace() {
+        assertEquals("bye ", completer.complete("b", alternatives));
+        assertTrue(alternatives.isEmpty());
+    }
+
+    @Test
+    void complete_sharedCommandPrefix_extendedAndAlternativesListed() {
+        assertEquals("add-", completer.complete("a", alternatives));
+        assertEquals(List.of("add-pet", "add-treatment"), alternatives);
+    }
+
+    @Test
+    void complete_petNameAfterNameTag_completed() {
+        assertEquals("add-treatment n/Bindi ", completer.complete("add-treatment n/bi", alternatives));
+        assertEquals("list-treatments n/Mi", completer.complete("list-treatments n/m", alternatives));
+        assertEquals(List.of("Milo", "Mini Max"), alternatives);
+        alternatives.clear();
+        assertEquals("edit-pet nn/Mini Max ", completer.complete("edit-pet nn/Mini M", alternatives));
+    }
+
+    @Test
+    void complete_tagPrefix_completedWithoutSpace() {
+        assertEquals("add-treatment n/Milo t/", completer.complete("add-treatment n/Milo t", alternatives));
+        assertEquals("mark n/Milo ", completer.complete("mark n/Milo ", alternatives));
+        assertEquals(List.of("n/", "t/", "d/", "i/"), alternatives);
+    }
+
+    @Test
+    void complete_petsNotLoaded_namesNotCompleted() {
+        pets = null;
+        assertEquals("list-treatments n/mi", completer.complete("list-treatments n/mi", alternatives));
+    }
+}
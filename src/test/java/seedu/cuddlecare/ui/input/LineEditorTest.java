@@ -0,0 +1,80 @@
+package seedu.cuddlecare.ui.input;
+
+import org.junit.jupiter.api.Test;
+import seedu.cuddlecare.PetList;
+import seedu.cuddlecare.command.Command;
+import seedu.cuddlecare.command.impl.ByeCommand;
+import seedu.cuddlecare.parser.Parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LineEditorTest {
+
+    private final ByteArrayOutputStream echoed = new ByteArrayOutputStream();
+
+    private LineEditor editorFor(String keys) {
+        Map<String, Command> commands = Map.of("list-pets", new ByeCommand(), "list-treatments", new ByeCommand());
+        Parser parser = new Parser();
+        parser.setCommands(commands);
+        InputCompleter completer = new InputCompleter(parser, PetList::new);
+        return new LineEditor(new ByteArrayInputStream(keys.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(echoed, true, StandardCharsets.UTF_8), completer, "> ");
+    }
+
+    @Test
+    void readLine_typedKeys_returnsLinesAndEnds() throws IOException {
+        LineEditor editor = editorFor("help\rbye\n");
+
+        assertEquals("help", editor.readLine());
+        assertEquals("bye", editor.readLine());
+        assertNull(editor.readLine());
+    }
+
+    @Test
+    void readLine_editingKeys_lineEdited() throws IOException {
+        // "hlp", Left, Left, "e", End, Backspace, "p"; then Ctrl-U clears "xx"
+        LineEditor editor = editorFor("hlp\033[D\033[De\033[F\u007fp\rxx\u0015ok\r");
+
+        assertEquals("help", editor.readLine());
+        assertEquals("ok", editor.readLine());
+    }
+
+    @Test
+    void readLine_upAndDown_stepsThroughHistory() throws IOException {
+        LineEditor editor = editorFor("first\rsecond\r\033[A\033[A\r\033[A\033[Bdraft\r");
+
+        assertEquals("first", editor.readLine());
+        assertEquals("second", editor.readLine());
+        assertEquals("first", editor.readLine());
+        assertEquals("draft", editor.readLine());
+        assertEquals(List.of("first", "second", "first", "draft"), editor.getHistory());
+    }
+
+    @Test
+    void readLine_tab_completesCommandAndListsChoices() throws IOException {
+        LineEditor editor = editorFor("l\t\tp\t\r");
+
+        assertEquals("list-pets ", editor.readLine());
+        assertTrue(echoed.toString(StandardCharsets.UTF_8).contains("list-pets  list-treatments"));
+    }
+
+    @Test
+    void readLine_ctrlDOnEmptyLine_endsInput() throws IOException {
+        assertNull(editorFor("\u0004").readLine());
+    }
+
+    @Test
+    void readLine_multiByteCharacter_decoded() throws IOException {
+        assertEquals("café", editorFor("café\r").readLine());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.cuddlecare.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationTest {
+
+    @Test
+    void isNameText_everyAsciiCharacter_matchesOldPattern() {
+        for (char c = 0; c < 256; c++) {
+            String text = "a" + c + "b";
+            assertEquals(text.matches("[a-zA-Z\\- ]+"), Validation.isNameText(text), "char " + (int) c);
+        }
+        assertFalse(Validation.isNameText(""));
+        assertFalse(Validation.isNameText(null));
+    }
+
+    @Test
+    void isValidPetName_lengthLimit_enforced() {
+        assertTrue(Validation.isValidPetName("a".repeat(Validation.MAX_PET_NAME_LENGTH)));
+        assertFalse(Validation.isValidPetName("a".repeat(Validation.MAX_PET_NAME_LENGTH + 1)));
+        assertTrue(Validation.isValidSpecies("a".repeat(Validation.MAX_SPECIES_LENGTH)));
+        assertFalse(Validation.isValidSpecies("a".repeat(Validation.MAX_SPECIES_LENGTH + 1)));
+        assertFalse(Validation.isValidTreatmentName("x".repeat(Validation.MAX_TREATMENT_NAME_LENGTH + 1)));
+    }
+
+    @Test
+    void isValidAge_bounds_inclusive() {
+        assertTrue(Validation.isValidAge(0));
+        assertTrue(Validation.isValidAge(200));
+        assertFalse(Validation.isValidAge(-1));
+        assertFalse(Validation.isValidAge(201));
+    }
+
+    @Test
+    void clean_mixedText_keepsLowercasedNameCharacters() {
+        assertEquals("bobby-two", Validation.clean("  Bob#by-Tw0o ", 20));
+        assertEquals("abc", Validation.clean("ABCDEF", 3));
+        assertEquals("", Validation.clean("123 !", 20));
+    }
+
+    @Test
+    void clampLoadedDate_outOfRange_clampedToBounds() {
+        LocalDate today = LocalDate.of(2025, 10, 24);
+        assertEquals(today.plusYears(100), Validation.clampLoadedDate(today.plusYears(500), today));
+        assertEquals(today.minusYears(110), Validation.clampLoadedDate(today.minusYears(500), today));
+        assertEquals(today, Validation.clampLoadedDate(today, today));
+    }
+}